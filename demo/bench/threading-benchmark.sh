@@ -0,0 +1,110 @@
+#!/usr/bin/env bash
+#
+# Compares throughput and p99 latency of platform-thread and virtual-thread
+# request handling. Starts the built jar once per mode against the same
+# database, logs in, and drives a login (BCrypt bound), a project read and a
+# task page read (JDBC bound) with `hey` (https://github.com/rakyll/hey).
+#
+# Needs a JDK 21 build (mvn -Pjava21 package, or just package on JDK 21),
+# a running database with the user and project below, and hey on the PATH.
+#
+#   EMAIL=john.doe@example.com PASSWORD='SecurePass123!' PROJECT_ID=1 \
+#     bench/threading-benchmark.sh
+#
+set -euo pipefail
+
+JAR=${JAR:-target/task-management-system-1.0.0.jar}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+EMAIL=${EMAIL:?set EMAIL to an active user}
+PASSWORD=${PASSWORD:?set PASSWORD}
+PROJECT_ID=${PROJECT_ID:?set PROJECT_ID to a project the user can read}
+CONCURRENCY=${CONCURRENCY:-200}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+
+app_pid=""
+
+stop_app() {
+  if [[ -n "${app_pid}" ]]; then
+    kill "${app_pid}" 2>/dev/null || true
+    wait "${app_pid}" 2>/dev/null || true
+    app_pid=""
+  fi
+}
+trap stop_app EXIT
+
+start_app() {
+  local virtual=$1
+  VIRTUAL_THREADS_ENABLED=${virtual} java -jar "${JAR}" --server.port="${PORT}" \
+    --logging.level.com.taskmanagement=INFO --logging.level.org.springframework=WARN \
+    --logging.level.org.hibernate=WARN --spring.jpa.show-sql=false \
+    > "bench-${virtual}.log" 2>&1 &
+  app_pid=$!
+
+  for _ in $(seq 1 120); do
+    if curl -fs "${BASE_URL}/actuator/health" > /dev/null; then
+      return
+    fi
+    sleep 1
+  done
+  echo "Application did not become healthy, see bench-${virtual}.log" >&2
+  exit 1
+}
+
+login_body() {
+  printf '{"email":"%s","password":"%s"}' "${EMAIL}" "${PASSWORD}"
+}
+
+access_token() {
+  curl -fs -H 'Content-Type: application/json' -d "$(login_body)" "${BASE_URL}/api/auth/login" \
+    | sed -E 's/.*"accessToken":"([^"]+)".*/\1/'
+}
+
+# Prints "<requests/sec> <p99 ms> <non-2xx responses>" for one endpoint
+measure() {
+  local duration=$1
+  shift
+  local report
+  report=$(hey -z "${duration}" -c "${CONCURRENCY}" "$@")
+
+  local rps p99 failed
+  rps=$(awk '/Requests\/sec:/ { printf "%.0f", $2 }' <<< "${report}")
+  p99=$(awk '/ 99% in / { printf "%.1f", $3 * 1000 }' <<< "${report}")
+  failed=$(awk '/^\s+\[[0-9]+\]/ { gsub(/[\[\]]/, "", $1); if ($1 !~ /^2/) sum += $2 } END { print sum + 0 }' \
+    <<< "${report}")
+  echo "${rps} ${p99} ${failed}"
+}
+
+# Warms one endpoint up, then measures it and prints a result row
+bench() {
+  local mode=$1 name=$2
+  shift 2
+  measure "${WARMUP}" "$@" > /dev/null
+  read -r rps p99 failed <<< "$(measure "${DURATION}" "$@")"
+  printf '%-9s %-8s %10s %10s %8s\n' "${mode}" "${name}" "${rps}" "${p99}" "${failed}"
+}
+
+run_mode() {
+  local virtual=$1
+  local mode=$([[ "${virtual}" == true ]] && echo virtual || echo platform)
+
+  start_app "${virtual}"
+  local auth="Authorization: Bearer $(access_token)"
+
+  bench "${mode}" login -m POST -T application/json -d "$(login_body)" "${BASE_URL}/api/auth/login"
+  bench "${mode}" project -H "${auth}" "${BASE_URL}/api/projects/${PROJECT_ID}"
+  bench "${mode}" tasks -H "${auth}" "${BASE_URL}/api/tasks/project/${PROJECT_ID}?page=0&size=20"
+
+  if [[ "${virtual}" == true ]]; then
+    echo "Pinned virtual threads:"
+    curl -fs "${BASE_URL}/actuator/prometheus" | grep '^jvm_threads_virtual_pinned_seconds_count' \
+      || echo "  none above the threshold"
+  fi
+
+  stop_app
+}
+
+printf '%-9s %-8s %10s %10s %8s\n' mode endpoint "req/s" "p99 ms" "non-2xx"
+run_mode false
+run_mode true
@@ -0,0 +1,20 @@
+package com.taskmanagement.attachment.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers the zero-copy writer for attachment downloads served from local disk.
+ * It goes first so the JSON converter never claims the region of a JSON attachment.
+ */
+@Configuration
+public class AttachmentWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new FileRegionHttpMessageConverter());
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskmanagement.attachment.config;
+
+import com.taskmanagement.attachment.service.FileRegion;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes {@link FileRegion} bodies without copying them through the heap.
+ * When the Tomcat connector offers sendfile, the region is handed to it and the
+ * kernel sends it from the page cache once the handler returns; otherwise the
+ * file is pushed with {@link FileChannel#transferTo}.
+ */
+public class FileRegionHttpMessageConverter extends AbstractHttpMessageConverter<FileRegion> {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public FileRegionHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return FileRegion.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected FileRegion readInternal(Class<? extends FileRegion> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("File regions are write-only");
+    }
+
+    @Override
+    protected Long getContentLength(FileRegion region, MediaType contentType) {
+        return region.getCount();
+    }
+
+    @Override
+    protected void writeInternal(FileRegion region, HttpOutputMessage outputMessage) throws IOException {
+        HttpServletRequest request = currentRequest();
+
+        if (request != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && region.getCount() > 0) {
+            // Tomcat picks these up when it commits the response; no body is written here
+            request.setAttribute(SENDFILE_FILENAME, region.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, region.getPosition());
+            request.setAttribute(SENDFILE_END, region.getPosition() + region.getCount());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(region.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputMessage.getBody());
+            long position = region.getPosition();
+            long end = position + region.getCount();
+
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, target);
+                if (sent == 0) {
+                    throw new EOFException("File ended before the requested range was sent: " + region.getPath());
+                }
+                position += sent;
+            }
+        }
+    }
+
+    private HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+}
@@ -2,10 +2,12 @@ package com.taskmanagement.attachment.config;
 
 import io.minio.MinioClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnProperty(prefix = "attachment.storage", name = "type", havingValue = "minio", matchIfMissing = true)
 public class MinioConfig {
 
     @Value("${minio.url}")
@@ -1,7 +1,13 @@
 package com.taskmanagement.attachment.controller;
 
 import com.taskmanagement.attachment.dto.AttachmentResponseDto;
+import com.taskmanagement.attachment.dto.PresignedUploadRequestDto;
+import com.taskmanagement.attachment.dto.PresignedUploadResponseDto;
+import com.taskmanagement.attachment.dto.PresignedUrlResponseDto;
+import com.taskmanagement.attachment.enums.AttachmentVariant;
 import com.taskmanagement.attachment.service.AttachmentService;
+import com.taskmanagement.common.workload.DatabaseWorkload;
+import com.taskmanagement.common.workload.Workload;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,10 +16,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +30,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/attachments")
@@ -40,8 +51,8 @@ public class AttachmentController {
                     - `file` (MultipartFile) - File to upload (max 10MB) ✅ REQUIRED
                     
                     **Business Logic:**
-                    - File is stored in MinIO object storage
-                    - Generates unique filename to prevent conflicts
+                    - File is stored in the configured storage backend (MinIO or local disk)
+                    - Content is hashed while uploading; identical files are stored once
                     - User must be a member of the task's project team
                     - System admins can upload to any task
                     - Task must not be deleted
@@ -88,6 +99,135 @@ public class AttachmentController {
                 .body(attachmentService.uploadAttachment(taskId, file));
     }
 
+    @Operation(
+            summary = "Stream attachment upload to task",
+            description = """
+                    Uploads a file by streaming the raw request body straight into object storage.
+                    
+                    **📋 Required Fields:**
+                    - `taskId` (Path) - ID of the task ✅ REQUIRED
+                    - `filename` (Query) - Original file name ✅ REQUIRED
+                    - Request body - Raw file bytes (max 10MB) ✅ REQUIRED
+                    
+                    **Business Logic:**
+                    - No multipart parsing: nothing is spooled to a temp file or held in memory
+                    - Body is streamed to storage (MinIO multipart upload or a local file) without buffering
+                    - `Content-Type` header is stored as the file's content type
+                    - `Content-Length` is optional; size is enforced while streaming
+                    - Same authorization and limits as the multipart upload
+                    - Identical content is stored once and shared between attachments
+                    
+                    **Deduplication:**
+                    - Send `X-Content-SHA256` (hex) to skip the transfer when the content is already stored
+                    - Applies only to content you uploaded before or that is already on this task
+                    - The response returns as soon as the attachment is linked; the body is not read
+                    - Otherwise the body is uploaded and must match the declared hash
+                    
+                    **Authorization:**
+                    - Team members of the project containing the task
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Attachment uploaded successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AttachmentResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid file - empty, too large, or max files limit reached"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - user is not a member of the project's team"),
+            @ApiResponse(responseCode = "404", description = "Task not found or deleted")
+    })
+    @PostMapping(value = "/task/{taskId}/stream", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<AttachmentResponseDto> uploadAttachmentStream(
+            @Parameter(description = "Task ID to attach file to", required = true, example = "1")
+            @PathVariable Long taskId,
+            @Parameter(description = "Original file name", required = true, example = "report.pdf")
+            @RequestParam String filename,
+            @Parameter(description = "Hex SHA-256 of the file, enables upload deduplication")
+            @RequestHeader(value = "X-Content-SHA256", required = false) String contentSha256,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(attachmentService.uploadAttachmentStream(
+                        taskId,
+                        filename,
+                        request.getContentType(),
+                        request.getContentLengthLong(),
+                        contentSha256,
+                        request.getInputStream()));
+    }
+
+    @Operation(
+            summary = "Request presigned upload URL",
+            description = """
+                    Reserves an attachment and returns a short-lived URL the client uploads the file to directly.
+                    
+                    **📋 Required Fields:**
+                    - `taskId` (Path) - ID of the task ✅ REQUIRED
+                    - `filename` (Body) - Original file name ✅ REQUIRED
+                    - `fileSize` (Body) - Exact size in bytes (max 10MB) ✅ REQUIRED
+                    
+                    **Business Logic:**
+                    - Attachment is created with PENDING status and is not listed until confirmed
+                    - Client sends the bytes with `PUT` to `uploadUrl` before `expiresAt`
+                    - File bytes never pass through the application
+                    - Call the confirm endpoint once the upload has finished
+                    - Unconfirmed uploads are cleaned up automatically
+                    - Same authorization and limits as the multipart upload
+                    
+                    **Authorization:**
+                    - Team members of the project containing the task
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload URL issued",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PresignedUploadResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request - too large, max files limit reached, or presigned URLs disabled"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - user is not a member of the project's team"),
+            @ApiResponse(responseCode = "404", description = "Task not found or deleted")
+    })
+    @PostMapping("/task/{taskId}/upload-url")
+    public ResponseEntity<PresignedUploadResponseDto> createPresignedUpload(
+            @Parameter(description = "Task ID to attach file to", required = true, example = "1")
+            @PathVariable Long taskId,
+            @Valid @RequestBody PresignedUploadRequestDto dto) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(attachmentService.createPresignedUpload(taskId, dto));
+    }
+
+    @Operation(
+            summary = "Confirm presigned upload",
+            description = """
+                    Activates an attachment after its file was uploaded to the presigned URL.
+                    
+                    **Business Logic:**
+                    - Verifies the object exists in storage
+                    - Stored size must match the size declared when the URL was issued
+                    - On mismatch the stored object is removed and the attachment stays PENDING
+                    - On success the attachment becomes ACTIVE
+                    
+                    **Authorization:**
+                    - The user who requested the upload URL
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload confirmed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AttachmentResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "File not uploaded yet or size mismatch"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - only the uploader can confirm"),
+            @ApiResponse(responseCode = "404", description = "Pending attachment not found")
+    })
+    @PostMapping("/{attachmentId}/confirm")
+    public ResponseEntity<AttachmentResponseDto> confirmPresignedUpload(
+            @Parameter(description = "Attachment ID", required = true, example = "1")
+            @PathVariable Long attachmentId) {
+        return ResponseEntity.ok(attachmentService.confirmPresignedUpload(attachmentId));
+    }
+
     @Operation(
             summary = "Get attachment metadata by ID",
             description = """
@@ -159,6 +299,38 @@ public class AttachmentController {
         return ResponseEntity.ok(attachmentService.getAttachmentsByTask(taskId, pageable));
     }
 
+    @Operation(
+            summary = "Download all task attachments as ZIP",
+            description = """
+                    Streams every active attachment of a task as a single ZIP archive.
+                    
+                    **Business Logic:**
+                    - Access is checked once for the whole task
+                    - The archive is built on the fly while it downloads; nothing is staged on disk
+                    - Files are added oldest first; duplicate names get a ` (n)` suffix
+                    - A task without attachments yields an empty archive
+                    - A storage failure mid-way aborts the download, leaving a truncated archive
+                    
+                    **Authorization:**
+                    - Team members of the project containing the task
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archive download started",
+                    content = @Content(mediaType = "application/zip")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - user is not a member of the project's team"),
+            @ApiResponse(responseCode = "404", description = "Task not found or deleted")
+    })
+    @GetMapping("/task/{taskId}/archive")
+    public void downloadTaskArchive(
+            @Parameter(description = "Task ID", required = true, example = "1")
+            @PathVariable Long taskId,
+            HttpServletResponse response) throws IOException {
+        attachmentService.downloadTaskArchive(taskId, response);
+    }
+
     @Operation(
             summary = "Download attachment",
             description = """
@@ -166,17 +338,32 @@ public class AttachmentController {
                     
                     **Business Logic:**
                     - Returns the actual file as a binary stream
-                    - File is retrieved from MinIO object storage
+                    - File is streamed from storage; on local disk it is sent straight from the file (sendfile)
                     - Sets appropriate Content-Type header based on file type
                     - Sets Content-Disposition header for browser download
                     - Original filename is preserved in the download
                     - User must be a member of the project's team
                     - Attachment must not be deleted
                     - Download activity is logged
+                    - In `redirect` mode responds with 302 to a presigned storage URL instead
+                    
+                    **Variants:**
+                    - `variant=thumb` (160px) or `variant=medium` (640px) returns a JPEG preview of an image
+                    - Previews are generated in the background after upload and cached for a year (`immutable`)
+                    - Until a preview exists, the original file is returned
+                    - Ranges are ignored for previews
+                    
+                    **Range Requests:**
+                    - A single `Range: bytes=start-end` is answered with 206 and only those bytes
+                    - `If-Range` with the ETag resumes only if the file is unchanged
+                    - Multiple or malformed ranges return the full file
                     
                     **Response Headers:**
                     - Content-Type: Based on file type (e.g., image/png, application/pdf)
                     - Content-Disposition: attachment; filename="original_filename.ext"
+                    - Accept-Ranges: bytes
+                    - ETag: Storage object ETag
+                    - Content-Range: Only on 206 responses
                     
                     **Authorization:**
                     - Team members of the project containing the task
@@ -186,16 +373,61 @@ public class AttachmentController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "File download started",
                     content = @Content(mediaType = "application/octet-stream")),
+            @ApiResponse(responseCode = "206", description = "Requested byte range",
+                    content = @Content(mediaType = "application/octet-stream")),
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
             @ApiResponse(responseCode = "403", description = "Forbidden - user is not authorized to download this file"),
             @ApiResponse(responseCode = "404", description = "Attachment not found or deleted"),
+            @ApiResponse(responseCode = "416", description = "Range starts beyond the end of the file"),
             @ApiResponse(responseCode = "500", description = "Internal server error - file retrieval failed")
     })
     @GetMapping("/{attachmentId}/download")
-    public ResponseEntity<InputStreamResource> downloadAttachment(
+    public ResponseEntity<?> downloadAttachment(
+            @Parameter(description = "Attachment ID", required = true, example = "1")
+            @PathVariable Long attachmentId,
+            @Parameter(description = "Single byte range to download", example = "bytes=0-1048575")
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @Parameter(description = "ETag the range is conditional on")
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @Parameter(description = "Rendition to download: original, thumb or medium", example = "thumb")
+            @RequestParam(required = false) String variant) {
+        AttachmentVariant attachmentVariant = AttachmentVariant.fromParameter(variant);
+
+        if (attachmentVariant == AttachmentVariant.ORIGINAL) {
+            return attachmentService.downloadAttachment(attachmentId, range, ifRange);
+        }
+        return attachmentService.downloadAttachmentVariant(attachmentId, attachmentVariant);
+    }
+
+    @Operation(
+            summary = "Get presigned download URL",
+            description = """
+                    Returns a short-lived URL that downloads the file straight from object storage.
+                    
+                    **Business Logic:**
+                    - File bytes never pass through the application
+                    - URL forces `Content-Disposition: attachment` with the original file name
+                    - URL expires after a few minutes (configurable)
+                    - Same access rules as the download endpoint
+                    
+                    **Authorization:**
+                    - Team members of the project containing the task
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Download URL issued",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PresignedUrlResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Presigned URLs are disabled"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - user is not authorized to download this file"),
+            @ApiResponse(responseCode = "404", description = "Attachment not found or deleted")
+    })
+    @GetMapping("/{attachmentId}/download-url")
+    public ResponseEntity<PresignedUrlResponseDto> getPresignedDownloadUrl(
             @Parameter(description = "Attachment ID", required = true, example = "1")
             @PathVariable Long attachmentId) {
-        return attachmentService.downloadAttachment(attachmentId);
+        return ResponseEntity.ok(attachmentService.getPresignedDownloadUrl(attachmentId));
     }
 
     @Operation(
@@ -206,7 +438,7 @@ public class AttachmentController {
                     **Business Logic:**
                     - Performs soft delete (status changed to DELETED)
                     - Attachment metadata is preserved in the database
-                    - File remains in object storage (not physically deleted)
+                    - Stored content is released and reclaimed once no attachment uses it
                     - Deleted attachments are hidden from regular users
                     - System admins can still view deleted attachments
                     - Cannot delete an already deleted attachment
@@ -293,6 +525,7 @@ public class AttachmentController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
+    @DatabaseWorkload(Workload.REPORTING)
     @GetMapping("/admin/all")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<AttachmentResponseDto>> getAllAttachmentsForAdmin(
@@ -0,0 +1,201 @@
+package com.taskmanagement.attachment.controller;
+
+import com.taskmanagement.attachment.dto.AttachmentResponseDto;
+import com.taskmanagement.attachment.dto.UploadPartResponseDto;
+import com.taskmanagement.attachment.dto.UploadSessionCreateDto;
+import com.taskmanagement.attachment.dto.UploadSessionResponseDto;
+import com.taskmanagement.attachment.service.AttachmentUploadSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/attachments")
+@Tag(name = "Attachment Upload Sessions", description = "Chunked, resumable uploads for large attachments")
+@SecurityRequirement(name = "bearerAuth")
+public class AttachmentUploadSessionController {
+
+    private final AttachmentUploadSessionService uploadSessionService;
+
+    @Operation(
+            summary = "Start chunked upload session",
+            description = """
+                    Opens an upload session for a large file that is sent in fixed-size parts.
+
+                    **📋 Required Fields:**
+                    - `taskId` (Path) - ID of the task ✅ REQUIRED
+                    - `filename` (Body) - Original file name ✅ REQUIRED
+                    - `fileSize` (Body) - Exact total size in bytes (max 500MB) ✅ REQUIRED
+
+                    **Business Logic:**
+                    - Response gives `partSize` and `partCount`; parts are numbered from 1
+                    - Every part is exactly `partSize` bytes except the last one
+                    - Parts can be uploaded in any order and in parallel
+                    - Sessions expire after 24 hours (configurable) and their parts are removed
+                    - Same authorization and per-task limit as the regular upload
+
+                    **Authorization:**
+                    - Team members of the project containing the task
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadSessionResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request - too large or max files limit reached"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - user is not a member of the project's team"),
+            @ApiResponse(responseCode = "404", description = "Task not found or deleted")
+    })
+    @PostMapping("/task/{taskId}/upload-sessions")
+    public ResponseEntity<UploadSessionResponseDto> createSession(
+            @Parameter(description = "Task ID to attach file to", required = true, example = "1")
+            @PathVariable Long taskId,
+            @Valid @RequestBody UploadSessionCreateDto dto) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(uploadSessionService.createSession(taskId, dto));
+    }
+
+    @Operation(
+            summary = "Upload one part",
+            description = """
+                    Streams the raw request body as one part of the upload session.
+
+                    **📋 Required Fields:**
+                    - `sessionId` (Path) - Upload session ID ✅ REQUIRED
+                    - `partNumber` (Path) - Part number, from 1 to `partCount` ✅ REQUIRED
+                    - Request body - Raw part bytes ✅ REQUIRED
+
+                    **Business Logic:**
+                    - Body size must match the expected part size exactly
+                    - Re-uploading a part replaces it, so failed parts can simply be retried
+                    - Parts are independent; upload several at once to use more bandwidth
+
+                    **Authorization:**
+                    - The user who started the session
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Part stored",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadPartResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Wrong part number or size, or session no longer active"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - session belongs to another user"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @PutMapping(value = "/upload-sessions/{sessionId}/parts/{partNumber}", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<UploadPartResponseDto> uploadPart(
+            @Parameter(description = "Upload session ID", required = true, example = "1")
+            @PathVariable Long sessionId,
+            @Parameter(description = "Part number", required = true, example = "1")
+            @PathVariable int partNumber,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(uploadSessionService.uploadPart(
+                sessionId,
+                partNumber,
+                request.getContentLengthLong(),
+                request.getInputStream()));
+    }
+
+    @Operation(
+            summary = "Get upload session",
+            description = """
+                    Returns the session state, including which parts are already stored.
+
+                    **Business Logic:**
+                    - Use `uploadedParts` to resume an interrupted upload
+
+                    **Authorization:**
+                    - The user who started the session
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadSessionResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - session belongs to another user"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @GetMapping("/upload-sessions/{sessionId}")
+    public ResponseEntity<UploadSessionResponseDto> getSession(
+            @Parameter(description = "Upload session ID", required = true, example = "1")
+            @PathVariable Long sessionId) {
+        return ResponseEntity.ok(uploadSessionService.getSession(sessionId));
+    }
+
+    @Operation(
+            summary = "Complete upload session",
+            description = """
+                    Assembles the uploaded parts into the final file and creates the attachment.
+
+                    **Business Logic:**
+                    - All parts must be present with their expected sizes
+                    - Parts are concatenated inside object storage; no bytes pass through the app
+                    - Attachment is created with ACTIVE status and the part objects are removed
+                    - If assembly fails the session stays open and completion can be retried
+
+                    **Authorization:**
+                    - The user who started the session
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Attachment created",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AttachmentResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Missing parts, max files limit reached, or session no longer active"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - session belongs to another user"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @PostMapping("/upload-sessions/{sessionId}/complete")
+    public ResponseEntity<AttachmentResponseDto> completeSession(
+            @Parameter(description = "Upload session ID", required = true, example = "1")
+            @PathVariable Long sessionId) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(uploadSessionService.completeSession(sessionId));
+    }
+
+    @Operation(
+            summary = "Abort upload session",
+            description = """
+                    Cancels an open upload session and removes its uploaded parts.
+
+                    **Authorization:**
+                    - The user who started the session
+                    - System admins (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Upload session aborted"),
+            @ApiResponse(responseCode = "400", description = "Session is no longer active"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - session belongs to another user"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @DeleteMapping("/upload-sessions/{sessionId}")
+    public ResponseEntity<Void> abortSession(
+            @Parameter(description = "Upload session ID", required = true, example = "1")
+            @PathVariable Long sessionId) {
+        uploadSessionService.abortSession(sessionId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskmanagement.attachment.controller;
+
+import com.taskmanagement.attachment.dto.TeamStorageUsageResponseDto;
+import com.taskmanagement.attachment.service.StorageUsageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/attachments/admin")
+@Tag(name = "Attachment Storage Usage", description = "Per-team attachment storage accounting")
+@SecurityRequirement(name = "bearerAuth")
+public class StorageUsageController {
+
+    private final StorageUsageService storageUsageService;
+
+    @Operation(
+            summary = "List top storage consumers (Admin)",
+            description = """
+                    Lists the teams using the most attachment storage. **Requires ADMIN role.**
+                    
+                    **Business Logic:**
+                    - Read from per-team counters kept up to date on upload, delete and project transfer
+                    - Pending presigned uploads count with their declared size until confirmed or abandoned
+                    - Deleted attachments do not count
+                    - Counters are verified against the attachments periodically and corrected if they drift
+                    - `quotaBytes` is the per-team limit enforced on upload; 0 means unlimited
+                    
+                    **Authorization:**
+                    - System admins only (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usage retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Limit out of range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    @GetMapping("/storage-usage")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<TeamStorageUsageResponseDto>> getTopConsumers(
+            @Parameter(description = "Number of teams to return (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(storageUsageService.getTopConsumers(limit));
+    }
+}
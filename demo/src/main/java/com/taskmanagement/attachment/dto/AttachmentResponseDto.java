@@ -35,6 +35,10 @@ public record AttachmentResponseDto(
         @Schema(description = "URL to download the attachment", example = "/api/attachments/1/download")
         String downloadUrl,
 
+        @Schema(description = "URL of a small JPEG preview, present once it has been generated",
+                example = "/api/attachments/1/download?variant=thumb")
+        String thumbnailUrl,
+
         @Schema(description = "ID of user who created this record", example = "1")
         Long createdBy,
 
@@ -0,0 +1,27 @@
+package com.taskmanagement.attachment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request body for a direct-to-storage (presigned) upload")
+public record PresignedUploadRequestDto(
+
+        @Schema(description = "Original filename", example = "document.pdf",
+                requiredMode = Schema.RequiredMode.REQUIRED, maxLength = 255)
+        @NotBlank(message = "Filename is required")
+        @Size(max = 255, message = "Filename must not exceed 255 characters")
+        String filename,
+
+        @Schema(description = "MIME content type of the file", example = "application/pdf", maxLength = 100)
+        @Size(max = 100, message = "Content type must not exceed 100 characters")
+        String contentType,
+
+        @Schema(description = "Exact file size in bytes", example = "1048576",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "File size is required")
+        @Positive(message = "File size must be positive")
+        Long fileSize
+) {}
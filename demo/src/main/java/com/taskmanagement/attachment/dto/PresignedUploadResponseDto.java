@@ -0,0 +1,22 @@
+package com.taskmanagement.attachment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Presigned upload target for a pending attachment")
+public record PresignedUploadResponseDto(
+
+        @Schema(description = "ID of the pending attachment to confirm after the upload", example = "1")
+        Long attachmentId,
+
+        @Schema(description = "Presigned URL to PUT the file bytes to",
+                example = "https://storage.example.com/task-management-attachments/attachments/abc123.pdf?X-Amz-Signature=...")
+        String uploadUrl,
+
+        @Schema(description = "HTTP method to use with the upload URL", example = "PUT")
+        String method,
+
+        @Schema(description = "Time after which the upload URL stops working", example = "2025-01-15T10:35:00Z")
+        Instant expiresAt
+) {}
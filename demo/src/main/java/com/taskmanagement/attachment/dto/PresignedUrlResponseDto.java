@@ -0,0 +1,16 @@
+package com.taskmanagement.attachment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Short-lived presigned URL for direct storage access")
+public record PresignedUrlResponseDto(
+
+        @Schema(description = "Presigned URL",
+                example = "https://storage.example.com/task-management-attachments/attachments/abc123.pdf?X-Amz-Signature=...")
+        String url,
+
+        @Schema(description = "Time after which the URL stops working", example = "2025-01-15T10:35:00Z")
+        Instant expiresAt
+) {}
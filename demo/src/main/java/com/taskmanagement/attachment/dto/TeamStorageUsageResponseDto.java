@@ -0,0 +1,29 @@
+package com.taskmanagement.attachment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Attachment storage used by a team")
+public record TeamStorageUsageResponseDto(
+
+        @Schema(description = "Team ID", example = "1")
+        Long teamId,
+
+        @Schema(description = "Team name", example = "Platform")
+        String teamName,
+
+        @Schema(description = "Bytes held by the team's pending and active attachments", example = "52428800")
+        Long usedBytes,
+
+        @Schema(description = "Number of pending and active attachments", example = "120")
+        Long attachmentCount,
+
+        @Schema(description = "Per-team quota in bytes; 0 means unlimited", example = "10737418240")
+        Long quotaBytes,
+
+        @Schema(description = "Timestamp of the last change to the counters", example = "2025-01-15T10:30:00Z")
+        Instant updatedAt
+
+)
+{}
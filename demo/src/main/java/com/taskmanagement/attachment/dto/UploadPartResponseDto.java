@@ -0,0 +1,16 @@
+package com.taskmanagement.attachment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A stored part of a chunked upload")
+public record UploadPartResponseDto(
+
+        @Schema(description = "Part number", example = "1")
+        Integer partNumber,
+
+        @Schema(description = "Stored part size in bytes", example = "8388608")
+        Long size,
+
+        @Schema(description = "Storage ETag of the part", example = "9b2cf535f27731c974343645a3985328")
+        String etag
+) {}
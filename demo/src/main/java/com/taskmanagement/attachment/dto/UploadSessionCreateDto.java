@@ -0,0 +1,27 @@
+package com.taskmanagement.attachment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request body for starting a chunked upload session")
+public record UploadSessionCreateDto(
+
+        @Schema(description = "Original filename", example = "design-assets.zip",
+                requiredMode = Schema.RequiredMode.REQUIRED, maxLength = 255)
+        @NotBlank(message = "Filename is required")
+        @Size(max = 255, message = "Filename must not exceed 255 characters")
+        String filename,
+
+        @Schema(description = "MIME content type of the file", example = "application/zip", maxLength = 100)
+        @Size(max = 100, message = "Content type must not exceed 100 characters")
+        String contentType,
+
+        @Schema(description = "Exact total file size in bytes", example = "524288000",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "File size is required")
+        @Positive(message = "File size must be positive")
+        Long fileSize
+) {}
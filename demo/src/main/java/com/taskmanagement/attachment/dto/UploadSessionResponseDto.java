@@ -0,0 +1,38 @@
+package com.taskmanagement.attachment.dto;
+
+import com.taskmanagement.attachment.enums.UploadSessionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "State of a chunked upload session")
+public record UploadSessionResponseDto(
+
+        @Schema(description = "Upload session ID", example = "1")
+        Long sessionId,
+
+        @Schema(description = "Task the file will be attached to", example = "1")
+        Long taskId,
+
+        @Schema(description = "Original filename", example = "design-assets.zip")
+        String filename,
+
+        @Schema(description = "Total file size in bytes", example = "524288000")
+        Long totalSize,
+
+        @Schema(description = "Size of every part except the last, in bytes", example = "8388608")
+        Long partSize,
+
+        @Schema(description = "Number of parts to upload, numbered from 1", example = "63")
+        Integer partCount,
+
+        @Schema(description = "Part numbers already stored; upload the rest to resume", example = "[1, 2, 5]")
+        List<Integer> uploadedParts,
+
+        @Schema(description = "Session status", example = "ACTIVE")
+        UploadSessionStatus status,
+
+        @Schema(description = "Time after which the session is discarded", example = "2025-01-16T10:30:00Z")
+        Instant expiresAt
+) {}
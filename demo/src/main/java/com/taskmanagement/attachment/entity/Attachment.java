@@ -1,12 +1,15 @@
 package com.taskmanagement.attachment.entity;
 
 import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
 import com.taskmanagement.common.entity.BaseEntity;
 import com.taskmanagement.task.entity.Task;
 import com.taskmanagement.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @Builder
@@ -25,9 +28,16 @@ public class Attachment extends BaseEntity {
     @Column(name = "bucket_name", nullable = false, length = 100)
     private String bucketName;
 
-    @Column(name = "object_key", nullable = false, length = 500, unique = true)
+    @Column(name = "object_key", nullable = false, length = 500)
     private String objectKey;
 
+    // Shared content-addressed blob; null for files stored under their own key
+    @Column(name = "blob_id")
+    private Long blobId;
+
+    @Column(name = "purged_at")
+    private Instant purgedAt;
+
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
@@ -51,4 +61,14 @@ public class Attachment extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private AttachmentStatus status = AttachmentStatus.ACTIVE;
+
+    // Set by the thumbnail pipeline; READY means THUMB and MEDIUM variants are stored
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status", length = 20)
+    private ThumbnailStatus thumbnailStatus;
+
+    // Set while the attachment is deleted because its team is; a team restore puts it back
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cascade_previous_status", length = 20)
+    private AttachmentStatus cascadePreviousStatus;
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.taskmanagement.attachment.entity;
+
+import com.taskmanagement.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "attachment_blobs")
+public class AttachmentBlob extends BaseEntity {
+
+    @Column(name = "content_hash", nullable = false, length = 64, unique = true)
+    private String contentHash;
+
+    @Column(name = "object_key", nullable = false, length = 500, unique = true)
+    private String objectKey;
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    @Builder.Default
+    private Integer refCount = 1;
+
+    @Column(name = "orphaned_at")
+    private Instant orphanedAt;
+
+    @Column(name = "purged_at")
+    private Instant purgedAt;
+}
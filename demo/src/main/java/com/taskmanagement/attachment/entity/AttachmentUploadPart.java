@@ -0,0 +1,28 @@
+package com.taskmanagement.attachment.entity;
+
+import com.taskmanagement.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "attachment_upload_parts",
+        uniqueConstraints = @UniqueConstraint(name = "uq_upload_part", columnNames = {"session_id", "part_number"}))
+public class AttachmentUploadPart extends BaseEntity {
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(name = "part_number", nullable = false)
+    private Integer partNumber;
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "etag", length = 100)
+    private String etag;
+}
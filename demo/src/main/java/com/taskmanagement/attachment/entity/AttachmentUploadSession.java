@@ -0,0 +1,82 @@
+package com.taskmanagement.attachment.entity;
+
+import com.taskmanagement.attachment.enums.UploadSessionStatus;
+import com.taskmanagement.common.entity.BaseEntity;
+import com.taskmanagement.task.entity.Task;
+import com.taskmanagement.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "attachment_upload_sessions")
+public class AttachmentUploadSession extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    @Column(name = "task_id", nullable = false, insertable = false, updatable = false)
+    private Long taskId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "user_id", nullable = false, insertable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "original_filename", nullable = false, length = 255)
+    private String originalFilename;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "part_size", nullable = false)
+    private Long partSize;
+
+    @Column(name = "part_count", nullable = false)
+    private Integer partCount;
+
+    @Column(name = "stored_filename", nullable = false, length = 255)
+    private String storedFilename;
+
+    @Column(name = "object_key", nullable = false, length = 500, unique = true)
+    private String objectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private UploadSessionStatus status = UploadSessionStatus.ACTIVE;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public long expectedPartSize(int partNumber) {
+        if (partNumber < partCount) {
+            return partSize;
+        }
+        return totalSize - partSize * (partCount - 1);
+    }
+
+    public String partObjectKey(int partNumber) {
+        return objectKey + ".parts/" + partNumber;
+    }
+
+    public List<String> partObjectKeys() {
+        return IntStream.rangeClosed(1, partCount)
+                .mapToObj(this::partObjectKey)
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanagement.attachment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Running attachment totals for one team. Rows are only changed through the
+ * atomic updates in TeamStorageUsageRepository, never loaded and saved.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "team_storage_usage")
+public class TeamStorageUsage {
+
+    @Id
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "used_bytes", nullable = false)
+    private Long usedBytes;
+
+    @Column(name = "attachment_count", nullable = false)
+    private Long attachmentCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.taskmanagement.attachment.enums;
+
+public enum AttachmentDownloadMode {
+    PROXY,
+    REDIRECT
+}
@@ -1,6 +1,7 @@
 package com.taskmanagement.attachment.enums;
 
 public enum AttachmentStatus {
+    PENDING,
     ACTIVE,
     DELETED
-}
\ No newline at end of file
+}
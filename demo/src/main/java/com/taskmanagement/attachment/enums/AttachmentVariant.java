@@ -0,0 +1,35 @@
+package com.taskmanagement.attachment.enums;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Downloadable renditions of an attachment. Derived images live next to the
+ * original under a fixed suffix, so they follow shared content and are
+ * reclaimed together with it.
+ */
+public enum AttachmentVariant {
+    ORIGINAL,
+    THUMB,
+    MEDIUM;
+
+    public String objectKey(String originalKey) {
+        return this == ORIGINAL ? originalKey : originalKey + "." + name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+
+    public static List<String> derivedKeys(String originalKey) {
+        return List.of(THUMB.objectKey(originalKey), MEDIUM.objectKey(originalKey));
+    }
+
+    public static AttachmentVariant fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return ORIGINAL;
+        }
+        for (AttachmentVariant variant : values()) {
+            if (variant.name().equalsIgnoreCase(value.trim())) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown attachment variant: " + value);
+    }
+}
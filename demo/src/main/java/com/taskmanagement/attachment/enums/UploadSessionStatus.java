@@ -0,0 +1,9 @@
+package com.taskmanagement.attachment.enums;
+
+public enum UploadSessionStatus {
+    ACTIVE,
+    COMPLETING,
+    COMPLETED,
+    ABORTED,
+    EXPIRED
+}
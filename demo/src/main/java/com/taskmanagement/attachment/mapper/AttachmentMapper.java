@@ -2,6 +2,7 @@ package com.taskmanagement.attachment.mapper;
 
 import com.taskmanagement.attachment.dto.AttachmentResponseDto;
 import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,6 +14,9 @@ public class AttachmentMapper {
         }
 
         String downloadUrl = "/api/attachments/" + attachment.getId() + "/download";
+        String thumbnailUrl = attachment.getThumbnailStatus() == ThumbnailStatus.READY
+                ? downloadUrl + "?variant=thumb"
+                : null;
 
         return new AttachmentResponseDto(
 
@@ -25,6 +29,7 @@ public class AttachmentMapper {
                 attachment.getUserId(),
                 attachment.getStatus(),
                 downloadUrl,
+                thumbnailUrl,
                 attachment.getCreatedBy(),
                 attachment.getUpdatedBy(),
                 attachment.getCreatedAt(),
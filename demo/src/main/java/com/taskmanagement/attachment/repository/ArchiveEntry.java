@@ -0,0 +1,17 @@
+package com.taskmanagement.attachment.repository;
+
+import java.time.Instant;
+
+/**
+ * The fields of an attachment needed to add it to a task archive.
+ */
+public interface ArchiveEntry {
+
+    Long getId();
+
+    String getOriginalFilename();
+
+    String getObjectKey();
+
+    Instant getCreatedAt();
+}
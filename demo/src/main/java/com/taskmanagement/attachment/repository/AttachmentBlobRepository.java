@@ -0,0 +1,82 @@
+package com.taskmanagement.attachment.repository;
+
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, Long> {
+
+    Optional<AttachmentBlob> findByContentHash(String contentHash);
+
+    /**
+     * Inserts the blob with one reference, or adds a reference to the existing
+     * blob with the same hash. Returns the id of whichever row now holds the content.
+     * A blob whose object was already reclaimed is revived with the new object.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO attachment_blobs (content_hash, object_key, size, content_type, ref_count, created_at, updated_at) " +
+            "VALUES (:contentHash, :objectKey, :size, :contentType, 1, now(), now()) " +
+            "ON CONFLICT (content_hash) DO UPDATE SET " +
+            "object_key = CASE WHEN attachment_blobs.purged_at IS NULL THEN attachment_blobs.object_key ELSE EXCLUDED.object_key END, " +
+            "ref_count = CASE WHEN attachment_blobs.purged_at IS NULL THEN attachment_blobs.ref_count + 1 ELSE 1 END, " +
+            "orphaned_at = NULL, purged_at = NULL, updated_at = now() " +
+            "RETURNING id", nativeQuery = true)
+    Long upsertReference(@Param("contentHash") String contentHash,
+                         @Param("objectKey") String objectKey,
+                         @Param("size") long size,
+                         @Param("contentType") String contentType);
+
+    // Only live blobs can gain references this way; a blob at zero may be mid-reclaim
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "attachment_blobs"))
+    @Query(value = "UPDATE attachment_blobs SET ref_count = ref_count + 1, updated_at = now() " +
+            "WHERE id = :id AND ref_count > 0", nativeQuery = true)
+    int addReference(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "attachment_blobs"))
+    @Query(value = "UPDATE attachment_blobs SET ref_count = ref_count - 1, updated_at = now(), " +
+            "orphaned_at = CASE WHEN ref_count = 1 THEN now() ELSE orphaned_at END " +
+            "WHERE id = :id AND ref_count > 0", nativeQuery = true)
+    int releaseReference(@Param("id") Long id);
+
+    @Query(value = "SELECT id FROM attachment_blobs WHERE ref_count = 0 AND purged_at IS NULL " +
+            "AND orphaned_at < :cutoff AND id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findReclaimableIds(@Param("cutoff") Instant cutoff,
+                                  @Param("afterId") long afterId,
+                                  @Param("limit") int limit);
+
+    /**
+     * Marks still-unreferenced blobs as purged and returns them. Claiming before the
+     * object is removed means a concurrent upload of the same bytes can never gain a
+     * reference to an object that is about to disappear.
+     */
+    @Transactional
+    @Query(value = "UPDATE attachment_blobs SET purged_at = now(), updated_at = now() " +
+            "WHERE id IN (:ids) AND ref_count = 0 AND purged_at IS NULL " +
+            "RETURNING id, object_key AS \"objectKey\", size", nativeQuery = true)
+    List<ReclaimableObject> claimForReclaim(@Param("ids") Collection<Long> ids);
+
+    // Undo a claim whose object could not be removed, unless the blob was revived meanwhile
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "attachment_blobs"))
+    @Query(value = "UPDATE attachment_blobs SET purged_at = NULL, updated_at = now() " +
+            "WHERE id = :id AND object_key = :objectKey AND ref_count = 0", nativeQuery = true)
+    int releaseClaim(@Param("id") Long id, @Param("objectKey") String objectKey);
+}
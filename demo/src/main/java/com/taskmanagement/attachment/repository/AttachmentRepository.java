@@ -2,33 +2,78 @@ package com.taskmanagement.attachment.repository;
 
 import com.taskmanagement.attachment.entity.Attachment;
 import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
 
-    @Query("SELECT a FROM Attachment a WHERE a.id = :id AND a.status <> com.taskmanagement.attachment.enums.AttachmentStatus.DELETED")
+    @Query("SELECT a FROM Attachment a WHERE a.id = :id AND a.status = com.taskmanagement.attachment.enums.AttachmentStatus.ACTIVE")
     Optional<Attachment> findByIdAndNotDeleted(@Param("id") Long id);
 
-    @Query("SELECT a FROM Attachment a WHERE a.taskId = :taskId AND a.status <> com.taskmanagement.attachment.enums.AttachmentStatus.DELETED")
+    @Query("SELECT a FROM Attachment a WHERE a.taskId = :taskId AND a.status = com.taskmanagement.attachment.enums.AttachmentStatus.ACTIVE")
     Page<Attachment> findByTaskIdAndNotDeleted(@Param("taskId") Long taskId, Pageable pageable);
 
+    @Query("SELECT a.id AS id, a.originalFilename AS originalFilename, a.objectKey AS objectKey, a.createdAt AS createdAt " +
+            "FROM Attachment a WHERE a.taskId = :taskId " +
+            "AND a.status = com.taskmanagement.attachment.enums.AttachmentStatus.ACTIVE ORDER BY a.createdAt, a.id")
+    List<ArchiveEntry> findArchiveEntriesByTaskId(@Param("taskId") Long taskId);
+
     @Query("SELECT a FROM Attachment a WHERE a.taskId = :taskId")
     Page<Attachment> findByTaskId(@Param("taskId") Long taskId, Pageable pageable);
 
-    @Query("SELECT a FROM Attachment a WHERE a.userId = :userId AND a.status <> com.taskmanagement.attachment.enums.AttachmentStatus.DELETED")
+    @Query("SELECT a FROM Attachment a WHERE a.userId = :userId AND a.status = com.taskmanagement.attachment.enums.AttachmentStatus.ACTIVE")
     Page<Attachment> findByUserIdAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT a FROM Attachment a WHERE a.createdBy = :userId AND a.status <> com.taskmanagement.attachment.enums.AttachmentStatus.DELETED")
+    @Query("SELECT a FROM Attachment a WHERE a.createdBy = :userId AND a.status = com.taskmanagement.attachment.enums.AttachmentStatus.ACTIVE")
     Page<Attachment> findByCreatedByAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
 
+    // Counts pending presigned uploads too, so the per-task limit also covers them
     @Query("SELECT COUNT(a) FROM Attachment a WHERE a.taskId = :taskId AND a.status <> com.taskmanagement.attachment.enums.AttachmentStatus.DELETED")
     long countByTaskIdAndNotDeleted(@Param("taskId") Long taskId);
+
+    // A caller may reuse stored content only if they uploaded it or it is already on the target task
+    @Query("SELECT COUNT(a) > 0 FROM Attachment a WHERE a.blobId = :blobId " +
+            "AND a.status = com.taskmanagement.attachment.enums.AttachmentStatus.ACTIVE " +
+            "AND (a.createdBy = :userId OR a.taskId = :taskId)")
+    boolean existsReusableBlob(@Param("blobId") Long blobId, @Param("userId") Long userId, @Param("taskId") Long taskId);
+
+    @Query("SELECT a.id AS id, a.objectKey AS objectKey, a.fileSize AS size FROM Attachment a " +
+            "WHERE a.status = com.taskmanagement.attachment.enums.AttachmentStatus.DELETED " +
+            "AND a.blobId IS NULL AND a.purgedAt IS NULL AND a.cascadePreviousStatus IS NULL " +
+            "AND a.updatedAt < :cutoff AND a.id > :afterId ORDER BY a.id")
+    List<ReclaimableObject> findReclaimable(@Param("cutoff") Instant cutoff,
+                                            @Param("afterId") long afterId,
+                                            Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.purgedAt = :now WHERE a.id IN :ids")
+    int markPurged(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.thumbnailStatus = :status WHERE a.id = :id")
+    int updateThumbnailStatus(@Param("id") Long id, @Param("status") ThumbnailStatus status);
+
+    @Query("SELECT a FROM Attachment a WHERE a.id = :id AND a.status = com.taskmanagement.attachment.enums.AttachmentStatus.PENDING")
+    Optional<Attachment> findPendingById(@Param("id") Long id);
+
+    @Query("SELECT a FROM Attachment a WHERE a.status = com.taskmanagement.attachment.enums.AttachmentStatus.PENDING " +
+            "AND a.createdAt < :cutoff ORDER BY a.id")
+    List<Attachment> findStalePending(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    boolean existsByObjectKey(String objectKey);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.taskmanagement.attachment.repository;
+
+import com.taskmanagement.attachment.entity.AttachmentUploadPart;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentUploadPartRepository extends JpaRepository<AttachmentUploadPart, Long> {
+
+    Optional<AttachmentUploadPart> findBySessionIdAndPartNumber(Long sessionId, Integer partNumber);
+
+    List<AttachmentUploadPart> findBySessionIdOrderByPartNumber(Long sessionId);
+}
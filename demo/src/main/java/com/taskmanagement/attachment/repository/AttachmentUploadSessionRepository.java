@@ -0,0 +1,36 @@
+package com.taskmanagement.attachment.repository;
+
+import com.taskmanagement.attachment.entity.AttachmentUploadSession;
+import com.taskmanagement.attachment.enums.UploadSessionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface AttachmentUploadSessionRepository extends JpaRepository<AttachmentUploadSession, Long> {
+
+    // Compare-and-set so only one caller can move a session out of a given state
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AttachmentUploadSession s SET s.status = :to, s.updatedAt = :now WHERE s.id = :id AND s.status = :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") UploadSessionStatus from,
+                   @Param("to") UploadSessionStatus to,
+                   @Param("now") Instant now);
+
+    @Query("SELECT s FROM AttachmentUploadSession s WHERE s.status = com.taskmanagement.attachment.enums.UploadSessionStatus.ACTIVE " +
+            "AND s.expiresAt < :now ORDER BY s.id")
+    List<AttachmentUploadSession> findExpired(@Param("now") Instant now, Pageable pageable);
+
+    // Completions that have not moved for this long were cut off by a crash or restart
+    @Query("SELECT s FROM AttachmentUploadSession s WHERE s.status = com.taskmanagement.attachment.enums.UploadSessionStatus.COMPLETING " +
+            "AND s.updatedAt < :cutoff ORDER BY s.id")
+    List<AttachmentUploadSession> findStuckCompleting(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
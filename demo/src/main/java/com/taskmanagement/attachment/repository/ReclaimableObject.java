@@ -0,0 +1,13 @@
+package com.taskmanagement.attachment.repository;
+
+/**
+ * A stored object the reclaimer may remove, with the bytes it frees.
+ */
+public interface ReclaimableObject {
+
+    Long getId();
+
+    String getObjectKey();
+
+    Long getSize();
+}
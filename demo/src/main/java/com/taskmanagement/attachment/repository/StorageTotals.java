@@ -0,0 +1,11 @@
+package com.taskmanagement.attachment.repository;
+
+/**
+ * Bytes and number of attachments counted towards storage usage.
+ */
+public interface StorageTotals {
+
+    Long getUsedBytes();
+
+    Long getAttachmentCount();
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.attachment.repository;
+
+/**
+ * A team whose counters differ from what its attachments add up to.
+ */
+public interface StorageUsageDrift {
+
+    Long getTeamId();
+
+    Long getCountedBytes();
+
+    Long getActualBytes();
+
+    Long getCountedAttachments();
+
+    Long getActualAttachments();
+}
@@ -0,0 +1,88 @@
+package com.taskmanagement.attachment.repository;
+
+import com.taskmanagement.attachment.entity.TeamStorageUsage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Usage counters cover every attachment that is not DELETED, so pending
+ * presigned uploads hold their declared size until confirmed or cleaned up.
+ */
+@Repository
+public interface TeamStorageUsageRepository extends JpaRepository<TeamStorageUsage, Long> {
+
+    @Query(value = "SELECT p.team_id FROM tasks t JOIN projects p ON p.id = t.project_id WHERE t.id = :taskId",
+            nativeQuery = true)
+    Optional<Long> findTeamIdByTaskId(@Param("taskId") Long taskId);
+
+    @Query("SELECT u.usedBytes FROM TeamStorageUsage u WHERE u.teamId = :teamId")
+    Optional<Long> findUsedBytes(@Param("teamId") Long teamId);
+
+    /**
+     * Counts one more attachment of {@code bytes} unless that would take the team
+     * past {@code quota} (zero or less means unlimited). Returns 0 when refused.
+     * The check and the increment are one statement, so concurrent uploads
+     * cannot overshoot the quota together.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_storage_usage"))
+    @Query(value = "INSERT INTO team_storage_usage (team_id, used_bytes, attachment_count, updated_at) " +
+            "SELECT :teamId, :bytes, 1, now() WHERE :quota <= 0 OR :bytes <= :quota " +
+            "ON CONFLICT (team_id) DO UPDATE SET " +
+            "used_bytes = team_storage_usage.used_bytes + EXCLUDED.used_bytes, " +
+            "attachment_count = team_storage_usage.attachment_count + 1, updated_at = now() " +
+            "WHERE :quota <= 0 OR team_storage_usage.used_bytes + EXCLUDED.used_bytes <= :quota",
+            nativeQuery = true)
+    int reserve(@Param("teamId") Long teamId, @Param("bytes") long bytes, @Param("quota") long quota);
+
+    // Unconditional; negative values release usage
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_storage_usage"))
+    @Query(value = "INSERT INTO team_storage_usage (team_id, used_bytes, attachment_count, updated_at) " +
+            "VALUES (:teamId, :bytes, :attachments, now()) " +
+            "ON CONFLICT (team_id) DO UPDATE SET " +
+            "used_bytes = team_storage_usage.used_bytes + EXCLUDED.used_bytes, " +
+            "attachment_count = team_storage_usage.attachment_count + EXCLUDED.attachment_count, " +
+            "updated_at = now()", nativeQuery = true)
+    int adjust(@Param("teamId") Long teamId, @Param("bytes") long bytes, @Param("attachments") long attachments);
+
+    @Query(value = "SELECT COALESCE(SUM(a.file_size), 0) AS \"usedBytes\", COUNT(a.id) AS \"attachmentCount\" " +
+            "FROM attachments a JOIN tasks t ON t.id = a.task_id " +
+            "WHERE t.project_id = :projectId AND a.status <> 'DELETED'", nativeQuery = true)
+    StorageTotals sumByProjectId(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT u.team_id AS \"teamId\", t.name AS \"teamName\", u.used_bytes AS \"usedBytes\", " +
+            "u.attachment_count AS \"attachmentCount\", u.updated_at AS \"updatedAt\" " +
+            "FROM team_storage_usage u JOIN teams t ON t.id = u.team_id " +
+            "ORDER BY u.used_bytes DESC, u.team_id LIMIT :limit", nativeQuery = true)
+    List<TeamStorageUsageView> findTopConsumers(@Param("limit") int limit);
+
+    /**
+     * Compares every counter with a fresh aggregate over attachments, tasks and
+     * projects, returning only the teams that differ. Teams missing on either
+     * side count as zero.
+     */
+    @Query(value = "SELECT COALESCE(u.team_id, a.team_id) AS \"teamId\", " +
+            "COALESCE(u.used_bytes, 0) AS \"countedBytes\", COALESCE(a.used_bytes, 0) AS \"actualBytes\", " +
+            "COALESCE(u.attachment_count, 0) AS \"countedAttachments\", " +
+            "COALESCE(a.attachment_count, 0) AS \"actualAttachments\" " +
+            "FROM team_storage_usage u FULL JOIN (" +
+            "SELECT p.team_id, CAST(SUM(at.file_size) AS BIGINT) AS used_bytes, COUNT(*) AS attachment_count " +
+            "FROM attachments at JOIN tasks t ON t.id = at.task_id JOIN projects p ON p.id = t.project_id " +
+            "WHERE at.status <> 'DELETED' GROUP BY p.team_id) a ON a.team_id = u.team_id " +
+            "WHERE COALESCE(u.used_bytes, 0) <> COALESCE(a.used_bytes, 0) " +
+            "OR COALESCE(u.attachment_count, 0) <> COALESCE(a.attachment_count, 0)", nativeQuery = true)
+    List<StorageUsageDrift> findDrift();
+}
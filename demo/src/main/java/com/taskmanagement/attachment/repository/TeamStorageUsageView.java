@@ -0,0 +1,19 @@
+package com.taskmanagement.attachment.repository;
+
+import java.time.Instant;
+
+/**
+ * A team's stored attachment totals, joined with the team name for listings.
+ */
+public interface TeamStorageUsageView {
+
+    Long getTeamId();
+
+    String getTeamName();
+
+    Long getUsedBytes();
+
+    Long getAttachmentCount();
+
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,165 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.repository.ArchiveEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams attachments into a ZIP written straight to the caller's output stream.
+ * While one entry is copied, the next {@code prefetch-window} objects are already
+ * being opened on a shared pool, hiding storage round trips. Only open streams
+ * are held ahead, never file contents, so memory stays constant per archive.
+ */
+@Slf4j
+@Component
+public class AttachmentArchiveWriter implements DisposableBean {
+
+    private final BlobStore blobStore;
+    private final ThreadPoolExecutor prefetchExecutor;
+
+    @Value("${attachment.archive.prefetch-window:4}")
+    private int prefetchWindow;
+
+    @Value("${attachment.archive.compression-level:1}")
+    private int compressionLevel;
+
+    public AttachmentArchiveWriter(BlobStore blobStore,
+                                   @Value("${attachment.archive.prefetch-threads:8}") int prefetchThreads) {
+        this.blobStore = blobStore;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.prefetchExecutor = new ThreadPoolExecutor(
+                prefetchThreads, prefetchThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "attachment-archive-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.prefetchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Writes every entry, in order, as one ZIP. Fails with the storage error if
+     * an object cannot be read; the archive is then left truncated, which
+     * clients detect as a broken download.
+     */
+    public void write(List<ArchiveEntry> entries, OutputStream out) throws IOException {
+        Deque<Prefetch> inFlight = new ArrayDeque<>();
+        Iterator<ArchiveEntry> pending = entries.iterator();
+        Set<String> usedNames = new HashSet<>();
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(compressionLevel);
+
+        try {
+            prefetch(inFlight, pending);
+
+            while (!inFlight.isEmpty()) {
+                Prefetch next = inFlight.pollFirst();
+                prefetch(inFlight, pending);
+
+                try (InputStream content = await(next)) {
+                    ZipEntry zipEntry = new ZipEntry(uniqueName(next.entry().getOriginalFilename(), usedNames));
+                    if (next.entry().getCreatedAt() != null) {
+                        zipEntry.setLastModifiedTime(FileTime.from(next.entry().getCreatedAt()));
+                    }
+
+                    zip.putNextEntry(zipEntry);
+                    content.transferTo(zip);
+                    zip.closeEntry();
+                }
+            }
+
+            // Ends the archive without closing the servlet stream
+            zip.finish();
+            zip.flush();
+
+        } finally {
+            discard(inFlight);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    private void prefetch(Deque<Prefetch> inFlight, Iterator<ArchiveEntry> pending) {
+        while (inFlight.size() < prefetchWindow && pending.hasNext()) {
+            ArchiveEntry entry = pending.next();
+            inFlight.addLast(new Prefetch(entry,
+                    prefetchExecutor.submit(() -> blobStore.downloadFile(entry.getObjectKey()))));
+        }
+    }
+
+    private InputStream await(Prefetch prefetch) throws IOException {
+        try {
+            return prefetch.content().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching attachment " + prefetch.entry().getId());
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to fetch attachment " + prefetch.entry().getId(), e.getCause());
+        }
+    }
+
+    // Waits for fetches already started so none of their streams leak
+    private void discard(Deque<Prefetch> inFlight) {
+        for (Prefetch prefetch : inFlight) {
+            try {
+                prefetch.content().get().close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                prefetch.content().cancel(true);
+            } catch (ExecutionException | IOException e) {
+                log.debug("Discarded prefetched attachment {}: {}", prefetch.entry().getId(), e.getMessage());
+            }
+        }
+        inFlight.clear();
+    }
+
+    // Entry names come from user input: no directories, no duplicates
+    static String uniqueName(String originalFilename, Set<String> usedNames) {
+        String name = originalFilename.replaceAll("[/\\\\]", "_").strip();
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+            name = "attachment";
+        }
+
+        String candidate = name;
+        int lastDotIndex = name.lastIndexOf('.');
+        String base = lastDotIndex > 0 ? name.substring(0, lastDotIndex) : name;
+        String extension = lastDotIndex > 0 ? name.substring(lastDotIndex) : "";
+
+        for (int copy = 1; !usedNames.add(candidate); copy++) {
+            candidate = base + " (" + copy + ")" + extension;
+        }
+
+        return candidate;
+    }
+
+    private record Prefetch(ArchiveEntry entry, Future<InputStream> content) {
+    }
+}
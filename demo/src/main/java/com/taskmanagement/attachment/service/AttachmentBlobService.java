@@ -0,0 +1,17 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface AttachmentBlobService {
+
+    StoredBlob store(InputStream content, long size, String contentType);
+
+    Optional<AttachmentBlob> findByHash(String contentHash);
+
+    boolean reference(AttachmentBlob blob);
+
+    void release(Long blobId);
+}
@@ -0,0 +1,105 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+import com.taskmanagement.attachment.repository.AttachmentBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Content-addressed storage for attachment bytes. Every distinct SHA-256 is
+ * stored once under an opaque {@code blobs/} key and shared by reference count;
+ * the hash is computed while the upload streams, so nothing is buffered.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AttachmentBlobServiceImplementation implements AttachmentBlobService {
+
+    private final AttachmentBlobRepository blobRepository;
+    private final BlobStore blobStore;
+
+    @Override
+    public StoredBlob store(InputStream content, long size, String contentType) {
+        Objects.requireNonNull(content, "Content must not be null");
+
+        var digestStream = new DigestInputStream(content, sha256());
+        var countingStream = new LimitedInputStream(digestStream, Long.MAX_VALUE);
+        String objectKey = "blobs/" + UUID.randomUUID();
+
+        blobStore.uploadStream(objectKey, countingStream, size, contentType);
+
+        String contentHash = HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+        long storedSize = countingStream.getBytesRead();
+
+        Long blobId;
+        try {
+            blobId = blobRepository.upsertReference(contentHash, objectKey, storedSize, contentType);
+        } catch (RuntimeException e) {
+            deleteQuietly(objectKey);
+            throw e;
+        }
+
+        var blob = blobRepository.findById(blobId)
+                .orElseThrow(() -> new IllegalStateException("Blob " + blobId + " vanished after insert"));
+
+        boolean created = objectKey.equals(blob.getObjectKey());
+        if (!created) {
+            // Same bytes already stored: keep the existing object, drop ours
+            deleteQuietly(objectKey);
+            log.info("Deduplicated {} byte upload against blob {} (sha256={})", storedSize, blob.getId(), contentHash);
+        }
+
+        return new StoredBlob(blob, created);
+    }
+
+    @Override
+    public Optional<AttachmentBlob> findByHash(String contentHash) {
+        Objects.requireNonNull(contentHash, "Content hash must not be null");
+
+        return blobRepository.findByContentHash(contentHash.toLowerCase());
+    }
+
+    @Override
+    public boolean reference(AttachmentBlob blob) {
+        Objects.requireNonNull(blob, "Blob must not be null");
+
+        return blobRepository.addReference(blob.getId()) == 1;
+    }
+
+    @Override
+    public void release(Long blobId) {
+        if (blobId == null) {
+            return;
+        }
+
+        if (blobRepository.releaseReference(blobId) == 0) {
+            log.warn("Blob {} had no references left to release", blobId);
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void deleteQuietly(String objectKey) {
+        try {
+            blobStore.deleteFile(objectKey);
+        } catch (RuntimeException e) {
+            log.warn("Could not remove unused object {}: {}", objectKey, e.getMessage());
+        }
+    }
+}
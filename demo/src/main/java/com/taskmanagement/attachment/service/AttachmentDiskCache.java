@@ -0,0 +1,252 @@
+package com.taskmanagement.attachment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Node-local LRU copy of frequently downloaded objects, capped by total bytes.
+ * Entries are keyed by object key and ETag, so a changed object is never served
+ * stale and nodes need no coordination. A miss downloads the whole object once
+ * and later reads are sent straight from the cached file. Evicted files are
+ * removed after a short grace period, as a response may still be sending them.
+ * The cache directory is wiped on startup.
+ */
+@Slf4j
+@Component
+public class AttachmentDiskCache {
+
+    private final BlobStore blobStore;
+    private final Path cacheDirectory;
+    private final Path tempDirectory;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxObjectBytes;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CachedObject> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Set<String> filling = ConcurrentHashMap.newKeySet();
+    private final Queue<EvictedFile> evicted = new ConcurrentLinkedQueue<>();
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter evictedBytes;
+
+    @Value("${attachment.cache.disk.delete-grace-seconds:300}")
+    private long deleteGraceSeconds;
+
+    public AttachmentDiskCache(BlobStore blobStore,
+                               MeterRegistry meterRegistry,
+                               @Value("${attachment.cache.disk.enabled:true}") boolean enabled,
+                               @Value("${attachment.cache.disk.dir:./data/attachment-cache}") Path cacheDirectory,
+                               @Value("${attachment.cache.disk.max-bytes:1073741824}") long maxBytes,
+                               @Value("${attachment.cache.disk.max-object-bytes:16777216}") long maxObjectBytes) {
+        this.blobStore = blobStore;
+        this.cacheDirectory = cacheDirectory.toAbsolutePath().normalize();
+        this.tempDirectory = this.cacheDirectory.resolve(".tmp");
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxObjectBytes = Math.min(maxObjectBytes, maxBytes);
+
+        if (enabled) {
+            try {
+                FileSystemUtils.deleteRecursively(this.cacheDirectory);
+                Files.createDirectories(tempDirectory);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to prepare attachment cache directory " + this.cacheDirectory, e);
+            }
+            log.info("Attachment disk cache at {} ({} bytes)", this.cacheDirectory, maxBytes);
+        }
+
+        this.hits = Counter.builder("attachment.cache.hits")
+                .description("Downloads served from the local disk cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("attachment.cache.misses")
+                .description("Cacheable downloads that had to be fetched from storage")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("attachment.cache.evictions")
+                .description("Objects evicted from the local disk cache to stay within its size")
+                .register(meterRegistry);
+        this.evictedBytes = Counter.builder("attachment.cache.evicted.bytes")
+                .description("Bytes evicted from the local disk cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("attachment.cache.size", this, AttachmentDiskCache::cachedBytes)
+                .description("Bytes currently held in the local disk cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached file for this version of the object, fetching it on a
+     * miss. Empty when the cache is disabled, the object is too large to cache,
+     * another request is already fetching it, or the fetch failed; the caller
+     * then reads from storage as usual.
+     */
+    public Optional<Path> get(String objectKey, String etag, long size) {
+        if (!enabled || size > maxObjectBytes) {
+            return Optional.empty();
+        }
+
+        synchronized (entries) {
+            CachedObject cached = entries.get(objectKey);
+            if (cached != null && cached.etag().equals(etag)) {
+                hits.increment();
+                return Optional.of(cached.path());
+            }
+        }
+
+        misses.increment();
+
+        if (!filling.add(objectKey)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(fill(objectKey, etag, size));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not cache attachment object {}: {}", objectKey, e.getMessage());
+            return Optional.empty();
+        } finally {
+            filling.remove(objectKey);
+        }
+    }
+
+    public void invalidate(String objectKey) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (entries) {
+            CachedObject removed = entries.remove(objectKey);
+            if (removed != null) {
+                totalBytes -= removed.size();
+                evicted.add(new EvictedFile(removed.path(), Instant.now()));
+            }
+        }
+    }
+
+    long cachedBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    private Path fill(String objectKey, String etag, long size) throws IOException {
+        deleteExpiredEvictions();
+
+        Path target = cacheDirectory.resolve(fileName(objectKey, etag));
+        Path temp = Files.createTempFile(tempDirectory, "fill-", ".tmp");
+
+        try {
+            try (InputStream content = blobStore.downloadFile(objectKey)) {
+                long copied = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+                if (copied != size) {
+                    throw new IOException("Expected " + size + " bytes but storage returned " + copied);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        List<CachedObject> dropped = new ArrayList<>();
+
+        synchronized (entries) {
+            CachedObject previous = entries.put(objectKey, new CachedObject(etag, target, size));
+            if (previous != null) {
+                totalBytes -= previous.size();
+                if (!previous.path().equals(target)) {
+                    dropped.add(previous);
+                }
+            }
+            totalBytes += size;
+
+            Iterator<Map.Entry<String, CachedObject>> leastRecent = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && leastRecent.hasNext()) {
+                CachedObject victim = leastRecent.next().getValue();
+                if (victim.path().equals(target)) {
+                    continue;
+                }
+                leastRecent.remove();
+                totalBytes -= victim.size();
+                dropped.add(victim);
+            }
+        }
+
+        Instant now = Instant.now();
+        for (CachedObject victim : dropped) {
+            evictions.increment();
+            evictedBytes.increment(victim.size());
+            evicted.add(new EvictedFile(victim.path(), now));
+        }
+
+        return target;
+    }
+
+    private void deleteExpiredEvictions() {
+        Instant cutoff = Instant.now().minus(Duration.ofSeconds(deleteGraceSeconds));
+
+        EvictedFile file;
+        while ((file = evicted.peek()) != null && file.evictedAt().isBefore(cutoff)) {
+            if (evicted.remove(file) && !isCurrent(file.path())) {
+                try {
+                    Files.deleteIfExists(file.path());
+                } catch (IOException e) {
+                    log.warn("Could not remove evicted cache file {}: {}", file.path(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    // The same version may have been cached again since it was evicted
+    private boolean isCurrent(Path path) {
+        synchronized (entries) {
+            return entries.values().stream().anyMatch(cached -> cached.path().equals(path));
+        }
+    }
+
+    private static String fileName(String objectKey, String etag) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((objectKey + "\n" + etag).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedObject(String etag, Path path, long size) {
+    }
+
+    private record EvictedFile(Path path, Instant evictedAt) {
+    }
+}
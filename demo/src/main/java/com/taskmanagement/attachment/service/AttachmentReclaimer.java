@@ -0,0 +1,194 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.enums.AttachmentVariant;
+import com.taskmanagement.attachment.repository.AttachmentBlobRepository;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.attachment.repository.ReclaimableObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Frees storage held by deleted attachments once their grace period is over.
+ * Two sources are drained in keyset order (id &gt; last seen id):
+ * shared blobs whose reference count reached zero, and deleted attachments
+ * that own their object outright. Objects go out in bulk delete requests;
+ * rows are kept and stamped {@code purged_at}. Anything that fails to delete
+ * stays eligible and is retried on the next run.
+ */
+@Slf4j
+@Component
+public class AttachmentReclaimer {
+
+    private final AttachmentBlobRepository blobRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final BlobStore blobStore;
+    private final AttachmentDiskCache attachmentDiskCache;
+
+    private final Counter reclaimedObjects;
+    private final Counter reclaimedBytes;
+    private final Counter failedObjects;
+    private final Timer runTimer;
+
+    @Value("${attachment.reclaim.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    @Value("${attachment.reclaim.batch-size:500}")
+    private int batchSize;
+
+    @Value("${attachment.reclaim.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${attachment.reclaim.batch-pause-ms:200}")
+    private long batchPauseMillis;
+
+    public AttachmentReclaimer(AttachmentBlobRepository blobRepository,
+                               AttachmentRepository attachmentRepository,
+                               BlobStore blobStore,
+                               AttachmentDiskCache attachmentDiskCache,
+                               MeterRegistry meterRegistry) {
+        this.blobRepository = blobRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.blobStore = blobStore;
+        this.attachmentDiskCache = attachmentDiskCache;
+
+        this.reclaimedObjects = Counter.builder("attachment.reclaim.objects")
+                .description("Stored objects removed by the reclaimer")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("attachment.reclaim.bytes")
+                .description("Bytes of storage freed by the reclaimer")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.failedObjects = Counter.builder("attachment.reclaim.failures")
+                .description("Objects the reclaimer could not remove and will retry")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("attachment.reclaim.run")
+                .description("Time spent in one reclaimer run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${attachment.reclaim.interval-ms:300000}",
+            initialDelayString = "${attachment.reclaim.initial-delay-ms:60000}")
+    public void reclaim() {
+        runTimer.record(() -> {
+            Instant cutoff = Instant.now().minus(Duration.ofHours(gracePeriodHours));
+            int batches = reclaimBlobs(cutoff, maxBatchesPerRun);
+            reclaimOwnedObjects(cutoff, maxBatchesPerRun - batches);
+        });
+    }
+
+    int reclaimBlobs(Instant cutoff, int batchBudget) {
+        long afterId = 0;
+        int batches = 0;
+
+        while (batches < batchBudget) {
+            List<Long> ids = blobRepository.findReclaimableIds(cutoff, afterId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            batches++;
+
+            List<ReclaimableObject> claimed = blobRepository.claimForReclaim(ids);
+            Set<String> failed = removeObjects(claimed);
+
+            for (ReclaimableObject blob : claimed) {
+                if (failed.contains(blob.getObjectKey())) {
+                    blobRepository.releaseClaim(blob.getId(), blob.getObjectKey());
+                }
+            }
+
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        return batches;
+    }
+
+    int reclaimOwnedObjects(Instant cutoff, int batchBudget) {
+        long afterId = 0;
+        int batches = 0;
+
+        while (batches < batchBudget) {
+            List<ReclaimableObject> candidates =
+                    attachmentRepository.findReclaimable(cutoff, afterId, PageRequest.of(0, batchSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            afterId = candidates.get(candidates.size() - 1).getId();
+            batches++;
+
+            Set<String> failed = removeObjects(candidates);
+
+            List<Long> purgedIds = candidates.stream()
+                    .filter(candidate -> !failed.contains(candidate.getObjectKey()))
+                    .map(ReclaimableObject::getId)
+                    .toList();
+
+            if (!purgedIds.isEmpty()) {
+                attachmentRepository.markPurged(purgedIds, Instant.now());
+            }
+
+            if (candidates.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        return batches;
+    }
+
+    private Set<String> removeObjects(List<ReclaimableObject> objects) {
+        if (objects.isEmpty()) {
+            return Set.of();
+        }
+
+        // Renditions go with their original; a leftover one is harmless and not retried
+        Set<String> failed = blobStore.deleteFiles(objects.stream()
+                .flatMap(object -> Stream.concat(
+                        Stream.of(object.getObjectKey()),
+                        AttachmentVariant.derivedKeys(object.getObjectKey()).stream()))
+                .toList());
+
+        int reclaimed = 0;
+        for (ReclaimableObject object : objects) {
+            if (failed.contains(object.getObjectKey())) {
+                failedObjects.increment();
+            } else {
+                reclaimed++;
+                attachmentDiskCache.invalidate(object.getObjectKey());
+                AttachmentVariant.derivedKeys(object.getObjectKey()).forEach(attachmentDiskCache::invalidate);
+                reclaimedObjects.increment();
+                reclaimedBytes.increment(object.getSize());
+            }
+        }
+
+        log.info("Reclaimed {} of {} attachment objects", reclaimed, objects.size());
+        return failed;
+    }
+
+    // Spreads bulk deletes out so a large backlog doesn't saturate the object store
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
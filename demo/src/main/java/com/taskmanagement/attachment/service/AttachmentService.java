@@ -1,21 +1,41 @@
 package com.taskmanagement.attachment.service;
 
 import com.taskmanagement.attachment.dto.AttachmentResponseDto;
-import org.springframework.core.io.InputStreamResource;
+import com.taskmanagement.attachment.dto.PresignedUploadRequestDto;
+import com.taskmanagement.attachment.dto.PresignedUploadResponseDto;
+import com.taskmanagement.attachment.dto.PresignedUrlResponseDto;
+import com.taskmanagement.attachment.enums.AttachmentVariant;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public interface AttachmentService {
 
     AttachmentResponseDto uploadAttachment(Long taskId, MultipartFile file);
 
+    AttachmentResponseDto uploadAttachmentStream(Long taskId, String filename, String contentType,
+                                                 long contentLength, String declaredSha256, InputStream content);
+
+    PresignedUploadResponseDto createPresignedUpload(Long taskId, PresignedUploadRequestDto dto);
+
+    AttachmentResponseDto confirmPresignedUpload(Long attachmentId);
+
     AttachmentResponseDto getAttachmentById(Long attachmentId);
 
     Page<AttachmentResponseDto> getAttachmentsByTask(Long taskId, Pageable pageable);
 
-    ResponseEntity<InputStreamResource> downloadAttachment(Long attachmentId);
+    ResponseEntity<?> downloadAttachment(Long attachmentId, String range, String ifRange);
+
+    ResponseEntity<?> downloadAttachmentVariant(Long attachmentId, AttachmentVariant variant);
+
+    PresignedUrlResponseDto getPresignedDownloadUrl(Long attachmentId);
+
+    void downloadTaskArchive(Long taskId, HttpServletResponse response) throws IOException;
 
     void deleteAttachment(Long attachmentId);
 
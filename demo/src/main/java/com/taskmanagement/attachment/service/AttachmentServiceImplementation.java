@@ -1,35 +1,70 @@
 package com.taskmanagement.attachment.service;
 
 import com.taskmanagement.attachment.dto.AttachmentResponseDto;
+import com.taskmanagement.attachment.dto.PresignedUploadRequestDto;
+import com.taskmanagement.attachment.dto.PresignedUploadResponseDto;
+import com.taskmanagement.attachment.dto.PresignedUrlResponseDto;
 import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+import com.taskmanagement.attachment.enums.AttachmentDownloadMode;
 import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.enums.AttachmentVariant;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
 import com.taskmanagement.attachment.mapper.AttachmentMapper;
 import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.common.exception.types.Exceptions.AttachmentNotFoundException;
+import com.taskmanagement.task.entity.Task;
+import com.taskmanagement.user.entity.User;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class AttachmentServiceImplementation implements AttachmentService {
 
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+
     private final SecurityHelper securityHelper;
     private final AttachmentMapper attachmentMapper;
     private final AttachmentRepository attachmentRepository;
-    private final MinioService minioService;
+    private final BlobStore blobStore;
+    private final AttachmentBlobService attachmentBlobService;
+    private final AttachmentArchiveWriter attachmentArchiveWriter;
+    private final AttachmentDiskCache attachmentDiskCache;
+    private final StorageUsageService storageUsageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${attachment.max-file-size}")
     private long maxFileSize;
@@ -40,6 +75,18 @@ public class AttachmentServiceImplementation implements AttachmentService {
     @Value("${minio.bucket-name}")
     private String bucketName;
 
+    @Value("${attachment.presigned.enabled:false}")
+    private boolean presignedEnabled;
+
+    @Value("${attachment.presigned.expiry-seconds:300}")
+    private int presignedExpirySeconds;
+
+    @Value("${attachment.download.mode:PROXY}")
+    private AttachmentDownloadMode downloadMode;
+
+    @Value("${attachment.thumbnail.cache-max-age-seconds:31536000}")
+    private long thumbnailCacheMaxAgeSeconds;
+
     @Override
     @Transactional
     public AttachmentResponseDto uploadAttachment(Long taskId, MultipartFile file) {
@@ -62,15 +109,135 @@ public class AttachmentServiceImplementation implements AttachmentService {
 
         securityHelper.validateMaxFilesPerTask(taskId, maxFilesPerTask);
 
+        storageUsageService.checkQuota(taskId, file.getSize());
+
         String originalFilename = file.getOriginalFilename();
 
         if (originalFilename == null || originalFilename.isBlank()) {
             throw new IllegalArgumentException("File must have a name");
         }
 
-        String storedFilename = minioService.generateStoredFilename(originalFilename);
+        String resolvedContentType = file.getContentType() != null ? file.getContentType() : "application/octet-stream";
+
+        StoredBlob stored;
+        try (InputStream fileContent = file.getInputStream()) {
+            stored = attachmentBlobService.store(fileContent, file.getSize(), resolvedContentType);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read uploaded file", e);
+        }
+
+        if (stored.created()) {
+            deleteObjectOnRollback(stored.blob().getObjectKey());
+        }
+
+        var savedAttachment = saveBlobAttachment(stored.blob(), originalFilename, resolvedContentType, task, currentUser);
+
+        log.info("Attachment '{}' (ID: {}) uploaded to task {} by user {} (ID: {})",
+                originalFilename,
+                savedAttachment.getId(),
+                taskId,
+                currentUser.getEmail(),
+                currentUser.getId());
+
+        return attachmentMapper.toDto(savedAttachment);
+    }
+
+    /**
+     * Raw-body upload path. Deliberately not transactional: the body is streamed
+     * straight into storage, so no DB connection is held while bytes arrive.
+     * Authorization and the metadata insert each run in their own short transaction.
+     * When the client declares a SHA-256 the caller can already reach, the body
+     * is never read and the new attachment shares the stored blob.
+     */
+    @Override
+    public AttachmentResponseDto uploadAttachmentStream(Long taskId, String filename, String contentType,
+                                                        long contentLength, String declaredSha256,
+                                                        InputStream content) {
+
+        Objects.requireNonNull(taskId, "Task ID must not be null");
+        Objects.requireNonNull(content, "File content must not be null");
+
+        if (filename == null || filename.isBlank()) {
+            throw new IllegalArgumentException("File must have a name");
+        }
+
+        if (contentLength == 0) {
+            throw new IllegalArgumentException("File cannot be empty");
+        }
+
+        if (declaredSha256 != null && !SHA256_HEX.matcher(declaredSha256).matches()) {
+            throw new IllegalArgumentException("Content hash must be a hex-encoded SHA-256 digest");
+        }
+
+        validateFileSize(contentLength);
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var task = securityHelper.taskExistsAndNotDeletedCheck(taskId);
+
+        securityHelper.canUploadToTask(currentUser, task);
+
+        securityHelper.validateMaxFilesPerTask(taskId, maxFilesPerTask);
+
+        storageUsageService.checkQuota(taskId, contentLength);
+
+        String originalFilename = filename.trim();
+        String resolvedContentType = contentType != null ? contentType : "application/octet-stream";
+
+        var blob = declaredSha256 != null
+                ? reusableBlob(declaredSha256, contentLength, currentUser, taskId)
+                : null;
+
+        boolean deduplicated = blob != null;
+
+        if (!deduplicated) {
+            blob = storeStreamedBlob(content, contentLength, resolvedContentType);
+
+            if (declaredSha256 != null && !declaredSha256.equalsIgnoreCase(blob.getContentHash())) {
+                attachmentBlobService.release(blob.getId());
+                throw new IllegalArgumentException("File content does not match the declared SHA-256");
+            }
+        }
+
+        var savedAttachment = saveBlobAttachment(
+                blob, originalFilename, resolvedContentType, task, currentUser);
+
+        log.info("Attachment '{}' (ID: {}, {} bytes) {} to task {} by user {} (ID: {})",
+                originalFilename,
+                savedAttachment.getId(),
+                savedAttachment.getFileSize(),
+                deduplicated ? "linked to existing content" : "streamed",
+                taskId,
+                currentUser.getEmail(),
+                currentUser.getId());
+
+        return attachmentMapper.toDto(savedAttachment);
+    }
+
+    @Override
+    @Transactional
+    public PresignedUploadResponseDto createPresignedUpload(Long taskId, PresignedUploadRequestDto dto) {
+
+        Objects.requireNonNull(taskId, "Task ID must not be null");
+        Objects.requireNonNull(dto, "Upload request must not be null");
+
+        presignedEnabledCheck();
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var task = securityHelper.taskExistsAndNotDeletedCheck(taskId);
+
+        securityHelper.canUploadToTask(currentUser, task);
+
+        validateFileSize(dto.fileSize());
+
+        securityHelper.validateMaxFilesPerTask(taskId, maxFilesPerTask);
 
-        String objectKey = minioService.uploadFile(file, storedFilename);
+        String originalFilename = dto.filename().trim();
+        String storedFilename = blobStore.generateStoredFilename(originalFilename);
+        String objectKey = blobStore.buildObjectKey(storedFilename);
 
         var attachment = Attachment.builder()
 
@@ -78,27 +245,79 @@ public class AttachmentServiceImplementation implements AttachmentService {
                 .storedFilename(storedFilename)
                 .bucketName(bucketName)
                 .objectKey(objectKey)
-                .fileSize(file.getSize())
-                .contentType(file.getContentType() != null ? file.getContentType() : "application/octet-stream")
+                .fileSize(dto.fileSize())
+                .contentType(dto.contentType() != null ? dto.contentType() : "application/octet-stream")
                 .task(task)
                 .taskId(taskId)
                 .user(currentUser)
                 .userId(currentUser.getId())
-                .status(AttachmentStatus.ACTIVE)
+                .status(AttachmentStatus.PENDING)
 
                 .build();
 
         attachment.setCreatedBy(currentUser.getId());
 
+        // The declared size is held against the quota until the upload is confirmed or abandoned
+        storageUsageService.reserve(taskId, dto.fileSize());
+
         var savedAttachment = attachmentRepository.save(attachment);
 
-        log.info("Attachment '{}' (ID: {}) uploaded to task {} by user {} (ID: {})",
+        String uploadUrl = blobStore.getPresignedUploadUrl(objectKey, presignedExpirySeconds);
+
+        log.info("Presigned upload for '{}' (ID: {}) issued on task {} to user {} (ID: {})",
                 originalFilename,
                 savedAttachment.getId(),
                 taskId,
                 currentUser.getEmail(),
                 currentUser.getId());
 
+        return new PresignedUploadResponseDto(
+                savedAttachment.getId(),
+                uploadUrl,
+                "PUT",
+                Instant.now().plusSeconds(presignedExpirySeconds));
+    }
+
+    @Override
+    @Transactional
+    public AttachmentResponseDto confirmPresignedUpload(Long attachmentId) {
+        Objects.requireNonNull(attachmentId, "Attachment ID must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var attachment = attachmentRepository.findPendingById(attachmentId)
+                .orElseThrow(() -> new AttachmentNotFoundException(attachmentId));
+
+        if (!currentUser.getId().equals(attachment.getCreatedBy()) && !securityHelper.isSystemAdmin(currentUser)) {
+            throw new AccessDeniedException("Only the uploader can confirm this attachment");
+        }
+
+        var storedObject = blobStore.statObject(attachment.getObjectKey())
+                .orElseThrow(() -> new IllegalStateException(
+                        "File has not been uploaded yet. Upload it to the presigned URL before confirming"));
+
+        if (storedObject.size() != attachment.getFileSize() || storedObject.size() > maxFileSize) {
+            // Drop the mismatching object; the client may upload again while the URL is valid
+            blobStore.deleteFile(attachment.getObjectKey());
+            throw new IllegalArgumentException(
+                    "Uploaded file size (" + storedObject.size() + " bytes) does not match the declared size ("
+                            + attachment.getFileSize() + " bytes)");
+        }
+
+        attachment.setStatus(AttachmentStatus.ACTIVE);
+        attachment.setUpdatedBy(currentUser.getId());
+
+        var savedAttachment = attachmentRepository.save(attachment);
+        eventPublisher.publishEvent(new AttachmentStoredEvent(savedAttachment.getId(), savedAttachment.getContentType()));
+
+        log.info("Attachment '{}' (ID: {}) confirmed on task {} by user {} (ID: {})",
+                savedAttachment.getOriginalFilename(),
+                savedAttachment.getId(),
+                savedAttachment.getTaskId(),
+                currentUser.getEmail(),
+                currentUser.getId());
+
         return attachmentMapper.toDto(savedAttachment);
     }
 
@@ -140,9 +359,16 @@ public class AttachmentServiceImplementation implements AttachmentService {
         }
     }
 
+    /**
+     * Not transactional on purpose: the lookups each run in their own short
+     * transaction, so no pooled connection is pinned while the file streams.
+     * A single byte range is served as 206 straight from a ranged object read;
+     * multiple ranges, malformed ranges and stale {@code If-Range} validators
+     * fall back to the full file. Content on local disk is sent straight from
+     * the file rather than through a stream.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public ResponseEntity<InputStreamResource> downloadAttachment(Long attachmentId) {
+    public ResponseEntity<?> downloadAttachment(Long attachmentId, String range, String ifRange) {
         Objects.requireNonNull(attachmentId, "Attachment ID must not be null");
 
         var currentUser = securityHelper.getCurrentUser();
@@ -152,7 +378,65 @@ public class AttachmentServiceImplementation implements AttachmentService {
 
         securityHelper.canAccessAttachment(currentUser, attachment);
 
-        InputStream fileStream = minioService.downloadFile(attachment.getObjectKey());
+        if (downloadMode == AttachmentDownloadMode.REDIRECT) {
+            String url = blobStore.getPresignedDownloadUrl(
+                    attachment.getObjectKey(),
+                    attachment.getOriginalFilename(),
+                    attachment.getContentType(),
+                    presignedExpirySeconds);
+
+            log.info("Attachment '{}' (ID: {}) download redirected to storage for user {} (ID: {})",
+                    attachment.getOriginalFilename(),
+                    attachment.getId(),
+                    currentUser.getEmail(),
+                    currentUser.getId());
+
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(url))
+                    .build();
+        }
+
+        var storedObject = blobStore.statObject(attachment.getObjectKey())
+                .orElseThrow(() -> new AttachmentNotFoundException(attachmentId));
+
+        long size = storedObject.size();
+        String etag = "\"" + storedObject.etag() + "\"";
+
+        HttpRange byteRange = resolveRange(range, ifRange, etag);
+
+        if (byteRange != null) {
+            long start = byteRange.getRangeStart(size);
+
+            if (start >= size) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                        .eTag(etag)
+                        .build();
+            }
+
+            long end = byteRange.getRangeEnd(size);
+            long length = end - start + 1;
+
+            log.info("Attachment '{}' (ID: {}) bytes {}-{}/{} downloaded by user {} (ID: {})",
+                    attachment.getOriginalFilename(),
+                    attachment.getId(),
+                    start,
+                    end,
+                    size,
+                    currentUser.getEmail(),
+                    currentUser.getId());
+
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .contentType(MediaType.parseMediaType(attachment.getContentType()))
+                    .contentLength(length)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .eTag(etag)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"" + attachment.getOriginalFilename() + "\"")
+                    .body(content(attachment.getObjectKey(), etag, start, length, size));
+        }
 
         log.info("Attachment '{}' (ID: {}) downloaded by user {} (ID: {})",
                 attachment.getOriginalFilename(),
@@ -162,9 +446,131 @@ public class AttachmentServiceImplementation implements AttachmentService {
 
         return ResponseEntity.ok()
                 .contentType(MediaType.parseMediaType(attachment.getContentType()))
+                .contentLength(size)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(etag)
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"" + attachment.getOriginalFilename() + "\"")
-                .body(new InputStreamResource(fileStream));
+                .body(content(attachment.getObjectKey(), etag, 0, size, size));
+    }
+
+    /**
+     * Renditions are keyed by the immutable content they were made from, so they
+     * are sent with a long-lived private cache header. Until a rendition exists
+     * the original is served instead, and generation is queued again if it was
+     * never attempted.
+     */
+    @Override
+    public ResponseEntity<?> downloadAttachmentVariant(Long attachmentId, AttachmentVariant variant) {
+        Objects.requireNonNull(attachmentId, "Attachment ID must not be null");
+        Objects.requireNonNull(variant, "Variant must not be null");
+
+        if (variant == AttachmentVariant.ORIGINAL) {
+            return downloadAttachment(attachmentId, null, null);
+        }
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var attachment = securityHelper.attachmentExistsAndNotDeletedCheck(attachmentId);
+
+        securityHelper.canAccessAttachment(currentUser, attachment);
+
+        String variantKey = variant.objectKey(attachment.getObjectKey());
+        var storedVariant = attachment.getThumbnailStatus() == ThumbnailStatus.READY
+                ? blobStore.statObject(variantKey)
+                : Optional.<StoredObjectInfo>empty();
+
+        if (storedVariant.isEmpty()) {
+            if (attachment.getThumbnailStatus() == null
+                    && AttachmentThumbnailGenerator.supports(attachment.getContentType())) {
+                eventPublisher.publishEvent(new AttachmentStoredEvent(attachment.getId(), attachment.getContentType()));
+            }
+            return downloadAttachment(attachmentId, null, null);
+        }
+
+        long size = storedVariant.get().size();
+        String etag = "\"" + storedVariant.get().etag() + "\"";
+
+        log.info("Attachment '{}' (ID: {}) {} variant downloaded by user {} (ID: {})",
+                attachment.getOriginalFilename(),
+                attachment.getId(),
+                variant,
+                currentUser.getEmail(),
+                currentUser.getId());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .contentLength(size)
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(thumbnailCacheMaxAgeSeconds))
+                        .cachePrivate()
+                        .immutable())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
+                .body(content(variantKey, etag, 0, size, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PresignedUrlResponseDto getPresignedDownloadUrl(Long attachmentId) {
+        Objects.requireNonNull(attachmentId, "Attachment ID must not be null");
+
+        presignedEnabledCheck();
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var attachment = securityHelper.attachmentExistsAndNotDeletedCheck(attachmentId);
+
+        securityHelper.canAccessAttachment(currentUser, attachment);
+
+        String url = blobStore.getPresignedDownloadUrl(
+                attachment.getObjectKey(),
+                attachment.getOriginalFilename(),
+                attachment.getContentType(),
+                presignedExpirySeconds);
+
+        log.info("Presigned download for attachment '{}' (ID: {}) issued to user {} (ID: {})",
+                attachment.getOriginalFilename(),
+                attachment.getId(),
+                currentUser.getEmail(),
+                currentUser.getId());
+
+        return new PresignedUrlResponseDto(url, Instant.now().plusSeconds(presignedExpirySeconds));
+    }
+
+    /**
+     * Authorizes once for the whole task, then streams its active attachments
+     * as a ZIP built on the fly. Not transactional, like single downloads.
+     */
+    @Override
+    public void downloadTaskArchive(Long taskId, HttpServletResponse response) throws IOException {
+        Objects.requireNonNull(taskId, "Task ID must not be null");
+        Objects.requireNonNull(response, "Response must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var task = securityHelper.taskExistsAndNotDeletedCheck(taskId);
+
+        securityHelper.canAccessTask(currentUser, task);
+
+        var entries = attachmentRepository.findArchiveEntriesByTaskId(taskId);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("task-" + taskId + "-attachments.zip", StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        attachmentArchiveWriter.write(entries, response.getOutputStream());
+
+        log.info("Archive of {} attachments on task {} downloaded by user {} (ID: {})",
+                entries.size(),
+                taskId,
+                currentUser.getEmail(),
+                currentUser.getId());
     }
 
     @Override
@@ -188,6 +594,16 @@ public class AttachmentServiceImplementation implements AttachmentService {
 
         attachmentRepository.save(attachment);
 
+        // Shared content is reclaimed once its last attachment is gone
+        attachmentBlobService.release(attachment.getBlobId());
+
+        storageUsageService.release(attachment.getTaskId(), attachment.getFileSize());
+
+        // Owned content is never served again; shared content may still be
+        if (attachment.getBlobId() == null) {
+            attachmentDiskCache.invalidate(attachment.getObjectKey());
+        }
+
         log.info("Attachment '{}' (ID: {}) soft-deleted by user {} (ID: {})",
                 attachment.getOriginalFilename(),
                 attachment.getId(),
@@ -221,6 +637,152 @@ public class AttachmentServiceImplementation implements AttachmentService {
                 .map(attachmentMapper::toDto);
     }
 
+    private AttachmentBlob reusableBlob(String declaredSha256, long contentLength, User currentUser, Long taskId) {
+        var blob = attachmentBlobService.findByHash(declaredSha256).orElse(null);
+
+        if (blob == null || (contentLength >= 0 && contentLength != blob.getSize())) {
+            return null;
+        }
+
+        // A hash alone must not grant access to someone else's file
+        if (!securityHelper.isSystemAdmin(currentUser)
+                && !attachmentRepository.existsReusableBlob(blob.getId(), currentUser.getId(), taskId)) {
+            return null;
+        }
+
+        return attachmentBlobService.reference(blob) ? blob : null;
+    }
+
+    private AttachmentBlob storeStreamedBlob(InputStream content, long contentLength, String contentType) {
+        var limitedContent = new LimitedInputStream(content, maxFileSize);
+        var body = new PushbackInputStream(limitedContent, 1);
+
+        try {
+            int firstByte = body.read();
+            if (firstByte == -1) {
+                throw new IllegalArgumentException("File cannot be empty");
+            }
+            body.unread(firstByte);
+
+            return attachmentBlobService.store(body, contentLength, contentType).blob();
+
+        } catch (IOException | RuntimeException e) {
+            if (limitedContent.isLimitExceeded()) {
+                throw new IllegalArgumentException(
+                        "File size exceeds maximum allowed: " + (maxFileSize / 1024 / 1024) + " MB"
+                );
+            }
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to upload file to storage", e);
+        }
+    }
+
+    private Attachment saveBlobAttachment(AttachmentBlob blob, String originalFilename, String contentType,
+                                          Task task, User currentUser) {
+        var attachment = Attachment.builder()
+
+                .originalFilename(originalFilename)
+                .storedFilename(blobStore.generateStoredFilename(originalFilename))
+                .bucketName(bucketName)
+                .objectKey(blob.getObjectKey())
+                .blobId(blob.getId())
+                .fileSize(blob.getSize())
+                .contentType(contentType)
+                .task(task)
+                .taskId(task.getId())
+                .user(currentUser)
+                .userId(currentUser.getId())
+                .status(AttachmentStatus.ACTIVE)
+
+                .build();
+
+        attachment.setCreatedBy(currentUser.getId());
+
+        boolean reserved = false;
+        try {
+            storageUsageService.reserve(task.getId(), blob.getSize());
+            reserved = true;
+
+            var savedAttachment = attachmentRepository.save(attachment);
+            eventPublisher.publishEvent(new AttachmentStoredEvent(savedAttachment.getId(), contentType));
+            return savedAttachment;
+        } catch (RuntimeException e) {
+            // Don't leave a reference behind that no attachment holds
+            attachmentBlobService.release(blob.getId());
+            if (reserved) {
+                storageUsageService.release(task.getId(), blob.getSize());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The blob row for a new object is inserted in the caller's transaction, so a
+     * rollback takes the row and any compensating release with it. The object
+     * itself is outside the transaction and would be left with nothing pointing
+     * at it, so it is removed once the rollback has happened.
+     */
+    private void deleteObjectOnRollback(String objectKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    blobStore.deleteFile(objectKey);
+                } catch (RuntimeException e) {
+                    log.warn("Could not remove object {} after a failed upload: {}", objectKey, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private Object content(String objectKey, String etag, long offset, long length, long size) {
+        var localFile = blobStore.localFile(objectKey)
+                .or(() -> attachmentDiskCache.get(objectKey, etag, size));
+
+        if (localFile.isPresent()) {
+            return new FileRegion(localFile.get(), offset, length);
+        }
+
+        // The one Resource type Spring MVC never re-slices by the request's Range header
+        return new InputStreamResource(offset == 0 && length == size
+                ? blobStore.downloadFile(objectKey)
+                : blobStore.downloadRange(objectKey, offset, length));
+    }
+
+    private HttpRange resolveRange(String range, String ifRange, String etag) {
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+
+        // If-Range only matches a strong ETag; dates and stale tags get the full file
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed Range header '{}': {}", range, e.getMessage());
+            return null;
+        }
+    }
+
+    private void presignedEnabledCheck() {
+        if (!presignedEnabled) {
+            throw new IllegalStateException("Presigned attachment URLs are disabled");
+        }
+    }
+
     private void validateFileSize(long fileSize) {
         if (fileSize > maxFileSize) {
             throw new IllegalArgumentException(
@@ -0,0 +1,8 @@
+package com.taskmanagement.attachment.service;
+
+/**
+ * Published when an attachment's content becomes available, so derived
+ * renditions can be produced once the storing transaction has committed.
+ */
+public record AttachmentStoredEvent(Long attachmentId, String contentType) {
+}
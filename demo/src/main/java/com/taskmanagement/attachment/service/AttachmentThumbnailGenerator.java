@@ -0,0 +1,223 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.enums.AttachmentVariant;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Produces THUMB and MEDIUM JPEG renditions of image attachments on a small
+ * bounded pool, after the upload has committed and never on the request thread.
+ * When the queue is full the work is dropped; the next thumbnail download
+ * requests it again. Content shared by several attachments is rendered once.
+ */
+@Slf4j
+@Component
+public class AttachmentThumbnailGenerator implements DisposableBean {
+
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/bmp");
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private final AttachmentRepository attachmentRepository;
+    private final BlobStore blobStore;
+    private final ThreadPoolExecutor workers;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    @Value("${attachment.thumbnail.thumb-size:160}")
+    private int thumbSize;
+
+    @Value("${attachment.thumbnail.medium-size:640}")
+    private int mediumSize;
+
+    @Value("${attachment.thumbnail.max-source-pixels:40000000}")
+    private long maxSourcePixels;
+
+    @Value("${attachment.thumbnail.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    public AttachmentThumbnailGenerator(AttachmentRepository attachmentRepository,
+                                        BlobStore blobStore,
+                                        @Value("${attachment.thumbnail.worker-threads:2}") int workerThreads,
+                                        @Value("${attachment.thumbnail.queue-capacity:200}") int queueCapacity) {
+        this.attachmentRepository = attachmentRepository;
+        this.blobStore = blobStore;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "attachment-thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    public static boolean supports(String contentType) {
+        return contentType != null && SUPPORTED_TYPES.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttachmentStored(AttachmentStoredEvent event) {
+        Long attachmentId = event.attachmentId();
+
+        if (!supports(event.contentType()) || !queued.add(attachmentId)) {
+            return;
+        }
+
+        try {
+            workers.execute(() -> {
+                try {
+                    generate(attachmentId);
+                } finally {
+                    queued.remove(attachmentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.remove(attachmentId);
+            log.warn("Thumbnail queue full, skipped attachment {}", attachmentId);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    void generate(Long attachmentId) {
+        var attachment = attachmentRepository.findByIdAndNotDeleted(attachmentId).orElse(null);
+
+        if (attachment == null || attachment.getThumbnailStatus() != null) {
+            return;
+        }
+
+        String objectKey = attachment.getObjectKey();
+
+        try {
+            if (!renditionsExist(objectKey)) {
+                BufferedImage source = readSource(objectKey);
+                store(AttachmentVariant.THUMB.objectKey(objectKey), render(source, thumbSize));
+                store(AttachmentVariant.MEDIUM.objectKey(objectKey), render(source, mediumSize));
+            }
+
+            attachmentRepository.updateThumbnailStatus(attachmentId, ThumbnailStatus.READY);
+            log.info("Thumbnails ready for attachment {} (key={})", attachmentId, objectKey);
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("Thumbnail generation failed for attachment {}: {}", attachmentId, e.getMessage());
+            attachmentRepository.updateThumbnailStatus(attachmentId, ThumbnailStatus.FAILED);
+        }
+    }
+
+    private boolean renditionsExist(String objectKey) {
+        return AttachmentVariant.derivedKeys(objectKey).stream()
+                .allMatch(key -> blobStore.statObject(key).isPresent());
+    }
+
+    /**
+     * Checks the dimensions from the header before decoding, then decodes with
+     * subsampling so a large photo never needs a full-resolution raster.
+     */
+    private BufferedImage readSource(String objectKey) throws IOException {
+        try (InputStream content = blobStore.downloadFile(objectKey);
+             ImageInputStream imageInput = new MemoryCacheImageInputStream(content)) {
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new IOException("No image reader for " + objectKey);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IOException("Image too large to thumbnail: " + width + "x" + height);
+                }
+
+                int subsampling = Math.max(1, Math.max(width, height) / (mediumSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private byte[] render(BufferedImage source, int maxSize) throws IOException {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha; transparent areas become white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        var bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(bytes)) {
+            writer.setOutput(imageOutput);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.write(null, new IIOImage(target, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private void store(String objectKey, byte[] image) {
+        blobStore.uploadStream(objectKey, new ByteArrayInputStream(image), image.length, THUMBNAIL_CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.dto.AttachmentResponseDto;
+import com.taskmanagement.attachment.dto.UploadPartResponseDto;
+import com.taskmanagement.attachment.dto.UploadSessionCreateDto;
+import com.taskmanagement.attachment.dto.UploadSessionResponseDto;
+
+import java.io.InputStream;
+
+public interface AttachmentUploadSessionService {
+
+    UploadSessionResponseDto createSession(Long taskId, UploadSessionCreateDto dto);
+
+    UploadPartResponseDto uploadPart(Long sessionId, int partNumber, long contentLength, InputStream content);
+
+    UploadSessionResponseDto getSession(Long sessionId);
+
+    AttachmentResponseDto completeSession(Long sessionId);
+
+    void abortSession(Long sessionId);
+}
@@ -0,0 +1,395 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.dto.AttachmentResponseDto;
+import com.taskmanagement.attachment.dto.UploadPartResponseDto;
+import com.taskmanagement.attachment.dto.UploadSessionCreateDto;
+import com.taskmanagement.attachment.dto.UploadSessionResponseDto;
+import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.entity.AttachmentUploadPart;
+import com.taskmanagement.attachment.entity.AttachmentUploadSession;
+import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.enums.UploadSessionStatus;
+import com.taskmanagement.attachment.mapper.AttachmentMapper;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.attachment.repository.AttachmentUploadPartRepository;
+import com.taskmanagement.attachment.repository.AttachmentUploadSessionRepository;
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.common.exception.types.Exceptions.UploadSessionNotFoundException;
+import com.taskmanagement.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Chunked uploads for files larger than a single request should carry.
+ * Each part is streamed into its own object, so parts can arrive in any order,
+ * in parallel, and be retried independently; completion concatenates them
+ * server-side. No method here holds a transaction while bytes are moving.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AttachmentUploadSessionServiceImplementation implements AttachmentUploadSessionService {
+
+    private static final String PART_CONTENT_TYPE = "application/octet-stream";
+
+    private final AttachmentUploadSessionRepository sessionRepository;
+    private final AttachmentUploadPartRepository partRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentMapper attachmentMapper;
+    private final BlobStore blobStore;
+    private final SecurityHelper securityHelper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StorageUsageService storageUsageService;
+
+    @Value("${attachment.upload-session.max-file-size:524288000}")
+    private long maxSessionFileSize;
+
+    @Value("${attachment.upload-session.part-size:8388608}")
+    private long partSize;
+
+    @Value("${attachment.upload-session.expiry-hours:24}")
+    private long expiryHours;
+
+    @Value("${attachment.max-files-per-task}")
+    private int maxFilesPerTask;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Override
+    @Transactional
+    public UploadSessionResponseDto createSession(Long taskId, UploadSessionCreateDto dto) {
+
+        Objects.requireNonNull(taskId, "Task ID must not be null");
+        Objects.requireNonNull(dto, "Upload session request must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var task = securityHelper.taskExistsAndNotDeletedCheck(taskId);
+
+        securityHelper.canUploadToTask(currentUser, task);
+
+        if (dto.fileSize() > maxSessionFileSize) {
+            throw new IllegalArgumentException(
+                    "File size exceeds maximum allowed: " + (maxSessionFileSize / 1024 / 1024) + " MB"
+            );
+        }
+
+        securityHelper.validateMaxFilesPerTask(taskId, maxFilesPerTask);
+
+        storageUsageService.checkQuota(taskId, dto.fileSize());
+
+        String originalFilename = dto.filename().trim();
+        String storedFilename = blobStore.generateStoredFilename(originalFilename);
+        int partCount = (int) ((dto.fileSize() + partSize - 1) / partSize);
+
+        var session = AttachmentUploadSession.builder()
+
+                .task(task)
+                .taskId(taskId)
+                .user(currentUser)
+                .userId(currentUser.getId())
+                .originalFilename(originalFilename)
+                .contentType(dto.contentType() != null ? dto.contentType() : "application/octet-stream")
+                .totalSize(dto.fileSize())
+                .partSize(partSize)
+                .partCount(partCount)
+                .storedFilename(storedFilename)
+                .objectKey(blobStore.buildObjectKey(storedFilename))
+                .status(UploadSessionStatus.ACTIVE)
+                .expiresAt(Instant.now().plus(Duration.ofHours(expiryHours)))
+
+                .build();
+
+        session.setCreatedBy(currentUser.getId());
+
+        var savedSession = sessionRepository.save(session);
+
+        log.info("Upload session {} for '{}' ({} bytes, {} parts) opened on task {} by user {} (ID: {})",
+                savedSession.getId(),
+                originalFilename,
+                dto.fileSize(),
+                partCount,
+                taskId,
+                currentUser.getEmail(),
+                currentUser.getId());
+
+        return toDto(savedSession, List.of());
+    }
+
+    @Override
+    public UploadPartResponseDto uploadPart(Long sessionId, int partNumber, long contentLength, InputStream content) {
+
+        Objects.requireNonNull(sessionId, "Session ID must not be null");
+        Objects.requireNonNull(content, "Part content must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var session = ownedSession(sessionId, currentUser);
+        activeSessionCheck(session);
+
+        if (partNumber < 1 || partNumber > session.getPartCount()) {
+            throw new IllegalArgumentException(
+                    "Part number must be between 1 and " + session.getPartCount());
+        }
+
+        long expectedSize = session.expectedPartSize(partNumber);
+
+        if (contentLength >= 0 && contentLength != expectedSize) {
+            throw new IllegalArgumentException(
+                    "Part " + partNumber + " must be exactly " + expectedSize + " bytes");
+        }
+
+        String partKey = session.partObjectKey(partNumber);
+        var limitedContent = new LimitedInputStream(content, expectedSize);
+
+        String etag;
+        try {
+            etag = blobStore.uploadStream(partKey, limitedContent, expectedSize, PART_CONTENT_TYPE);
+
+            // The store stops after expectedSize bytes; a longer body trips the limit here
+            if (limitedContent.read() != -1) {
+                throw new IOException("Part is larger than expected");
+            }
+        } catch (IOException | RuntimeException e) {
+            if (limitedContent.isLimitExceeded()) {
+                // The object was written from a truncated body, so it can't be kept
+                discardPart(session, partNumber);
+            }
+            if (limitedContent.isLimitExceeded() || limitedContent.getBytesRead() < expectedSize) {
+                throw new IllegalArgumentException(
+                        "Part " + partNumber + " must be exactly " + expectedSize + " bytes");
+            }
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to upload file part to storage", e);
+        }
+
+        var part = recordPart(session.getId(), partNumber, expectedSize, etag);
+
+        log.debug("Upload session {} stored part {}/{} ({} bytes)",
+                session.getId(), partNumber, session.getPartCount(), expectedSize);
+
+        return new UploadPartResponseDto(part.getPartNumber(), part.getSize(), part.getEtag());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UploadSessionResponseDto getSession(Long sessionId) {
+        Objects.requireNonNull(sessionId, "Session ID must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var session = ownedSession(sessionId, currentUser);
+
+        return toDto(session, partRepository.findBySessionIdOrderByPartNumber(session.getId()));
+    }
+
+    @Override
+    public AttachmentResponseDto completeSession(Long sessionId) {
+        Objects.requireNonNull(sessionId, "Session ID must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var session = ownedSession(sessionId, currentUser);
+        activeSessionCheck(session);
+
+        var parts = partRepository.findBySessionIdOrderByPartNumber(session.getId());
+        List<Integer> missingParts = missingParts(session, parts);
+
+        if (!missingParts.isEmpty()) {
+            throw new IllegalStateException("Upload is incomplete, missing parts: " + missingParts);
+        }
+
+        var task = securityHelper.taskExistsAndNotDeletedCheck(session.getTaskId());
+        securityHelper.canUploadToTask(currentUser, task);
+        securityHelper.validateMaxFilesPerTask(task.getId(), maxFilesPerTask);
+
+        if (sessionRepository.transition(session.getId(), UploadSessionStatus.ACTIVE, UploadSessionStatus.COMPLETING, Instant.now()) == 0) {
+            throw new IllegalStateException("Upload session is already being completed");
+        }
+
+        Attachment savedAttachment;
+        boolean reserved = false;
+        try {
+            storageUsageService.reserve(task.getId(), session.getTotalSize());
+            reserved = true;
+
+            blobStore.composeObject(session.getObjectKey(), session.partObjectKeys(), session.getContentType());
+
+            long storedSize = blobStore.statObject(session.getObjectKey())
+                    .orElseThrow(() -> new IllegalStateException("Assembled file is missing from storage"))
+                    .size();
+
+            if (storedSize != session.getTotalSize()) {
+                blobStore.deleteFile(session.getObjectKey());
+                throw new IllegalStateException(
+                        "Assembled file size (" + storedSize + " bytes) does not match the declared size ("
+                                + session.getTotalSize() + " bytes)");
+            }
+
+            var attachment = Attachment.builder()
+
+                    .originalFilename(session.getOriginalFilename())
+                    .storedFilename(session.getStoredFilename())
+                    .bucketName(bucketName)
+                    .objectKey(session.getObjectKey())
+                    .fileSize(session.getTotalSize())
+                    .contentType(session.getContentType())
+                    .task(task)
+                    .taskId(task.getId())
+                    .user(currentUser)
+                    .userId(currentUser.getId())
+                    .status(AttachmentStatus.ACTIVE)
+
+                    .build();
+
+            attachment.setCreatedBy(currentUser.getId());
+
+            savedAttachment = attachmentRepository.save(attachment);
+
+        } catch (RuntimeException e) {
+            // Parts are untouched, so the client can simply retry completion
+            sessionRepository.transition(session.getId(), UploadSessionStatus.COMPLETING, UploadSessionStatus.ACTIVE, Instant.now());
+            if (reserved) {
+                storageUsageService.release(task.getId(), session.getTotalSize());
+            }
+            throw e;
+        }
+
+        sessionRepository.transition(session.getId(), UploadSessionStatus.COMPLETING, UploadSessionStatus.COMPLETED, Instant.now());
+
+        blobStore.deleteFiles(session.partObjectKeys());
+
+        eventPublisher.publishEvent(new AttachmentStoredEvent(savedAttachment.getId(), savedAttachment.getContentType()));
+
+        log.info("Upload session {} completed as attachment '{}' (ID: {}) on task {} by user {} (ID: {})",
+                session.getId(),
+                savedAttachment.getOriginalFilename(),
+                savedAttachment.getId(),
+                task.getId(),
+                currentUser.getEmail(),
+                currentUser.getId());
+
+        return attachmentMapper.toDto(savedAttachment);
+    }
+
+    @Override
+    public void abortSession(Long sessionId) {
+        Objects.requireNonNull(sessionId, "Session ID must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var session = ownedSession(sessionId, currentUser);
+
+        if (sessionRepository.transition(session.getId(), UploadSessionStatus.ACTIVE, UploadSessionStatus.ABORTED, Instant.now()) == 0) {
+            throw new IllegalStateException("Upload session is no longer active");
+        }
+
+        blobStore.deleteFiles(session.partObjectKeys());
+
+        log.info("Upload session {} aborted by user {} (ID: {})",
+                session.getId(),
+                currentUser.getEmail(),
+                currentUser.getId());
+    }
+
+    private AttachmentUploadSession ownedSession(Long sessionId, User currentUser) {
+        var session = sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new UploadSessionNotFoundException(sessionId));
+
+        if (!currentUser.getId().equals(session.getCreatedBy()) && !securityHelper.isSystemAdmin(currentUser)) {
+            throw new AccessDeniedException("Only the uploader can use this upload session");
+        }
+
+        return session;
+    }
+
+    private void activeSessionCheck(AttachmentUploadSession session) {
+        if (session.getStatus() != UploadSessionStatus.ACTIVE || session.getExpiresAt().isBefore(Instant.now())) {
+            throw new IllegalStateException("Upload session is no longer active");
+        }
+    }
+
+    private AttachmentUploadPart recordPart(Long sessionId, int partNumber, long size, String etag) {
+        var part = partRepository.findBySessionIdAndPartNumber(sessionId, partNumber)
+                .orElseGet(() -> AttachmentUploadPart.builder()
+                        .sessionId(sessionId)
+                        .partNumber(partNumber)
+                        .build());
+
+        part.setSize(size);
+        part.setEtag(etag);
+
+        try {
+            return partRepository.save(part);
+        } catch (DataIntegrityViolationException e) {
+            // A parallel retry of the same part won the insert; both wrote the same object key
+            var existing = partRepository.findBySessionIdAndPartNumber(sessionId, partNumber)
+                    .orElseThrow(() -> e);
+            existing.setSize(size);
+            existing.setEtag(etag);
+            return partRepository.save(existing);
+        }
+    }
+
+    private void discardPart(AttachmentUploadSession session, int partNumber) {
+        try {
+            blobStore.deleteFile(session.partObjectKey(partNumber));
+        } catch (RuntimeException e) {
+            log.warn("Could not remove rejected part {} of upload session {}: {}",
+                    partNumber, session.getId(), e.getMessage());
+        }
+        partRepository.findBySessionIdAndPartNumber(session.getId(), partNumber)
+                .ifPresent(partRepository::delete);
+    }
+
+    private List<Integer> missingParts(AttachmentUploadSession session, List<AttachmentUploadPart> parts) {
+        boolean[] present = new boolean[session.getPartCount() + 1];
+        for (AttachmentUploadPart part : parts) {
+            if (part.getSize() == session.expectedPartSize(part.getPartNumber())) {
+                present[part.getPartNumber()] = true;
+            }
+        }
+
+        List<Integer> missing = new ArrayList<>();
+        for (int partNumber = 1; partNumber <= session.getPartCount(); partNumber++) {
+            if (!present[partNumber]) {
+                missing.add(partNumber);
+            }
+        }
+        return missing;
+    }
+
+    private UploadSessionResponseDto toDto(AttachmentUploadSession session, List<AttachmentUploadPart> parts) {
+        return new UploadSessionResponseDto(
+                session.getId(),
+                session.getTaskId(),
+                session.getOriginalFilename(),
+                session.getTotalSize(),
+                session.getPartSize(),
+                session.getPartCount(),
+                parts.stream().map(AttachmentUploadPart::getPartNumber).toList(),
+                session.getStatus(),
+                session.getExpiresAt());
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskmanagement.attachment.service;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Storage backend for attachment content, addressed by object key.
+ * Selected with {@code attachment.storage.type}: {@code minio} (default)
+ * or {@code filesystem}.
+ */
+public interface BlobStore {
+
+    /**
+     * Stores {@code inputStream} under {@code objectKey}, replacing any previous
+     * content. A size of -1 means unknown. Returns the ETag of the stored object.
+     */
+    String uploadStream(String objectKey, InputStream inputStream, long size, String contentType);
+
+    /**
+     * Concatenates the source objects, in order, into {@code objectKey}.
+     */
+    void composeObject(String objectKey, List<String> sourceKeys, String contentType);
+
+    InputStream downloadFile(String objectKey);
+
+    InputStream downloadRange(String objectKey, long offset, long length);
+
+    Optional<StoredObjectInfo> statObject(String objectKey);
+
+    void deleteFile(String objectKey);
+
+    /**
+     * Best-effort batch delete. Returns the keys that could not be removed;
+     * keys that no longer exist count as removed.
+     */
+    Set<String> deleteFiles(List<String> objectKeys);
+
+    String getPresignedDownloadUrl(String objectKey, String originalFilename, String contentType, int expirySeconds);
+
+    String getPresignedUploadUrl(String objectKey, int expirySeconds);
+
+    /**
+     * The file backing {@code objectKey} when the content lives on a local disk,
+     * so downloads can be served from it without copying through the heap.
+     */
+    default Optional<Path> localFile(String objectKey) {
+        return Optional.empty();
+    }
+
+    default String buildObjectKey(String storedFilename) {
+        return "attachments/" + storedFilename;
+    }
+
+    default String generateStoredFilename(String originalFilename) {
+        String extension = "";
+        int lastDotIndex = originalFilename.lastIndexOf('.');
+        if (lastDotIndex > 0 && lastDotIndex < originalFilename.length() - 1) {
+            extension = originalFilename.substring(lastDotIndex);
+        }
+        return UUID.randomUUID().toString() + extension;
+    }
+}
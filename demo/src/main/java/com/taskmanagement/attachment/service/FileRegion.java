@@ -0,0 +1,43 @@
+package com.taskmanagement.attachment.service;
+
+import java.nio.file.Path;
+
+/**
+ * A byte range of a local file used as a response body. Written by
+ * {@link com.taskmanagement.attachment.config.FileRegionHttpMessageConverter}
+ * straight from the file instead of through an input stream.
+ *
+ * <p>Deliberately not a {@link org.springframework.core.io.Resource}: Spring MVC
+ * answers a 200 {@code Resource} body to a request carrying a {@code Range}
+ * header with a 206 of that range, overriding the decision to send the full
+ * file for a stale {@code If-Range} or several ranges.
+ */
+public class FileRegion {
+
+    private final Path path;
+    private final long position;
+    private final long count;
+
+    public FileRegion(Path path, long position, long count) {
+        this.path = path;
+        this.position = position;
+        this.count = count;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "file region [" + path + ", bytes " + position + "+" + count + "]";
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanagement.attachment.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts bytes read from a request body and fails once more than
+ * {@code limit} bytes arrive, so an upload of unknown length cannot
+ * exceed the configured attachment size.
+ */
+class LimitedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private long bytesRead;
+    private boolean limitExceeded;
+
+    LimitedInputStream(InputStream in, long limit) {
+        super(in);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value != -1) {
+            count(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    long getBytesRead() {
+        return bytesRead;
+    }
+
+    boolean isLimitExceeded() {
+        return limitExceeded;
+    }
+
+    private void count(long bytes) throws IOException {
+        bytesRead += bytes;
+        if (bytesRead > limit) {
+            limitExceeded = true;
+            throw new IOException("Upload exceeds the maximum allowed size of " + limit + " bytes");
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.taskmanagement.attachment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps attachment content as plain files below {@code root-dir}, one file per
+ * object key, for single-node installs and tests without an object store.
+ * Writes go to a temp file first and are moved into place atomically, so a
+ * reader never sees a partial object. Presigned URLs are not available.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "attachment.storage", name = "type", havingValue = "filesystem")
+public class LocalFileSystemBlobStore implements BlobStore {
+
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private final Path rootDirectory;
+    private final Path tempDirectory;
+
+    public LocalFileSystemBlobStore(
+            @Value("${attachment.storage.filesystem.root-dir:./data/attachments}") Path rootDirectory) {
+        this.rootDirectory = rootDirectory.toAbsolutePath().normalize();
+        this.tempDirectory = this.rootDirectory.resolve(TEMP_DIRECTORY);
+
+        try {
+            Files.createDirectories(tempDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create attachment storage directory " + this.rootDirectory, e);
+        }
+
+        log.info("Attachment storage on local filesystem: {}", this.rootDirectory);
+    }
+
+    /**
+     * Streams the body to disk through a file channel. With a known size exactly
+     * that many bytes are stored and a shorter body fails the upload.
+     */
+    @Override
+    public String uploadStream(String objectKey, InputStream inputStream, long size, String contentType) {
+        Path target = resolve(objectKey);
+        Path temp = null;
+
+        try {
+            temp = Files.createTempFile(tempDirectory, "upload-", ".tmp");
+
+            ReadableByteChannel source = Channels.newChannel(inputStream);
+            long limit = size >= 0 ? size : Long.MAX_VALUE;
+            long position = 0;
+
+            try (FileChannel file = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (position < limit) {
+                    long transferred = file.transferFrom(source, position, Math.min(limit - position, TRANSFER_CHUNK_SIZE));
+                    if (transferred == 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
+                file.force(false);
+            }
+
+            if (size >= 0 && position != size) {
+                throw new IOException("Body ended after " + position + " of " + size + " bytes");
+            }
+
+            String etag = moveIntoPlace(temp, target);
+
+            log.info("File stored on disk: key={}, size={}", objectKey, position);
+
+            return etag;
+
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            log.error("Error storing file on disk: {}", objectKey, e);
+            throw new RuntimeException("Failed to store file on disk", e);
+        }
+    }
+
+    @Override
+    public void composeObject(String objectKey, List<String> sourceKeys, String contentType) {
+        Path target = resolve(objectKey);
+        Path temp = null;
+
+        try {
+            temp = Files.createTempFile(tempDirectory, "compose-", ".tmp");
+
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (String sourceKey : sourceKeys) {
+                    try (FileChannel in = FileChannel.open(resolve(sourceKey), StandardOpenOption.READ)) {
+                        // File-to-file transfers stay in the kernel (copy_file_range/sendfile)
+                        long position = 0;
+                        long sourceSize = in.size();
+                        while (position < sourceSize) {
+                            long transferred = in.transferTo(position, sourceSize - position, out);
+                            if (transferred == 0) {
+                                throw new IOException("Part " + sourceKey + " shrank while being assembled");
+                            }
+                            position += transferred;
+                        }
+                    }
+                }
+                out.force(false);
+            }
+
+            moveIntoPlace(temp, target);
+
+            log.info("Composed {} parts into file on disk: key={}", sourceKeys.size(), objectKey);
+
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            log.error("Error composing file on disk: {}", objectKey, e);
+            throw new RuntimeException("Failed to assemble file on disk", e);
+        }
+    }
+
+    @Override
+    public InputStream downloadFile(String objectKey) {
+        try {
+            return Files.newInputStream(resolve(objectKey));
+        } catch (IOException e) {
+            log.error("Error reading file from disk: {}", objectKey, e);
+            throw new RuntimeException("Failed to read file from disk", e);
+        }
+    }
+
+    @Override
+    public InputStream downloadRange(String objectKey, long offset, long length) {
+        try {
+            return new FileRangeInputStream(resolve(objectKey), offset, length);
+        } catch (IOException e) {
+            log.error("Error reading range {}+{} of file from disk: {}", offset, length, objectKey, e);
+            throw new RuntimeException("Failed to read file from disk", e);
+        }
+    }
+
+    @Override
+    public Optional<Path> localFile(String objectKey) {
+        return Optional.of(resolve(objectKey));
+    }
+
+    @Override
+    public Optional<StoredObjectInfo> statObject(String objectKey) {
+        Path file = resolve(objectKey);
+
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return Optional.of(new StoredObjectInfo(attributes.size(), etag(attributes), null));
+        } catch (IOException e) {
+            log.error("Error reading file metadata from disk: {}", objectKey, e);
+            throw new RuntimeException("Failed to read file metadata from disk", e);
+        }
+    }
+
+    @Override
+    public void deleteFile(String objectKey) {
+        try {
+            delete(resolve(objectKey));
+            log.info("File deleted from disk: key={}", objectKey);
+        } catch (IOException e) {
+            log.error("Error deleting file from disk: {}", objectKey, e);
+            throw new RuntimeException("Failed to delete file from disk", e);
+        }
+    }
+
+    @Override
+    public Set<String> deleteFiles(List<String> objectKeys) {
+        Set<String> failed = new HashSet<>();
+
+        for (String objectKey : objectKeys) {
+            try {
+                delete(resolve(objectKey));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not delete file {} from disk: {}", objectKey, e.getMessage());
+                failed.add(objectKey);
+            }
+        }
+
+        log.info("Deleted {} files from disk", objectKeys.size() - failed.size());
+        return failed;
+    }
+
+    @Override
+    public String getPresignedDownloadUrl(String objectKey, String originalFilename,
+                                          String contentType, int expirySeconds) {
+        throw new IllegalStateException("Presigned URLs are not supported by filesystem attachment storage");
+    }
+
+    @Override
+    public String getPresignedUploadUrl(String objectKey, int expirySeconds) {
+        throw new IllegalStateException("Presigned URLs are not supported by filesystem attachment storage");
+    }
+
+    private Path resolve(String objectKey) {
+        Path file = rootDirectory.resolve(objectKey).normalize();
+
+        if (!file.startsWith(rootDirectory) || file.equals(rootDirectory) || file.startsWith(tempDirectory)) {
+            throw new IllegalArgumentException("Invalid object key: " + objectKey);
+        }
+
+        return file;
+    }
+
+    private String moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return etag(Files.readAttributes(target, BasicFileAttributes.class));
+    }
+
+    private void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+
+        // Drop per-upload directories (e.g. session parts) once they are empty
+        Path parent = file.getParent();
+        if (!parent.equals(rootDirectory) && !rootDirectory.equals(parent.getParent())) {
+            try {
+                Files.deleteIfExists(parent);
+            } catch (DirectoryNotEmptyException ignored) {
+                // Still in use
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not remove temp file {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Objects are never modified in place, so size and mtime identify the content
+    private static String etag(BasicFileAttributes attributes) {
+        return Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(attributes.size());
+    }
+}
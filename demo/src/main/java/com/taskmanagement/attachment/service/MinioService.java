@@ -1,19 +1,34 @@
 package com.taskmanagement.attachment.service;
 
 import io.minio.*;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class MinioService {
+@ConditionalOnProperty(prefix = "attachment.storage", name = "type", havingValue = "minio", matchIfMissing = true)
+public class MinioService implements BlobStore {
 
     private final MinioClient minioClient;
 
@@ -23,6 +38,21 @@ public class MinioService {
     @Value("${minio.auto-create-bucket}")
     private boolean autoCreateBucket;
 
+    // Multipart part size; MinIO buffers one part per in-flight upload, min 5 MiB
+    @Value("${minio.upload.part-size:8388608}")
+    private long partSize;
+
+    private final AtomicBoolean bucketVerified = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyBucketOnStartup() {
+        try {
+            ensureBucketExists();
+        } catch (RuntimeException e) {
+            log.warn("MinIO bucket '{}' could not be verified at startup, will retry on first upload", bucketName);
+        }
+    }
+
     public void ensureBucketExists() {
         try {
             boolean bucketExists = minioClient.bucketExists(
@@ -35,37 +65,81 @@ public class MinioService {
                 );
                 log.info("MinIO bucket '{}' created successfully", bucketName);
             }
+            bucketVerified.set(bucketExists || autoCreateBucket);
         } catch (Exception e) {
             log.error("Error ensuring bucket exists", e);
             throw new RuntimeException("Failed to ensure MinIO bucket exists", e);
         }
     }
 
-    public String uploadFile(MultipartFile file, String storedFilename) {
-        try {
+    /**
+     * Streams {@code inputStream} into MinIO. With an unknown size (-1) the
+     * client switches to multipart upload and holds at most one part in memory.
+     * Returns the ETag of the stored object.
+     */
+    @Override
+    public String uploadStream(String objectKey, InputStream inputStream, long size, String contentType) {
+        if (!bucketVerified.get()) {
             ensureBucketExists();
+        }
 
-            String objectKey = "attachments/" + storedFilename;
-
-            minioClient.putObject(
-
+        try {
+            var response = minioClient.putObject(
                     PutObjectArgs.builder()
                             .bucket(bucketName)
                             .object(objectKey)
-                            .stream(file.getInputStream(), file.getSize(), -1)
-                            .contentType(file.getContentType())
+                            .stream(inputStream, size, partSize)
+                            .contentType(contentType != null ? contentType : "application/octet-stream")
                             .build()
             );
 
             log.info("File uploaded to MinIO: bucket={}, key={}", bucketName, objectKey);
-            return objectKey;
 
+            return response.etag();
+
+        } catch (ErrorResponseException e) {
+            if ("NoSuchBucket".equals(e.errorResponse().code())) {
+                // Bucket vanished since the last check; re-verify on the next upload
+                bucketVerified.set(false);
+            }
+            log.error("Error uploading file to MinIO", e);
+            throw new RuntimeException("Failed to upload file to MinIO", e);
         } catch (Exception e) {
             log.error("Error uploading file to MinIO", e);
             throw new RuntimeException("Failed to upload file to MinIO", e);
         }
     }
 
+    /**
+     * Concatenates already stored objects into {@code objectKey} server-side
+     * (multipart upload-part-copy), so the bytes never travel through the app.
+     * Every source except the last must be at least 5 MiB.
+     */
+    @Override
+    public void composeObject(String objectKey, List<String> sourceKeys, String contentType) {
+        List<ComposeSource> sources = sourceKeys.stream()
+                .map(key -> ComposeSource.builder().bucket(bucketName).object(key).build())
+                .toList();
+
+        try {
+            minioClient.composeObject(
+                    ComposeObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .sources(sources)
+                            .headers(Map.of("Content-Type", contentType != null ? contentType : "application/octet-stream"))
+                            .build()
+            );
+
+            log.info("Composed {} parts into MinIO object: bucket={}, key={}", sources.size(), bucketName, objectKey);
+
+        } catch (Exception e) {
+            log.error("Error composing MinIO object: {}", objectKey, e);
+            throw new RuntimeException("Failed to assemble file in MinIO", e);
+        }
+    }
+
+    @Override
     public InputStream downloadFile(String objectKey) {
         try {
             return minioClient.getObject(
@@ -81,6 +155,94 @@ public class MinioService {
         }
     }
 
+    @Override
+    public InputStream downloadRange(String objectKey, long offset, long length) {
+        try {
+            return minioClient.getObject(
+
+                    GetObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .offset(offset)
+                            .length(length)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("Error downloading range {}+{} of file from MinIO: {}", offset, length, objectKey, e);
+            throw new RuntimeException("Failed to download file from MinIO", e);
+        }
+    }
+
+    @Override
+    public String getPresignedDownloadUrl(String objectKey, String originalFilename,
+                                          String contentType, int expirySeconds) {
+        try {
+            String contentDisposition = ContentDisposition.attachment()
+                    .filename(originalFilename, StandardCharsets.UTF_8)
+                    .build()
+                    .toString();
+
+            return minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.GET)
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .expiry(expirySeconds, TimeUnit.SECONDS)
+                            .extraQueryParams(Map.of(
+                                    "response-content-disposition", contentDisposition,
+                                    "response-content-type", contentType))
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("Error generating presigned download URL for MinIO object: {}", objectKey, e);
+            throw new RuntimeException("Failed to generate presigned URL from MinIO", e);
+        }
+    }
+
+    @Override
+    public String getPresignedUploadUrl(String objectKey, int expirySeconds) {
+        if (!bucketVerified.get()) {
+            ensureBucketExists();
+        }
+
+        try {
+            return minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.PUT)
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .expiry(expirySeconds, TimeUnit.SECONDS)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("Error generating presigned upload URL for MinIO object: {}", objectKey, e);
+            throw new RuntimeException("Failed to generate presigned URL from MinIO", e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObjectInfo> statObject(String objectKey) {
+        try {
+            var stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .build()
+            );
+            return Optional.of(new StoredObjectInfo(stat.size(), stat.etag(), stat.contentType()));
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return Optional.empty();
+            }
+            log.error("Error reading object metadata from MinIO: {}", objectKey, e);
+            throw new RuntimeException("Failed to read object metadata from MinIO", e);
+        } catch (Exception e) {
+            log.error("Error reading object metadata from MinIO: {}", objectKey, e);
+            throw new RuntimeException("Failed to read object metadata from MinIO", e);
+        }
+    }
+
+    @Override
     public void deleteFile(String objectKey) {
         try {
             minioClient.removeObject(
@@ -96,12 +258,42 @@ public class MinioService {
         }
     }
 
-    public String generateStoredFilename(String originalFilename) {
-        String extension = "";
-        int lastDotIndex = originalFilename.lastIndexOf('.');
-        if (lastDotIndex > 0 && lastDotIndex < originalFilename.length() - 1) {
-            extension = originalFilename.substring(lastDotIndex);
+    /**
+     * Best-effort batch delete through a single multi-object delete request
+     * (up to 1000 keys). Returns the keys that could not be removed; keys that
+     * no longer exist count as removed.
+     */
+    @Override
+    public Set<String> deleteFiles(List<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return Set.of();
         }
-        return UUID.randomUUID().toString() + extension;
+
+        List<DeleteObject> objects = objectKeys.stream()
+                .map(DeleteObject::new)
+                .toList();
+
+        Set<String> failed = new HashSet<>();
+        try {
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(bucketName)
+                            .objects(objects)
+                            .build()
+            );
+
+            // Deletion is lazy: nothing is sent until the results are iterated
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                log.warn("Could not delete MinIO object {}: {}", error.objectName(), error.message());
+                failed.add(error.objectName());
+            }
+        } catch (Exception e) {
+            log.error("Error deleting {} files from MinIO", objectKeys.size(), e);
+            return new HashSet<>(objectKeys);
+        }
+
+        log.info("Deleted {} files from MinIO: bucket={}", objectKeys.size() - failed.size(), bucketName);
+        return failed;
     }
 }
@@ -0,0 +1,69 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Removes presigned uploads that were never confirmed. Once the upload URL has
+ * expired (plus a grace period) the row can no longer become ACTIVE, so any
+ * object the client managed to write is deleted and the row is marked DELETED,
+ * returning the declared size to the team's storage quota.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PendingUploadCleanup {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final AttachmentRepository attachmentRepository;
+    private final BlobStore blobStore;
+    private final StorageUsageService storageUsageService;
+
+    @Value("${attachment.presigned.expiry-seconds:300}")
+    private int presignedExpirySeconds;
+
+    @Value("${attachment.presigned.pending-grace-seconds:3600}")
+    private long pendingGraceSeconds;
+
+    @Scheduled(fixedDelayString = "${attachment.presigned.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        Instant cutoff = Instant.now().minusSeconds(presignedExpirySeconds + pendingGraceSeconds);
+        int removed = 0;
+
+        List<Attachment> batch;
+        do {
+            batch = attachmentRepository.findStalePending(cutoff, PageRequest.of(0, BATCH_SIZE));
+
+            for (Attachment attachment : batch) {
+                try {
+                    blobStore.deleteFile(attachment.getObjectKey());
+                } catch (RuntimeException e) {
+                    log.warn("Could not remove object {} of abandoned upload {}: {}",
+                            attachment.getObjectKey(), attachment.getId(), e.getMessage());
+                }
+                attachment.setStatus(AttachmentStatus.DELETED);
+            }
+
+            attachmentRepository.saveAll(batch);
+            batch.forEach(attachment ->
+                    storageUsageService.release(attachment.getTaskId(), attachment.getFileSize()));
+            removed += batch.size();
+
+        } while (batch.size() == BATCH_SIZE);
+
+        if (removed > 0) {
+            log.info("Cleaned up {} abandoned presigned upload(s) older than {}", removed, cutoff);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.repository.StorageUsageDrift;
+import com.taskmanagement.attachment.repository.TeamStorageUsageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Verifies the per-team usage counters against a real aggregate over
+ * attachments. An upload that is between its reservation and its commit looks
+ * like drift for a moment, so a difference is only corrected once the same
+ * difference shows up on two consecutive runs. Corrections are applied as
+ * deltas, leaving concurrent updates intact.
+ */
+@Slf4j
+@Component
+public class StorageUsageReconciler {
+
+    private final TeamStorageUsageRepository usageRepository;
+
+    private final Counter driftedTeams;
+    private final Counter correctedBytes;
+
+    // A lock rather than synchronized: the run holds it across JDBC calls, which would pin a virtual thread
+    private final ReentrantLock running = new ReentrantLock();
+
+    // Drift seen on the previous run, by team
+    private Map<Long, Delta> pending = Map.of();
+
+    @Value("${attachment.quota.reconcile.correct:true}")
+    private boolean correct;
+
+    public StorageUsageReconciler(TeamStorageUsageRepository usageRepository, MeterRegistry meterRegistry) {
+        this.usageRepository = usageRepository;
+
+        this.driftedTeams = Counter.builder("attachment.storage.usage.drift")
+                .description("Teams whose usage counters disagreed with their attachments on two runs in a row")
+                .register(meterRegistry);
+        this.correctedBytes = Counter.builder("attachment.storage.usage.corrected.bytes")
+                .description("Absolute bytes corrected in team usage counters")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${attachment.quota.reconcile.interval-ms:3600000}",
+            initialDelayString = "${attachment.quota.reconcile.initial-delay-ms:300000}")
+    @Transactional
+    public void reconcile() {
+        running.lock();
+        try {
+            reconcileLocked();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private void reconcileLocked() {
+        List<StorageUsageDrift> drift = usageRepository.findDrift();
+        Map<Long, Delta> seen = new HashMap<>();
+
+        for (StorageUsageDrift team : drift) {
+            var delta = new Delta(
+                    team.getActualBytes() - team.getCountedBytes(),
+                    team.getActualAttachments() - team.getCountedAttachments());
+
+            if (!delta.equals(pending.get(team.getTeamId()))) {
+                seen.put(team.getTeamId(), delta);
+                continue;
+            }
+
+            driftedTeams.increment();
+            log.warn("Storage usage of team {} is off by {} bytes and {} attachment(s) (counted {}, actual {}){}",
+                    team.getTeamId(),
+                    delta.bytes(),
+                    delta.attachments(),
+                    team.getCountedBytes(),
+                    team.getActualBytes(),
+                    correct ? "; correcting" : "");
+
+            if (correct) {
+                usageRepository.adjust(team.getTeamId(), delta.bytes(), delta.attachments());
+                correctedBytes.increment(Math.abs(delta.bytes()));
+            }
+        }
+
+        pending = seen;
+    }
+
+    private record Delta(long bytes, long attachments) {
+    }
+}
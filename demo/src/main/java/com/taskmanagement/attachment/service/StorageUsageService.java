@@ -0,0 +1,18 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.dto.TeamStorageUsageResponseDto;
+
+import java.util.List;
+
+public interface StorageUsageService {
+
+    void checkQuota(Long taskId, long bytes);
+
+    void reserve(Long taskId, long bytes);
+
+    void release(Long taskId, long bytes);
+
+    void moveProject(Long projectId, Long fromTeamId, Long toTeamId);
+
+    List<TeamStorageUsageResponseDto> getTopConsumers(int limit);
+}
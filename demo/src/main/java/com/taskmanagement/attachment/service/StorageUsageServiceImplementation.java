@@ -0,0 +1,129 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.dto.TeamStorageUsageResponseDto;
+import com.taskmanagement.attachment.repository.TeamStorageUsageRepository;
+import com.taskmanagement.common.exception.types.Exceptions.StorageQuotaExceededException;
+import com.taskmanagement.common.exception.types.Exceptions.TaskNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps per-team attachment totals in step with attachment rows. Every change
+ * is a single atomic update joining the caller's transaction, so a counter
+ * moves exactly when the attachment it accounts for is committed.
+ * {@link StorageUsageReconciler} checks the totals against the real aggregate.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StorageUsageServiceImplementation implements StorageUsageService {
+
+    private static final int MAX_TOP_CONSUMERS = 100;
+
+    private final TeamStorageUsageRepository usageRepository;
+    private final SecurityHelper securityHelper;
+
+    @Value("${attachment.quota.team-bytes:0}")
+    private long teamQuotaBytes;
+
+    /**
+     * Early, non-reserving check for uploads whose size is not yet known or
+     * whose bytes arrive later. The reservation made when the attachment row is
+     * written remains the authoritative check.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void checkQuota(Long taskId, long bytes) {
+        Objects.requireNonNull(taskId, "Task ID must not be null");
+
+        if (teamQuotaBytes <= 0) {
+            return;
+        }
+
+        Long teamId = teamIdForTask(taskId);
+        long usedBytes = usageRepository.findUsedBytes(teamId).orElse(0L);
+
+        if (usedBytes + Math.max(bytes, 0) > teamQuotaBytes) {
+            throw new StorageQuotaExceededException(teamId, teamQuotaBytes);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void reserve(Long taskId, long bytes) {
+        Objects.requireNonNull(taskId, "Task ID must not be null");
+
+        Long teamId = teamIdForTask(taskId);
+
+        if (usageRepository.reserve(teamId, bytes, teamQuotaBytes) == 0) {
+            log.info("Upload of {} bytes refused: team {} is at its storage quota", bytes, teamId);
+            throw new StorageQuotaExceededException(teamId, teamQuotaBytes);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(Long taskId, long bytes) {
+        Objects.requireNonNull(taskId, "Task ID must not be null");
+
+        usageRepository.adjust(teamIdForTask(taskId), -bytes, -1);
+    }
+
+    /**
+     * Moves the usage of a project's attachments to its new team. Transfers are
+     * an admin operation, so the receiving team's quota is not enforced.
+     */
+    @Override
+    @Transactional
+    public void moveProject(Long projectId, Long fromTeamId, Long toTeamId) {
+        Objects.requireNonNull(projectId, "Project ID must not be null");
+        Objects.requireNonNull(fromTeamId, "Source team ID must not be null");
+        Objects.requireNonNull(toTeamId, "Target team ID must not be null");
+
+        var totals = usageRepository.sumByProjectId(projectId);
+
+        if (totals.getAttachmentCount() == 0) {
+            return;
+        }
+
+        usageRepository.adjust(fromTeamId, -totals.getUsedBytes(), -totals.getAttachmentCount());
+        usageRepository.adjust(toTeamId, totals.getUsedBytes(), totals.getAttachmentCount());
+
+        log.info("Moved {} bytes in {} attachment(s) of project {} from team {} to team {}",
+                totals.getUsedBytes(), totals.getAttachmentCount(), projectId, fromTeamId, toTeamId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamStorageUsageResponseDto> getTopConsumers(int limit) {
+        if (limit < 1 || limit > MAX_TOP_CONSUMERS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TOP_CONSUMERS);
+        }
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        securityHelper.systemAdminCheck(currentUser);
+
+        return usageRepository.findTopConsumers(limit).stream()
+                .map(usage -> new TeamStorageUsageResponseDto(
+                        usage.getTeamId(),
+                        usage.getTeamName(),
+                        usage.getUsedBytes(),
+                        usage.getAttachmentCount(),
+                        teamQuotaBytes,
+                        usage.getUpdatedAt()))
+                .toList();
+    }
+
+    private Long teamIdForTask(Long taskId) {
+        return usageRepository.findTeamIdByTaskId(taskId)
+                .orElseThrow(() -> new TaskNotFoundException(taskId));
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+
+/**
+ * Outcome of {@link AttachmentBlobService#store}: the blob now holding the
+ * content, and whether this call uploaded its object rather than sharing one
+ * that was already stored.
+ */
+public record StoredBlob(AttachmentBlob blob, boolean created) {
+}
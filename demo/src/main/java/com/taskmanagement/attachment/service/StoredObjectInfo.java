@@ -0,0 +1,4 @@
+package com.taskmanagement.attachment.service;
+
+public record StoredObjectInfo(long size, String etag, String contentType) {
+}
@@ -0,0 +1,109 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.AttachmentUploadSession;
+import com.taskmanagement.attachment.enums.UploadSessionStatus;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.attachment.repository.AttachmentUploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Expires upload sessions that were never completed and removes the part
+ * objects they left in storage. Also settles completions that were cut off
+ * part-way, which would otherwise hold their parts and their quota
+ * reservation forever.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UploadSessionCleanup {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final AttachmentUploadSessionRepository sessionRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final BlobStore blobStore;
+    private final StorageUsageService storageUsageService;
+
+    @Value("${attachment.upload-session.completing-timeout-minutes:60}")
+    private long completingTimeoutMinutes;
+
+    @Scheduled(fixedDelayString = "${attachment.upload-session.cleanup-interval-ms:900000}")
+    public void expireAbandonedSessions() {
+        Instant now = Instant.now();
+        int expired = 0;
+
+        List<AttachmentUploadSession> batch;
+        do {
+            batch = sessionRepository.findExpired(now, PageRequest.of(0, BATCH_SIZE));
+
+            for (AttachmentUploadSession session : batch) {
+                // Skip sessions a client completed or aborted since the query ran
+                if (sessionRepository.transition(session.getId(), UploadSessionStatus.ACTIVE, UploadSessionStatus.EXPIRED, now) == 1) {
+                    blobStore.deleteFiles(session.partObjectKeys());
+                    expired++;
+                }
+            }
+
+        } while (batch.size() == BATCH_SIZE);
+
+        if (expired > 0) {
+            log.info("Expired {} abandoned upload session(s)", expired);
+        }
+
+        settleStuckCompletions(now);
+    }
+
+    private void settleStuckCompletions(Instant now) {
+        Instant cutoff = now.minus(Duration.ofMinutes(completingTimeoutMinutes));
+        int settled = 0;
+
+        List<AttachmentUploadSession> batch;
+        do {
+            batch = sessionRepository.findStuckCompleting(cutoff, PageRequest.of(0, BATCH_SIZE));
+
+            for (AttachmentUploadSession session : batch) {
+                // The attachment row is the last step before COMPLETED, so it tells how far the completion got
+                boolean saved = attachmentRepository.existsByObjectKey(session.getObjectKey());
+                UploadSessionStatus outcome = saved ? UploadSessionStatus.COMPLETED : UploadSessionStatus.EXPIRED;
+
+                if (sessionRepository.transition(session.getId(), UploadSessionStatus.COMPLETING, outcome, now) == 1) {
+                    List<String> leftovers = new ArrayList<>(session.partObjectKeys());
+                    if (!saved) {
+                        leftovers.add(session.getObjectKey());
+                        releaseReservation(session);
+                    }
+                    blobStore.deleteFiles(leftovers);
+                    settled++;
+
+                    log.warn("Upload session {} was stuck completing since {}; marked {}",
+                            session.getId(), session.getUpdatedAt(), outcome);
+                }
+            }
+
+        } while (batch.size() == BATCH_SIZE);
+
+        if (settled > 0) {
+            log.info("Settled {} interrupted upload completion(s)", settled);
+        }
+    }
+
+    // Completion reserves the declared size before assembling, and no attachment now holds it
+    private void releaseReservation(AttachmentUploadSession session) {
+        try {
+            storageUsageService.release(session.getTaskId(), session.getTotalSize());
+        } catch (RuntimeException e) {
+            log.warn("Could not release the storage reserved by upload session {}; " +
+                    "the usage reconciler will correct it: {}", session.getId(), e.getMessage());
+        }
+    }
+}
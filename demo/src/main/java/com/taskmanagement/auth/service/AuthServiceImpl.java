@@ -8,6 +8,7 @@ import com.taskmanagement.auth.entity.RefreshToken;
 import com.taskmanagement.common.exception.types.Exceptions.EmailAlreadyExistsException;
 import com.taskmanagement.common.exception.types.Exceptions.UserNotFoundException;
 import com.taskmanagement.common.security.JwtService;
+import com.taskmanagement.directory.service.DirectoryChangedEvent;
 import com.taskmanagement.user.dto.UserResponseDto;
 import com.taskmanagement.user.entity.User;
 import com.taskmanagement.user.enums.Role;
@@ -16,6 +17,7 @@ import com.taskmanagement.user.mapper.UserMapper;
 import com.taskmanagement.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -35,6 +37,7 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenService refreshTokenService;
     private final AuthenticationManager authenticationManager;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -60,6 +63,7 @@ public class AuthServiceImpl implements AuthService {
 
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(savedUser.getId()));
         log.info("User registered successfully: id={}, email={}", savedUser.getId(), savedUser.getEmail());
 
 
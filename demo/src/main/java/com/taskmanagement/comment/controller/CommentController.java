@@ -4,6 +4,8 @@ import com.taskmanagement.comment.dto.CommentResponseDto;
 import com.taskmanagement.comment.dto.CreateCommentDto;
 import com.taskmanagement.comment.dto.UpdateCommentDto;
 import com.taskmanagement.comment.service.CommentService;
+import com.taskmanagement.common.workload.DatabaseWorkload;
+import com.taskmanagement.common.workload.Workload;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -342,6 +344,7 @@ public class CommentController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
+    @DatabaseWorkload(Workload.REPORTING)
     @GetMapping("/admin/all")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<CommentResponseDto>> getAllCommentsForAdmin(
@@ -6,6 +6,9 @@ import com.taskmanagement.comment.dto.UpdateCommentDto;
 import com.taskmanagement.comment.enums.CommentStatus;
 import com.taskmanagement.comment.mapper.CommentMapper;
 import com.taskmanagement.comment.repository.CommentRepository;
+import com.taskmanagement.outbox.enums.OutboxAggregateType;
+import com.taskmanagement.outbox.enums.OutboxEventType;
+import com.taskmanagement.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,6 +16,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -23,6 +28,7 @@ public class CommentServiceImplementation implements CommentService {
     private final SecurityHelper securityHelper;
     private final CommentMapper commentMapper;
     private final CommentRepository commentRepository;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
@@ -42,6 +48,12 @@ public class CommentServiceImplementation implements CommentService {
 
         var savedComment = commentRepository.save(comment);
 
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("commentId", savedComment.getId());
+        payload.put("taskId", task.getId());
+        payload.put("authorId", currentUser.getId());
+        outboxService.record(OutboxAggregateType.TASK, task.getId(), OutboxEventType.COMMENT_ADDED, payload);
+
         log.info("Comment (ID: {}) created on task {} by user {} (ID: {})",
                 savedComment.getId(),
                 task.getId(),
@@ -4,11 +4,12 @@ import com.taskmanagement.comment.entity.Comment;
 import com.taskmanagement.comment.enums.CommentStatus;
 import com.taskmanagement.comment.repository.CommentRepository;
 import com.taskmanagement.common.exception.types.Exceptions.*;
-import com.taskmanagement.project.entity.Project;
-import com.taskmanagement.project.repository.ProjectRepository;
+import com.taskmanagement.project.service.ProjectLookup;
+import com.taskmanagement.task.dto.TaskSummaryDto;
 import com.taskmanagement.task.entity.Task;
 import com.taskmanagement.task.enums.TaskStatus;
 import com.taskmanagement.task.repository.TaskRepository;
+import com.taskmanagement.task.service.TaskLookup;
 import com.taskmanagement.team.enums.TeamRole;
 import com.taskmanagement.team.repository.TeamMemberRepository;
 import com.taskmanagement.user.entity.User;
@@ -29,7 +30,8 @@ public class SecurityHelper {
 
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
-    private final ProjectRepository projectRepository;
+    private final ProjectLookup projectLookup;
+    private final TaskLookup taskLookup;
     private final TeamMemberRepository teamMemberRepository;
     private final CommentRepository commentRepository;
 
@@ -97,14 +99,32 @@ public class SecurityHelper {
             return;
         }
 
-        var project = projectRepository.findById(task.getProjectId())
-                .orElseThrow(() -> new ProjectNotFoundException(task.getProjectId()));
+        teamMemberOfProjectCheck(user, task.getProjectId());
+    }
 
-        if (!teamMemberRepository.existsByTeamIdAndUserId(project.getTeamId(), user.getId())) {
+    private void teamMemberOfProjectCheck(User user, Long projectId) {
+        if (!teamMemberRepository.existsByTeamIdAndUserId(projectTeamId(projectId), user.getId())) {
             throw new AccessDeniedException("You must be a team member to access this task");
         }
     }
 
+    private Long projectTeamId(Long projectId) {
+        var project = projectLookup.find(projectId);
+        if (project == null) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        return project.teamId();
+    }
+
+    // Cached, for checks that only need to know where a task lives
+    private TaskSummaryDto taskSummaryNotDeletedCheck(Long taskId) {
+        var task = taskLookup.find(taskId);
+        if (task == null || task.status() == TaskStatus.DELETED) {
+            throw new TaskNotFoundException(taskId);
+        }
+        return task;
+    }
+
     protected void canCreateCommentOnTask(User user, Task task) {
 
         if (isSystemAdmin(user)) {
@@ -120,8 +140,8 @@ public class SecurityHelper {
             return;
         }
 
-        var task = taskExistsAndNotDeletedCheck(comment.getTaskId());
-        canAccessTask(user, task);
+        var task = taskSummaryNotDeletedCheck(comment.getTaskId());
+        teamMemberOfProjectCheck(user, task.projectId());
     }
 
     protected void canModifyComment(User user, Comment comment) {
@@ -143,12 +163,10 @@ public class SecurityHelper {
             return;
         }
 
-        var task = taskExistsAndNotDeletedCheck(comment.getTaskId());
-        var project = projectRepository.findById(task.getProjectId())
-                .orElseThrow(() -> new ProjectNotFoundException(task.getProjectId()));
+        var task = taskSummaryNotDeletedCheck(comment.getTaskId());
 
         if (teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(
-                project.getTeamId(),
+                projectTeamId(task.projectId()),
                 user.getId(),
                 List.of(TeamRole.OWNER, TeamRole.ADMIN))) {
             return;
@@ -0,0 +1,31 @@
+package com.taskmanagement.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops second-level cache data after writes Hibernate did not see, such as
+ * JDBC batches. Hibernate keeps the cache right for its own writes, bulk HQL
+ * included; a JDBC write leaves cached entities and query results stale until
+ * they expire unless it calls this once it has committed. Evictions reach
+ * every node.
+ */
+@RequiredArgsConstructor
+@Component
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evicts every cached instance of the given entities and every cached
+     * query result, as any query may have read the rows that changed.
+     */
+    public void evictAfterBulkWrite(Class<?>... entityClasses) {
+        for (Class<?> entityClass : entityClasses) {
+            entityManagerFactory.getCache().evict(entityClass);
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
@@ -0,0 +1,264 @@
+package com.taskmanagement.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache kept in a {@link LocalCacheTier} per region on
+ * every node. Entities are cached nonstrict read-write, so a write evicts the
+ * entry instead of updating it; evictions are published on a Redis channel
+ * and every other node drops its copy when it receives them.
+ *
+ * <p>Query results are only as fresh as the update timestamps Hibernate keeps
+ * per table. A node that writes a table announces it, and the others move
+ * their own timestamp for that table to the moment the announcement arrives,
+ * which makes every result they cached before it stale. Writes that bypass
+ * Hibernate (JDBC batches) must go through {@link EntityCacheEvictor}.
+ */
+@Slf4j
+public class EntityCacheRegionFactory extends RegionFactoryTemplate {
+
+    private static final String CLEAR = "*";
+
+    private enum Kind {
+        ENTITIES,
+        QUERY_RESULTS,
+        TIMESTAMPS
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, RegionStorage> regions = new ConcurrentHashMap<>();
+    private final Counter invalidationsReceived;
+    private final Counter invalidationsFailed;
+
+    /**
+     * @param redisTemplate where invalidations are published, or null for a single node
+     */
+    public EntityCacheRegionFactory(StringRedisTemplate redisTemplate,
+                                    String channel,
+                                    int maxEntries,
+                                    Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.meterRegistry = meterRegistry;
+
+        this.invalidationsReceived = Counter.builder("hibernate.cache.invalidations.received")
+                .description("Second-level cache invalidations announced by other nodes and applied here")
+                .register(meterRegistry);
+        this.invalidationsFailed = Counter.builder("hibernate.cache.invalidations.publish.failures")
+                .description("Second-level cache invalidations that could not be announced; " +
+                        "other nodes keep their copy until it expires")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // Regions are created as Hibernate asks for them
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(region -> region.tier.clear());
+        regions.clear();
+    }
+
+    // Every entity has its own region, so the id alone is the key; it also travels as text
+    @Override
+    protected CacheKeysFactory getImplicitCacheKeysFactory() {
+        return SimpleCacheKeysFactory.INSTANCE;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return region(regionConfig.getRegionName(), Kind.ENTITIES);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return region(regionName, Kind.QUERY_RESULTS);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return region(regionName, Kind.TIMESTAMPS);
+    }
+
+    private RegionStorage region(String name, Kind kind) {
+        // A timestamp must outlive every result it can invalidate, or the result looks fresh again
+        Duration regionTtl = kind == Kind.TIMESTAMPS ? ttl.multipliedBy(2) : ttl;
+        return regions.computeIfAbsent(name, regionName -> new RegionStorage(regionName, kind,
+                new LocalCacheTier(maxEntries, regionTtl.toNanos(), System::nanoTime)));
+    }
+
+    private void publish(String regionName, String key) {
+
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + " " + regionName + " " + key);
+        } catch (RuntimeException e) {
+            invalidationsFailed.increment();
+            log.warn("Could not publish invalidation of {} in cache region '{}': {}",
+                    CLEAR.equals(key) ? "all entries" : key, regionName, e.getMessage());
+        }
+    }
+
+    /**
+     * Applies an invalidation message from the channel. Messages this node
+     * published itself are ignored, as it already applied them.
+     */
+    public void onInvalidation(String message) {
+
+        String[] parts = message.split(" ", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed cache region invalidation message '{}'", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        RegionStorage region = regions.get(parts[1]);
+        if (region != null) {
+            region.applyRemote(parts[2]);
+            invalidationsReceived.increment();
+        }
+    }
+
+    private final class RegionStorage implements DomainDataStorageAccess {
+
+        private final String name;
+        private final Kind kind;
+        private final LocalCacheTier tier;
+
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter puts;
+
+        private RegionStorage(String name, Kind kind, LocalCacheTier tier) {
+            this.name = name;
+            this.kind = kind;
+            this.tier = tier;
+
+            this.hits = gets("hit");
+            this.misses = gets("miss");
+            this.puts = Counter.builder("hibernate.cache.puts")
+                    .description("Entries written to a second-level cache region")
+                    .tag("region", name)
+                    .register(meterRegistry);
+            Gauge.builder("hibernate.cache.size", tier, LocalCacheTier::size)
+                    .description("Entries held in a second-level cache region")
+                    .tag("region", name)
+                    .register(meterRegistry);
+        }
+
+        private Counter gets(String result) {
+            return Counter.builder("hibernate.cache.gets")
+                    .description("Second-level cache lookups by region and result; " +
+                            "the hit rate is hit / (hit + miss)")
+                    .tags("region", name, "result", result)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            Object value = tier.get(localKey(key));
+            (value != null ? hits : misses).increment();
+            return value;
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            tier.put(localKey(key), value);
+            puts.increment();
+
+            // Hibernate only moves a table's timestamp when it writes to that table
+            if (kind == Kind.TIMESTAMPS) {
+                publish(name, key.toString());
+            }
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return tier.get(localKey(key)) != null;
+        }
+
+        @Override
+        public void evictData() {
+            tier.clear();
+            publish(name, CLEAR);
+        }
+
+        @Override
+        public void evictData(Object key) {
+            tier.evict(localKey(key));
+            if (kind == Kind.ENTITIES) {
+                publish(name, key.toString());
+            }
+        }
+
+        @Override
+        public void release() {
+            tier.clear();
+        }
+
+        // Entity keys are ids and are keyed by their text, the form they arrive in from other nodes
+        private Object localKey(Object key) {
+            return kind == Kind.ENTITIES ? key.toString() : key;
+        }
+
+        private void applyRemote(String key) {
+            switch (kind) {
+                case ENTITIES -> {
+                    if (CLEAR.equals(key)) {
+                        tier.clear();
+                    } else {
+                        tier.evict(key);
+                    }
+                }
+                case QUERY_RESULTS -> tier.clear();
+                case TIMESTAMPS -> {
+                    if (CLEAR.equals(key)) {
+                        regions.values().stream()
+                                .filter(region -> region.kind == Kind.QUERY_RESULTS)
+                                .forEach(region -> region.tier.clear());
+                    } else {
+                        tier.put(key, nextTimestamp());
+                    }
+                }
+            }
+        }
+    }
+}
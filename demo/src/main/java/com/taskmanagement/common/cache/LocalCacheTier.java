@@ -0,0 +1,74 @@
+package com.taskmanagement.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The in-process tier of a {@link TwoTierCache} and the storage of an
+ * {@link EntityCacheRegionFactory} region: a bounded LRU map whose entries
+ * also expire after a fixed time, so a missed cross-node invalidation can
+ * only leave a value stale for that long.
+ */
+final class LocalCacheTier {
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    LocalCacheTier(int maxEntries, long ttlNanos, LongSupplier ticker) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("The local cache must hold at least one entry");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.ticker = ticker;
+    }
+
+    Object get(Object key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ticker.getAsLong() - entry.expiresAt() >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    void put(Object key, Object value) {
+        Entry entry = new Entry(value, ticker.getAsLong() + ttlNanos);
+        synchronized (entries) {
+            entries.put(key, entry);
+            if (entries.size() > maxEntries) {
+                var leastRecent = entries.entrySet().iterator();
+                leastRecent.next();
+                leastRecent.remove();
+            }
+        }
+    }
+
+    void evict(Object key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskmanagement.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A cache read first from a {@link LocalCacheTier} and then from a shared
+ * remote cache (Redis), filling the local tier from remote hits. Writes go to
+ * both. Evictions go to both and are announced to the other nodes, which drop
+ * their local copy; without a remote cache it is a local-only cache.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    interface InvalidationPublisher {
+
+        /**
+         * Tells other nodes to drop a key, or the whole cache when the key is null.
+         */
+        void publish(String cacheName, String key);
+    }
+
+    private final String name;
+    private final LocalCacheTier local;
+    private final Cache remote;
+    private final InvalidationPublisher publisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    TwoTierCache(String name, LocalCacheTier local, Cache remote, InvalidationPublisher publisher,
+                 MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+
+        this.localHits = gets(meterRegistry, "local", "hit");
+        this.localMisses = gets(meterRegistry, "local", "miss");
+        this.remoteHits = gets(meterRegistry, "remote", "hit");
+        this.remoteMisses = gets(meterRegistry, "remote", "miss");
+        Gauge.builder("cache.tier.local.size", local, LocalCacheTier::size)
+                .description("Entries held in the local cache tier")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("Cache lookups by tier and result; the hit rate of each tier is hit / (hit + miss)")
+                .tags("cache", name, "tier", tier, "result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+
+        String localKey = localKey(key);
+        Object value = local.get(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        if (remote == null) {
+            return null;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+
+        if (value == null) {
+            evict(key);
+            return;
+        }
+
+        if (remote != null) {
+            remote.put(key, value);
+        }
+        local.put(localKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+
+        String localKey = localKey(key);
+        if (remote != null) {
+            remote.evict(key);
+        }
+        local.evict(localKey);
+        publisher.publish(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+
+        if (remote != null) {
+            remote.clear();
+        }
+        local.clear();
+        publisher.publish(name, null);
+    }
+
+    /**
+     * Applies an invalidation announced by another node to the local tier only.
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    // Keys are ids; the remote tier and invalidation messages see them as text too
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,125 @@
+package com.taskmanagement.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out {@link TwoTierCache}s: a local tier per cache on every node in
+ * front of the shared Redis caches. An eviction is published on a Redis
+ * channel and every other node drops its local copy when it receives it.
+ * Without Redis (local mode) caches are local only and nothing is published,
+ * which suits tests and single-node runs.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private static final String CLEAR = "*";
+
+    private final CacheManager remote;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final int localMaxEntries;
+    private final Duration localTtl;
+    private final MeterRegistry meterRegistry;
+    private final Collection<String> cacheNames;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> tiers = new ConcurrentHashMap<>();
+    private final Counter invalidationsReceived;
+    private final Counter invalidationsFailed;
+
+    /**
+     * @param remote        the shared cache manager, or null for local-only caches
+     * @param redisTemplate where invalidations are published, or null for local-only caches
+     */
+    public TwoTierCacheManager(CacheManager remote,
+                               StringRedisTemplate redisTemplate,
+                               String channel,
+                               int localMaxEntries,
+                               Duration localTtl,
+                               MeterRegistry meterRegistry,
+                               Collection<String> cacheNames) {
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.localMaxEntries = localMaxEntries;
+        this.localTtl = localTtl;
+        this.meterRegistry = meterRegistry;
+        this.cacheNames = List.copyOf(cacheNames);
+
+        this.invalidationsReceived = Counter.builder("cache.tier.invalidations.received")
+                .description("Evictions announced by other nodes and applied to the local tier")
+                .register(meterRegistry);
+        this.invalidationsFailed = Counter.builder("cache.tier.invalidations.publish.failures")
+                .description("Evictions that could not be announced; other nodes keep their copy until it expires")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return cacheNames.stream().map(this::createCache).toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoTierCache createCache(String name) {
+        return tiers.computeIfAbsent(name, cacheName -> new TwoTierCache(
+                cacheName,
+                new LocalCacheTier(localMaxEntries, localTtl.toNanos(), System::nanoTime),
+                remote != null ? remote.getCache(cacheName) : null,
+                this::publish,
+                meterRegistry));
+    }
+
+    private void publish(String cacheName, String key) {
+
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + " " + cacheName + " " + (key != null ? key : CLEAR));
+        } catch (RuntimeException e) {
+            invalidationsFailed.increment();
+            log.warn("Could not publish invalidation of {} in cache '{}': {}", key != null ? key : "all entries",
+                    cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * Applies an invalidation message from the channel. Messages this node
+     * published itself are ignored, as it already evicted locally.
+     */
+    public void onInvalidation(String message) {
+
+        String[] parts = message.split(" ", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed cache invalidation message '{}'", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = tiers.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(CLEAR.equals(parts[2]) ? null : parts[2]);
+            invalidationsReceived.increment();
+        }
+    }
+}
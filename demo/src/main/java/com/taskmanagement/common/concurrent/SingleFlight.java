@@ -0,0 +1,116 @@
+package com.taskmanagement.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical loads. The first caller for a key runs the
+ * load on its own thread; callers arriving while it is in flight wait for its
+ * result instead of running the same queries again. Waiting is bounded: a
+ * caller that has waited {@code single-flight.max-wait-ms} runs the load
+ * itself. Nothing is kept once the load finishes, so this is not a cache; a
+ * shared result is never older than the moment its load started.
+ *
+ * <p>Only data fetches go through here. Access checks stay with each caller,
+ * and shared results must be immutable, as every waiting caller gets the
+ * same instance. Call it outside any transaction, or every waiting caller
+ * holds a database connection while it waits.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private record FlightKey(String name, Object key) {
+    }
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long maxWaitMs;
+
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${single-flight.max-wait-ms:2000}") long maxWaitMs) {
+        this.meterRegistry = meterRegistry;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * Returns the result of {@code loader}, shared with every concurrent call
+     * made with the same name and key. The loader's exceptions reach every
+     * caller that shared the load.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, Object key, Supplier<T> loader) {
+
+        var flightKey = new FlightKey(name, key);
+        var flight = new CompletableFuture<Object>();
+        var leading = inFlight.putIfAbsent(flightKey, flight);
+
+        if (leading == null) {
+            count(name, "leader");
+            return (T) lead(flightKey, flight, loader);
+        }
+
+        try {
+            var result = (T) leading.get(maxWaitMs, TimeUnit.MILLISECONDS);
+            count(name, "shared");
+            return result;
+        } catch (ExecutionException e) {
+            count(name, "shared");
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            count(name, "timeout");
+            log.debug("Gave up waiting {} ms for the in-flight {} load of {}; loading it here",
+                    maxWaitMs, name, key);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the " + name + " load of " + key, e);
+        }
+    }
+
+    private Object lead(FlightKey flightKey, CompletableFuture<Object> flight, Supplier<?> loader) {
+        try {
+            Object result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private void count(String name, String outcome) {
+        Counter.builder("single.flight.loads")
+                .description("Coalesced loads; shared / (leader + shared) is the share of queries saved")
+                .tags("name", name, "outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,153 @@
+package com.taskmanagement.common.config;
+
+import com.taskmanagement.common.cache.EntityCacheRegionFactory;
+import com.taskmanagement.common.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Spring cache setup. Every cache has a local tier on each node in front of
+ * Redis, and evictions are broadcast so other nodes drop their local copy;
+ * {@code cache.mode: local} drops the Redis tier for tests and single-node
+ * runs. Caches are transaction aware, so an eviction made inside a write
+ * transaction only happens once that transaction commits, and a cache that
+ * cannot be reached is logged and read through instead of failing the request.
+ *
+ * <p>Also sets up the Hibernate second-level cache, which is local to each
+ * node and broadcasts its invalidations the same way on its own channel.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig implements CachingConfigurer {
+
+    public static final String PROJECT_STATS = "projectStats";
+    public static final String PROJECTS = "projects";
+    public static final String TEAMS = "teams";
+    public static final String TASK_SUMMARIES = "taskSummaries";
+
+    @Value("${project.stats.cache-ttl-ms:300000}")
+    private long projectStatsTtlMillis;
+
+    @Value("${cache.ttl-ms:600000}")
+    private long remoteTtlMillis;
+
+    @Value("${cache.local.max-entries:10000}")
+    private int localMaxEntries;
+
+    @Value("${cache.local.ttl-ms:60000}")
+    private long localTtlMillis;
+
+    @Value("${cache.invalidation-channel:cache-invalidation}")
+    private String invalidationChannel;
+
+    @Value("${cache.entity.max-entries:10000}")
+    private int entityMaxEntries;
+
+    @Value("${cache.entity.ttl-ms:60000}")
+    private long entityTtlMillis;
+
+    @Value("${cache.entity.invalidation-channel:entity-cache-invalidation}")
+    private String entityInvalidationChannel;
+
+    @Bean
+    public TwoTierCacheManager cacheManager(@Value("${cache.mode:two-tier}") String mode,
+                                            ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                            ObjectProvider<StringRedisTemplate> redisTemplate,
+                                            MeterRegistry meterRegistry) {
+
+        boolean localOnly = switch (mode) {
+            case "local" -> true;
+            case "two-tier" -> false;
+            default -> throw new IllegalStateException("cache.mode must be 'two-tier' or 'local', not '" + mode + "'");
+        };
+
+        RedisCacheManager remote = null;
+        if (!localOnly) {
+            RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(Duration.ofMillis(remoteTtlMillis))
+                    .disableCachingNullValues();
+
+            remote = RedisCacheManager.builder(connectionFactory.getObject())
+                    .cacheDefaults(defaults)
+                    .withCacheConfiguration(PROJECT_STATS, defaults.entryTtl(Duration.ofMillis(projectStatsTtlMillis)))
+                    .build();
+            remote.initializeCaches();
+        }
+
+        var cacheManager = new TwoTierCacheManager(
+                remote,
+                localOnly ? null : redisTemplate.getObject(),
+                invalidationChannel,
+                localMaxEntries,
+                Duration.ofMillis(localTtlMillis),
+                meterRegistry,
+                List.of(PROJECT_STATS, PROJECTS, TEAMS, TASK_SUMMARIES));
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    @Bean
+    public EntityCacheRegionFactory entityCacheRegionFactory(@Value("${cache.mode:two-tier}") String mode,
+                                                             ObjectProvider<StringRedisTemplate> redisTemplate,
+                                                             MeterRegistry meterRegistry) {
+        return new EntityCacheRegionFactory(
+                "local".equals(mode) ? null : redisTemplate.getObject(),
+                entityInvalidationChannel,
+                entityMaxEntries,
+                Duration.ofMillis(entityTtlMillis),
+                meterRegistry);
+    }
+
+    // Hibernate takes the Spring-managed instance instead of creating its own
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheRegionFactory regionFactory) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.mode", havingValue = "two-tier", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoTierCacheManager cacheManager,
+                                                                   EntityCacheRegionFactory regionFactory) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(invalidationChannel));
+        container.addMessageListener(
+                (message, pattern) -> regionFactory.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(entityInvalidationChannel));
+        return container;
+    }
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+}
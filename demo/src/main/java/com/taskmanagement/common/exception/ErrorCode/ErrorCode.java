@@ -43,7 +43,10 @@ public enum ErrorCode {
     CANNOT_ARCHIVE_PROJECT_WITH_ACTIVE_TASKS,
     TASK_TITLE_ALREADY_EXISTS,
     COMMENT_NOT_FOUND,
-    ATTACHMENT_NOT_FOUND
+    ATTACHMENT_NOT_FOUND,
+    UPLOAD_SESSION_NOT_FOUND,
+    STORAGE_QUOTA_EXCEEDED,
+    TEAM_CASCADE_JOB_NOT_FOUND
 
 
     ;
@@ -5,15 +5,19 @@ import com.taskmanagement.common.exception.types.Base.DuplicateResourceException
 import com.taskmanagement.common.exception.types.Base.NotFoundException;
 import com.taskmanagement.common.exception.types.Base.StatuesException;
 import com.taskmanagement.common.exception.types.Exceptions.*;
+import com.taskmanagement.common.workload.WorkloadContext;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import java.sql.SQLTransientConnectionException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
@@ -527,6 +532,39 @@ public class GlobalExceptionHandler {
     }
 
 
+    // The workload's connection pool stayed exhausted, or the database is unreachable, for the pool's timeout
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ProblemDetail> handleConnectionUnavailable(Exception ex, WebRequest request) {
+
+        if (!hasCause(ex, SQLTransientConnectionException.class)) {
+            return ResponseEntity.internalServerError().body(handleGenericException(ex, request));
+        }
+
+        log.warn("No database connection available for {} work: {}", WorkloadContext.current(), ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is busy. Please retry shortly."
+        );
+        problemDetail.setTitle("Service Unavailable");
+        problemDetail.setProperty("code", "DATABASE_BUSY");
+        problemDetail.setProperty("timestamp", Instant.now());
+        problemDetail.setProperty("path", request.getDescription(false).replace("uri=", ""));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problemDetail);
+    }
+
+    private static boolean hasCause(Throwable ex, Class<? extends Throwable> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ProblemDetail handleGenericException(Exception ex, WebRequest request) {
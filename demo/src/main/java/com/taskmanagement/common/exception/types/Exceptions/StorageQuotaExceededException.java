@@ -0,0 +1,15 @@
+package com.taskmanagement.common.exception.types.Exceptions;
+
+import com.taskmanagement.common.exception.ErrorCode.ErrorCode;
+import com.taskmanagement.common.exception.types.Base.StateException;
+
+public class StorageQuotaExceededException extends StateException {
+
+    public StorageQuotaExceededException(Long teamId, long quotaBytes) {
+        super(
+                ErrorCode.STORAGE_QUOTA_EXCEEDED.name(),
+                "Team " + teamId + " has reached its attachment storage quota of "
+                        + (quotaBytes / 1024 / 1024) + " MB"
+        );
+    }
+}
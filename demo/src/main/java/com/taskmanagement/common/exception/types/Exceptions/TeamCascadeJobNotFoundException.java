@@ -0,0 +1,14 @@
+package com.taskmanagement.common.exception.types.Exceptions;
+
+import com.taskmanagement.common.exception.ErrorCode.ErrorCode;
+import com.taskmanagement.common.exception.types.Base.NotFoundException;
+
+public class TeamCascadeJobNotFoundException extends NotFoundException {
+    public TeamCascadeJobNotFoundException(Long teamId) {
+
+        super( ErrorCode.TEAM_CASCADE_JOB_NOT_FOUND.name ( ) ,
+                "No delete or restore has been run for the team with ID: " + teamId);
+    }
+
+
+}
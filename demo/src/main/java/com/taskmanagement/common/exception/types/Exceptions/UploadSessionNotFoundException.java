@@ -0,0 +1,14 @@
+package com.taskmanagement.common.exception.types.Exceptions;
+
+import com.taskmanagement.common.exception.ErrorCode.ErrorCode;
+import com.taskmanagement.common.exception.types.Base.NotFoundException;
+
+public class UploadSessionNotFoundException extends NotFoundException {
+    public UploadSessionNotFoundException(Long sessionId) {
+
+        super( ErrorCode.UPLOAD_SESSION_NOT_FOUND.name ( ) ,
+                "Upload session not found with ID: " + sessionId);
+    }
+
+
+}
@@ -0,0 +1,99 @@
+package com.taskmanagement.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each HTTP request executes and the time spent in
+ * them, and records both per endpoint. Requests above the warn threshold are
+ * logged so N+1 regressions show up without a profiler.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "sql.statements.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String COUNT_HEADER = "X-Query-Count";
+    static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+    private final int warnThreshold;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry,
+                                     @Value("${sql.statements.header-enabled:false}") boolean headerEnabled,
+                                     @Value("${sql.statements.warn-threshold:50}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatementStats stats = SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementRecorder.stop(stats);
+            record(request, response, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.statements());
+
+        Timer.builder("http.server.requests.sql.time")
+                .description("Time spent executing SQL per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.elapsed());
+
+        if (stats.statements() > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements in {} ms",
+                    request.getMethod(), uri, stats.statements(), stats.elapsed().toMillis());
+        }
+
+        // Bodies written by controllers get the header from SqlStatementHeaderAdvice
+        if (headerEnabled && !response.isCommitted()) {
+            writeHeaders(response, stats);
+        }
+    }
+
+    static void writeHeaders(HttpServletResponse response, SqlStatementStats stats) {
+        response.setHeader(COUNT_HEADER, String.valueOf(stats.statements()));
+        response.setHeader(TIME_HEADER, String.valueOf(stats.elapsed().toMillis()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskmanagement.common.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Collects the statements executed through {@link StatementCountingDataSource}
+ * on the current thread. Scopes can be nested, e.g. a test budget around a
+ * request; every open scope on the thread counts each statement.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Deque<SqlStatementStats>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStatementRecorder() {
+    }
+
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats();
+        SCOPES.get().push(stats);
+        return stats;
+    }
+
+    public static void stop(SqlStatementStats stats) {
+        Deque<SqlStatementStats> scopes = SCOPES.get();
+        scopes.remove(stats);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    /**
+     * The innermost open scope on this thread, or null when none is open.
+     */
+    public static SqlStatementStats current() {
+        return SCOPES.get().peek();
+    }
+
+    static void record(long nanos) {
+        Deque<SqlStatementStats> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+            return;
+        }
+        for (SqlStatementStats stats : scopes) {
+            stats.add(nanos);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.common.sql;
+
+import java.time.Duration;
+
+/**
+ * Number of SQL statements executed and the time spent executing them,
+ * accumulated on one thread between {@link SqlStatementRecorder#start()} and
+ * {@link SqlStatementRecorder#stop(SqlStatementStats)}.
+ */
+public final class SqlStatementStats {
+
+    private int statements;
+    private long elapsedNanos;
+
+    void add(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanagement.common.sql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Converts between instants and timestamp columns for plain JDBC code.
+ * Timestamps are stored as UTC wall-clock time, as Hibernate writes them
+ * ({@code hibernate.jdbc.time_zone}).
+ */
+public final class UtcTimestamps {
+
+    private UtcTimestamps() {
+    }
+
+    public static Instant read(ResultSet rs, int column) throws SQLException {
+        return toInstant(rs.getObject(column, LocalDateTime.class));
+    }
+
+    public static Instant read(ResultSet rs, String column) throws SQLException {
+        return toInstant(rs.getObject(column, LocalDateTime.class));
+    }
+
+    /**
+     * The column value for an instant, to bind as a parameter; null stays null.
+     */
+    public static LocalDateTime toColumn(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    private static Instant toInstant(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC) : null;
+    }
+}
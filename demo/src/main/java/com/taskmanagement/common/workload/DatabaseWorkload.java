@@ -0,0 +1,20 @@
+package com.taskmanagement.common.workload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the database work of an endpoint, or of every endpoint of a
+ * controller, on the given workload's connection pool. Endpoints without it
+ * are {@link Workload#INTERACTIVE}.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DatabaseWorkload {
+
+    Workload value();
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.common.workload;
+
+/**
+ * Classes of database work, each served by its own connection pool so one
+ * class cannot take the connections another needs.
+ */
+public enum Workload {
+
+    /** Requests a user is waiting on; the default for every HTTP request. */
+    INTERACTIVE,
+
+    /** Admin listings, reports, exports and imports: few callers, long statements. */
+    REPORTING,
+
+    /** Scheduled jobs, event workers and startup: anything not on a request thread. */
+    BACKGROUND
+}
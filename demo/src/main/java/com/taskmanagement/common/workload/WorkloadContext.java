@@ -0,0 +1,27 @@
+package com.taskmanagement.common.workload;
+
+/**
+ * The workload the current thread's database work belongs to. Request
+ * threads are marked by {@link WorkloadFilter} and {@link WorkloadInterceptor};
+ * any other thread is {@link Workload#BACKGROUND}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.BACKGROUND;
+    }
+
+    public static void set(Workload workload) {
+        CURRENT.set(workload);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanagement.common.workload;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Replaces the single connection pool with one pool per {@link Workload}.
+ * Every pool starts from {@code spring.datasource.hikari} and takes its size
+ * and connection timeout from {@code db.workloads.<workload>}. Pools are named
+ * {@code db-<workload>}, so the {@code hikaricp.connections.*} metrics show
+ * each one's active, pending and timed-out connections.
+ */
+@Configuration
+@ConditionalOnProperty(value = "db.workloads.enabled", havingValue = "true", matchIfMissing = true)
+public class WorkloadDataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                                Environment environment,
+                                                MeterRegistry meterRegistry) {
+
+        Binder binder = Binder.get(environment);
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+
+        for (Workload workload : Workload.values()) {
+            String name = workload.name().toLowerCase(Locale.ROOT);
+
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            binder.bind("db.workloads." + name, Bindable.ofInstance(pool));
+            pool.setPoolName("db-" + name);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            pools.put(workload, pool);
+        }
+
+        return new WorkloadRoutingDataSource(pools);
+    }
+}
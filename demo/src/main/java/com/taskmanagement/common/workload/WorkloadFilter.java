@@ -0,0 +1,38 @@
+package com.taskmanagement.common.workload;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Marks request threads as {@link Workload#INTERACTIVE} before anything else
+ * runs, so the security filters' lookups use the interactive pool too.
+ * {@link WorkloadInterceptor} narrows it once the endpoint is known.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        WorkloadContext.set(Workload.INTERACTIVE);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WorkloadContext.clear();
+        }
+    }
+}
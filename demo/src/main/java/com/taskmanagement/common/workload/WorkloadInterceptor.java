@@ -0,0 +1,58 @@
+package com.taskmanagement.common.workload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Applies the endpoint's {@link DatabaseWorkload} to the request thread, and
+ * to the thread that writes a streamed response body, which is where exports
+ * do their reading.
+ */
+public class WorkloadInterceptor implements HandlerInterceptor, CallableProcessingInterceptor {
+
+    static final String WORKLOAD_ATTRIBUTE = WorkloadInterceptor.class.getName() + ".workload";
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+
+        Workload workload = workloadOf(handler);
+        request.setAttribute(WORKLOAD_ATTRIBUTE, workload);
+        WorkloadContext.set(workload);
+        return true;
+    }
+
+    @Override
+    public <T> void preProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task) {
+        Object workload = request.getAttribute(WORKLOAD_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        WorkloadContext.set(workload instanceof Workload known ? known : Workload.INTERACTIVE);
+    }
+
+    @Override
+    public <T> void postProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task, Object result) {
+        WorkloadContext.clear();
+    }
+
+    static Workload workloadOf(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return Workload.INTERACTIVE;
+        }
+
+        DatabaseWorkload annotation = AnnotatedElementUtils.findMergedAnnotation(
+                method.getMethod(), DatabaseWorkload.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), DatabaseWorkload.class);
+        }
+        return annotation != null ? annotation.value() : Workload.INTERACTIVE;
+    }
+}
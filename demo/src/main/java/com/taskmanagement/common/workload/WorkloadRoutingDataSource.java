@@ -0,0 +1,46 @@
+package com.taskmanagement.common.workload;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the current thread's
+ * {@link WorkloadContext workload}. Each pool bounds how long a caller waits
+ * for a connection, so a saturated class fails fast instead of queueing
+ * behind the others. Transactions keep the connection they started with.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final Map<Workload, DataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<Workload, ? extends DataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+        if (this.pools.size() != Workload.values().length) {
+            throw new IllegalArgumentException("Every workload needs a pool, got " + pools.keySet());
+        }
+
+        setTargetDataSources(new HashMap<Object, Object>(this.pools));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource pool : pools.values()) {
+            if (pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.common.workload;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers {@link WorkloadInterceptor} for handlers and for the async
+ * threads that write streamed responses.
+ */
+@Configuration
+public class WorkloadWebConfig implements WebMvcConfigurer {
+
+    private final WorkloadInterceptor workloadInterceptor = new WorkloadInterceptor();
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(workloadInterceptor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(workloadInterceptor);
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanagement.directory.controller;
+
+import com.taskmanagement.directory.dto.DirectoryEntryDto;
+import com.taskmanagement.directory.enums.DirectoryEntryType;
+import com.taskmanagement.directory.service.DirectoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/directory")
+@Tag(name = "Directory", description = "Typeahead search over users and teams for pickers")
+@SecurityRequirement(name = "bearerAuth")
+public class DirectoryController {
+
+    private final DirectoryService directoryService;
+
+    @Operation(
+            summary = "Search users and teams",
+            description = """
+                    Finds users by name or email and teams by name as the caller types.
+                    
+                    **Business Logic:**
+                    - Matches the start of any word of a name or email, ignoring case and accents
+                    - Exact matches rank first, then prefix matches, then near misses (1 typo for 3-5 characters, 2 from 6)
+                    - Served from an in-memory index kept current by user, team and membership changes
+                    - Only active users, active teams and active memberships are indexed
+                    - `type` limits the search to USER or TEAM; both are searched when omitted
+                    - `teamId` limits users to the members of that team, e.g. to pick an assignee
+                    
+                    **Authorization:**
+                    - Users see the teams they belong to and the members of those teams
+                    - Without `teamId`, any active user can also be found by their exact email
+                    - `teamId` must be one of the caller's teams
+                    - System ADMIN sees every user and team
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches returned, best first"),
+            @ApiResponse(responseCode = "400", description = "Query empty or too long, or limit out of range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not a member of the given team")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<DirectoryEntryDto>> search(
+            @Parameter(description = "Text typed so far (1-100 characters)", required = true, example = "joh")
+            @RequestParam("q") String query,
+            @Parameter(description = "Only search USER or TEAM entries", example = "USER")
+            @RequestParam(required = false) DirectoryEntryType type,
+            @Parameter(description = "Only return users who are members of this team", example = "1")
+            @RequestParam(required = false) Long teamId,
+            @Parameter(description = "Maximum number of results (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(directoryService.search(query, type, teamId, limit));
+    }
+}
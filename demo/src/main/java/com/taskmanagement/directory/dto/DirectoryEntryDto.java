@@ -0,0 +1,22 @@
+package com.taskmanagement.directory.dto;
+
+import com.taskmanagement.directory.enums.DirectoryEntryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A user or team matching a directory search")
+public record DirectoryEntryDto(
+
+        @Schema(description = "Whether the entry is a user or a team", example = "USER")
+        DirectoryEntryType type ,
+
+        @Schema(description = "User or team ID", example = "12")
+        Long id ,
+
+        @Schema(description = "Full name of the user, or the team name", example = "John Doe")
+        String name ,
+
+        @Schema(description = "User email address; null for teams", example = "john.doe@example.com")
+        String email
+
+) {
+}
@@ -0,0 +1,6 @@
+package com.taskmanagement.directory.enums;
+
+public enum DirectoryEntryType {
+    USER,
+    TEAM
+}
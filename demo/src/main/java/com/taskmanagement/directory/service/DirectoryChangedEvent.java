@@ -0,0 +1,18 @@
+package com.taskmanagement.directory.service;
+
+import com.taskmanagement.directory.enums.DirectoryEntryType;
+
+/**
+ * Published when a user, a team or a team's membership changes, so the
+ * directory index can reload that entry once the transaction has committed.
+ */
+public record DirectoryChangedEvent(DirectoryEntryType type, Long id) {
+
+    public static DirectoryChangedEvent user(Long userId) {
+        return new DirectoryChangedEvent(DirectoryEntryType.USER, userId);
+    }
+
+    public static DirectoryChangedEvent team(Long teamId) {
+        return new DirectoryChangedEvent(DirectoryEntryType.TEAM, teamId);
+    }
+}
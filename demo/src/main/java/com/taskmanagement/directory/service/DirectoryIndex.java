@@ -0,0 +1,516 @@
+package com.taskmanagement.directory.service;
+
+import com.taskmanagement.directory.dto.DirectoryEntryDto;
+import com.taskmanagement.directory.enums.DirectoryEntryType;
+import com.taskmanagement.team.enums.TeamStatus;
+import com.taskmanagement.team.repository.DirectoryTeamRow;
+import com.taskmanagement.team.repository.TeamMemberRepository;
+import com.taskmanagement.team.repository.TeamMembershipRow;
+import com.taskmanagement.team.repository.TeamRepository;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.repository.DirectoryUserRow;
+import com.taskmanagement.user.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory typeahead index over active users, active teams and their active
+ * memberships. Names and emails are split into normalized tokens kept in a
+ * sorted map, so a prefix lookup is a range scan; a query with no or few
+ * prefix hits also matches tokens within a small edit distance, keeping the
+ * first letter fixed. Entries are reloaded from the database after each
+ * committed change and the whole index is rebuilt periodically, which also
+ * picks up changes made by other nodes.
+ */
+@Slf4j
+@Component
+public class DirectoryIndex {
+
+    static final int EXACT = 0;
+    static final int PREFIX = 1;
+    static final int FUZZY = 2;
+
+    // Scoped searches score every visible entry directly below this size
+    private static final int SCOPED_SCAN_LIMIT = 5_000;
+    private static final int FUZZY_SCAN_LIMIT = 20_000;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[\\s._@-]+");
+
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Held across the directory queries; synchronized would pin a virtual thread while they run
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Queue<DirectoryChangedEvent> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+    private Snapshot snapshot = new Snapshot();
+
+    public DirectoryIndex(UserRepository userRepository,
+                          TeamRepository teamRepository,
+                          TeamMemberRepository teamMemberRepository,
+                          MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.teamMemberRepository = teamMemberRepository;
+
+        Gauge.builder("directory.index.entries", this, DirectoryIndex::size)
+                .description("Users and teams held in the directory search index")
+                .register(meterRegistry);
+    }
+
+    record Hit(DirectoryEntryDto entry, int score) {
+
+        static final Comparator<Hit> BEST_FIRST = Comparator.comparingInt(Hit::score)
+                .thenComparing(hit -> hit.entry().name(), String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(hit -> hit.entry().id());
+    }
+
+    /**
+     * Users matching the query, best first. {@code visibleIds} limits the
+     * result to those users; null means no restriction.
+     */
+    List<Hit> searchUsers(String query, Set<Long> visibleIds, int limit) {
+        lock.readLock().lock();
+        try {
+            return snapshot.users.search(normalize(query), visibleIds, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Hit> searchTeams(String query, Set<Long> visibleIds, int limit) {
+        lock.readLock().lock();
+        try {
+            return snapshot.teams.search(normalize(query), visibleIds, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Optional<DirectoryEntryDto> findUserByEmail(String email) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(snapshot.userIdsByEmail.get(normalize(email)))
+                    .map(snapshot.users.entries::get);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Active teams the user is an active member of.
+     */
+    Set<Long> teamsOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            Set<Long> teamIds = new HashSet<>(snapshot.teamsByUser.getOrDefault(userId, Set.of()));
+            teamIds.retainAll(snapshot.teams.entries.keySet());
+            return teamIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Set<Long> membersOf(Collection<Long> teamIds) {
+        lock.readLock().lock();
+        try {
+            Set<Long> userIds = new HashSet<>();
+            for (Long teamId : teamIds) {
+                userIds.addAll(snapshot.membersByTeam.getOrDefault(teamId, Set.of()));
+            }
+            return userIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return snapshot.users.entries.size() + snapshot.teams.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${directory.index.rebuild-interval-ms:900000}",
+            initialDelayString = "${directory.index.rebuild-interval-ms:900000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDirectoryChanged(DirectoryChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event);
+        }
+        refresh(event);
+    }
+
+    /**
+     * Loads the whole directory into a new snapshot and swaps it in. Changes
+     * committed while loading are applied again afterwards, as the load may
+     * have read them before they committed.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        rebuilding = true;
+        try {
+            Snapshot fresh = new Snapshot();
+            for (DirectoryUserRow user : userRepository.findActiveDirectoryUsers()) {
+                fresh.putUser(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
+            }
+            for (DirectoryTeamRow team : teamRepository.findActiveDirectoryTeams()) {
+                fresh.putTeam(team.getId(), team.getName());
+            }
+            for (TeamMembershipRow membership : teamMemberRepository.findActiveMemberships()) {
+                fresh.addMembership(membership.getTeamId(), membership.getUserId());
+            }
+
+            lock.writeLock().lock();
+            try {
+                snapshot = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Directory index loaded with {} users and {} teams",
+                    fresh.users.entries.size(), fresh.teams.entries.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild the directory index, keeping the previous one", e);
+        } finally {
+            rebuilding = false;
+        }
+
+        DirectoryChangedEvent event;
+        while ((event = changedDuringRebuild.poll()) != null) {
+            refresh(event);
+        }
+    }
+
+    // The change is already committed; a failed reload is healed by the next rebuild
+    private void refresh(DirectoryChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case USER -> refreshUser(event.id());
+                case TEAM -> refreshTeam(event.id());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh directory entry {} {}: {}", event.type(), event.id(), e.getMessage());
+        }
+    }
+
+    private void refreshUser(Long userId) {
+        var user = userRepository.findById(userId)
+                .filter(found -> found.getStatus() == UserStatus.ACTIVE);
+
+        lock.writeLock().lock();
+        try {
+            snapshot.removeUser(userId);
+            user.ifPresent(found -> snapshot.putUser(
+                    found.getId(), found.getFirstName(), found.getLastName(), found.getEmail()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refreshTeam(Long teamId) {
+        var team = teamRepository.findById(teamId)
+                .filter(found -> found.getStatus() == TeamStatus.ACTIVE);
+        List<Long> memberIds = teamMemberRepository.findActiveUserIdsByTeamId(teamId);
+
+        lock.writeLock().lock();
+        try {
+            snapshot.teams.remove(teamId);
+            team.ifPresent(found -> snapshot.putTeam(found.getId(), found.getName()));
+            snapshot.replaceMembers(teamId, memberIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String stripped = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(stripped.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    private static Set<String> tokens(String... values) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String value : values) {
+            String normalized = normalize(value);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            tokens.add(normalized);
+            for (String word : WORD_SEPARATORS.split(normalized)) {
+                if (!word.isEmpty()) {
+                    tokens.add(word);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static int maxDistance(String query) {
+        if (query.length() < 3) {
+            return 0;
+        }
+        return query.length() < 6 ? 1 : 2;
+    }
+
+    /**
+     * Smallest edit distance between the query and any prefix of the token,
+     * or -1 when it exceeds {@code max} or the first letters differ.
+     */
+    static int prefixDistance(String query, String token, int max) {
+        if (max == 0 || token.isEmpty() || query.charAt(0) != token.charAt(0)) {
+            return -1;
+        }
+
+        int columns = Math.min(token.length(), query.length() + max);
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= columns; j++) {
+                int cost = query.charAt(i - 1) == token.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        int best = Integer.MAX_VALUE;
+        for (int j = 0; j <= columns; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best <= max ? best : -1;
+    }
+
+    private static final class Snapshot {
+
+        private final Section users = new Section();
+        private final Section teams = new Section();
+        private final Map<String, Long> userIdsByEmail = new HashMap<>();
+        private final Map<Long, Set<Long>> membersByTeam = new HashMap<>();
+        private final Map<Long, Set<Long>> teamsByUser = new HashMap<>();
+
+        void putUser(Long id, String firstName, String lastName, String email) {
+            String name = (firstName + " " + lastName).trim();
+            users.put(new DirectoryEntryDto(DirectoryEntryType.USER, id, name, email),
+                    tokens(firstName, lastName, name, email));
+            userIdsByEmail.put(normalize(email), id);
+        }
+
+        void removeUser(Long id) {
+            DirectoryEntryDto removed = users.remove(id);
+            if (removed != null) {
+                userIdsByEmail.remove(normalize(removed.email()), id);
+            }
+        }
+
+        void putTeam(Long id, String name) {
+            teams.put(new DirectoryEntryDto(DirectoryEntryType.TEAM, id, name, null), tokens(name));
+        }
+
+        void addMembership(Long teamId, Long userId) {
+            membersByTeam.computeIfAbsent(teamId, key -> new HashSet<>()).add(userId);
+            teamsByUser.computeIfAbsent(userId, key -> new HashSet<>()).add(teamId);
+        }
+
+        void replaceMembers(Long teamId, Collection<Long> userIds) {
+            Set<Long> previous = membersByTeam.remove(teamId);
+            if (previous != null) {
+                for (Long userId : previous) {
+                    Set<Long> userTeams = teamsByUser.get(userId);
+                    if (userTeams != null) {
+                        userTeams.remove(teamId);
+                        if (userTeams.isEmpty()) {
+                            teamsByUser.remove(userId);
+                        }
+                    }
+                }
+            }
+            for (Long userId : userIds) {
+                addMembership(teamId, userId);
+            }
+        }
+    }
+
+    private static final class Section {
+
+        private final Map<Long, DirectoryEntryDto> entries = new HashMap<>();
+        private final Map<Long, Set<String>> tokensById = new HashMap<>();
+        private final NavigableMap<String, Set<Long>> idsByToken = new TreeMap<>();
+
+        void put(DirectoryEntryDto entry, Set<String> tokens) {
+            remove(entry.id());
+            entries.put(entry.id(), entry);
+            tokensById.put(entry.id(), tokens);
+            for (String token : tokens) {
+                idsByToken.computeIfAbsent(token, key -> new HashSet<>()).add(entry.id());
+            }
+        }
+
+        DirectoryEntryDto remove(Long id) {
+            Set<String> tokens = tokensById.remove(id);
+            if (tokens != null) {
+                for (String token : tokens) {
+                    Set<Long> ids = idsByToken.get(token);
+                    if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                        idsByToken.remove(token);
+                    }
+                }
+            }
+            return entries.remove(id);
+        }
+
+        List<Hit> search(String query, Set<Long> visibleIds, int limit) {
+            if (query.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Long, Integer> scores = visibleIds != null && visibleIds.size() <= SCOPED_SCAN_LIMIT
+                    ? scoreVisible(query, visibleIds)
+                    : scanTokens(query, visibleIds, limit);
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new Hit(entries.get(id), score)));
+            hits.sort(Hit.BEST_FIRST);
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        }
+
+        private Map<Long, Integer> scoreVisible(String query, Set<Long> visibleIds) {
+            int maxDistance = maxDistance(query);
+            Map<Long, Integer> scores = new HashMap<>();
+
+            for (Long id : visibleIds) {
+                Set<String> tokens = tokensById.get(id);
+                if (tokens == null) {
+                    continue;
+                }
+                int best = -1;
+                for (String token : tokens) {
+                    int score = score(query, token, maxDistance);
+                    if (score >= 0 && (best < 0 || score < best)) {
+                        best = score;
+                    }
+                }
+                if (best >= 0) {
+                    scores.put(id, best);
+                }
+            }
+            return scores;
+        }
+
+        private Map<Long, Integer> scanTokens(String query, Set<Long> visibleIds, int limit) {
+            Map<Long, Integer> scores = new HashMap<>();
+
+            // Keys equal to the query sort first, so stopping early never drops an exact match
+            for (var entry : idsByToken.subMap(query, true, query + Character.MAX_VALUE, false).entrySet()) {
+                int score = entry.getKey().equals(query) ? EXACT : PREFIX;
+                if (score == PREFIX && scores.size() >= limit) {
+                    break;
+                }
+                for (Long id : entry.getValue()) {
+                    if (visibleIds == null || visibleIds.contains(id)) {
+                        scores.putIfAbsent(id, score);
+                    }
+                }
+            }
+
+            int maxDistance = maxDistance(query);
+            if (scores.size() >= limit || maxDistance == 0) {
+                return scores;
+            }
+
+            String first = query.substring(0, 1);
+            int scanned = 0;
+            for (var entry : idsByToken.subMap(first, true, first + Character.MAX_VALUE, false).entrySet()) {
+                if (++scanned > FUZZY_SCAN_LIMIT) {
+                    break;
+                }
+                int distance = prefixDistance(query, entry.getKey(), maxDistance);
+                if (distance <= 0) {
+                    continue;
+                }
+                for (Long id : entry.getValue()) {
+                    if (visibleIds == null || visibleIds.contains(id)) {
+                        scores.merge(id, FUZZY + distance - 1, Math::min);
+                    }
+                }
+            }
+            return scores;
+        }
+
+        private static int score(String query, String token, int maxDistance) {
+            if (token.equals(query)) {
+                return EXACT;
+            }
+            if (token.startsWith(query)) {
+                return PREFIX;
+            }
+            int distance = prefixDistance(query, token, maxDistance);
+            return distance > 0 ? FUZZY + distance - 1 : -1;
+        }
+    }
+}
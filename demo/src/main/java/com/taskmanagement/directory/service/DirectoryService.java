@@ -0,0 +1,11 @@
+package com.taskmanagement.directory.service;
+
+import com.taskmanagement.directory.dto.DirectoryEntryDto;
+import com.taskmanagement.directory.enums.DirectoryEntryType;
+
+import java.util.List;
+
+public interface DirectoryService {
+
+    List<DirectoryEntryDto> search(String query, DirectoryEntryType type, Long teamId, int limit);
+}
@@ -0,0 +1,102 @@
+package com.taskmanagement.directory.service;
+
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.common.exception.types.Exceptions.UserNotActiveException;
+import com.taskmanagement.common.exception.types.Exceptions.UserNotFoundException;
+import com.taskmanagement.directory.dto.DirectoryEntryDto;
+import com.taskmanagement.directory.enums.DirectoryEntryType;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DirectoryServiceImplementation implements DirectoryService {
+
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final DirectoryIndex directoryIndex;
+    private final UserRepository userRepository;
+
+    @Override
+    public List<DirectoryEntryDto> search(String query, DirectoryEntryType type, Long teamId, int limit) {
+
+        Objects.requireNonNull(query, "Query must not be null");
+
+        if (query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        var currentUser = getCurrentUser();
+        boolean admin = currentUser.getRole() == Role.ADMIN;
+
+        // Non-admins see the teams they belong to and the members of those teams
+        Set<Long> visibleTeams = admin ? null : directoryIndex.teamsOf(currentUser.getId());
+        Set<Long> visibleUsers = admin ? null : directoryIndex.membersOf(visibleTeams);
+
+        if (teamId != null) {
+            if (!admin && !visibleTeams.contains(teamId)) {
+                throw new AccessDeniedException("You can only search the members of your own teams");
+            }
+            visibleUsers = directoryIndex.membersOf(Set.of(teamId));
+        }
+
+        List<DirectoryIndex.Hit> hits = new ArrayList<>();
+
+        if (type != DirectoryEntryType.TEAM) {
+            hits.addAll(directoryIndex.searchUsers(query, visibleUsers, limit));
+
+            // Anyone can be found by their exact email, e.g. to be added to a team
+            if (teamId == null && !admin) {
+                directoryIndex.findUserByEmail(query)
+                        .filter(user -> hits.stream().noneMatch(hit -> hit.entry().id().equals(user.id())))
+                        .ifPresent(user -> hits.add(new DirectoryIndex.Hit(user, DirectoryIndex.EXACT)));
+            }
+        }
+
+        if (type != DirectoryEntryType.USER) {
+            hits.addAll(directoryIndex.searchTeams(query, visibleTeams, limit));
+        }
+
+        return hits.stream()
+                .sorted(DirectoryIndex.Hit.BEST_FIRST)
+                .limit(limit)
+                .map(DirectoryIndex.Hit::entry)
+                .toList();
+    }
+
+    private User getCurrentUser() {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken) {
+            throw new AccessDeniedException("Authentication required");
+        }
+
+        var user = userRepository.findByEmailIgnoreCase(auth.getName())
+                .orElseThrow(() -> new UserNotFoundException("Current user not found"));
+
+        if (user.getStatus() != UserStatus.ACTIVE) {
+            throw new UserNotActiveException(user.getEmail());
+        }
+
+        return user;
+    }
+}
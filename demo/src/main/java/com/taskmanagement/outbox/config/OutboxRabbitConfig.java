@@ -0,0 +1,20 @@
+package com.taskmanagement.outbox.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "outbox", name = "publisher", havingValue = "rabbit")
+public class OutboxRabbitConfig {
+
+    @Value("${outbox.rabbit.exchange:taskmanagement.events}")
+    private String exchange;
+
+    @Bean
+    public TopicExchange outboxExchange() {
+        return new TopicExchange(exchange, true, false);
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanagement.outbox.controller;
+
+import com.taskmanagement.outbox.dto.OutboxRequeueResponseDto;
+import com.taskmanagement.outbox.service.OutboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/outbox/admin")
+@Tag(name = "Outbox Administration", description = "Recovery of events the outbox relay gave up on")
+@SecurityRequirement(name = "bearerAuth")
+public class OutboxAdminController {
+
+    private final OutboxService outboxService;
+
+    @Operation(
+            summary = "Requeue failed outbox events (Admin)",
+            description = """
+                    Moves outbox events that ran out of publish attempts back to PENDING. **Requires ADMIN role.**
+                    
+                    **Business Logic:**
+                    - Without `ids`, every FAILED event is requeued
+                    - Attempts and the last error are reset, so each event gets the full number of attempts again
+                    - Events that are not FAILED are left unchanged
+                    - Later events of the same aggregates, held back while an event was FAILED, are published after it
+                    
+                    **Authorization:**
+                    - System admins only (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events requeued successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    @PostMapping("/requeue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OutboxRequeueResponseDto> requeueFailed(
+            @Parameter(description = "IDs of the failed events to requeue; all failed events when omitted", example = "42")
+            @RequestParam(required = false) List<Long> ids) {
+        return ResponseEntity.ok(new OutboxRequeueResponseDto(outboxService.requeueFailed(ids)));
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.outbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of requeueing failed outbox events")
+public record OutboxRequeueResponseDto(
+
+        @Schema(description = "Number of events moved from FAILED back to PENDING", example = "3")
+        int requeued
+
+)
+{}
@@ -0,0 +1,6 @@
+package com.taskmanagement.outbox.enums;
+
+public enum OutboxAggregateType {
+    TASK,
+    TEAM
+}
@@ -0,0 +1,8 @@
+package com.taskmanagement.outbox.enums;
+
+public enum OutboxEventStatus {
+    PENDING,
+    PUBLISHING,
+    PUBLISHED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.taskmanagement.outbox.enums;
+
+import java.util.Locale;
+
+public enum OutboxEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_ASSIGNED,
+    COMMENT_ADDED,
+    MEMBER_ADDED,
+    MEMBER_REMOVED;
+
+    public String routingKey() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+}
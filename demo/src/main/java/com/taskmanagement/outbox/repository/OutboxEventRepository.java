@@ -0,0 +1,88 @@
+package com.taskmanagement.outbox.repository;
+
+import com.taskmanagement.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryAcquireRelayLock(@Param("lockKey") long lockKey);
+
+    // Pending events plus claims a crashed relay left behind, minus aggregates held back by a dead letter
+    @Query(value = """
+            SELECT * FROM outbox o
+            WHERE (o.status = 'PENDING' OR (o.status = 'PUBLISHING' AND o.updated_at < :claimedBefore))
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox f
+                  WHERE f.status = 'FAILED'
+                    AND f.aggregate_type = o.aggregate_type
+                    AND f.aggregate_id = o.aggregate_id)
+            ORDER BY o.id
+            LIMIT :batchSize
+            """, nativeQuery = true)
+    List<OutboxEvent> findPendingBatch(@Param("batchSize") int batchSize, @Param("claimedBefore") Instant claimedBefore);
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.status = 'PUBLISHING' AND e.updatedAt >= :claimedBefore")
+    long countInFlight(@Param("claimedBefore") Instant claimedBefore);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.taskmanagement.outbox.enums.OutboxEventStatus.PUBLISHING, e.updatedAt = :now " +
+            "WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.taskmanagement.outbox.enums.OutboxEventStatus.PUBLISHED, e.publishedAt = :now, e.updatedAt = :now " +
+            "WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    // Back to PENDING for another try, or FAILED once the last allowed attempt is used up
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.updatedAt = :now, " +
+            "e.status = CASE WHEN e.attempts + 1 >= :maxAttempts " +
+            "THEN com.taskmanagement.outbox.enums.OutboxEventStatus.FAILED " +
+            "ELSE com.taskmanagement.outbox.enums.OutboxEventStatus.PENDING END " +
+            "WHERE e.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids,
+                   @Param("error") String error,
+                   @Param("now") Instant now,
+                   @Param("maxAttempts") int maxAttempts);
+
+    // Back to PENDING without using up an attempt, for failures that cannot be pinned on these events
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.taskmanagement.outbox.enums.OutboxEventStatus.PENDING, " +
+            "e.lastError = :error, e.updatedAt = :now WHERE e.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids, @Param("error") String error, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.taskmanagement.outbox.enums.OutboxEventStatus.PENDING, " +
+            "e.attempts = 0, e.lastError = NULL, e.updatedAt = :now WHERE e.status = 'FAILED'")
+    int requeueAllFailed(@Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.taskmanagement.outbox.enums.OutboxEventStatus.PENDING, " +
+            "e.attempts = 0, e.lastError = NULL, e.updatedAt = :now WHERE e.status = 'FAILED' AND e.id IN :ids")
+    int requeueFailed(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.status = 'PENDING'")
+    long countPending();
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.status = 'FAILED'")
+    long countFailed();
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = 'PENDING'")
+    Optional<Instant> findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'PUBLISHED' AND e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
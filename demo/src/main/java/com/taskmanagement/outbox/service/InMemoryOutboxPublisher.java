@@ -0,0 +1,44 @@
+package com.taskmanagement.outbox.service;
+
+import com.taskmanagement.outbox.entity.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Fallback sink used when no broker is configured. Keeps the most recent
+ * events in memory so the relay still drains the table in local setups.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "publisher", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final Deque<OutboxEvent> recentEvents = new ConcurrentLinkedDeque<>();
+
+    @Value("${outbox.memory.capacity:1000}")
+    private int capacity;
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (var event : events) {
+            recentEvents.addLast(event);
+            log.debug("Outbox event {} for {} (ID: {}): {}",
+                    event.getEventType(), event.getAggregateType(), event.getAggregateId(), event.getPayload());
+        }
+
+        while (recentEvents.size() > capacity) {
+            recentEvents.pollFirst();
+        }
+    }
+
+    public List<OutboxEvent> getRecentEvents() {
+        return new ArrayList<>(recentEvents);
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanagement.outbox.service;
+
+public record OutboxBatchResult(int fetched, int published, boolean failed) {
+
+    public static OutboxBatchResult empty() {
+        return new OutboxBatchResult(0, 0, false);
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.outbox.service;
+
+import com.taskmanagement.outbox.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Delivers a batch of outbox events in id order. Implementations must either
+ * hand over the whole batch or throw, so the relay can retry it as a unit.
+ * Called outside any database transaction, so it may block on the broker.
+ */
+public interface OutboxPublisher {
+
+    void publish(List<OutboxEvent> events);
+
+    /**
+     * Whether a failure from {@link #publish} is down to the broker rather than the
+     * events (unreachable, no confirms in time). Such failures are retried without
+     * using up the events' attempts.
+     */
+    default boolean isBrokerFailure(RuntimeException failure) {
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package com.taskmanagement.outbox.service;
+
+import com.taskmanagement.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox table in the background. Requests only ever insert rows;
+ * everything that talks to the broker happens on the scheduler thread.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final Counter publishedCounter;
+    private final Counter failedBatchCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    @Value("${outbox.relay.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.relay.initial-backoff-ms:1000}")
+    private long initialBackoffMillis;
+
+    @Value("${outbox.relay.max-backoff-ms:60000}")
+    private long maxBackoffMillis;
+
+    @Value("${outbox.retention-hours:72}")
+    private long retentionHours;
+
+    private int consecutiveFailures;
+    private Instant backoffUntil = Instant.EPOCH;
+
+    public OutboxRelay(OutboxService outboxService,
+                       OutboxEventRepository outboxEventRepository,
+                       MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.outboxEventRepository = outboxEventRepository;
+
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events handed over to the publisher")
+                .register(meterRegistry);
+        this.failedBatchCounter = Counter.builder("outbox.batches.failed")
+                .description("Outbox batches that failed to publish and will be retried")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time spent publishing one outbox batch")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.events.pending", pendingEvents, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.failed", failedEvents, AtomicLong::get)
+                .description("Outbox events that ran out of attempts and wait to be requeued via /api/outbox/admin/requeue")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", oldestPendingAgeMillis, age -> age.get() / 1000.0)
+                .description("Age of the oldest unpublished outbox event")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        if (Instant.now().isBefore(backoffUntil)) {
+            return;
+        }
+
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            onFailure(e.getMessage());
+        } finally {
+            refreshLag();
+        }
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 15 * * * *}")
+    public void purgePublished() {
+        outboxService.purgePublishedBefore(Instant.now().minus(Duration.ofHours(retentionHours)));
+    }
+
+    private void drain() {
+        for (int round = 0; round < maxBatchesPerRun; round++) {
+            var result = batchTimer.record(outboxService::publishPendingBatch);
+
+            if (result == null || result.fetched() == 0) {
+                break;
+            }
+
+            if (result.failed()) {
+                onFailure("publisher rejected batch");
+                return;
+            }
+
+            // Keep going after a short batch: events that failed before are sent one at a time
+            publishedCounter.increment(result.published());
+            consecutiveFailures = 0;
+        }
+    }
+
+    private void onFailure(String reason) {
+        failedBatchCounter.increment();
+        consecutiveFailures++;
+
+        long backoff = Math.min(
+                maxBackoffMillis,
+                initialBackoffMillis << Math.min(consecutiveFailures - 1, 16));
+        backoffUntil = Instant.now().plusMillis(backoff);
+
+        log.warn("Outbox relay failed ({} in a row), backing off for {} ms: {}",
+                consecutiveFailures, backoff, reason);
+    }
+
+    private void refreshLag() {
+        try {
+            pendingEvents.set(outboxEventRepository.countPending());
+            failedEvents.set(outboxEventRepository.countFailed());
+            oldestPendingAgeMillis.set(outboxEventRepository.findOldestPendingCreatedAt()
+                    .map(createdAt -> Duration.between(createdAt, Instant.now()).toMillis())
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh outbox lag metrics: {}", e.getMessage());
+        }
+    }
+}
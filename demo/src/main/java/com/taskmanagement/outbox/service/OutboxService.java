@@ -0,0 +1,22 @@
+package com.taskmanagement.outbox.service;
+
+import com.taskmanagement.outbox.enums.OutboxAggregateType;
+import com.taskmanagement.outbox.enums.OutboxEventType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface OutboxService {
+
+    void record(OutboxAggregateType aggregateType,
+                Long aggregateId,
+                OutboxEventType eventType,
+                Map<String, Object> payload);
+
+    OutboxBatchResult publishPendingBatch();
+
+    int purgePublishedBefore(Instant cutoff);
+
+    int requeueFailed(List<Long> ids);
+}
@@ -0,0 +1,204 @@
+package com.taskmanagement.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.outbox.entity.OutboxEvent;
+import com.taskmanagement.outbox.enums.OutboxAggregateType;
+import com.taskmanagement.outbox.enums.OutboxEventType;
+import com.taskmanagement.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class OutboxServiceImplementation implements OutboxService {
+
+    // Arbitrary but stable key so only one instance claims at a time; with at most one
+    // claim in flight, the global (and therefore per-aggregate) publish order stays intact.
+    private static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:25}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.claim-timeout-ms:60000}")
+    private long claimTimeoutMillis;
+
+    public OutboxServiceImplementation(OutboxEventRepository outboxEventRepository,
+                                       OutboxPublisher outboxPublisher,
+                                       ObjectMapper objectMapper,
+                                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxAggregateType aggregateType,
+                       Long aggregateId,
+                       OutboxEventType eventType,
+                       Map<String, Object> payload) {
+
+        Objects.requireNonNull(aggregateType, "Aggregate type must not be null");
+        Objects.requireNonNull(aggregateId, "Aggregate ID must not be null");
+        Objects.requireNonNull(eventType, "Event type must not be null");
+        Objects.requireNonNull(payload, "Payload must not be null");
+
+        var event = OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(serialize(payload))
+                .build();
+
+        outboxEventRepository.save(event);
+
+        log.debug("Outbox event {} recorded for {} (ID: {})", eventType, aggregateType, aggregateId);
+    }
+
+    /**
+     * Claims a batch, publishes it and records the outcome in three steps. Only
+     * the claim and the outcome run in (short) transactions, so waiting for the
+     * broker holds neither a connection nor the relay lock; an open claim keeps
+     * other instances from publishing later events in the meantime.
+     */
+    @Override
+    public OutboxBatchResult publishPendingBatch() {
+
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return OutboxBatchResult.empty();
+        }
+
+        var ids = batch.stream().map(OutboxEvent::getId).toList();
+
+        try {
+            outboxPublisher.publish(batch);
+        } catch (RuntimeException e) {
+            recordFailure(batch, ids, e);
+            return new OutboxBatchResult(batch.size(), 0, true);
+        }
+
+        int published = transactionTemplate.execute(status -> outboxEventRepository.markPublished(ids, Instant.now()));
+
+        log.debug("Published outbox batch of {} events (IDs {}..{})",
+                published, ids.get(0), ids.get(ids.size() - 1));
+
+        return new OutboxBatchResult(batch.size(), published, false);
+    }
+
+    @Override
+    @Transactional
+    public int purgePublishedBefore(Instant cutoff) {
+        Objects.requireNonNull(cutoff, "Cutoff must not be null");
+
+        int purged = outboxEventRepository.deletePublishedBefore(cutoff);
+        if (purged > 0) {
+            log.info("Purged {} published outbox events older than {}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    @Override
+    @Transactional
+    public int requeueFailed(List<Long> ids) {
+        int requeued = ids == null || ids.isEmpty()
+                ? outboxEventRepository.requeueAllFailed(Instant.now())
+                : outboxEventRepository.requeueFailed(ids, Instant.now());
+
+        log.info("Requeued {} failed outbox events", requeued);
+        return requeued;
+    }
+
+    /**
+     * Only a single event that the broker turned down is charged an attempt. A
+     * failed batch goes back unchanged and is retried one event at a time, and a
+     * broker outage is charged to nobody, so healthy events never dead-letter.
+     */
+    private void recordFailure(List<OutboxEvent> batch, List<Long> ids, RuntimeException e) {
+        boolean brokerFailure = outboxPublisher.isBrokerFailure(e);
+        boolean charged = batch.size() == 1 && !brokerFailure;
+        String error = truncate(e.getMessage());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (charged) {
+                outboxEventRepository.markFailed(ids, error, Instant.now(), maxAttempts);
+            } else {
+                outboxEventRepository.release(ids, error, Instant.now());
+            }
+        });
+
+        log.warn("Failed to publish outbox batch of {} events (IDs {}..{}){}: {}",
+                batch.size(), ids.get(0), ids.get(ids.size() - 1),
+                brokerFailure ? " while the broker was unavailable" : "", e.getMessage());
+
+        if (charged && batch.get(0).getAttempts() + 1 >= maxAttempts) {
+            log.error("Outbox event {} failed {} times and was moved to FAILED; " +
+                    "later events of the same aggregate are held back until it is requeued", ids.get(0), maxAttempts);
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        if (!outboxEventRepository.tryAcquireRelayLock(RELAY_LOCK_KEY)) {
+            log.debug("Outbox relay lock is held by another instance, skipping batch");
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+        Instant claimedBefore = now.minusMillis(claimTimeoutMillis);
+
+        if (outboxEventRepository.countInFlight(claimedBefore) > 0) {
+            log.debug("Previous outbox batch is still being published, skipping batch");
+            return List.of();
+        }
+
+        List<OutboxEvent> batch = outboxEventRepository.findPendingBatch(batchSize, claimedBefore);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        // An event that failed before goes alone, so a failure can be pinned on it
+        if (batch.get(0).getLastError() != null) {
+            batch = batch.subList(0, 1);
+        }
+
+        outboxEventRepository.claim(batch.stream().map(OutboxEvent::getId).toList(), now);
+        return batch;
+    }
+
+    private String serialize(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload", e);
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return "Unknown error";
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
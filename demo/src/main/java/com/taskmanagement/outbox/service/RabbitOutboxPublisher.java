@@ -0,0 +1,77 @@
+package com.taskmanagement.outbox.service;
+
+import com.taskmanagement.outbox.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpResourceNotAvailableException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Publishes outbox batches on a single channel and waits for broker confirms
+ * once per batch. The outbox ID is used as message ID so consumers can
+ * de-duplicate redeliveries (delivery is at-least-once).
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "publisher", havingValue = "rabbit")
+public class RabbitOutboxPublisher implements OutboxPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${outbox.rabbit.exchange:taskmanagement.events}")
+    private String exchange;
+
+    @Value("${outbox.rabbit.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis;
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        rabbitTemplate.invoke(operations -> {
+            for (var event : events) {
+                operations.send(exchange, event.getEventType().routingKey(), toMessage(event));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return null;
+        });
+
+        log.debug("Published {} outbox events to exchange {}", events.size(), exchange);
+    }
+
+    @Override
+    public boolean isBrokerFailure(RuntimeException failure) {
+        return failure instanceof AmqpConnectException
+                || failure instanceof AmqpTimeoutException
+                || failure instanceof AmqpResourceNotAvailableException;
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        var builder = MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(String.valueOf(event.getId()))
+                .setType(event.getEventType().name())
+                .setHeader("aggregateType", event.getAggregateType().name())
+                .setHeader("aggregateId", event.getAggregateId());
+
+        if (event.getCreatedAt() != null) {
+            builder.setTimestamp(Date.from(event.getCreatedAt()));
+        }
+
+        return builder.build();
+    }
+}
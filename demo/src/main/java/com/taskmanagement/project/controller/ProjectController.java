@@ -1,9 +1,14 @@
 package com.taskmanagement.project.controller;
 
+import com.taskmanagement.common.workload.DatabaseWorkload;
+import com.taskmanagement.common.workload.Workload;
 import com.taskmanagement.project.dto.CreateProjectDto;
+import com.taskmanagement.project.dto.ProjectImportResultDto;
 import com.taskmanagement.project.dto.ProjectResponseDto;
+import com.taskmanagement.project.dto.ProjectStatsDto;
 import com.taskmanagement.project.dto.TransferProjectDto;
 import com.taskmanagement.project.dto.UpdateProjectDto;
+import com.taskmanagement.project.service.ProjectExportService;
 import com.taskmanagement.project.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,16 +19,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
 
 @RequiredArgsConstructor
 @RestController
@@ -33,6 +45,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectExportService projectExportService;
 
     @Operation(
             summary = "Create a new project",
@@ -332,6 +345,126 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.OK).body(projectService.getProjectById(projectId));
     }
 
+    @Operation(
+            summary = "Get project statistics",
+            description = """
+                    Returns task statistics for a project: completion percentage, overdue count,
+                    and task counts per status, priority and assignee.
+                    
+                    **Business Logic:**
+                    - Deleted tasks are not counted
+                    - A task is overdue when its due date has passed and it is not DONE
+                    - Computed in one aggregate query and cached per project; task changes
+                      and project transfers clear the cached entry
+                    
+                    **Authorization:**
+                    - Team members can view statistics of projects in their team
+                    - System ADMIN can view any project's statistics
+                    - User must have ACTIVE status
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics computed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectStatsDto.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not a team member"),
+            @ApiResponse(responseCode = "404", description = "Project not found or not accessible")
+    })
+    @GetMapping("/{projectId}/stats")
+    public ResponseEntity<ProjectStatsDto> getProjectStats(
+            @Parameter(description = "Project ID", required = true, example = "1")
+            @PathVariable Long projectId) {
+        return ResponseEntity.ok(projectService.getProjectStats(projectId));
+    }
+
+    @Operation(
+            summary = "Export a project",
+            description = """
+                    Streams a project with its tasks, comments and attachment metadata as NDJSON,
+                    for moving it to another environment or archiving it.
+                    
+                    **Format:**
+                    - One JSON object per line, each with a `type`: `project`, then `task`, `comment`
+                      and `attachment` lines, then an `end` line with the record counts
+                    - People are identified by email, so they can be matched elsewhere
+                    - With `includeContent=true`, each attachment line carries its file as base64 `content`
+                    
+                    **Business Logic:**
+                    - Deleted tasks, comments and attachments are left out
+                    - Read from one consistent snapshot while the response streams; memory use does not
+                      grow with the size of the project
+                    - A failure mid-way leaves the download without its `end` line, which import rejects
+                    
+                    **Authorization:**
+                    - Team members can export projects in their team
+                    - System ADMIN can export any project
+                    - User must have ACTIVE status
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export started",
+                    content = @Content(mediaType = "application/x-ndjson")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not a team member"),
+            @ApiResponse(responseCode = "404", description = "Project not found or deleted")
+    })
+    @DatabaseWorkload(Workload.REPORTING)
+    @GetMapping("/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> exportProject(
+            @Parameter(description = "Project ID", required = true, example = "1")
+            @PathVariable Long projectId,
+            @Parameter(description = "Include attachment content as base64", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeContent) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + ".ndjson")
+                        .build()
+                        .toString())
+                .body(projectExportService.exportProject(projectId, includeContent));
+    }
+
+    @Operation(
+            summary = "Import a project",
+            description = """
+                    Creates a project in a team from an export produced by `GET /api/projects/{projectId}/export`.
+                    
+                    **Business Logic:**
+                    - The body is read as a stream and rows are inserted in batches, all in one transaction;
+                      an invalid or incomplete export creates nothing
+                    - Tasks, comments and attachments get new IDs; references between them are remapped
+                    - Assignees, comment authors and uploaders are matched by email against the team's active
+                      members; unmatched tasks are left unassigned and the rest is credited to the importer
+                    - Attachments are only imported when the export carries their content; identical files
+                      already stored are shared rather than uploaded again, and count toward the team quota
+                    - The project keeps its exported name unless `name` is given
+                    
+                    **Authorization:**
+                    - Only the owner of the target team
+                    - User must have ACTIVE status
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Project imported",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectImportResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed, incomplete or unsupported export"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not team owner or user not active"),
+            @ApiResponse(responseCode = "404", description = "Team not found or not active"),
+            @ApiResponse(responseCode = "409", description = "Conflict - Project name already exists in team")
+    })
+    @DatabaseWorkload(Workload.REPORTING)
+    @PostMapping(value = "/import", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<ProjectImportResultDto> importProject(
+            @Parameter(description = "ID of the team to import into", required = true, example = "1")
+            @RequestParam Long teamId,
+            @Parameter(description = "Name for the imported project; defaults to the exported name")
+            @RequestParam(required = false) String name,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(projectExportService.importProject(teamId, name, request.getInputStream()));
+    }
+
     @Operation(
             summary = "Get projects by owner",
             description = """
@@ -420,6 +553,7 @@ public class ProjectController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
+    @DatabaseWorkload(Workload.REPORTING)
     @GetMapping("/admin/all")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<ProjectResponseDto>> getAllProjectsForAdmin(
@@ -0,0 +1,34 @@
+package com.taskmanagement.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Summary of a project import")
+public record ProjectImportResultDto(
+
+        @Schema(description = "ID of the created project", example = "42")
+        Long projectId ,
+
+        @Schema(description = "Name of the created project", example = "Website Redesign")
+        String name ,
+
+        @Schema(description = "Tasks created", example = "100000")
+        long tasks ,
+
+        @Schema(description = "Comments created", example = "250000")
+        long comments ,
+
+        @Schema(description = "Attachments created with their content", example = "1200")
+        long attachments ,
+
+        @Schema(description = "Attachments skipped because the export carried only their metadata", example = "0")
+        long attachmentsWithoutContent ,
+
+        @Schema(description = "Assignees, authors and uploaders not found among the target team's active members; " +
+                "their tasks are left unassigned and their comments and files credited to the importer", example = "3")
+        int unmatchedUsers ,
+
+        @Schema(description = "Time taken in milliseconds", example = "8400")
+        long durationMs
+
+) {
+}
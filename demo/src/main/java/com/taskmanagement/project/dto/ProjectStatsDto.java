@@ -0,0 +1,49 @@
+package com.taskmanagement.project.dto;
+
+import com.taskmanagement.task.enums.TaskPriority;
+import com.taskmanagement.task.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+
+@Schema(description = "Task statistics for a project, excluding deleted tasks")
+public record ProjectStatsDto(
+
+        @Schema(description = "Project ID", example = "1")
+        Long projectId ,
+
+        @Schema(description = "ID of the team the project belongs to", example = "1")
+        Long teamId ,
+
+        @Schema(description = "Number of tasks in the project", example = "40")
+        long totalTasks ,
+
+        @Schema(description = "Number of tasks in DONE status", example = "10")
+        long completedTasks ,
+
+        @Schema(description = "Completed tasks as a percentage of all tasks", example = "25.0")
+        double completionPercentage ,
+
+        @Schema(description = "Tasks past their due date that are not done", example = "3")
+        long overdueTasks ,
+
+        @Schema(description = "Tasks nobody is assigned to", example = "5")
+        long unassignedTasks ,
+
+        @Schema(description = "Number of tasks per status")
+        Map<TaskStatus, Long> tasksByStatus ,
+
+        @Schema(description = "Number of tasks per priority")
+        Map<TaskPriority, Long> tasksByPriority ,
+
+        @Schema(description = "Number of tasks per assignee user ID")
+        Map<Long, Long> tasksByAssignee ,
+
+        @Schema(description = "When these numbers were computed; they may be cached for a few minutes",
+                example = "2025-01-15T10:30:00Z")
+        Instant computedAt
+
+) implements Serializable {
+}
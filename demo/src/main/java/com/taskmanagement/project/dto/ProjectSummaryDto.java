@@ -0,0 +1,16 @@
+package com.taskmanagement.project.dto;
+
+import com.taskmanagement.project.entity.Project;
+import com.taskmanagement.project.enums.ProjectStatus;
+
+import java.io.Serializable;
+
+/**
+ * The part of a project that access checks need, small enough to cache.
+ */
+public record ProjectSummaryDto(Long id, Long teamId, ProjectStatus status) implements Serializable {
+
+    public static ProjectSummaryDto of(Project project) {
+        return new ProjectSummaryDto(project.getId(), project.getTeamIdSafe(), project.getStatus());
+    }
+}
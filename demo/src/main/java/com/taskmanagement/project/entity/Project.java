@@ -6,10 +6,14 @@ import com.taskmanagement.team.entity.Team;
 import com.taskmanagement.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.Instant;
 
 @Entity
 @Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "projects")
 @Getter
 @Setter
 @NoArgsConstructor
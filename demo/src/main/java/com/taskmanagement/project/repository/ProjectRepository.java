@@ -2,11 +2,14 @@ package com.taskmanagement.project.repository;
 
 import com.taskmanagement.project.entity.Project;
 import com.taskmanagement.project.enums.ProjectStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.antlr.v4.runtime.misc.MultiMap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -30,15 +33,18 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
                                                     @Param ( "projectId" ) Long id);
 
     @Query ("SELECT p FROM Project p WHERE p.id = :projectId AND p.status = 'ACTIVE'")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Project> findByIdAndStatusActive(@Param ( "projectId" ) Long projectId);
 
 
 
     @Query ("SELECT p FROM Project p WHERE p.id = :projectId AND p.status != 'DELETED'")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Project> findByIdAndStatusNotDeleted(@Param ( "projectId" ) Long projectId);
 
 
     @Query("SELECT p FROM Project p WHERE p.id = :projectId AND p.status = com.taskmanagement.project.enums.ProjectStatus.ACTIVE")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByIdAndStatusActive(Long projectId);
 
 
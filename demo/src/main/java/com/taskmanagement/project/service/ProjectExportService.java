@@ -0,0 +1,14 @@
+package com.taskmanagement.project.service;
+
+import com.taskmanagement.project.dto.ProjectImportResultDto;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ProjectExportService {
+
+    StreamingResponseBody exportProject(Long projectId, boolean includeContent);
+
+    ProjectImportResultDto importProject(Long teamId, String name, InputStream body) throws IOException;
+}
@@ -0,0 +1,619 @@
+package com.taskmanagement.project.service;
+
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+import com.taskmanagement.attachment.service.AttachmentBlobService;
+import com.taskmanagement.attachment.service.AttachmentStoredEvent;
+import com.taskmanagement.attachment.service.BlobStore;
+import com.taskmanagement.attachment.service.StorageUsageService;
+import com.taskmanagement.attachment.service.StoredBlob;
+import com.taskmanagement.common.sql.UtcTimestamps;
+import com.taskmanagement.project.dto.ProjectImportResultDto;
+import com.taskmanagement.project.entity.Project;
+import com.taskmanagement.project.enums.ProjectStatus;
+import com.taskmanagement.project.repository.ProjectRepository;
+import com.taskmanagement.project.service.ProjectImportReader.Record;
+import com.taskmanagement.task.enums.TaskPriority;
+import com.taskmanagement.task.enums.TaskStatus;
+import com.taskmanagement.team.entity.Team;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Moves whole projects between environments as NDJSON. Exports stream from
+ * database cursors (see {@link ProjectExportWriter}); imports stream-parse
+ * the body and insert tasks, comments and attachments in JDBC batches, all in
+ * one transaction so a failed import leaves nothing behind. Ids are remapped
+ * as rows are inserted, and people are matched by email against the target
+ * team's active members. Only the old-to-new task id map grows with the size
+ * of the project.
+ */
+@Slf4j
+@Service
+public class ProjectExportServiceImplementation implements ProjectExportService {
+
+    private static final String INSERT_TASK_SQL = """
+            INSERT INTO tasks (title, description, status, priority, project_id, assigned_to, due_date,
+                               completed_at, created_by, updated_by, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_COMMENT_SQL = """
+            INSERT INTO comments (content, task_id, user_id, status, created_by, updated_by, created_at, updated_at)
+            VALUES (?, ?, ?, 'ACTIVE', ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ATTACHMENT_SQL = """
+            INSERT INTO attachments (original_filename, stored_filename, bucket_name, object_key, blob_id,
+                                     file_size, content_type, task_id, user_id, status,
+                                     created_by, updated_by, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'ACTIVE', ?, ?, ?, ?)
+            """;
+
+    private static final String TEAM_MEMBERS_BY_EMAIL_SQL = """
+            SELECT u.id, LOWER(u.email) AS email
+            FROM users u
+                     JOIN team_members m ON m.user_id = u.id
+            WHERE m.team_id = ? AND m.status = 'ACTIVE' AND u.status = 'ACTIVE' AND LOWER(u.email) = ANY (?)
+            """;
+
+    private final SecurityHelper securityHelper;
+    private final ProjectRepository projectRepository;
+    private final ProjectExportWriter exportWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AttachmentBlobService attachmentBlobService;
+    private final BlobStore blobStore;
+    private final StorageUsageService storageUsageService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${project.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${attachment.max-file-size}")
+    private long maxFileSize;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    public ProjectExportServiceImplementation(SecurityHelper securityHelper,
+                                             ProjectRepository projectRepository,
+                                             ProjectExportWriter exportWriter,
+                                             JdbcTemplate jdbcTemplate,
+                                             PlatformTransactionManager transactionManager,
+                                             AttachmentBlobService attachmentBlobService,
+                                             BlobStore blobStore,
+                                             StorageUsageService storageUsageService,
+                                             ApplicationEventPublisher eventPublisher) {
+        this.securityHelper = securityHelper;
+        this.projectRepository = projectRepository;
+        this.exportWriter = exportWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.attachmentBlobService = attachmentBlobService;
+        this.blobStore = blobStore;
+        this.storageUsageService = storageUsageService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Authorizes now, while the request thread still holds the caller; the
+     * returned body does the reading once the response starts streaming.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportProject(Long projectId, boolean includeContent) {
+
+        Objects.requireNonNull(projectId, "The project id must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var project = securityHelper.projectExistsAndNotDeletedCheck(projectId);
+
+        if (!securityHelper.isSystemAdmin(currentUser)) {
+            securityHelper.teamActiveCheck(project.getTeamIdSafe());
+        }
+
+        securityHelper.isMemberInTeamOrSystemAdmin(project.getTeamIdSafe(), currentUser);
+
+        Long userId = currentUser.getId();
+
+        return out -> {
+            long started = System.nanoTime();
+            var counts = exportWriter.write(project, includeContent, out);
+
+            log.info("Project {} exported by user {} ({} tasks, {} comments, {} attachments{}) in {} ms",
+                    projectId,
+                    userId,
+                    counts.tasks(),
+                    counts.comments(),
+                    counts.attachments(),
+                    includeContent ? " with content" : "",
+                    (System.nanoTime() - started) / 1_000_000);
+        };
+    }
+
+    @Override
+    public ProjectImportResultDto importProject(Long teamId, String name, InputStream body) throws IOException {
+
+        Objects.requireNonNull(teamId, "The team id must not be null");
+        Objects.requireNonNull(body, "Import body must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var team = securityHelper.teamExistsAndActiveCheck(teamId);
+        securityHelper.isOwner(currentUser.getId(), team.getId());
+
+        long started = System.nanoTime();
+
+        var reader = new ProjectImportReader(body);
+        var run = new ImportRun(reader, team, name, currentUser.getId());
+        try (reader) {
+            transactionTemplate.executeWithoutResult(status -> run.execute());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        var result = run.result((System.nanoTime() - started) / 1_000_000);
+
+        log.info("User {} imported project '{}' (ID: {}) into team {}: {} tasks, {} comments, {} attachments in {} ms",
+                currentUser.getId(),
+                result.name(),
+                result.projectId(),
+                teamId,
+                result.tasks(),
+                result.comments(),
+                result.attachments(),
+                result.durationMs());
+
+        return result;
+    }
+
+    private record PendingTask(Long exportedId, String title, String description, TaskStatus status,
+                               TaskPriority priority, String assigneeEmail, Instant dueDate,
+                               Instant completedAt, Instant createdAt) {
+    }
+
+    private record PendingComment(Long taskId, String content, String authorEmail, Instant createdAt) {
+    }
+
+    private record PendingAttachment(Long taskId, String filename, String contentType, AttachmentBlob blob,
+                                     String uploaderEmail, Instant createdAt) {
+    }
+
+    /**
+     * The state of one import. Rows are buffered up to a batch and flushed in
+     * record order, so a comment or attachment always finds its task's new id.
+     */
+    private final class ImportRun {
+
+        private final ProjectImportReader reader;
+        private final Team team;
+        private final String name;
+        private final Long actorId;
+
+        private final Map<Long, Long> taskIds = new HashMap<>();
+        private final Map<String, Long> members = new HashMap<>();
+        private final List<PendingTask> tasks = new ArrayList<>();
+        private final List<PendingComment> comments = new ArrayList<>();
+        private final List<PendingAttachment> attachments = new ArrayList<>();
+
+        // Objects this import uploaded, removed again if the transaction rolls back
+        private final List<String> uploadedKeys = new ArrayList<>();
+
+        private Long projectId;
+        private String projectName;
+        private long taskRecords;
+        private long commentRecords;
+        private long attachmentRecords;
+        private long commentsInserted;
+        private long attachmentsInserted;
+        private long attachmentsWithoutContent;
+
+        ImportRun(ProjectImportReader reader, Team team, String name, Long actorId) {
+            this.reader = reader;
+            this.team = team;
+            this.name = name;
+            this.actorId = actorId;
+        }
+
+        void execute() {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED && !uploadedKeys.isEmpty()) {
+                        Set<String> leftover = blobStore.deleteFiles(uploadedKeys);
+                        if (!leftover.isEmpty()) {
+                            log.warn("Failed project import left {} uploaded objects behind", leftover.size());
+                        }
+                    }
+                }
+            });
+
+            try {
+                read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void read() throws IOException {
+            Record first = reader.next();
+            if (first == null || !"project".equals(first.type())) {
+                throw new IllegalArgumentException("A project export must start with its project record");
+            }
+            if (first.longValue("formatVersion") != ProjectExportWriter.FORMAT_VERSION) {
+                throw first.invalid("unsupported format version " + first.text("formatVersion"));
+            }
+
+            var project = createProject(first);
+            projectId = project.getId();
+            projectName = project.getName();
+
+            Record end = null;
+            Record record;
+            while ((record = reader.next()) != null) {
+                // Only attachments carry content; addAttachment deletes its own file
+                if (!"attachment".equals(record.type()) || end != null) {
+                    ProjectImportReader.deleteQuietly(record.content());
+                }
+                if (end != null) {
+                    throw record.invalid("found after the end record");
+                }
+
+                switch (record.type()) {
+                    case "task" -> addTask(record);
+                    case "comment" -> addComment(record);
+                    case "attachment" -> addAttachment(record);
+                    case "end" -> end = record;
+                    default -> throw record.invalid("unknown record type");
+                }
+            }
+
+            if (end == null) {
+                throw new IllegalArgumentException("The export is incomplete: its end record is missing");
+            }
+            if (end.longValue("tasks") != taskRecords
+                    || end.longValue("comments") != commentRecords
+                    || end.longValue("attachments") != attachmentRecords) {
+                throw end.invalid("record counts do not match the export");
+            }
+
+            flushTasks();
+            flushComments();
+            flushAttachments();
+        }
+
+        ProjectImportResultDto result(long durationMs) {
+            return new ProjectImportResultDto(
+                    projectId,
+                    projectName,
+                    taskIds.size(),
+                    commentsInserted,
+                    attachmentsInserted,
+                    attachmentsWithoutContent,
+                    (int) members.values().stream().filter(Objects::isNull).count(),
+                    durationMs);
+        }
+
+        private Project createProject(Record record) {
+            String projectName = name != null && !name.isBlank() ? name.trim() : record.required("name");
+            securityHelper.validateProjectNameNotExists(projectName, team.getId());
+
+            var status = record.enumValue(ProjectStatus.class, "status");
+            if (status == ProjectStatus.DELETED) {
+                throw record.invalid("deleted projects cannot be imported");
+            }
+
+            var project = Project.builder()
+                    .name(projectName)
+                    .description(record.text("description"))
+                    .team(team)
+                    .status(status)
+                    .startDate(record.instant("startDate"))
+                    .endDate(record.instant("endDate"))
+                    .build();
+            project.setCreatedBy(actorId);
+
+            return projectRepository.save(project);
+        }
+
+        private void addTask(Record record) {
+            taskRecords++;
+
+            var status = record.enumValue(TaskStatus.class, "status");
+            if (status == TaskStatus.DELETED) {
+                throw record.invalid("deleted tasks cannot be imported");
+            }
+
+            tasks.add(new PendingTask(
+                    record.id("id"),
+                    record.required("title"),
+                    record.text("description"),
+                    status,
+                    record.enumValue(TaskPriority.class, "priority"),
+                    email(record.text("assigneeEmail")),
+                    record.instant("dueDate"),
+                    record.instant("completedAt"),
+                    record.instant("createdAt")));
+
+            if (tasks.size() >= batchSize) {
+                flushTasks();
+            }
+        }
+
+        private void addComment(Record record) {
+            commentRecords++;
+            flushTasks();
+
+            comments.add(new PendingComment(
+                    newTaskId(record),
+                    record.required("content"),
+                    email(record.text("authorEmail")),
+                    record.instant("createdAt")));
+
+            if (comments.size() >= batchSize) {
+                flushComments();
+            }
+        }
+
+        private void addAttachment(Record record) throws IOException {
+            attachmentRecords++;
+            flushTasks();
+
+            var content = record.content();
+            try {
+                if (content == null) {
+                    attachmentsWithoutContent++;
+                    return;
+                }
+
+                Long taskId = newTaskId(record);
+                String filename = record.required("filename");
+                String contentType = record.text("contentType") != null
+                        ? record.text("contentType") : "application/octet-stream";
+                String sha256 = record.text("sha256");
+
+                long size = Files.size(content);
+                if (size == 0 || size != record.longValue("size")) {
+                    throw record.invalid("content does not match the declared size");
+                }
+                if (size > maxFileSize) {
+                    throw record.invalid("file exceeds the maximum attachment size");
+                }
+
+                var blob = store(content, size, contentType, sha256);
+                if (sha256 != null && !sha256.equalsIgnoreCase(blob.getContentHash())) {
+                    throw record.invalid("content does not match its SHA-256");
+                }
+
+                storageUsageService.reserve(taskId, size);
+
+                attachments.add(new PendingAttachment(taskId, filename, contentType, blob,
+                        email(record.text("uploaderEmail")), record.instant("createdAt")));
+
+            } finally {
+                ProjectImportReader.deleteQuietly(content);
+            }
+
+            if (attachments.size() >= batchSize) {
+                flushAttachments();
+            }
+        }
+
+        private AttachmentBlob store(Path content, long size, String contentType, String sha256)
+                throws IOException {
+
+            // Same bytes already in this environment: share them instead of uploading again
+            if (sha256 != null) {
+                var existing = attachmentBlobService.findByHash(sha256);
+                if (existing.isPresent() && attachmentBlobService.reference(existing.get())) {
+                    return existing.get();
+                }
+            }
+
+            StoredBlob stored;
+            try (InputStream in = Files.newInputStream(content)) {
+                stored = attachmentBlobService.store(in, size, contentType);
+            }
+            // Only objects this import uploaded go if it fails; shared ones belong to other attachments
+            if (stored.created()) {
+                uploadedKeys.add(stored.blob().getObjectKey());
+            }
+            return stored.blob();
+        }
+
+        private Long newTaskId(Record record) {
+            Long exportedTaskId = record.id("taskId");
+            Long taskId = taskIds.get(exportedTaskId);
+            if (taskId == null) {
+                throw record.invalid("refers to task " + exportedTaskId + ", which is not in the export");
+            }
+            return taskId;
+        }
+
+        private void flushTasks() {
+            if (tasks.isEmpty()) {
+                return;
+            }
+
+            resolveMembers(tasks.stream().map(PendingTask::assigneeEmail).toList());
+            LocalDateTime now = UtcTimestamps.toColumn(Instant.now());
+
+            List<Long> ids = insert(INSERT_TASK_SQL, tasks.size(), (ps, i) -> {
+                PendingTask task = tasks.get(i);
+                ps.setString(1, task.title());
+                ps.setString(2, task.description());
+                ps.setString(3, task.status().name());
+                ps.setString(4, task.priority().name());
+                ps.setLong(5, projectId);
+                ps.setObject(6, member(task.assigneeEmail()), Types.BIGINT);
+                ps.setObject(7, UtcTimestamps.toColumn(task.dueDate()), Types.TIMESTAMP);
+                ps.setObject(8, UtcTimestamps.toColumn(task.completedAt()), Types.TIMESTAMP);
+                ps.setLong(9, actorId);
+                ps.setLong(10, actorId);
+                ps.setObject(11, task.createdAt() != null ? UtcTimestamps.toColumn(task.createdAt()) : now, Types.TIMESTAMP);
+                ps.setObject(12, now, Types.TIMESTAMP);
+            });
+
+            for (int i = 0; i < tasks.size(); i++) {
+                taskIds.put(tasks.get(i).exportedId(), ids.get(i));
+            }
+            tasks.clear();
+        }
+
+        private void flushComments() {
+            if (comments.isEmpty()) {
+                return;
+            }
+
+            resolveMembers(comments.stream().map(PendingComment::authorEmail).toList());
+            LocalDateTime now = UtcTimestamps.toColumn(Instant.now());
+
+            insert(INSERT_COMMENT_SQL, comments.size(), (ps, i) -> {
+                PendingComment comment = comments.get(i);
+                Long author = member(comment.authorEmail());
+                ps.setString(1, comment.content());
+                ps.setLong(2, comment.taskId());
+                ps.setLong(3, author != null ? author : actorId);
+                ps.setLong(4, actorId);
+                ps.setLong(5, actorId);
+                ps.setObject(6, comment.createdAt() != null ? UtcTimestamps.toColumn(comment.createdAt()) : now, Types.TIMESTAMP);
+                ps.setObject(7, now, Types.TIMESTAMP);
+            });
+
+            commentsInserted += comments.size();
+            comments.clear();
+        }
+
+        private void flushAttachments() {
+            if (attachments.isEmpty()) {
+                return;
+            }
+
+            resolveMembers(attachments.stream().map(PendingAttachment::uploaderEmail).toList());
+            LocalDateTime now = UtcTimestamps.toColumn(Instant.now());
+
+            List<Long> ids = insert(INSERT_ATTACHMENT_SQL, attachments.size(), (ps, i) -> {
+                PendingAttachment attachment = attachments.get(i);
+                Long uploader = member(attachment.uploaderEmail());
+                ps.setString(1, attachment.filename());
+                ps.setString(2, blobStore.generateStoredFilename(attachment.filename()));
+                ps.setString(3, bucketName);
+                ps.setString(4, attachment.blob().getObjectKey());
+                ps.setLong(5, attachment.blob().getId());
+                ps.setLong(6, attachment.blob().getSize());
+                ps.setString(7, attachment.contentType());
+                ps.setLong(8, attachment.taskId());
+                ps.setLong(9, uploader != null ? uploader : actorId);
+                ps.setLong(10, actorId);
+                ps.setLong(11, actorId);
+                ps.setObject(12, attachment.createdAt() != null ? UtcTimestamps.toColumn(attachment.createdAt()) : now, Types.TIMESTAMP);
+                ps.setObject(13, now, Types.TIMESTAMP);
+            });
+
+            for (int i = 0; i < attachments.size(); i++) {
+                eventPublisher.publishEvent(new AttachmentStoredEvent(ids.get(i), attachments.get(i).contentType()));
+            }
+
+            attachmentsInserted += attachments.size();
+            attachments.clear();
+        }
+
+        private void resolveMembers(List<String> emails) {
+            Set<String> unknown = new LinkedHashSet<>();
+            for (String email : emails) {
+                if (email != null && !members.containsKey(email)) {
+                    unknown.add(email);
+                }
+            }
+            if (unknown.isEmpty()) {
+                return;
+            }
+
+            jdbcTemplate.query(TEAM_MEMBERS_BY_EMAIL_SQL, ps -> {
+                ps.setLong(1, team.getId());
+                ps.setArray(2, ps.getConnection().createArrayOf("varchar", unknown.toArray()));
+            }, rs -> {
+                members.put(rs.getString("email"), rs.getLong("id"));
+            });
+
+            for (String email : unknown) {
+                members.putIfAbsent(email, null);
+            }
+        }
+
+        private Long member(String email) {
+            return email != null ? members.get(email) : null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    private List<Long> insert(String sql, int rows, RowSetter setter) {
+        KeyHolder keys = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.set(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows;
+                    }
+                },
+                keys);
+
+        List<Long> ids = new ArrayList<>(rows);
+        for (Map<String, Object> key : keys.getKeyList()) {
+            ids.add(((Number) key.get("id")).longValue());
+        }
+        if (ids.size() != rows) {
+            throw new IllegalStateException("Expected " + rows + " generated ids, got " + ids.size());
+        }
+        return ids;
+    }
+
+    private static String email(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,212 @@
+package com.taskmanagement.project.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.taskmanagement.attachment.service.BlobStore;
+import com.taskmanagement.common.sql.UtcTimestamps;
+import com.taskmanagement.project.entity.Project;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+
+/**
+ * Writes a project as NDJSON: a {@code project} line, then one line per task,
+ * comment and attachment, then an {@code end} line with the counts so an
+ * importer can tell a complete export from a cut-off one. Rows are read with
+ * forward-only cursors in one repeatable-read transaction, so the export is a
+ * consistent snapshot and memory stays flat however large the project is.
+ * Attachment content, when included, is base64 streamed from storage.
+ */
+@Slf4j
+@Component
+public class ProjectExportWriter {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String TASKS_SQL = """
+            SELECT t.id, t.title, t.description, t.status, t.priority, u.email AS assignee_email,
+                   t.due_date, t.completed_at, t.created_at
+            FROM tasks t
+                     LEFT JOIN users u ON u.id = t.assigned_to
+            WHERE t.project_id = ? AND t.status <> 'DELETED'
+            ORDER BY t.id
+            """;
+
+    private static final String COMMENTS_SQL = """
+            SELECT c.id, c.task_id, c.content, u.email AS author_email, c.created_at
+            FROM comments c
+                     JOIN tasks t ON t.id = c.task_id
+                     JOIN users u ON u.id = c.user_id
+            WHERE t.project_id = ? AND t.status <> 'DELETED' AND c.status = 'ACTIVE'
+            ORDER BY c.id
+            """;
+
+    private static final String ATTACHMENTS_SQL = """
+            SELECT a.id, a.task_id, a.original_filename, a.content_type, a.file_size, a.object_key,
+                   b.content_hash, u.email AS uploader_email, a.created_at
+            FROM attachments a
+                     JOIN tasks t ON t.id = a.task_id
+                     JOIN users u ON u.id = a.user_id
+                     LEFT JOIN attachment_blobs b ON b.id = a.blob_id
+            WHERE t.project_id = ? AND t.status <> 'DELETED' AND a.status = 'ACTIVE'
+            ORDER BY a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${project.export.fetch-size:500}")
+    private int fetchSize;
+
+    public ProjectExportWriter(JdbcTemplate jdbcTemplate,
+                               BlobStore blobStore,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobStore = blobStore;
+
+        // Postgres only streams a cursor inside a transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    record ExportCounts(long tasks, long comments, long attachments) {
+    }
+
+    ExportCounts write(Project project, boolean includeContent, OutputStream out) throws IOException {
+        JsonGenerator json = JSON_FACTORY.createGenerator(out);
+        json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        try {
+            json.writeStartObject();
+            json.writeStringField("type", "project");
+            json.writeNumberField("formatVersion", FORMAT_VERSION);
+            json.writeNumberField("id", project.getId());
+            json.writeStringField("name", project.getName());
+            json.writeStringField("description", project.getDescription());
+            json.writeStringField("status", project.getStatus().name());
+            writeInstant(json, "startDate", project.getStartDate());
+            writeInstant(json, "endDate", project.getEndDate());
+            json.writeEndObject();
+
+            ExportCounts counts = transactionTemplate.execute(status -> new ExportCounts(
+                    stream(TASKS_SQL, project.getId(), rs -> writeTask(json, rs)),
+                    stream(COMMENTS_SQL, project.getId(), rs -> writeComment(json, rs)),
+                    stream(ATTACHMENTS_SQL, project.getId(), rs -> writeAttachment(json, rs, includeContent))));
+
+            json.writeStartObject();
+            json.writeStringField("type", "end");
+            json.writeNumberField("tasks", counts.tasks());
+            json.writeNumberField("comments", counts.comments());
+            json.writeNumberField("attachments", counts.attachments());
+            json.writeEndObject();
+            json.writeRaw('\n');
+            json.flush();
+
+            return counts;
+
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long stream(String sql, Long projectId, RowCallbackHandler handler) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, projectId);
+            return ps;
+        }, rs -> {
+            handler.processRow(rs);
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private void writeTask(JsonGenerator json, ResultSet rs) throws SQLException {
+        try {
+            json.writeStartObject();
+            json.writeStringField("type", "task");
+            json.writeNumberField("id", rs.getLong("id"));
+            json.writeStringField("title", rs.getString("title"));
+            json.writeStringField("description", rs.getString("description"));
+            json.writeStringField("status", rs.getString("status"));
+            json.writeStringField("priority", rs.getString("priority"));
+            json.writeStringField("assigneeEmail", rs.getString("assignee_email"));
+            writeInstant(json, "dueDate", UtcTimestamps.read(rs, "due_date"));
+            writeInstant(json, "completedAt", UtcTimestamps.read(rs, "completed_at"));
+            writeInstant(json, "createdAt", UtcTimestamps.read(rs, "created_at"));
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeComment(JsonGenerator json, ResultSet rs) throws SQLException {
+        try {
+            json.writeStartObject();
+            json.writeStringField("type", "comment");
+            json.writeNumberField("id", rs.getLong("id"));
+            json.writeNumberField("taskId", rs.getLong("task_id"));
+            json.writeStringField("content", rs.getString("content"));
+            json.writeStringField("authorEmail", rs.getString("author_email"));
+            writeInstant(json, "createdAt", UtcTimestamps.read(rs, "created_at"));
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeAttachment(JsonGenerator json, ResultSet rs, boolean includeContent) throws SQLException {
+        try {
+            long size = rs.getLong("file_size");
+
+            json.writeStartObject();
+            json.writeStringField("type", "attachment");
+            json.writeNumberField("id", rs.getLong("id"));
+            json.writeNumberField("taskId", rs.getLong("task_id"));
+            json.writeStringField("filename", rs.getString("original_filename"));
+            json.writeStringField("contentType", rs.getString("content_type"));
+            json.writeNumberField("size", size);
+            json.writeStringField("sha256", rs.getString("content_hash"));
+            json.writeStringField("uploaderEmail", rs.getString("uploader_email"));
+            writeInstant(json, "createdAt", UtcTimestamps.read(rs, "created_at"));
+
+            // Written last, so a reader knows everything else about the file before the bytes arrive
+            if (includeContent) {
+                json.writeFieldName("content");
+                try (InputStream content = blobStore.downloadFile(rs.getString("object_key"))) {
+                    json.writeBinary(content, size <= Integer.MAX_VALUE ? (int) size : -1);
+                }
+            }
+
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInstant(JsonGenerator json, String field, Instant value) throws IOException {
+        json.writeStringField(field, value != null ? value.toString() : null);
+    }
+}
@@ -0,0 +1,165 @@
+package com.taskmanagement.project.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the records of a project export one at a time with a streaming
+ * parser, so neither the body nor a record is ever held whole. Scalar fields
+ * are kept as text; an attachment's base64 {@code content} is decoded straight
+ * into a temporary file that the caller owns and must delete.
+ */
+final class ProjectImportReader implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    record Record(int number, String type, Map<String, String> fields, Path content) {
+
+        String text(String field) {
+            String value = fields.get(field);
+            return value == null || value.isBlank() ? null : value;
+        }
+
+        String required(String field) {
+            String value = text(field);
+            if (value == null) {
+                throw invalid("missing '" + field + "'");
+            }
+            return value;
+        }
+
+        Long id(String field) {
+            String value = required(field);
+            try {
+                return Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw invalid("'" + field + "' is not a number");
+            }
+        }
+
+        long longValue(String field) {
+            return id(field);
+        }
+
+        Instant instant(String field) {
+            String value = text(field);
+            try {
+                return value == null ? null : Instant.parse(value);
+            } catch (DateTimeParseException e) {
+                throw invalid("'" + field + "' is not an ISO-8601 instant");
+            }
+        }
+
+        <E extends Enum<E>> E enumValue(Class<E> type, String field) {
+            String value = required(field);
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw invalid("unknown " + type.getSimpleName() + " '" + value + "'");
+            }
+        }
+
+        IllegalArgumentException invalid(String problem) {
+            return new IllegalArgumentException("Record " + number + " (" + type + "): " + problem);
+        }
+    }
+
+    private final JsonParser parser;
+    private int number;
+
+    ProjectImportReader(InputStream body) throws IOException {
+        this.parser = JSON_FACTORY.createParser(body);
+    }
+
+    /**
+     * Returns the next record, or null at the end of the body.
+     */
+    Record next() throws IOException {
+        JsonToken token;
+        try {
+            token = parser.nextToken();
+        } catch (JsonProcessingException e) {
+            throw malformed(e);
+        }
+        if (token == null) {
+            return null;
+        }
+
+        number++;
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Record " + number + " is not a JSON object");
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        Path content = null;
+
+        try {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("content".equals(name) && value == JsonToken.VALUE_STRING) {
+                    if (content == null) {
+                        content = Files.createTempFile("project-import-", ".bin");
+                    }
+                    try (OutputStream out = Files.newOutputStream(content)) {
+                        parser.readBinaryValue(out);
+                    }
+                } else if (value.isScalarValue()) {
+                    fields.put(name, value == JsonToken.VALUE_NULL ? null : parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            deleteQuietly(content);
+            throw malformed(e);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(content);
+            throw e;
+        }
+
+        String type = fields.get("type");
+        if (type == null) {
+            deleteQuietly(content);
+            throw new IllegalArgumentException("Record " + number + " has no type");
+        }
+
+        return new Record(number, type, fields, content);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Temp directory cleanup will get it
+        }
+    }
+
+    private IllegalArgumentException malformed(JsonProcessingException e) {
+        return new IllegalArgumentException("Malformed export near record " + Math.max(number, 1) + ": " +
+                e.getOriginalMessage());
+    }
+}
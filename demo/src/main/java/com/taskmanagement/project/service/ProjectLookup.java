@@ -0,0 +1,39 @@
+package com.taskmanagement.project.service;
+
+import com.taskmanagement.common.config.CacheConfig;
+import com.taskmanagement.project.dto.ProjectSummaryDto;
+import com.taskmanagement.project.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached project summaries for access checks in other services. Project
+ * writes evict the entry, which takes effect on commit and on every node.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProjectLookup {
+
+    private final ProjectRepository projectRepository;
+
+    /**
+     * Returns the project's summary, or null if there is no such project.
+     */
+    @Cacheable(cacheNames = CacheConfig.PROJECTS, key = "#projectId", unless = "#result == null")
+    public ProjectSummaryDto find(Long projectId) {
+        return projectRepository.findById(projectId).map(ProjectSummaryDto::of).orElse(null);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#projectId")
+    public void evict(Long projectId) {
+        // Eviction is done by the annotation
+    }
+
+    // For bulk changes that do not know which projects they touched
+    @CacheEvict(cacheNames = CacheConfig.PROJECTS, allEntries = true)
+    public void evictAll() {
+        // Eviction is done by the annotation
+    }
+}
@@ -2,6 +2,7 @@ package com.taskmanagement.project.service;
 
 import com.taskmanagement.project.dto.CreateProjectDto;
 import com.taskmanagement.project.dto.ProjectResponseDto;
+import com.taskmanagement.project.dto.ProjectStatsDto;
 import com.taskmanagement.project.dto.UpdateProjectDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +23,8 @@ public interface ProjectService {
 
     ProjectResponseDto getProjectById(Long projectId);
 
+    ProjectStatsDto getProjectStats(Long projectId);
+
     Page<ProjectResponseDto> getProjectsByOwner (Pageable pageable, Long ownerId);
 
     ProjectResponseDto updateProject(Long projectId, UpdateProjectDto requestDto);
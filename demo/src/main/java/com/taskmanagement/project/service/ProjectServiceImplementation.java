@@ -1,8 +1,12 @@
 package com.taskmanagement.project.service;
 
+import com.taskmanagement.attachment.service.StorageUsageService;
+import com.taskmanagement.common.concurrent.SingleFlight;
 import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.common.exception.types.Exceptions.ProjectNotFoundException;
 import com.taskmanagement.project.dto.CreateProjectDto;
 import com.taskmanagement.project.dto.ProjectResponseDto;
+import com.taskmanagement.project.dto.ProjectStatsDto;
 import com.taskmanagement.project.dto.UpdateProjectDto;
 import com.taskmanagement.project.enums.ProjectStatus;
 import com.taskmanagement.project.mapper.ProjectMapper;
@@ -27,6 +31,10 @@ public class ProjectServiceImplementation implements ProjectService {
     private final SecurityHelper securityHelper;
     private final ProjectMapper projectMapper;
     private final ProjectRepository projectRepository;
+    private final StorageUsageService storageUsageService;
+    private final ProjectStatsCalculator projectStatsCalculator;
+    private final ProjectLookup projectLookup;
+    private final SingleFlight singleFlight;
 
 
     @Override
@@ -58,8 +66,8 @@ public class ProjectServiceImplementation implements ProjectService {
         return projectMapper.toDto(savedProject);
     }
 
+    // Not transactional: a caller waiting on another's fetch must not hold a pooled connection meanwhile
     @Override
-    @Transactional(readOnly = true)
     public ProjectResponseDto getProjectById(Long projectId) {
 
         Objects.requireNonNull ( projectId , "The project id must not be null" );
@@ -67,15 +75,40 @@ public class ProjectServiceImplementation implements ProjectService {
         var currentUser = securityHelper.getCurrentUser ( );
         securityHelper.isUserActive ( currentUser );
 
-        var project = securityHelper.projectExistsCheckAndRetrievableCheckUponRole ( currentUser , projectId );
+        // Concurrent reads of one project share a single fetch; the checks below still run per caller
+        var project = singleFlight.load ( "project" , projectId ,
+                        ( ) -> projectRepository.findById ( projectId ).map ( projectMapper::toDto ) )
+                .orElseThrow ( ( ) -> new ProjectNotFoundException ( projectId ) );
+
+        securityHelper.projectRetrievableUponRoleCheck ( currentUser , project );
 
         if (!securityHelper.isSystemAdmin ( currentUser )) {
-            securityHelper.teamActiveCheck ( project.getTeamIdSafe() );
+            securityHelper.teamActiveCheck ( project.teamId ( ) );
         }
 
-        securityHelper.isMemberInTeamOrSystemAdmin ( project.getTeamIdSafe() , currentUser );
+        securityHelper.isMemberInTeamOrSystemAdmin ( project.teamId ( ) , currentUser );
 
-        return projectMapper.toDto ( project );
+        return project;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectStatsDto getProjectStats(Long projectId) {
+
+        Objects.requireNonNull(projectId, "The project id must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var project = securityHelper.projectExistsCheckAndRetrievableCheckUponRole(currentUser, projectId);
+
+        if (!securityHelper.isSystemAdmin(currentUser)) {
+            securityHelper.teamActiveCheck(project.getTeamIdSafe());
+        }
+
+        securityHelper.isMemberInTeamOrSystemAdmin(project.getTeamIdSafe(), currentUser);
+
+        return projectStatsCalculator.compute(project);
     }
 
     @Override
@@ -161,6 +194,7 @@ public class ProjectServiceImplementation implements ProjectService {
         project.setUpdatedBy ( currentUser.getId ( ) );
 
         var restoredProject = projectRepository.save ( project );
+        projectLookup.evict ( project.getId ( ) );
 
         log.info ( "Project '{}' (ID: {}) restored by admin {} (ID: {}) from DELETED to PLANNED" ,
                 restoredProject.getName ( ) ,
@@ -194,6 +228,7 @@ public class ProjectServiceImplementation implements ProjectService {
         project.setUpdatedBy ( currentUser.getId ( ) );
 
         var activatedProject = projectRepository.save ( project );
+        projectLookup.evict ( project.getId ( ) );
 
         log.info ( "Project '{}' (ID: {}) activated by admin {} (ID: {}) from {} to ACTIVE" ,
                 activatedProject.getName ( ) ,
@@ -224,6 +259,7 @@ public class ProjectServiceImplementation implements ProjectService {
         project.setStatus ( newStatus );
         project.setUpdatedBy ( currentUser.getId ( ) );
         var archivedProject = projectRepository.save ( project );
+        projectLookup.evict ( project.getId ( ) );
 
         log.info ( "Project '{}' (ID: {}) archived by admin {} (ID: {}) from {} to ARCHIVED" ,
                 archivedProject.getName ( ) ,
@@ -257,6 +293,10 @@ public class ProjectServiceImplementation implements ProjectService {
         project.setUpdatedBy(currentUser.getId());
 
         var transferredProject = projectRepository.save(project);
+        projectLookup.evict(projectId);
+
+        storageUsageService.moveProject(projectId, oldTeamId, newTeamId);
+        projectStatsCalculator.evict(projectId);
 
         log.info("Project '{}' (ID: {}) transferred by admin {} (ID: {}) from team {} to team {}",
                 transferredProject.getName(),
@@ -330,6 +370,7 @@ public class ProjectServiceImplementation implements ProjectService {
 
         project.setUpdatedBy ( currentUser.getId ( ) );
         var updatedProject = projectRepository.save ( project );
+        projectLookup.evict ( project.getId ( ) );
 
         log.info ( "Project '{}' (ID: {}) updated by user {} (ID: {})" ,
                 updatedProject.getName ( ) ,
@@ -365,6 +406,7 @@ public class ProjectServiceImplementation implements ProjectService {
         project.setUpdatedBy ( currentUser.getId ( ) );
 
         projectRepository.save ( project );
+        projectLookup.evict ( project.getId ( ) );
 
         log.info ( "Project '{}' (ID: {}) deleted by admin {} (ID: {}) from {} to DELETED" ,
                 project.getName ( ) ,
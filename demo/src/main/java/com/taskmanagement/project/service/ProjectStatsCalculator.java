@@ -0,0 +1,90 @@
+package com.taskmanagement.project.service;
+
+import com.taskmanagement.common.config.CacheConfig;
+import com.taskmanagement.project.dto.ProjectStatsDto;
+import com.taskmanagement.project.entity.Project;
+import com.taskmanagement.task.enums.TaskPriority;
+import com.taskmanagement.task.enums.TaskStatus;
+import com.taskmanagement.task.repository.TaskRepository;
+import com.taskmanagement.task.repository.TaskStatsRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes project task statistics with a single grouped query and caches
+ * them per project. Callers check access first; the cache is only keyed by
+ * project. Task writes evict the entry, which takes effect on commit.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProjectStatsCalculator {
+
+    private final TaskRepository taskRepository;
+
+    @Cacheable(cacheNames = CacheConfig.PROJECT_STATS, key = "#project.id")
+    public ProjectStatsDto compute(Project project) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        Map<Long, Long> byAssignee = new LinkedHashMap<>();
+        long total = 0;
+        long overdue = 0;
+        long unassigned = 0;
+
+        for (TaskStatsRow row : taskRepository.aggregateStatsByProjectId(project.getId())) {
+            long tasks = row.getTasks();
+            switch (row.getDimension()) {
+                case TaskStatsRow.BY_STATUS -> {
+                    byStatus.put(TaskStatus.valueOf(row.getStatus()), tasks);
+                    // Every task is in exactly one status group, so totals come from these rows
+                    total += tasks;
+                    overdue += row.getOverdue();
+                }
+                case TaskStatsRow.BY_PRIORITY -> byPriority.put(TaskPriority.valueOf(row.getPriority()), tasks);
+                case TaskStatsRow.BY_ASSIGNEE -> {
+                    if (row.getAssignee() == null) {
+                        unassigned = tasks;
+                    } else {
+                        byAssignee.put(row.getAssignee(), tasks);
+                    }
+                }
+                default -> log.warn("Unexpected grouping {} in stats for project {}", row.getDimension(), project.getId());
+            }
+        }
+
+        long completed = byStatus.getOrDefault(TaskStatus.DONE, 0L);
+        double completion = total == 0 ? 0.0 : Math.round(completed * 1000.0 / total) / 10.0;
+
+        return new ProjectStatsDto(
+                project.getId(),
+                project.getTeamIdSafe(),
+                total,
+                completed,
+                completion,
+                overdue,
+                unassigned,
+                byStatus,
+                byPriority,
+                byAssignee,
+                Instant.now());
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PROJECT_STATS, key = "#projectId")
+    public void evict(Long projectId) {
+        log.debug("Project {} stats evicted", projectId);
+    }
+
+    // For bulk changes that do not know which projects they touched
+    @CacheEvict(cacheNames = CacheConfig.PROJECT_STATS, allEntries = true)
+    public void evictAll() {
+        log.debug("All project stats evicted");
+    }
+}
@@ -15,6 +15,7 @@ import com.taskmanagement.team.enums.TeamRole;
 import com.taskmanagement.team.enums.TeamStatus;
 import com.taskmanagement.team.repository.TeamMemberRepository;
 import com.taskmanagement.team.repository.TeamRepository;
+import com.taskmanagement.team.service.TeamLookup;
 import com.taskmanagement.user.entity.User;
 import com.taskmanagement.user.enums.Role;
 import com.taskmanagement.user.enums.UserStatus;
@@ -41,6 +42,7 @@ public class SecurityHelper {
     private final TeamMemberRepository teamMemberRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
+    private final TeamLookup teamLookup;
 
     protected User getCurrentUser() {
 
@@ -89,7 +91,8 @@ public class SecurityHelper {
 
     protected void isTeamExistingAndActiveCheck(Long teamId) {
 
-        if (!teamRepository.existsByIdAndStatusActive ( teamId ))
+        var team = teamLookup.find ( teamId );
+        if (team == null || team.status ( ) != TeamStatus.ACTIVE)
             throw new TeamNotFoundException ( teamId );
     }
 
@@ -263,7 +266,8 @@ public class SecurityHelper {
 
     protected void teamActiveCheck(Long teamId) {
 
-        if (!teamRepository.existsByIdAndStatusActive ( teamId ))
+        var team = teamLookup.find ( teamId );
+        if (team == null || team.status ( ) != TeamStatus.ACTIVE)
             throw new TeamNotFoundException ( teamId );
 
     }
@@ -281,6 +285,14 @@ public class SecurityHelper {
 
     }
 
+    // Same rule as projectExistsCheckAndRetrievableCheckUponRole, for a project fetched as a DTO
+    protected void projectRetrievableUponRoleCheck(User currentUser , ProjectResponseDto project) {
+
+        if (!isSystemAdmin ( currentUser ) && project.status ( ) != ProjectStatus.ACTIVE)
+            throw new ProjectNotFoundException ( project.id ( ) );
+
+    }
+
     protected void updateConditionsCheck(
 
             String trimmedName ,
@@ -0,0 +1,203 @@
+package com.taskmanagement.report.controller;
+
+import com.taskmanagement.common.workload.DatabaseWorkload;
+import com.taskmanagement.common.workload.Workload;
+import com.taskmanagement.report.dto.ReportFilterDto;
+import com.taskmanagement.report.enums.ReportType;
+import com.taskmanagement.report.service.ReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+@DatabaseWorkload(Workload.REPORTING)
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/reports")
+@Tag(name = "Reports", description = "Admin CSV reports streamed straight from the database")
+@SecurityRequirement(name = "bearerAuth")
+public class ReportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final ReportService reportService;
+
+    @Operation(
+            summary = "Export tasks as CSV (Admin)",
+            description = """
+                    Streams every task, with its project, team and assignee, as CSV. **Requires ADMIN role.**
+
+                    **Columns:**
+                    - id, title, description, status, priority, projectId, projectName, teamId, teamName,
+                      assigneeId, assigneeEmail, assigneeName, dueDate, completedAt, createdAt, updatedAt
+                    - `columns` picks and orders them, e.g. `?columns=id,title,assigneeEmail`; all when omitted
+
+                    **Filters (all optional):**
+                    - status, priority, teamId, projectId, assigneeId
+                    - createdFrom (inclusive) and createdTo (exclusive), as ISO-8601 instants
+
+                    **Business Logic:**
+                    - Includes deleted tasks unless `status` says otherwise
+                    - One query read through a database cursor; rows are written as they arrive, ordered by id
+                    - The report is a consistent snapshot of the moment it started
+                    - Timestamps are ISO-8601 in UTC; text that a spreadsheet would run as a formula is
+                      prefixed with an apostrophe
+
+                    **Authorization:**
+                    - System admins only (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report started", content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "400", description = "Unknown column or invalid filter value"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    @GetMapping("/admin/tasks")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Columns to include, in order", example = "id,title,status,assigneeEmail")
+            @RequestParam(required = false) List<String> columns,
+            @Parameter(description = "Task status", example = "IN_PROGRESS")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Task priority", example = "HIGH")
+            @RequestParam(required = false) String priority,
+            @Parameter(description = "Team ID", example = "1")
+            @RequestParam(required = false) Long teamId,
+            @Parameter(description = "Project ID", example = "1")
+            @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Assignee user ID", example = "1")
+            @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Created at or after", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @Parameter(description = "Created before", example = "2025-02-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo) {
+
+        var filter = new ReportFilterDto(status, priority, null, teamId, projectId, null, assigneeId, null,
+                createdFrom, createdTo);
+        return csv(ReportType.TASKS, reportService.streamReport(ReportType.TASKS, columns, filter));
+    }
+
+    @Operation(
+            summary = "Export users as CSV (Admin)",
+            description = """
+                    Streams every user as CSV. **Requires ADMIN role.**
+
+                    **Columns:**
+                    - id, email, firstName, lastName, role, status, emailVerified, createdAt, updatedAt
+                    - `columns` picks and orders them; all when omitted
+                    - Password hashes are never exported
+
+                    **Filters (all optional):**
+                    - status, role
+                    - createdFrom (inclusive) and createdTo (exclusive), as ISO-8601 instants
+
+                    **Business Logic:**
+                    - Includes users of every status unless `status` says otherwise
+                    - One query read through a database cursor; rows are written as they arrive, ordered by id
+
+                    **Authorization:**
+                    - System admins only (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report started", content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "400", description = "Unknown column or invalid filter value"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    @GetMapping("/admin/users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "Columns to include, in order", example = "id,email,role,status")
+            @RequestParam(required = false) List<String> columns,
+            @Parameter(description = "User status", example = "ACTIVE")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "User role", example = "MEMBER")
+            @RequestParam(required = false) String role,
+            @Parameter(description = "Created at or after", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @Parameter(description = "Created before", example = "2025-02-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo) {
+
+        var filter = new ReportFilterDto(status, null, role, null, null, null, null, null,
+                createdFrom, createdTo);
+        return csv(ReportType.USERS, reportService.streamReport(ReportType.USERS, columns, filter));
+    }
+
+    @Operation(
+            summary = "Export comments as CSV (Admin)",
+            description = """
+                    Streams every comment, with its task and author, as CSV. **Requires ADMIN role.**
+
+                    **Columns:**
+                    - id, taskId, taskTitle, projectId, authorId, authorEmail, content, status, createdAt, updatedAt
+                    - `columns` picks and orders them; all when omitted
+
+                    **Filters (all optional):**
+                    - status, taskId, projectId, authorId
+                    - createdFrom (inclusive) and createdTo (exclusive), as ISO-8601 instants
+
+                    **Business Logic:**
+                    - Includes deleted comments unless `status` says otherwise
+                    - One query read through a database cursor; rows are written as they arrive, ordered by id
+
+                    **Authorization:**
+                    - System admins only (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report started", content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "400", description = "Unknown column or invalid filter value"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    @GetMapping("/admin/comments")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @Parameter(description = "Columns to include, in order", example = "id,taskId,authorEmail,content")
+            @RequestParam(required = false) List<String> columns,
+            @Parameter(description = "Comment status", example = "ACTIVE")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Task ID", example = "1")
+            @RequestParam(required = false) Long taskId,
+            @Parameter(description = "Project ID", example = "1")
+            @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Author user ID", example = "1")
+            @RequestParam(required = false) Long authorId,
+            @Parameter(description = "Created at or after", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @Parameter(description = "Created before", example = "2025-02-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo) {
+
+        var filter = new ReportFilterDto(status, null, null, null, projectId, taskId, null, authorId,
+                createdFrom, createdTo);
+        return csv(ReportType.COMMENTS, reportService.streamReport(ReportType.COMMENTS, columns, filter));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> csv(ReportType type, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(type.name().toLowerCase(Locale.ROOT) + ".csv")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
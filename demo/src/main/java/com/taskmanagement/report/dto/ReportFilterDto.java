@@ -0,0 +1,51 @@
+package com.taskmanagement.report.dto;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Filters for an admin report. Every field is optional; which ones a report
+ * accepts depends on its type, and setting one it does not accept is an error.
+ */
+public record ReportFilterDto(
+        String status,
+        String priority,
+        String role,
+        Long teamId,
+        Long projectId,
+        Long taskId,
+        Long assigneeId,
+        Long authorId,
+        Instant createdFrom,
+        Instant createdTo
+) {
+
+    public static ReportFilterDto none() {
+        return new ReportFilterDto(null, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * The filters that are set, by name, in declaration order.
+     */
+    public Map<String, Object> values() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        put(values, "status", status);
+        put(values, "priority", priority);
+        put(values, "role", role);
+        put(values, "teamId", teamId);
+        put(values, "projectId", projectId);
+        put(values, "taskId", taskId);
+        put(values, "assigneeId", assigneeId);
+        put(values, "authorId", authorId);
+        put(values, "createdFrom", createdFrom);
+        put(values, "createdTo", createdTo);
+        return values;
+    }
+
+    private static void put(Map<String, Object> values, String name, Object value) {
+        if (value != null && !(value instanceof String text && text.isBlank())) {
+            values.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanagement.report.enums;
+
+public enum ReportType {
+
+    TASKS,
+    USERS,
+    COMMENTS
+}
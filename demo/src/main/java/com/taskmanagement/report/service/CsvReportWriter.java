@@ -0,0 +1,147 @@
+package com.taskmanagement.report.service;
+
+import com.taskmanagement.common.sql.UtcTimestamps;
+import com.taskmanagement.report.service.ReportDefinition.Column;
+import com.taskmanagement.report.service.ReportDefinition.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes a report query as RFC 4180 CSV. The query runs once, through a
+ * forward-only cursor inside a read-only repeatable-read transaction, and
+ * each row goes to the output as soon as it is read, so the report is a
+ * consistent snapshot and memory stays flat however many rows there are.
+ */
+@Component
+public class CsvReportWriter {
+
+    private static final String LINE_END = "\r\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${report.fetch-size:1000}")
+    private int fetchSize;
+
+    public CsvReportWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        // Postgres only streams a cursor inside a transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Writes the header and every row of the query, returning the row count.
+     */
+    long write(Query query, OutputStream out) throws IOException {
+
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        List<Column> columns = query.columns();
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            csv.write(columns.get(i).name());
+        }
+        csv.write(LINE_END);
+
+        long[] rows = {0};
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(query.sql(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                List<Object> parameters = query.parameters();
+                for (int i = 0; i < parameters.size(); i++) {
+                    ps.setObject(i + 1, parameters.get(i));
+                }
+                return ps;
+            }, rs -> {
+                writeRow(csv, columns, rs);
+                rows[0]++;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        csv.flush();
+        return rows[0];
+    }
+
+    private static void writeRow(Writer csv, List<Column> columns, ResultSet rs) throws SQLException {
+        try {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    csv.write(',');
+                }
+                csv.write(cell(columns.get(i), rs, i + 1));
+            }
+            csv.write(LINE_END);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String cell(Column column, ResultSet rs, int index) throws SQLException {
+        switch (column.kind()) {
+            case NUMBER -> {
+                String value = rs.getString(index);
+                return value != null ? value : "";
+            }
+            case BOOLEAN -> {
+                boolean value = rs.getBoolean(index);
+                return rs.wasNull() ? "" : Boolean.toString(value);
+            }
+            case TIMESTAMP -> {
+                Instant value = UtcTimestamps.read(rs, index);
+                return value != null ? value.toString() : "";
+            }
+            default -> {
+                return text(rs.getString(index));
+            }
+        }
+    }
+
+    /**
+     * Quotes a text value when CSV needs it. Values a spreadsheet would run as
+     * a formula are prefixed with an apostrophe, since user-entered titles and
+     * comments end up in these files.
+     */
+    static String text(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,225 @@
+package com.taskmanagement.report.service;
+
+import com.taskmanagement.comment.enums.CommentStatus;
+import com.taskmanagement.common.sql.UtcTimestamps;
+import com.taskmanagement.report.enums.ReportType;
+import com.taskmanagement.task.enums.TaskPriority;
+import com.taskmanagement.task.enums.TaskStatus;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The columns and filters each admin report offers, and the single SQL query
+ * that produces a report for a chosen set of them. Column expressions and
+ * filter predicates are fixed here; request values only ever pick among them
+ * or become bind parameters.
+ */
+final class ReportDefinition {
+
+    enum Kind {
+        TEXT,
+        NUMBER,
+        BOOLEAN,
+        TIMESTAMP
+    }
+
+    record Column(String name, String expression, Kind kind) {
+    }
+
+    private record Filter(String name, String predicate, Class<? extends Enum<?>> enumType) {
+    }
+
+    record Query(ReportType type, String sql, List<Column> columns, List<Object> parameters) {
+    }
+
+    private static final Map<ReportType, ReportDefinition> DEFINITIONS = new EnumMap<>(ReportType.class);
+
+    static {
+        DEFINITIONS.put(ReportType.TASKS, new ReportDefinition(ReportType.TASKS,
+                """
+                        tasks t
+                                 JOIN projects p ON p.id = t.project_id
+                                 JOIN teams tm ON tm.id = p.team_id
+                                 LEFT JOIN users u ON u.id = t.assigned_to""",
+                "t.id",
+                List.of(
+                        new Column("id", "t.id", Kind.NUMBER),
+                        new Column("title", "t.title", Kind.TEXT),
+                        new Column("description", "t.description", Kind.TEXT),
+                        new Column("status", "t.status", Kind.TEXT),
+                        new Column("priority", "t.priority", Kind.TEXT),
+                        new Column("projectId", "p.id", Kind.NUMBER),
+                        new Column("projectName", "p.name", Kind.TEXT),
+                        new Column("teamId", "tm.id", Kind.NUMBER),
+                        new Column("teamName", "tm.name", Kind.TEXT),
+                        new Column("assigneeId", "u.id", Kind.NUMBER),
+                        new Column("assigneeEmail", "u.email", Kind.TEXT),
+                        new Column("assigneeName", "u.first_name || ' ' || u.last_name", Kind.TEXT),
+                        new Column("dueDate", "t.due_date", Kind.TIMESTAMP),
+                        new Column("completedAt", "t.completed_at", Kind.TIMESTAMP),
+                        new Column("createdAt", "t.created_at", Kind.TIMESTAMP),
+                        new Column("updatedAt", "t.updated_at", Kind.TIMESTAMP)),
+                List.of(
+                        new Filter("status", "t.status = ?", TaskStatus.class),
+                        new Filter("priority", "t.priority = ?", TaskPriority.class),
+                        new Filter("teamId", "p.team_id = ?", null),
+                        new Filter("projectId", "t.project_id = ?", null),
+                        new Filter("assigneeId", "t.assigned_to = ?", null),
+                        new Filter("createdFrom", "t.created_at >= ?", null),
+                        new Filter("createdTo", "t.created_at < ?", null))));
+
+        DEFINITIONS.put(ReportType.USERS, new ReportDefinition(ReportType.USERS,
+                "users u",
+                "u.id",
+                List.of(
+                        new Column("id", "u.id", Kind.NUMBER),
+                        new Column("email", "u.email", Kind.TEXT),
+                        new Column("firstName", "u.first_name", Kind.TEXT),
+                        new Column("lastName", "u.last_name", Kind.TEXT),
+                        new Column("role", "u.role", Kind.TEXT),
+                        new Column("status", "u.status", Kind.TEXT),
+                        new Column("emailVerified", "u.email_verified", Kind.BOOLEAN),
+                        new Column("createdAt", "u.created_at", Kind.TIMESTAMP),
+                        new Column("updatedAt", "u.updated_at", Kind.TIMESTAMP)),
+                List.of(
+                        new Filter("status", "u.status = ?", UserStatus.class),
+                        new Filter("role", "u.role = ?", Role.class),
+                        new Filter("createdFrom", "u.created_at >= ?", null),
+                        new Filter("createdTo", "u.created_at < ?", null))));
+
+        DEFINITIONS.put(ReportType.COMMENTS, new ReportDefinition(ReportType.COMMENTS,
+                """
+                        comments c
+                                 JOIN tasks t ON t.id = c.task_id
+                                 JOIN users u ON u.id = c.user_id""",
+                "c.id",
+                List.of(
+                        new Column("id", "c.id", Kind.NUMBER),
+                        new Column("taskId", "t.id", Kind.NUMBER),
+                        new Column("taskTitle", "t.title", Kind.TEXT),
+                        new Column("projectId", "t.project_id", Kind.NUMBER),
+                        new Column("authorId", "u.id", Kind.NUMBER),
+                        new Column("authorEmail", "u.email", Kind.TEXT),
+                        new Column("content", "c.content", Kind.TEXT),
+                        new Column("status", "c.status", Kind.TEXT),
+                        new Column("createdAt", "c.created_at", Kind.TIMESTAMP),
+                        new Column("updatedAt", "c.updated_at", Kind.TIMESTAMP)),
+                List.of(
+                        new Filter("status", "c.status = ?", CommentStatus.class),
+                        new Filter("taskId", "c.task_id = ?", null),
+                        new Filter("projectId", "t.project_id = ?", null),
+                        new Filter("authorId", "c.user_id = ?", null),
+                        new Filter("createdFrom", "c.created_at >= ?", null),
+                        new Filter("createdTo", "c.created_at < ?", null))));
+    }
+
+    private final ReportType type;
+    private final String from;
+    private final String orderBy;
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private final Map<String, Filter> filters = new LinkedHashMap<>();
+
+    private ReportDefinition(ReportType type, String from, String orderBy, List<Column> columns, List<Filter> filters) {
+        this.type = type;
+        this.from = from;
+        this.orderBy = orderBy;
+        columns.forEach(column -> this.columns.put(column.name().toLowerCase(Locale.ROOT), column));
+        filters.forEach(filter -> this.filters.put(filter.name(), filter));
+    }
+
+    static ReportDefinition of(ReportType type) {
+        return DEFINITIONS.get(type);
+    }
+
+    List<String> columnNames() {
+        return columns.values().stream().map(Column::name).toList();
+    }
+
+    Set<String> filterNames() {
+        return filters.keySet();
+    }
+
+    /**
+     * Builds the query for the requested columns (all of them when none are
+     * given, in the order given otherwise) and the filters that are set.
+     */
+    Query query(List<String> requestedColumns, Map<String, Object> filterValues) {
+
+        List<Column> selected = selectColumns(requestedColumns);
+
+        List<String> predicates = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+
+        filterValues.forEach((name, value) -> {
+            Filter filter = filters.get(name);
+            if (filter == null) {
+                throw new IllegalArgumentException("The " + type.name().toLowerCase(Locale.ROOT) +
+                        " report cannot be filtered by '" + name + "'; use one of " + filterNames());
+            }
+            predicates.add(filter.predicate());
+            parameters.add(bind(filter, value));
+        });
+
+        String sql = "SELECT " +
+                selected.stream().map(Column::expression).collect(Collectors.joining(", ")) +
+                "\nFROM " + from +
+                (predicates.isEmpty() ? "" : "\nWHERE " + String.join(" AND ", predicates)) +
+                "\nORDER BY " + orderBy;
+
+        return new Query(type, sql, selected, List.copyOf(parameters));
+    }
+
+    private List<Column> selectColumns(List<String> requestedColumns) {
+
+        if (requestedColumns == null || requestedColumns.isEmpty()) {
+            return List.copyOf(columns.values());
+        }
+
+        Set<Column> selected = new LinkedHashSet<>();
+        for (String requested : requestedColumns) {
+            if (requested == null || requested.isBlank()) {
+                continue;
+            }
+            Column column = columns.get(requested.trim().toLowerCase(Locale.ROOT));
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown report column '" + requested.trim() +
+                        "'; use any of " + columnNames());
+            }
+            selected.add(column);
+        }
+
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one report column is required");
+        }
+        return List.copyOf(selected);
+    }
+
+    private static Object bind(Filter filter, Object value) {
+
+        if (filter.enumType() != null) {
+            String name = value.toString().trim().toUpperCase(Locale.ROOT);
+            for (Enum<?> constant : filter.enumType().getEnumConstants()) {
+                if (constant.name().equals(name)) {
+                    return name;
+                }
+            }
+            throw new IllegalArgumentException("Unknown " + filter.enumType().getSimpleName() + " '" + value + "'");
+        }
+
+        if (value instanceof Instant instant) {
+            return UtcTimestamps.toColumn(instant);
+        }
+        return value;
+    }
+}
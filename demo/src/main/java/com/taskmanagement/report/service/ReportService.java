@@ -0,0 +1,12 @@
+package com.taskmanagement.report.service;
+
+import com.taskmanagement.report.dto.ReportFilterDto;
+import com.taskmanagement.report.enums.ReportType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+public interface ReportService {
+
+    StreamingResponseBody streamReport(ReportType type, List<String> columns, ReportFilterDto filter);
+}
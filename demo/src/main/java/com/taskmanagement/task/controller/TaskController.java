@@ -1,5 +1,7 @@
 package com.taskmanagement.task.controller;
 
+import com.taskmanagement.common.workload.DatabaseWorkload;
+import com.taskmanagement.common.workload.Workload;
 import com.taskmanagement.task.dto.AssignTaskDto;
 import com.taskmanagement.task.dto.CreateTaskDto;
 import com.taskmanagement.task.dto.TaskResponseDto;
@@ -422,6 +424,7 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
+    @DatabaseWorkload(Workload.REPORTING)
     @GetMapping("/admin/all")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<TaskResponseDto>> getAllTasksForAdmin(
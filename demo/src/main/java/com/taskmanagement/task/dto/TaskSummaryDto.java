@@ -0,0 +1,16 @@
+package com.taskmanagement.task.dto;
+
+import com.taskmanagement.task.entity.Task;
+import com.taskmanagement.task.enums.TaskStatus;
+
+import java.io.Serializable;
+
+/**
+ * The part of a task that access checks need, small enough to cache.
+ */
+public record TaskSummaryDto(Long id, Long projectId, TaskStatus status, Long assignedTo) implements Serializable {
+
+    public static TaskSummaryDto of(Task task) {
+        return new TaskSummaryDto(task.getId(), task.getProjectIdSafe(), task.getStatus(), task.getAssignedToSafe());
+    }
+}
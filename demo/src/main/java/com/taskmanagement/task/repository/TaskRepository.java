@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -36,4 +37,16 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Page<Task> findByAssignedToAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
 
 
+    // One pass over the project's tasks, grouped three ways at once
+    @Query(value = "SELECT GROUPING(status, priority, assigned_to) AS dimension, " +
+            "status AS status, priority AS priority, assigned_to AS assignee, " +
+            "COUNT(*) AS tasks, " +
+            "COUNT(*) FILTER (WHERE due_date < now() AT TIME ZONE 'UTC' AND status <> 'DONE') AS overdue " +
+            "FROM tasks " +
+            "WHERE project_id = :projectId AND status <> 'DELETED' " +
+            "GROUP BY GROUPING SETS ((status), (priority), (assigned_to))",
+            nativeQuery = true)
+    List<TaskStatsRow> aggregateStatsByProjectId(@Param("projectId") Long projectId);
+
+
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.taskmanagement.task.repository;
+
+/**
+ * One group of the project statistics aggregate. Which of status, priority
+ * or assignee the row counts is given by its dimension, the SQL GROUPING()
+ * bitmask over (status, priority, assigned_to).
+ */
+public interface TaskStatsRow {
+
+    int BY_STATUS = 3;
+    int BY_PRIORITY = 5;
+    int BY_ASSIGNEE = 6;
+
+    Integer getDimension();
+
+    String getStatus();
+
+    String getPriority();
+
+    Long getAssignee();
+
+    Long getTasks();
+
+    Long getOverdue();
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.task.service;
+
+import com.taskmanagement.common.config.CacheConfig;
+import com.taskmanagement.task.dto.TaskSummaryDto;
+import com.taskmanagement.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached task summaries for access checks in the comment and attachment
+ * services. Task writes evict the entry, which takes effect on commit and on
+ * every node.
+ */
+@RequiredArgsConstructor
+@Component
+public class TaskLookup {
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * Returns the task's summary, or null if there is no such task.
+     */
+    @Cacheable(cacheNames = CacheConfig.TASK_SUMMARIES, key = "#taskId", unless = "#result == null")
+    public TaskSummaryDto find(Long taskId) {
+        return taskRepository.findById(taskId).map(TaskSummaryDto::of).orElse(null);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.TASK_SUMMARIES, key = "#taskId")
+    public void evict(Long taskId) {
+        // Eviction is done by the annotation
+    }
+
+    // For bulk changes that do not know which tasks they touched
+    @CacheEvict(cacheNames = CacheConfig.TASK_SUMMARIES, allEntries = true)
+    public void evictAll() {
+        // Eviction is done by the annotation
+    }
+}
@@ -1,9 +1,15 @@
 package com.taskmanagement.task.service;
 
+import com.taskmanagement.common.concurrent.SingleFlight;
+import com.taskmanagement.outbox.enums.OutboxAggregateType;
+import com.taskmanagement.outbox.enums.OutboxEventType;
+import com.taskmanagement.outbox.service.OutboxService;
+import com.taskmanagement.project.service.ProjectStatsCalculator;
 import com.taskmanagement.task.dto.AssignTaskDto;
 import com.taskmanagement.task.dto.CreateTaskDto;
 import com.taskmanagement.task.dto.TaskResponseDto;
 import com.taskmanagement.task.dto.UpdateTaskDto;
+import com.taskmanagement.task.entity.Task;
 import com.taskmanagement.task.enums.TaskStatus;
 import com.taskmanagement.task.mapper.TaskMapper;
 import com.taskmanagement.task.repository.TaskRepository;
@@ -14,6 +20,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -24,6 +33,10 @@ public class TaskServiceImplementation implements TaskService {
     private final SecurityHelper securityHelper;
     private final TaskMapper taskMapper;
     private final TaskRepository taskRepository;
+    private final OutboxService outboxService;
+    private final ProjectStatsCalculator projectStatsCalculator;
+    private final TaskLookup taskLookup;
+    private final SingleFlight singleFlight;
 
     @Override
     @Transactional
@@ -52,6 +65,8 @@ public class TaskServiceImplementation implements TaskService {
 
         var savedTask = taskRepository.save(task);
 
+        recordTaskEvent(OutboxEventType.TASK_CREATED, savedTask, currentUser.getId());
+
         log.info("Task '{}' (ID: {}) created in project {} by user {} (ID: {})",
                 savedTask.getTitle(),
                 savedTask.getId(),
@@ -79,8 +94,8 @@ public class TaskServiceImplementation implements TaskService {
         return taskMapper.toDto(task);
     }
 
+    // Not transactional: a caller waiting on another's fetch must not hold a pooled connection meanwhile
     @Override
-    @Transactional(readOnly = true)
     public Page<TaskResponseDto> getTasksByProject(Long projectId, Pageable pageable) {
         Objects.requireNonNull(projectId, "Project ID must not be null");
         Objects.requireNonNull(pageable, "Pageable must not be null");
@@ -92,13 +107,11 @@ public class TaskServiceImplementation implements TaskService {
 
         securityHelper.canCreateTaskInProject(currentUser, project.getId());
 
-        if (securityHelper.isSystemAdmin(currentUser)) {
-            return taskRepository.findByProjectId(projectId, pageable)
-                    .map(taskMapper::toDto);
-        } else {
-            return taskRepository.findByProjectIdAndNotDeleted(projectId, pageable)
-                    .map(taskMapper::toDto);
-        }
+        // Concurrent identical page reads share a single fetch; admins also see deleted tasks
+        boolean adminView = securityHelper.isSystemAdmin(currentUser);
+        return singleFlight.load("tasksByProject", List.of(projectId, pageable, adminView), () -> adminView
+                ? taskRepository.findByProjectId(projectId, pageable).map(taskMapper::toDto)
+                : taskRepository.findByProjectIdAndNotDeleted(projectId, pageable).map(taskMapper::toDto));
     }
 
     @Override
@@ -142,6 +155,8 @@ public class TaskServiceImplementation implements TaskService {
 
         var updatedTask = taskRepository.save(task);
 
+        recordTaskEvent(OutboxEventType.TASK_UPDATED, updatedTask, currentUser.getId());
+
         log.info("Task '{}' (ID: {}) updated by user {} (ID: {})",
                 updatedTask.getTitle(),
                 updatedTask.getId(),
@@ -172,6 +187,8 @@ public class TaskServiceImplementation implements TaskService {
 
         taskRepository.save(task);
 
+        recordTaskEvent(OutboxEventType.TASK_UPDATED, task, currentUser.getId());
+
         log.info("Task '{}' (ID: {}) deleted by user {} (ID: {}) from {} to DELETED",
                 task.getTitle(),
                 task.getId(),
@@ -202,6 +219,8 @@ public class TaskServiceImplementation implements TaskService {
 
         var updatedTask = taskRepository.save(task);
 
+        recordTaskEvent(OutboxEventType.TASK_ASSIGNED, updatedTask, currentUser.getId());
+
         if (previousAssignee == null) {
             log.info("Task '{}' (ID: {}) assigned to user {} by user {} (ID: {})",
                     updatedTask.getTitle(),
@@ -243,6 +262,8 @@ public class TaskServiceImplementation implements TaskService {
 
         var updatedTask = taskRepository.save(task);
 
+        recordTaskEvent(OutboxEventType.TASK_ASSIGNED, updatedTask, currentUser.getId());
+
         log.info("Task '{}' (ID: {}) unassigned from user {} by user {} (ID: {})",
                 updatedTask.getTitle(),
                 updatedTask.getId(),
@@ -279,6 +300,25 @@ public class TaskServiceImplementation implements TaskService {
                 .map(taskMapper::toDto);
     }
 
+    private void recordTaskEvent(OutboxEventType eventType, Task task, Long actorId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("taskId", task.getId());
+        payload.put("projectId", task.getProjectIdSafe());
+        payload.put("title", task.getTitle());
+        payload.put("status", task.getStatus());
+        payload.put("priority", task.getPriority());
+        // assignedTo is a read-only column and lags behind the relationship until reload
+        payload.put("assignedTo", task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
+        payload.put("dueDate", task.getDueDate());
+        payload.put("actorId", actorId);
+
+        outboxService.record(OutboxAggregateType.TASK, task.getId(), eventType, payload);
+
+        // Every task write goes through here; the evictions themselves wait for commit
+        projectStatsCalculator.evict(task.getProjectIdSafe());
+        taskLookup.evict(task.getId());
+    }
+
     private void validateStatusTransition(TaskStatus currentStatus, TaskStatus newStatus) {
         if (currentStatus == newStatus) {
             throw new IllegalStateException("Task is already in " + currentStatus + " status");
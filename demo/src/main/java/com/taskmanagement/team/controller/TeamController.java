@@ -1,8 +1,10 @@
 package com.taskmanagement.team.controller;
 
+import com.taskmanagement.team.dto.TeamCascadeJobDto;
 import com.taskmanagement.team.dto.TeamCreateDto;
 import com.taskmanagement.team.dto.TeamResponseDto;
 import com.taskmanagement.team.dto.TeamUpdateDto;
+import com.taskmanagement.team.service.TeamCascadeService;
 import com.taskmanagement.team.service.TeamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamCascadeService teamCascadeService;
 
     @Operation(
             summary = "Create a new team",
@@ -316,6 +319,8 @@ public class TeamController {
                     **Business Logic:**
                     - Only DELETED teams can be restored
                     - Team is restored to ACTIVE status
+                    - Content removed by the team's deletion is restored in the
+                      background; follow progress with `GET /api/teams/{teamId}/cascade`
                     - All team memberships remain intact
                     - Team name uniqueness is re-validated
                     
@@ -357,6 +362,8 @@ public class TeamController {
                     - Team status changes from ACTIVE to DELETED
                     - Team members are NOT automatically removed
                     - Projects under this team become inaccessible
+                    - Projects, tasks, comments and attachments are soft-deleted in the
+                      background; follow progress with `GET /api/teams/{teamId}/cascade`
                     
                     **Authorization:**
                     - Team OWNER can delete their own team
@@ -383,4 +390,34 @@ public class TeamController {
         teamService.deleteTeam(teamId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Get delete/restore progress",
+            description = """
+                    Returns the latest background cascade of a team's deletion or restore.
+                    
+                    **Business Logic:**
+                    - Deleting a team soft-deletes its projects, tasks, comments and attachments
+                      in chunks after the request returns; restoring brings them back
+                    - Counters grow as each chunk commits
+                    - A failed job is retried automatically a limited number of times
+                    
+                    **Authorization:**
+                    - Team OWNER or ADMIN, or system ADMIN
+                    - User must have ACTIVE status
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cascade progress",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TeamCascadeJobDto.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not team owner or admin"),
+            @ApiResponse(responseCode = "404", description = "Team not found or never deleted")
+    })
+    @GetMapping("/{teamId}/cascade")
+    public ResponseEntity<TeamCascadeJobDto> getCascadeProgress(
+            @Parameter(description = "Team ID", required = true, example = "1")
+            @PathVariable Long teamId) {
+        return ResponseEntity.ok(teamCascadeService.getLatestJob(teamId));
+    }
+}
@@ -101,6 +101,115 @@ public class TeamMemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(teamMemberService.addMember(dto));
     }
 
+    @Operation(
+            summary = "Add several members to team",
+            description = """
+                    Adds a list of users to a team with the same role in one transaction.
+                    
+                    **📋 Required Fields:**
+                    - `userIds` (Long[]) - IDs of the users to add (1-500) ✅ REQUIRED
+                    - `role` (String) - Member role (optional, defaults to MEMBER)
+                    
+                    **Business Logic:**
+                    - Users that are already active members are skipped
+                    - Removed or inactive members are reactivated with the given role
+                    - All users are validated before anything is written
+                    
+                    **Authorization:**
+                    - Only team OWNER can add members
+                    - User must have ACTIVE status
+                    
+                    **Validation:**
+                    - Team must exist and be ACTIVE
+                    - Every user must exist and be ACTIVE
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Members added",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkMemberResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input - empty or too many user IDs"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only team owner can add members"),
+            @ApiResponse(responseCode = "404", description = "Team or one of the users not found")
+    })
+    @PostMapping("/{teamId}/members/bulk")
+    public ResponseEntity<BulkMemberResultDto> addMembers(
+            @Parameter(description = "Team ID", required = true, example = "1")
+            @PathVariable Long teamId,
+            @Valid @RequestBody BulkAddMembersRequestDto dto) {
+        return ResponseEntity.status(HttpStatus.OK).body(teamMemberService.addMembers(teamId, dto));
+    }
+
+    @Operation(
+            summary = "Remove several members from team",
+            description = """
+                    Removes a list of members from a team in one transaction.
+                    
+                    **Business Logic:**
+                    - Members that are not active are skipped
+                    - OWNER cannot remove themselves
+                    - All members are validated before anything is written
+                    
+                    **Authorization:**
+                    - Only team OWNER can remove members
+                    - User must have ACTIVE status
+                    
+                    **Validation:**
+                    - Team must exist and be ACTIVE
+                    - Every user must be a member of the team
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Members removed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkMemberResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input - empty or too many user IDs"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only team owner can remove members / Cannot remove self"),
+            @ApiResponse(responseCode = "404", description = "Team not found or a user is not a member")
+    })
+    @PostMapping("/{teamId}/members/bulk-remove")
+    public ResponseEntity<BulkMemberResultDto> removeMembers(
+            @Parameter(description = "Team ID", required = true, example = "1")
+            @PathVariable Long teamId,
+            @Valid @RequestBody BulkRemoveMembersRequestDto dto) {
+        return ResponseEntity.status(HttpStatus.OK).body(teamMemberService.removeMembers(teamId, dto));
+    }
+
+    @Operation(
+            summary = "Update the role of several members",
+            description = """
+                    Gives a list of members the same role in one transaction.
+                    
+                    **Business Logic:**
+                    - Members that are not active or already have the role are skipped
+                    - OWNER cannot change their own role
+                    - All members are validated before anything is written
+                    
+                    **Authorization:**
+                    - Only team OWNER can update roles
+                    - User must have ACTIVE status
+                    
+                    **Validation:**
+                    - Team must exist and be ACTIVE
+                    - Every user must be a member of the team
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Member roles updated",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkMemberResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input - empty or too many user IDs, or missing role"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only team owner can update roles / Cannot modify own role"),
+            @ApiResponse(responseCode = "404", description = "Team not found or a user is not a member")
+    })
+    @PutMapping("/{teamId}/members/bulk-role")
+    public ResponseEntity<BulkMemberResultDto> updateMemberRoles(
+            @Parameter(description = "Team ID", required = true, example = "1")
+            @PathVariable Long teamId,
+            @Valid @RequestBody BulkUpdateMemberRoleDto dto) {
+        return ResponseEntity.status(HttpStatus.OK).body(teamMemberService.updateMemberRoles(teamId, dto));
+    }
+
     @Operation(
             summary = "Get team members",
             description = """
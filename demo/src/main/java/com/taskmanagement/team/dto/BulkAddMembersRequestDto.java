@@ -0,0 +1,32 @@
+package com.taskmanagement.team.dto;
+
+import com.taskmanagement.team.enums.TeamRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request body for adding several users to a team at once")
+public record BulkAddMembersRequestDto(
+
+        @Schema(description = "IDs of the users to add", example = "[5, 6, 7]",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty (message = "User IDs must not be empty")
+        @Size (max = 500, message = "At most 500 users can be added at once")
+        List<@NotNull (message = "User ID must not be null") Long> userIds ,
+
+        @Schema(description = "Role to assign to every added member (defaults to MEMBER if not provided)",
+                example = "MEMBER", requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+                allowableValues = {"OWNER", "ADMIN", "MEMBER"}, defaultValue = "MEMBER")
+        TeamRole role
+
+) {
+
+    public BulkAddMembersRequestDto {
+        if (role == null) {
+            role = TeamRole.MEMBER;
+        }
+    }
+}
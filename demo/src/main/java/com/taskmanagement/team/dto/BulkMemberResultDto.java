@@ -0,0 +1,21 @@
+package com.taskmanagement.team.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk team membership change")
+public record BulkMemberResultDto(
+
+        @Schema(description = "ID of the team", example = "1")
+        Long teamId ,
+
+        @Schema(description = "Users the change was applied to", example = "[5, 6]")
+        List<Long> updatedUserIds ,
+
+        @Schema(description = "Users left as they were, e.g. already members or already in the role",
+                example = "[7]")
+        List<Long> skippedUserIds
+
+) {
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.team.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request body for removing several members from a team at once")
+public record BulkRemoveMembersRequestDto(
+
+        @Schema(description = "IDs of the users to remove", example = "[5, 6, 7]",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty (message = "User IDs must not be empty")
+        @Size (max = 500, message = "At most 500 members can be removed at once")
+        List<@NotNull (message = "User ID must not be null") Long> userIds
+
+) {
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.team.dto;
+
+import com.taskmanagement.team.enums.TeamRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request body for changing the role of several team members at once")
+public record BulkUpdateMemberRoleDto(
+
+        @Schema(description = "IDs of the users whose role changes", example = "[5, 6, 7]",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty (message = "User IDs must not be empty")
+        @Size (max = 500, message = "At most 500 member roles can be changed at once")
+        List<@NotNull (message = "User ID must not be null") Long> userIds ,
+
+        @Schema(description = "New role to assign to every listed member", example = "ADMIN",
+                requiredMode = Schema.RequiredMode.REQUIRED,
+                allowableValues = {"OWNER", "ADMIN", "MEMBER"})
+        @NotNull (message = "New role must not be null")
+        TeamRole newRole
+
+) {
+}
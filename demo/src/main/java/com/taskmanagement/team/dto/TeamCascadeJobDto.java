@@ -0,0 +1,50 @@
+package com.taskmanagement.team.dto;
+
+import com.taskmanagement.team.enums.TeamCascadeJobStatus;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
+import com.taskmanagement.team.enums.TeamCascadeStep;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Progress of a team delete or restore cascade")
+public record TeamCascadeJobDto(
+
+        @Schema(description = "Cascade job ID", example = "12")
+        Long id ,
+
+        @Schema(description = "ID of the team", example = "1")
+        Long teamId ,
+
+        @Schema(description = "Whether the team's content is being deleted or restored", example = "DELETE")
+        TeamCascadeOperation operation ,
+
+        @Schema(description = "Job status", example = "RUNNING")
+        TeamCascadeJobStatus status ,
+
+        @Schema(description = "Level currently being processed", example = "TASKS")
+        TeamCascadeStep currentStep ,
+
+        @Schema(description = "Projects updated so far", example = "4")
+        long projectsUpdated ,
+
+        @Schema(description = "Tasks updated so far", example = "1200")
+        long tasksUpdated ,
+
+        @Schema(description = "Comments updated so far", example = "0")
+        long commentsUpdated ,
+
+        @Schema(description = "Attachments updated so far", example = "0")
+        long attachmentsUpdated ,
+
+        @Schema(description = "Why the last attempt failed, if it did")
+        String error ,
+
+        @Schema(description = "When the job started running", example = "2025-01-15T10:30:00Z")
+        Instant startedAt ,
+
+        @Schema(description = "When the job finished", example = "2025-01-15T10:31:10Z")
+        Instant finishedAt
+
+) {
+}
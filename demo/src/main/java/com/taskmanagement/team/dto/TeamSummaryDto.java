@@ -0,0 +1,16 @@
+package com.taskmanagement.team.dto;
+
+import com.taskmanagement.team.entity.Team;
+import com.taskmanagement.team.enums.TeamStatus;
+
+import java.io.Serializable;
+
+/**
+ * The part of a team that access checks need, small enough to cache.
+ */
+public record TeamSummaryDto(Long id, TeamStatus status) implements Serializable {
+
+    public static TeamSummaryDto of(Team team) {
+        return new TeamSummaryDto(team.getId(), team.getStatus());
+    }
+}
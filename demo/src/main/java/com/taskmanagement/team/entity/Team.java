@@ -5,9 +5,13 @@ import com.taskmanagement.team.enums.TeamStatus;
 import com.taskmanagement.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "teams")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,64 @@
+package com.taskmanagement.team.entity;
+
+import com.taskmanagement.common.entity.BaseEntity;
+import com.taskmanagement.team.enums.TeamCascadeJobStatus;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
+import com.taskmanagement.team.enums.TeamCascadeStep;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * An asynchronous delete or restore of everything under a team. Progress
+ * columns are only changed through the atomic updates in
+ * TeamCascadeJobRepository while the job runs.
+ */
+@Entity
+@Table(name = "team_cascade_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamCascadeJob extends BaseEntity {
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TeamCascadeOperation operation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TeamCascadeJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "current_step", length = 20)
+    private TeamCascadeStep currentStep;
+
+    @Column(name = "projects_updated", nullable = false)
+    private long projectsUpdated;
+
+    @Column(name = "tasks_updated", nullable = false)
+    private long tasksUpdated;
+
+    @Column(name = "comments_updated", nullable = false)
+    private long commentsUpdated;
+
+    @Column(name = "attachments_updated", nullable = false)
+    private long attachmentsUpdated;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
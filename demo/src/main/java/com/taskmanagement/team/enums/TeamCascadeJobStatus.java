@@ -0,0 +1,8 @@
+package com.taskmanagement.team.enums;
+
+public enum TeamCascadeJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
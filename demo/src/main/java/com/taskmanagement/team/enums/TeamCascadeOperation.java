@@ -0,0 +1,6 @@
+package com.taskmanagement.team.enums;
+
+public enum TeamCascadeOperation {
+    DELETE,
+    RESTORE
+}
@@ -1,8 +1,10 @@
 package com.taskmanagement.team.mapper;
 
+import com.taskmanagement.team.dto.TeamCascadeJobDto;
 import com.taskmanagement.team.dto.TeamCreateDto;
 import com.taskmanagement.team.dto.TeamResponseDto;
 import com.taskmanagement.team.entity.Team;
+import com.taskmanagement.team.entity.TeamCascadeJob;
 import com.taskmanagement.team.enums.TeamStatus;
 import org.springframework.stereotype.Service;
 
@@ -35,4 +37,24 @@ public class TeamMapper {
 
     }
 
+    public TeamCascadeJobDto toCascadeJobDto(TeamCascadeJob job) {
+
+        return new TeamCascadeJobDto (
+
+                job.getId ( ) ,
+                job.getTeamId ( ) ,
+                job.getOperation ( ) ,
+                job.getStatus ( ) ,
+                job.getCurrentStep ( ) ,
+                job.getProjectsUpdated ( ) ,
+                job.getTasksUpdated ( ) ,
+                job.getCommentsUpdated ( ) ,
+                job.getAttachmentsUpdated ( ) ,
+                job.getError ( ) ,
+                job.getStartedAt ( ) ,
+                job.getFinishedAt ( )
+        );
+
+    }
+
 }
@@ -0,0 +1,11 @@
+package com.taskmanagement.team.repository;
+
+/**
+ * The team fields held by the in-memory directory index.
+ */
+public interface DirectoryTeamRow {
+
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,78 @@
+package com.taskmanagement.team.repository;
+
+import com.taskmanagement.team.entity.TeamCascadeJob;
+import com.taskmanagement.team.enums.TeamCascadeJobStatus;
+import com.taskmanagement.team.enums.TeamCascadeStep;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TeamCascadeJobRepository extends JpaRepository<TeamCascadeJob, Long> {
+
+    boolean existsByTeamIdAndStatusIn(Long teamId, Collection<TeamCascadeJobStatus> statuses);
+
+    Optional<TeamCascadeJob> findFirstByTeamIdOrderByIdDesc(Long teamId);
+
+    /**
+     * Takes the job for this node. A pending job can always be claimed; a
+     * running or failed one only once it has been quiet since
+     * {@code staleBefore}, i.e. its runner died or its last attempt failed.
+     * A job superseded by a newer one for the same team is never resumed.
+     * Returns 0 when someone else holds it or it is done.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TeamCascadeJob j " +
+            "SET j.status = com.taskmanagement.team.enums.TeamCascadeJobStatus.RUNNING, " +
+            "j.attempts = j.attempts + 1, j.startedAt = COALESCE(j.startedAt, :now), " +
+            "j.error = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND (j.status = 'PENDING' OR " +
+            "(j.status IN ('RUNNING', 'FAILED') AND j.updatedAt < :staleBefore AND j.attempts < :maxAttempts)) " +
+            "AND NOT EXISTS (SELECT n.id FROM TeamCascadeJob n WHERE n.teamId = j.teamId AND n.id > j.id)")
+    int claim(@Param("id") Long id,
+              @Param("now") Instant now,
+              @Param("staleBefore") Instant staleBefore,
+              @Param("maxAttempts") int maxAttempts);
+
+    // Also serves as the heartbeat that keeps a running job from looking stale
+    @Transactional
+    @Modifying
+    @Query("UPDATE TeamCascadeJob j SET j.currentStep = :step, " +
+            "j.projectsUpdated = j.projectsUpdated + :projects, " +
+            "j.tasksUpdated = j.tasksUpdated + :tasks, " +
+            "j.commentsUpdated = j.commentsUpdated + :comments, " +
+            "j.attachmentsUpdated = j.attachmentsUpdated + :attachments, " +
+            "j.updatedAt = :now WHERE j.id = :id")
+    int addProgress(@Param("id") Long id,
+                    @Param("step") TeamCascadeStep step,
+                    @Param("projects") long projects,
+                    @Param("tasks") long tasks,
+                    @Param("comments") long comments,
+                    @Param("attachments") long attachments,
+                    @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TeamCascadeJob j SET j.status = :status, j.error = :error, " +
+            "j.finishedAt = :finishedAt, j.updatedAt = :now WHERE j.id = :id")
+    int finish(@Param("id") Long id,
+               @Param("status") TeamCascadeJobStatus status,
+               @Param("error") String error,
+               @Param("finishedAt") Instant finishedAt,
+               @Param("now") Instant now);
+
+    @Query("SELECT j.id FROM TeamCascadeJob j WHERE j.updatedAt < :staleBefore " +
+            "AND (j.status = 'PENDING' OR (j.status IN ('RUNNING', 'FAILED') AND j.attempts < :maxAttempts)) " +
+            "ORDER BY j.id")
+    List<Long> findResumable(@Param("staleBefore") Instant staleBefore,
+                             @Param("maxAttempts") int maxAttempts,
+                             Pageable pageable);
+}
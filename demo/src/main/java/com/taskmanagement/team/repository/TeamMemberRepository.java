@@ -4,13 +4,16 @@ import com.taskmanagement.team.entity.Team;
 import com.taskmanagement.team.entity.TeamMember;
 import com.taskmanagement.team.enums.TeamMemberStatus;
 import com.taskmanagement.team.enums.TeamRole;
+import com.taskmanagement.team.dto.TeamMemberResponseDto;
 import org.antlr.v4.runtime.misc.MultiMap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -34,8 +37,56 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
             (@Param ( "teamId" ) Long teamId  , Pageable pageable);
 
 
+    @Query (value = "SELECT new com.taskmanagement.team.dto.TeamMemberResponseDto(" +
+            "tm.id, tm.teamId, tm.userId, u.email, u.firstName, u.lastName, tm.role, tm.joinedAt) " +
+            "FROM TeamMember tm JOIN tm.user u " +
+            "WHERE tm.teamId = :teamId AND tm.status = 'ACTIVE' ",
+            countQuery = "SELECT COUNT(tm) FROM TeamMember tm " +
+                    "WHERE tm.teamId = :teamId AND tm.status = 'ACTIVE' ")
+    Page <TeamMemberResponseDto> findMemberDtosByTeamId
+            (@Param ( "teamId" ) Long teamId , Pageable pageable);
+
+
     Optional <TeamMember> findByTeamIdAndUserId(Long teamId , Long userId);
 
+    List <TeamMember> findByTeamIdAndUserIdIn(Long teamId , Collection<Long> userIds);
+
+    @Modifying (clearAutomatically = true)
+    @Query (" UPDATE TeamMember tm " +
+            "SET tm.status = :toStatus, tm.updatedAt = :now, tm.updatedBy = :actorId " +
+            "WHERE tm.teamId = :teamId " +
+            "AND tm.status = :fromStatus ")
+    int updateStatusByTeamId(@Param ( "teamId" ) Long teamId ,
+                             @Param ( "fromStatus" ) TeamMemberStatus fromStatus ,
+                             @Param ( "toStatus" ) TeamMemberStatus toStatus ,
+                             @Param ( "actorId" ) Long actorId ,
+                             @Param ( "now" ) Instant now);
+
+    @Modifying (clearAutomatically = true)
+    @Query (" UPDATE TeamMember tm " +
+            "SET tm.status = com.taskmanagement.team.enums.TeamMemberStatus.REMOVED, " +
+            "tm.updatedAt = :now, tm.updatedBy = :actorId " +
+            "WHERE tm.teamId = :teamId " +
+            "AND tm.userId IN :userIds " +
+            "AND tm.status = 'ACTIVE' ")
+    int removeActiveMembers(@Param ( "teamId" ) Long teamId ,
+                            @Param ( "userIds" ) Collection<Long> userIds ,
+                            @Param ( "actorId" ) Long actorId ,
+                            @Param ( "now" ) Instant now);
+
+    @Modifying (clearAutomatically = true)
+    @Query (" UPDATE TeamMember tm " +
+            "SET tm.role = :role, tm.updatedAt = :now, tm.updatedBy = :actorId " +
+            "WHERE tm.teamId = :teamId " +
+            "AND tm.userId IN :userIds " +
+            "AND tm.status = 'ACTIVE' " +
+            "AND tm.role <> :role ")
+    int updateActiveMemberRoles(@Param ( "teamId" ) Long teamId ,
+                                @Param ( "userIds" ) Collection<Long> userIds ,
+                                @Param ( "role" ) TeamRole role ,
+                                @Param ( "actorId" ) Long actorId ,
+                                @Param ( "now" ) Instant now);
+
 
     @Query("SELECT CASE WHEN COUNT(tm) <= 1 THEN true ELSE false END " +
             "FROM TeamMember tm " +
@@ -64,4 +115,15 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     Long countByTeamIdAndStatusActive (@Param ( "teamId" ) Long teamId);
 
     boolean existsByTeamId(Long teamId);
+
+    @Query (" SELECT tm.teamId AS teamId, tm.userId AS userId " +
+            "FROM TeamMember tm " +
+            "WHERE tm.status = 'ACTIVE' ")
+    List<TeamMembershipRow> findActiveMemberships();
+
+    @Query (" SELECT tm.userId " +
+            "FROM TeamMember tm " +
+            "WHERE tm.teamId = :teamId " +
+            "AND tm.status = 'ACTIVE' ")
+    List<Long> findActiveUserIdsByTeamId(@Param ( "teamId" ) Long teamId);
 }
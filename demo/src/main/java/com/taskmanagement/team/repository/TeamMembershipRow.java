@@ -0,0 +1,11 @@
+package com.taskmanagement.team.repository;
+
+/**
+ * An active membership, as a plain team and user id pair.
+ */
+public interface TeamMembershipRow {
+
+    Long getTeamId();
+
+    Long getUserId();
+}
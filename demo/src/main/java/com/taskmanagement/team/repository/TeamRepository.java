@@ -3,14 +3,18 @@ package com.taskmanagement.team.repository;
 
 import com.taskmanagement.team.entity.Team;
 import com.taskmanagement.team.enums.TeamStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.antlr.v4.runtime.misc.MultiMap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
@@ -37,7 +41,11 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     @Query ("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END " +
             "FROM Team t WHERE t.id = :teamId AND t.status = 'ACTIVE' ")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 
     boolean existsByIdAndStatusActive (@Param ( "teamId" ) Long teamId );
 
+    @Query ("SELECT t.id AS id, t.name AS name FROM Team t WHERE t.status = 'ACTIVE'")
+    List<DirectoryTeamRow> findActiveDirectoryTeams();
+
 }
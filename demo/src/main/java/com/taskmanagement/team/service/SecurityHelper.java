@@ -16,6 +16,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Component ("teamSecurityHelper")
 
@@ -64,6 +70,24 @@ public class SecurityHelper {
         return user;
     }
 
+    protected List<User> usersExistAndActiveCheck(Collection<Long> userIds) {
+
+        Map<Long, User> usersById = userRepository.findAllById ( userIds ).stream ( )
+                .collect ( Collectors.toMap ( User::getId , Function.identity ( ) ) );
+
+        for (Long userId : userIds) {
+            var user = usersById.get ( userId );
+            if (user == null) {
+                throw new UserNotFoundException ( userId );
+            }
+            if (user.getStatus ( ) != UserStatus.ACTIVE) {
+                throw new UserNotActiveException ( user.getEmail ( ) );
+            }
+        }
+
+        return List.copyOf ( usersById.values ( ) );
+    }
+
     protected Team teamExistsAndActiveCheck(Long teamId) {
 
         var team = teamRepository.findById ( teamId )
@@ -0,0 +1,8 @@
+package com.taskmanagement.team.service;
+
+/**
+ * Published when a team cascade job is created; it is started once the
+ * transaction that created it has committed.
+ */
+public record TeamCascadeRequestedEvent(Long jobId) {
+}
@@ -0,0 +1,276 @@
+package com.taskmanagement.team.service;
+
+import com.taskmanagement.attachment.repository.TeamStorageUsageRepository;
+import com.taskmanagement.common.cache.EntityCacheEvictor;
+import com.taskmanagement.project.entity.Project;
+import com.taskmanagement.project.service.ProjectLookup;
+import com.taskmanagement.project.service.ProjectStatsCalculator;
+import com.taskmanagement.task.service.TaskLookup;
+import com.taskmanagement.team.entity.TeamCascadeJob;
+import com.taskmanagement.team.enums.TeamCascadeJobStatus;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
+import com.taskmanagement.team.enums.TeamCascadeStep;
+import com.taskmanagement.team.repository.TeamCascadeJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs team cascade jobs on a single background thread. Each level of the
+ * team (projects, tasks, comments, attachments) is changed with one UPDATE
+ * per chunk of rows, each chunk in its own short transaction together with
+ * the job's progress. Deleting remembers every row's status so a restore can
+ * put it back; rows deleted before the team was are left alone by both.
+ * Chunks select what is still left to do, so a job that was interrupted is
+ * simply resumed by the recovery sweep.
+ */
+@Slf4j
+@Component
+public class TeamCascadeRunner implements DisposableBean {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final List<TeamCascadeStep> DELETE_ORDER = List.of(
+            TeamCascadeStep.PROJECTS, TeamCascadeStep.TASKS, TeamCascadeStep.COMMENTS, TeamCascadeStep.ATTACHMENTS);
+
+    // Children come back before their parents become visible again
+    private static final List<TeamCascadeStep> RESTORE_ORDER = List.of(
+            TeamCascadeStep.ATTACHMENTS, TeamCascadeStep.COMMENTS, TeamCascadeStep.TASKS, TeamCascadeStep.PROJECTS);
+
+    private final TeamCascadeJobRepository jobRepository;
+    private final TeamStorageUsageRepository storageUsageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectLookup projectLookup;
+    private final ProjectStatsCalculator projectStatsCalculator;
+    private final TaskLookup taskLookup;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ThreadPoolExecutor worker;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    @Value("${team.cascade.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${team.cascade.chunk-pause-ms:50}")
+    private long chunkPauseMillis;
+
+    @Value("${team.cascade.stale-after-ms:300000}")
+    private long staleAfterMillis;
+
+    @Value("${team.cascade.max-attempts:3}")
+    private int maxAttempts;
+
+    public TeamCascadeRunner(TeamCascadeJobRepository jobRepository,
+                             TeamStorageUsageRepository storageUsageRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ProjectLookup projectLookup,
+                             ProjectStatsCalculator projectStatsCalculator,
+                             TaskLookup taskLookup,
+                             EntityCacheEvictor entityCacheEvictor,
+                             @Value("${team.cascade.queue-capacity:100}") int queueCapacity) {
+        this.jobRepository = jobRepository;
+        this.storageUsageRepository = storageUsageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projectLookup = projectLookup;
+        this.projectStatsCalculator = projectStatsCalculator;
+        this.taskLookup = taskLookup;
+        this.entityCacheEvictor = entityCacheEvictor;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.worker = new ThreadPoolExecutor(
+                1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "team-cascade-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.worker.allowCoreThreadTimeOut(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCascadeRequested(TeamCascadeRequestedEvent event) {
+        submit(event.jobId());
+    }
+
+    @Scheduled(fixedDelayString = "${team.cascade.recovery-interval-ms:60000}")
+    public void resumeStalled() {
+        Instant staleBefore = Instant.now().minusMillis(staleAfterMillis);
+        jobRepository.findResumable(staleBefore, maxAttempts, PageRequest.of(0, 20)).forEach(this::submit);
+    }
+
+    @Override
+    public void destroy() {
+        worker.shutdownNow();
+    }
+
+    private void submit(Long jobId) {
+        if (!queued.add(jobId)) {
+            return;
+        }
+
+        try {
+            worker.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    queued.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.remove(jobId);
+            log.warn("Cascade queue full, job {} is left for the recovery sweep", jobId);
+        }
+    }
+
+    void run(Long jobId) {
+        Instant now = Instant.now();
+        if (jobRepository.claim(jobId, now, now.minusMillis(staleAfterMillis), maxAttempts) == 0) {
+            log.debug("Cascade job {} is finished, superseded or held by another runner", jobId);
+            return;
+        }
+
+        var job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            var steps = job.getOperation() == TeamCascadeOperation.DELETE ? DELETE_ORDER : RESTORE_ORDER;
+            for (TeamCascadeStep step : steps) {
+                runStep(job, step);
+            }
+
+            Instant finished = Instant.now();
+            jobRepository.finish(jobId, TeamCascadeJobStatus.COMPLETED, null, finished, finished);
+
+            log.info("Cascade job {} ({} team {}) completed in {} ms", jobId, job.getOperation(),
+                    job.getTeamId(), (System.nanoTime() - started) / 1_000_000);
+
+        } catch (InterruptedException e) {
+            // Left RUNNING; it goes stale and the recovery sweep picks it up again
+            Thread.currentThread().interrupt();
+            log.info("Cascade job {} interrupted", jobId);
+
+        } catch (RuntimeException e) {
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (message.length() > MAX_ERROR_LENGTH) {
+                message = message.substring(0, MAX_ERROR_LENGTH);
+            }
+            Instant failed = Instant.now();
+            jobRepository.finish(jobId, TeamCascadeJobStatus.FAILED, message, null, failed);
+
+            log.warn("Cascade job {} ({} team {}) failed: {}", jobId, job.getOperation(), job.getTeamId(), message);
+
+        } finally {
+            // Chunks change statuses in bulk without knowing which rows are cached
+            projectLookup.evictAll();
+            // Stats leave out deleted tasks, so they change with every task the job touched
+            projectStatsCalculator.evictAll();
+            taskLookup.evictAll();
+            entityCacheEvictor.evictAfterBulkWrite(Project.class);
+        }
+    }
+
+    private void runStep(TeamCascadeJob job, TeamCascadeStep step) throws InterruptedException {
+        String sql = chunkSql(job.getOperation(), step);
+        long sign = job.getOperation() == TeamCascadeOperation.DELETE ? -1 : 1;
+
+        while (true) {
+            long changed = transactionTemplate.execute(status -> {
+                Chunk chunk = jdbcTemplate.queryForObject(sql,
+                        (rs, rowNum) -> new Chunk(rs.getLong("changed"), rs.getLong("bytes")),
+                        job.getCreatedBy(), job.getTeamId(), chunkSize);
+
+                // Keep the team's storage totals in step, as single deletes do
+                if (step == TeamCascadeStep.ATTACHMENTS && chunk.rows() > 0) {
+                    storageUsageRepository.adjust(job.getTeamId(), sign * chunk.bytes(), sign * chunk.rows());
+                }
+
+                jobRepository.addProgress(job.getId(), step,
+                        step == TeamCascadeStep.PROJECTS ? chunk.rows() : 0,
+                        step == TeamCascadeStep.TASKS ? chunk.rows() : 0,
+                        step == TeamCascadeStep.COMMENTS ? chunk.rows() : 0,
+                        step == TeamCascadeStep.ATTACHMENTS ? chunk.rows() : 0,
+                        Instant.now());
+
+                return chunk.rows();
+            });
+
+            if (changed < chunkSize) {
+                return;
+            }
+            if (chunkPauseMillis > 0) {
+                Thread.sleep(chunkPauseMillis);
+            }
+        }
+    }
+
+    private static String chunkSql(TeamCascadeOperation operation, TeamCascadeStep step) {
+        String table;
+        String scope;
+        switch (step) {
+            case PROJECTS -> {
+                table = "projects";
+                scope = "FROM projects x WHERE x.team_id = ?";
+            }
+            case TASKS -> {
+                table = "tasks";
+                scope = "FROM tasks x JOIN projects p ON p.id = x.project_id WHERE p.team_id = ?";
+            }
+            case COMMENTS -> {
+                table = "comments";
+                scope = "FROM comments x JOIN tasks t ON t.id = x.task_id " +
+                        "JOIN projects p ON p.id = t.project_id WHERE p.team_id = ?";
+            }
+            default -> {
+                table = "attachments";
+                scope = "FROM attachments x JOIN tasks t ON t.id = x.task_id " +
+                        "JOIN projects p ON p.id = t.project_id WHERE p.team_id = ?";
+            }
+        }
+
+        String set;
+        String filter;
+        if (operation == TeamCascadeOperation.DELETE) {
+            set = "cascade_previous_status = status, status = 'DELETED'";
+            // Pending uploads are left to the pending upload cleanup
+            filter = step == TeamCascadeStep.ATTACHMENTS ? "x.status = 'ACTIVE'" : "x.status <> 'DELETED'";
+        } else {
+            set = "status = cascade_previous_status, cascade_previous_status = NULL";
+            filter = "x.cascade_previous_status IS NOT NULL";
+        }
+
+        String bytes = step == TeamCascadeStep.ATTACHMENTS ? "file_size" : "0";
+
+        return "WITH changed AS (" +
+                "UPDATE " + table + " SET " + set + ", updated_at = now() AT TIME ZONE 'UTC', updated_by = ? " +
+                "WHERE id IN (SELECT x.id " + scope + " AND " + filter + " LIMIT ?) " +
+                "RETURNING " + bytes + " AS bytes) " +
+                "SELECT COUNT(*) AS changed, COALESCE(SUM(bytes), 0) AS bytes FROM changed";
+    }
+
+    private record Chunk(long rows, long bytes) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskmanagement.team.service;
+
+import com.taskmanagement.team.dto.TeamCascadeJobDto;
+import com.taskmanagement.team.entity.TeamCascadeJob;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
+
+public interface TeamCascadeService {
+
+    TeamCascadeJob start(Long teamId, TeamCascadeOperation operation, Long actorId);
+
+    void checkNoCascadeRunning(Long teamId);
+
+    TeamCascadeJobDto getLatestJob(Long teamId);
+}
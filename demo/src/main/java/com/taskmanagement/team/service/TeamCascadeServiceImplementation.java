@@ -0,0 +1,88 @@
+package com.taskmanagement.team.service;
+
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.common.exception.types.Exceptions.TeamCascadeJobNotFoundException;
+import com.taskmanagement.team.dto.TeamCascadeJobDto;
+import com.taskmanagement.team.entity.TeamCascadeJob;
+import com.taskmanagement.team.enums.TeamCascadeJobStatus;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
+import com.taskmanagement.team.mapper.TeamMapper;
+import com.taskmanagement.team.repository.TeamCascadeJobRepository;
+import com.taskmanagement.user.enums.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TeamCascadeServiceImplementation implements TeamCascadeService {
+
+    private static final Set<TeamCascadeJobStatus> UNFINISHED =
+            EnumSet.of(TeamCascadeJobStatus.PENDING, TeamCascadeJobStatus.RUNNING);
+
+    private final TeamCascadeJobRepository jobRepository;
+    private final SecurityHelper securityHelper;
+    private final TeamMapper teamMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public TeamCascadeJob start(Long teamId, TeamCascadeOperation operation, Long actorId) {
+
+        Objects.requireNonNull(teamId, "Team ID must not be null");
+        Objects.requireNonNull(operation, "Cascade operation must not be null");
+
+        var job = TeamCascadeJob.builder()
+                .teamId(teamId)
+                .operation(operation)
+                .status(TeamCascadeJobStatus.PENDING)
+                .build();
+        job.setCreatedBy(actorId);
+
+        var saved = jobRepository.save(job);
+        eventPublisher.publishEvent(new TeamCascadeRequestedEvent(saved.getId()));
+
+        log.info("Cascade job {} queued to {} the content of team {}", saved.getId(), operation, teamId);
+
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void checkNoCascadeRunning(Long teamId) {
+
+        Objects.requireNonNull(teamId, "Team ID must not be null");
+
+        if (jobRepository.existsByTeamIdAndStatusIn(teamId, UNFINISHED))
+            throw new IllegalStateException("Team " + teamId + " is still being deleted or restored; " +
+                    "try again once its cascade job has finished");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamCascadeJobDto getLatestJob(Long teamId) {
+
+        Objects.requireNonNull(teamId, "Team ID must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        securityHelper.teamExists(teamId);
+
+        if (currentUser.getRole() != Role.ADMIN &&
+                !securityHelper.isTeamOwnerOrAdmin(teamId, currentUser.getId()))
+            throw new AccessDeniedException("Only team owners, team admins or admins can view cascade progress");
+
+        return jobRepository.findFirstByTeamIdOrderByIdDesc(teamId)
+                .map(teamMapper::toCascadeJobDto)
+                .orElseThrow(() -> new TeamCascadeJobNotFoundException(teamId));
+    }
+}
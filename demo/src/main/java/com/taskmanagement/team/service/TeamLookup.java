@@ -0,0 +1,33 @@
+package com.taskmanagement.team.service;
+
+import com.taskmanagement.common.config.CacheConfig;
+import com.taskmanagement.team.dto.TeamSummaryDto;
+import com.taskmanagement.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached team summaries for access checks in other services. Team writes
+ * evict the entry, which takes effect on commit and on every node.
+ */
+@RequiredArgsConstructor
+@Component
+public class TeamLookup {
+
+    private final TeamRepository teamRepository;
+
+    /**
+     * Returns the team's summary, or null if there is no such team.
+     */
+    @Cacheable(cacheNames = CacheConfig.TEAMS, key = "#teamId", unless = "#result == null")
+    public TeamSummaryDto find(Long teamId) {
+        return teamRepository.findById(teamId).map(TeamSummaryDto::of).orElse(null);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#teamId")
+    public void evict(Long teamId) {
+        // Eviction is done by the annotation
+    }
+}
@@ -1,6 +1,10 @@
 package com.taskmanagement.team.service;
 
 import com.taskmanagement.team.dto.AddMemberRequestDto;
+import com.taskmanagement.team.dto.BulkAddMembersRequestDto;
+import com.taskmanagement.team.dto.BulkMemberResultDto;
+import com.taskmanagement.team.dto.BulkRemoveMembersRequestDto;
+import com.taskmanagement.team.dto.BulkUpdateMemberRoleDto;
 import com.taskmanagement.team.dto.TeamMemberResponseDto;
 import com.taskmanagement.team.dto.UpdateMemberRoleDto;
 import org.springframework.data.domain.Page;
@@ -15,6 +19,12 @@ public interface TeamMemberService {
 
     TeamMemberResponseDto updateMemberRole (UpdateMemberRoleDto dto);
 
+    BulkMemberResultDto addMembers (Long teamId , BulkAddMembersRequestDto dto);
+
+    BulkMemberResultDto removeMembers (Long teamId , BulkRemoveMembersRequestDto dto);
+
+    BulkMemberResultDto updateMemberRoles (Long teamId , BulkUpdateMemberRoleDto dto);
+
     void leaveTeam (Long teamId );
 
     Page<TeamMemberResponseDto> getMembersByTeam (Long teamId , Pageable pageable);
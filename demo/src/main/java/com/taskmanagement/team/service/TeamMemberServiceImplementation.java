@@ -3,20 +3,42 @@ package com.taskmanagement.team.service;
 import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
 import com.taskmanagement.common.exception.types.Exceptions.UserAlreadyInTeamException;
 import com.taskmanagement.common.exception.types.Exceptions.UserNotInTeamException;
+import com.taskmanagement.common.sql.UtcTimestamps;
+import com.taskmanagement.directory.service.DirectoryChangedEvent;
+import com.taskmanagement.outbox.enums.OutboxAggregateType;
+import com.taskmanagement.outbox.enums.OutboxEventType;
+import com.taskmanagement.outbox.service.OutboxService;
 import com.taskmanagement.team.dto.AddMemberRequestDto;
+import com.taskmanagement.team.dto.BulkAddMembersRequestDto;
+import com.taskmanagement.team.dto.BulkMemberResultDto;
+import com.taskmanagement.team.dto.BulkRemoveMembersRequestDto;
+import com.taskmanagement.team.dto.BulkUpdateMemberRoleDto;
 import com.taskmanagement.team.dto.TeamMemberResponseDto;
 import com.taskmanagement.team.dto.UpdateMemberRoleDto;
+import com.taskmanagement.team.entity.TeamMember;
 import com.taskmanagement.team.enums.TeamMemberStatus;
+import com.taskmanagement.team.enums.TeamRole;
 import com.taskmanagement.team.mapper.TeamMemberMapper;
 import com.taskmanagement.team.repository.TeamMemberRepository;
 import com.taskmanagement.user.enums.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,9 +46,24 @@ import java.util.Objects;
 
 public class TeamMemberServiceImplementation implements TeamMemberService {
 
+    // Adds new members and reactivates removed or inactive ones in one statement;
+    // a row that is already ACTIVE is left alone and reports an update count of 0
+    private static final String UPSERT_MEMBER_SQL = """
+            INSERT INTO team_members (team_id, user_id, role, status, joined_at,
+                                      created_at, updated_at, created_by, updated_by)
+            VALUES (?, ?, ?, 'ACTIVE', ?, ?, ?, ?, ?)
+            ON CONFLICT (team_id, user_id) DO UPDATE
+                SET status = 'ACTIVE', role = EXCLUDED.role, joined_at = EXCLUDED.joined_at,
+                    updated_at = EXCLUDED.updated_at, updated_by = EXCLUDED.updated_by
+                WHERE team_members.status <> 'ACTIVE'
+            """;
+
     private final SecurityHelper securityHelper;
     private final TeamMemberRepository teamMemberRepository;
     private final TeamMemberMapper teamMemberMapper;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -49,6 +86,9 @@ public class TeamMemberServiceImplementation implements TeamMemberService {
         var toSaveMember = teamMemberMapper.toEntity(dto, team, userToAdd);
         toSaveMember.setCreatedBy(currentUser.getId());
         var savedMember = teamMemberRepository.save(toSaveMember);
+        eventPublisher.publishEvent(DirectoryChangedEvent.team(team.getId()));
+
+        recordMemberEvent(OutboxEventType.MEMBER_ADDED, team.getId(), userToAdd.getId(), dto.role(), currentUser.getId());
 
         log.info("User {} added user {} to team {} with role {}",
                 currentUser.getId(), userToAdd.getId(), dto.teamId(), dto.role());
@@ -87,6 +127,9 @@ public class TeamMemberServiceImplementation implements TeamMemberService {
 
         teamMemberToRemove.setStatus(TeamMemberStatus.REMOVED);
         teamMemberRepository.save(teamMemberToRemove);
+        eventPublisher.publishEvent(DirectoryChangedEvent.team(teamId));
+
+        recordMemberEvent(OutboxEventType.MEMBER_REMOVED, teamId, userId, teamMemberToRemove.getRole(), currentUser.getId());
 
         log.info("User {} removed user {} from team {}",
                 currentUser.getId(), userId, teamId);
@@ -132,6 +175,167 @@ public class TeamMemberServiceImplementation implements TeamMemberService {
 
     }
 
+    @Override
+    @Transactional
+    public BulkMemberResultDto addMembers(Long teamId, BulkAddMembersRequestDto dto) {
+
+        Objects.requireNonNull(teamId, "Team ID must not be null");
+        Objects.requireNonNull(dto, "The new members must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var team = securityHelper.teamExistsAndActiveCheck(teamId);
+
+        if (!securityHelper.isOwner(currentUser.getId(), team.getId()))
+            throw new AccessDeniedException("Only team owner can add new members");
+
+        List<Long> userIds = dto.userIds().stream().distinct().toList();
+        securityHelper.usersExistAndActiveCheck(userIds);
+
+        Map<Long, TeamMember> existing = membersByUserId(teamId, userIds);
+
+        List<Long> candidates = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (Long userId : userIds) {
+            var member = existing.get(userId);
+            if (member != null && member.getStatus() == TeamMemberStatus.ACTIVE) {
+                skipped.add(userId);
+            } else {
+                candidates.add(userId);
+            }
+        }
+
+        List<Long> added = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            // Written as UTC wall-clock time, like the rows Hibernate writes
+            LocalDateTime now = UtcTimestamps.toColumn(Instant.now());
+            List<Object[]> rows = candidates.stream()
+                    .map(userId -> new Object[]{teamId, userId, dto.role().name(), now, now, now,
+                            currentUser.getId(), currentUser.getId()})
+                    .toList();
+
+            int[] counts = jdbcTemplate.batchUpdate(UPSERT_MEMBER_SQL, rows);
+
+            for (int i = 0; i < candidates.size(); i++) {
+                // Another request made the user an active member in the meantime
+                if (i < counts.length && counts[i] == 0) {
+                    skipped.add(candidates.get(i));
+                } else {
+                    added.add(candidates.get(i));
+                }
+            }
+        }
+
+        for (Long userId : added) {
+            recordMemberEvent(OutboxEventType.MEMBER_ADDED, teamId, userId, dto.role(), currentUser.getId());
+        }
+        if (!added.isEmpty()) {
+            eventPublisher.publishEvent(DirectoryChangedEvent.team(teamId));
+        }
+
+        log.info("User {} added {} users to team {} with role {} ({} skipped)",
+                currentUser.getId(), added.size(), teamId, dto.role(), skipped.size());
+
+        return new BulkMemberResultDto(teamId, added, skipped);
+    }
+
+    @Override
+    @Transactional
+    public BulkMemberResultDto removeMembers(Long teamId, BulkRemoveMembersRequestDto dto) {
+
+        Objects.requireNonNull(teamId, "Team ID must not be null");
+        Objects.requireNonNull(dto, "The members to remove must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var team = securityHelper.teamExistsAndActiveCheck(teamId);
+
+        if (!securityHelper.isOwner(currentUser.getId(), team.getId()))
+            throw new AccessDeniedException("Only team owner can remove members");
+
+        List<Long> userIds = dto.userIds().stream().distinct().toList();
+
+        if (userIds.contains(currentUser.getId()))
+            throw new AccessDeniedException(
+                    "Team owner cannot remove themselves. " +
+                            "Transfer ownership or delete the team.");
+
+        Map<Long, TeamMember> members = existingMembers(teamId, userIds);
+
+        List<Long> removed = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (members.get(userId).getStatus() == TeamMemberStatus.ACTIVE) {
+                removed.add(userId);
+            } else {
+                skipped.add(userId);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            teamMemberRepository.removeActiveMembers(teamId, removed, currentUser.getId(), Instant.now());
+            eventPublisher.publishEvent(DirectoryChangedEvent.team(teamId));
+        }
+
+        for (Long userId : removed) {
+            recordMemberEvent(OutboxEventType.MEMBER_REMOVED, teamId, userId,
+                    members.get(userId).getRole(), currentUser.getId());
+        }
+
+        log.info("User {} removed {} users from team {} ({} skipped)",
+                currentUser.getId(), removed.size(), teamId, skipped.size());
+
+        return new BulkMemberResultDto(teamId, removed, skipped);
+    }
+
+    @Override
+    @Transactional
+    public BulkMemberResultDto updateMemberRoles(Long teamId, BulkUpdateMemberRoleDto dto) {
+
+        Objects.requireNonNull(teamId, "Team ID must not be null");
+        Objects.requireNonNull(dto, "The role change must not be null");
+
+        var currentUser = securityHelper.getCurrentUser();
+        securityHelper.isUserActive(currentUser);
+
+        var team = securityHelper.teamExistsAndActiveCheck(teamId);
+
+        if (!securityHelper.isOwner(currentUser.getId(), team.getId()))
+            throw new AccessDeniedException("Only team owner can update member roles ");
+
+        List<Long> userIds = dto.userIds().stream().distinct().toList();
+
+        // The caller stays an owner, so the team never loses its last owner here
+        if (userIds.contains(currentUser.getId()))
+            throw new AccessDeniedException("Team owner cannot update their own role," +
+                    " please contact an admin ");
+
+        Map<Long, TeamMember> members = existingMembers(teamId, userIds);
+
+        List<Long> updated = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (Long userId : userIds) {
+            var member = members.get(userId);
+            if (member.getStatus() == TeamMemberStatus.ACTIVE && member.getRole() != dto.newRole()) {
+                updated.add(userId);
+            } else {
+                skipped.add(userId);
+            }
+        }
+
+        if (!updated.isEmpty()) {
+            teamMemberRepository.updateActiveMemberRoles(teamId, updated, dto.newRole(),
+                    currentUser.getId(), Instant.now());
+        }
+
+        log.info("User {} changed the role of {} users in team {} to {} ({} skipped)",
+                currentUser.getId(), updated.size(), teamId, dto.newRole(), skipped.size());
+
+        return new BulkMemberResultDto(teamId, updated, skipped);
+    }
+
     @Override
     @Transactional
     public void leaveTeam(Long teamId ) {
@@ -162,6 +366,7 @@ public class TeamMemberServiceImplementation implements TeamMemberService {
         teamMember.setStatus ( TeamMemberStatus.INACTIVE );
 
         teamMemberRepository.save ( teamMember );
+        eventPublisher.publishEvent ( DirectoryChangedEvent.team ( teamId ) );
 
         log.info("User {} left team {}", currentUser.getId(), teamId);
 
@@ -181,8 +386,8 @@ public class TeamMemberServiceImplementation implements TeamMemberService {
                 !securityHelper.isTeamOwnerOrAdmin(teamId, currentUser.getId()))
             throw new AccessDeniedException("Only team owner or admins can view members");
 
-        return teamMemberRepository.findByTeamIdAndStatusActive(teamId, pageable)
-                .map(teamMemberMapper::toDto);
+        // Projects the user columns in the same query instead of loading each user
+        return teamMemberRepository.findMemberDtosByTeamId(teamId, pageable);
     }
 
     @Override
@@ -245,4 +450,29 @@ public class TeamMemberServiceImplementation implements TeamMemberService {
         return teamMemberRepository.countByTeamIdAndStatusActive ( teamId );
 
     }
+
+    private Map<Long, TeamMember> membersByUserId(Long teamId, List<Long> userIds) {
+        return teamMemberRepository.findByTeamIdAndUserIdIn(teamId, userIds).stream()
+                .collect(Collectors.toMap(TeamMember::getUserId, Function.identity()));
+    }
+
+    private Map<Long, TeamMember> existingMembers(Long teamId, List<Long> userIds) {
+        Map<Long, TeamMember> members = membersByUserId(teamId, userIds);
+        for (Long userId : userIds) {
+            if (!members.containsKey(userId))
+                throw new UserNotInTeamException(userId, teamId);
+        }
+        return members;
+    }
+
+    private void recordMemberEvent(OutboxEventType eventType, Long teamId, Long userId,
+                                   TeamRole role, Long actorId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("teamId", teamId);
+        payload.put("userId", userId);
+        payload.put("role", role);
+        payload.put("actorId", actorId);
+
+        outboxService.record(OutboxAggregateType.TEAM, teamId, eventType, payload);
+    }
 }
@@ -1,10 +1,12 @@
 package com.taskmanagement.team.service;
 
 import com.taskmanagement.common.exception.types.Exceptions.*;
+import com.taskmanagement.directory.service.DirectoryChangedEvent;
 import com.taskmanagement.team.dto.TeamCreateDto;
 import com.taskmanagement.team.dto.TeamResponseDto;
 import com.taskmanagement.team.dto.TeamUpdateDto;
 import com.taskmanagement.team.entity.Team;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
 import com.taskmanagement.team.enums.TeamMemberStatus;
 import com.taskmanagement.team.enums.TeamRole;
 import com.taskmanagement.team.enums.TeamStatus;
@@ -18,6 +20,7 @@ import com.taskmanagement.user.enums.UserStatus;
 import com.taskmanagement.user.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -26,6 +29,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Objects;
 
 
@@ -39,6 +43,9 @@ public class TeamServiceImplementation implements TeamService {
     private final TeamMapper teamMapper;
     private final TeamMemberMapper teamMemberMapper;
     private final TeamMemberRepository teamMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamCascadeService teamCascadeService;
+    private final TeamLookup teamLookup;
 
     @Override
     @Transactional
@@ -58,6 +65,7 @@ public class TeamServiceImplementation implements TeamService {
         var teamOwner = teamMemberMapper.toOwnerEntity(savedTeam, currentUser);
         teamOwner.setCreatedBy(currentUser.getId());
         teamMemberRepository.save(teamOwner);
+        eventPublisher.publishEvent(DirectoryChangedEvent.team(savedTeam.getId()));
 
         log.info("Team '{}' created by user {}", savedTeam.getName(), currentUser.getId());
 
@@ -177,6 +185,8 @@ public class TeamServiceImplementation implements TeamService {
         updateTeamFields ( team , teamUpdateDto , currentUser.getId ( ) , teamId );
 
         var toSave = teamRepository.save ( team );
+        teamLookup.evict ( teamId );
+        eventPublisher.publishEvent ( DirectoryChangedEvent.team ( team.getId ( ) ) );
         log.info ( "Team '{}' updated by user {}" , team.getName ( ) , currentUser.getId ( ) );
         return teamMapper.toDto ( toSave );
 
@@ -198,11 +208,18 @@ public class TeamServiceImplementation implements TeamService {
             throw new AccessDeniedException ( "Only team owners can delete the team" );
 
         isTeamDeleted ( team );
+        teamCascadeService.checkNoCascadeRunning ( teamId );
 
         team.setStatus ( TeamStatus.DELETED );
         teamRepository.save ( team );
+        teamLookup.evict ( teamId );
 
-        updateTeamMembersStatus ( teamId , TeamMemberStatus.INACTIVE );
+        teamMemberRepository.updateStatusByTeamId ( teamId , TeamMemberStatus.ACTIVE ,
+                TeamMemberStatus.INACTIVE , currentUser.getId ( ) , Instant.now ( ) );
+        eventPublisher.publishEvent ( DirectoryChangedEvent.team ( teamId ) );
+
+        // Projects, tasks, comments and attachments follow in the background
+        teamCascadeService.start ( teamId , TeamCascadeOperation.DELETE , currentUser.getId ( ) );
 
 
         log.info ( "Team '{}' is deleted by the user with id ' {}'" ,
@@ -229,16 +246,25 @@ public class TeamServiceImplementation implements TeamService {
         if (team.getStatus () == TeamStatus.ACTIVE)
             throw new TeamAlreadyActive ( teamId );
 
+        teamCascadeService.checkNoCascadeRunning ( teamId );
+        var wasDeleted = team.getStatus ( ) == TeamStatus.DELETED;
+
         team.setStatus ( TeamStatus.ACTIVE );
         var toSave = teamRepository.save ( team );
+        teamLookup.evict ( teamId );
+        eventPublisher.publishEvent ( DirectoryChangedEvent.team ( team.getId ( ) ) );
 
         log.info("Team '{}' (ID: {}) is activated by admin {}",
                 team.getName(), team.getId(), currentUser.getId());
 
-        updateTeamMembersStatus (  teamId , TeamMemberStatus.ACTIVE );
+        teamMemberRepository.updateStatusByTeamId ( teamId , TeamMemberStatus.INACTIVE ,
+                TeamMemberStatus.ACTIVE , currentUser.getId ( ) , Instant.now ( ) );
 
         log.info ( "The members of the team '{}' is activated again " , team.getId () );
 
+        if (wasDeleted)
+            teamCascadeService.start ( teamId , TeamCascadeOperation.RESTORE , currentUser.getId ( ) );
+
         return teamMapper.toDto ( toSave );
     }
 
@@ -336,15 +362,6 @@ public class TeamServiceImplementation implements TeamService {
         }
     }
 
-    private void updateTeamMembersStatus(Long teamId, TeamMemberStatus status) {
-
-        var members = teamMemberRepository.findByTeamId(teamId);
-
-        members.forEach(member -> member.setStatus(status));
-
-        teamMemberRepository.saveAll(members);
-
-    }
 
 
 
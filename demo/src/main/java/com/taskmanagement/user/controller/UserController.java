@@ -1,8 +1,12 @@
 package com.taskmanagement.user.controller;
 
+import com.taskmanagement.common.workload.DatabaseWorkload;
+import com.taskmanagement.common.workload.Workload;
 import com.taskmanagement.user.dto.UserCreateDto;
+import com.taskmanagement.user.dto.UserImportResultDto;
 import com.taskmanagement.user.dto.UserResponseDto;
 import com.taskmanagement.user.dto.UserUpdateDto;
+import com.taskmanagement.user.service.UserImportService;
 import com.taskmanagement.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,10 +25,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @AllArgsConstructor
 @RestController
 @RequestMapping("/api/users")
@@ -32,6 +40,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @Operation(
             summary = "Create a new user (Admin)",
@@ -120,6 +129,42 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(dto));
     }
 
+    @Operation(
+            summary = "Import users in bulk (Admin)",
+            description = """
+                    Creates many users from a CSV or NDJSON upload. **Requires ADMIN role.**
+                    
+                    **Formats:**
+                    - `text/csv` - header row naming the columns, then one user per row
+                    - `application/x-ndjson` - one JSON object per line
+                    - Columns/fields: `email`, `password`, `firstName`, `lastName` ✅ REQUIRED; `role`, `status` optional
+                    
+                    **Business Logic:**
+                    - Each row is validated like a single user creation
+                    - Emails already in the system or repeated in the file are skipped as DUPLICATE
+                    - Passwords are hashed in parallel and users are inserted in batches
+                    - Each batch commits on its own; a failed batch is reported as FAILED and the import continues
+                    - The response lists the outcome of every row with the line it came from
+                    - Up to 50,000 rows per import; one import runs at a time
+                    
+                    **Authorization:**
+                    - System admins only (ADMIN role)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see the per-row results",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserImportResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported format, missing columns, too many rows, or an import is already running"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    @DatabaseWorkload(Workload.REPORTING)
+    @PostMapping(value = "/admin/import", consumes = MediaType.ALL_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportResultDto> importUsers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(request.getInputStream(), request.getContentType()));
+    }
+
     @Operation(
             summary = "Get all users",
             description = """
@@ -183,6 +228,7 @@ public class UserController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
     })
+    @DatabaseWorkload(Workload.REPORTING)
     @GetMapping("/admin/all")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<UserResponseDto>> getAllUsersForAdmin(
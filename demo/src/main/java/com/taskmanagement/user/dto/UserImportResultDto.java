@@ -0,0 +1,32 @@
+package com.taskmanagement.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Summary and per-row outcome of a bulk user import")
+public record UserImportResultDto(
+
+        @Schema(description = "Rows read from the file", example = "10000")
+        int total ,
+
+        @Schema(description = "Users created", example = "9950")
+        int created ,
+
+        @Schema(description = "Rows skipped because the email already exists or repeats in the file", example = "40")
+        int duplicates ,
+
+        @Schema(description = "Rows rejected by validation", example = "10")
+        int invalid ,
+
+        @Schema(description = "Rows whose insert batch failed", example = "0")
+        int failed ,
+
+        @Schema(description = "Time taken in milliseconds", example = "8400")
+        long durationMs ,
+
+        @Schema(description = "Outcome of every row, in file order")
+        List<UserImportRowResultDto> rows
+
+) {
+}
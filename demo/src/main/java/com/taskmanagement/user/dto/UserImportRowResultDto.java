@@ -0,0 +1,25 @@
+package com.taskmanagement.user.dto;
+
+import com.taskmanagement.user.enums.UserImportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one row of a bulk user import")
+public record UserImportRowResultDto(
+
+        @Schema(description = "Line of the row in the uploaded file", example = "2")
+        int line ,
+
+        @Schema(description = "Email of the row, as given", example = "john.doe@example.com")
+        String email ,
+
+        @Schema(description = "What happened to the row", example = "CREATED")
+        UserImportStatus status ,
+
+        @Schema(description = "ID of the created user; null unless CREATED", example = "42")
+        Long userId ,
+
+        @Schema(description = "Why the row was not created", example = "Email already exists")
+        String message
+
+) {
+}
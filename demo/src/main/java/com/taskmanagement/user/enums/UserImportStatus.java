@@ -0,0 +1,8 @@
+package com.taskmanagement.user.enums;
+
+public enum UserImportStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
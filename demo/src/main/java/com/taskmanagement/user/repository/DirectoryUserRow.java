@@ -0,0 +1,15 @@
+package com.taskmanagement.user.repository;
+
+/**
+ * The user fields held by the in-memory directory index.
+ */
+public interface DirectoryUserRow {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+}
@@ -1,13 +1,18 @@
 package com.taskmanagement.user.repository;
 
 import com.taskmanagement.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +22,8 @@ public interface UserRepository extends JpaRepository <User, Long> {
     @Query ("select u from User u where u.status = com.taskmanagement.user.enums.UserStatus.ACTIVE")
     Page<User> getAllUsers(Pageable pageable);
 
+    // Runs twice per authenticated request (token filter and current user)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmailIgnoreCase(String email);
 
 
@@ -33,6 +40,14 @@ public interface UserRepository extends JpaRepository <User, Long> {
 
     @Query ("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END " +
             "FROM User u WHERE u.id = :userId AND u.role = com.taskmanagement.user.enums.Role.ADMIN")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 
     boolean existsByIdAndRoleAdmin(@Param ( "userId" ) Long id);
+
+    @Query ("select u.id as id, u.firstName as firstName, u.lastName as lastName, u.email as email " +
+            "from User u where u.status = com.taskmanagement.user.enums.UserStatus.ACTIVE")
+    List<DirectoryUserRow> findActiveDirectoryUsers();
+
+    @Query ("select lower(u.email) from User u where lower(u.email) in :emails")
+    List<String> findExistingEmails(@Param ( "emails" ) Collection<String> emails);
 }
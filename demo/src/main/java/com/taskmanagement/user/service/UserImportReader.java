@@ -0,0 +1,296 @@
+package com.taskmanagement.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.user.dto.UserCreateDto;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the rows of a bulk user import from CSV (with a header row) or
+ * NDJSON (one object per line). Rows are pulled one at a time with
+ * {@link #next()}, so the caller decides how many are held in memory. A row
+ * that cannot be turned into a user is returned with an error instead of
+ * failing the whole import.
+ */
+final class UserImportReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("email", "password", "firstname", "lastname");
+
+    record UserImportRow(int line, String email, UserCreateDto user, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final int maxRows;
+
+    private CsvRecords records;
+    private List<String> header;
+    private int lineNumber;
+    private int rowCount;
+
+    private UserImportReader(BufferedReader reader, boolean csv, int maxRows) {
+        this.reader = reader;
+        this.csv = csv;
+        this.maxRows = maxRows;
+    }
+
+    static UserImportReader open(InputStream body, String contentType, int maxRows) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+
+        if (type.contains("csv")) {
+            return new UserImportReader(reader, true, maxRows);
+        }
+        if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json-lines")) {
+            return new UserImportReader(reader, false, maxRows);
+        }
+        throw new IllegalArgumentException("Unsupported content type '" + contentType +
+                "'; use text/csv or application/x-ndjson");
+    }
+
+    static List<UserImportRow> read(InputStream body, String contentType, int maxRows) throws IOException {
+        UserImportReader reader = open(body, contentType, maxRows);
+        List<UserImportRow> rows = new ArrayList<>();
+
+        UserImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * The next row, or null once the body is exhausted.
+     */
+    UserImportRow next() throws IOException {
+        return csv ? nextCsv() : nextNdjson();
+    }
+
+    /**
+     * The line the reader stopped at, for reporting a failure to read on.
+     */
+    int line() {
+        return csv && records != null ? records.recordLine() : lineNumber;
+    }
+
+    private UserImportRow nextCsv() throws IOException {
+        if (records == null) {
+            records = new CsvRecords(reader);
+        }
+
+        List<String> record;
+        while ((record = records.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            if (header == null) {
+                header = record.stream().map(UserImportReader::columnName).toList();
+                if (!header.containsAll(REQUIRED_COLUMNS)) {
+                    throw new IllegalArgumentException(
+                            "CSV header must include email, password, firstName and lastName");
+                }
+                continue;
+            }
+
+            checkRowLimit();
+
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                fields.put(header.get(i), record.get(i));
+            }
+            return toRow(records.recordLine(), fields);
+        }
+
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        return null;
+    }
+
+    private UserImportRow nextNdjson() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            checkRowLimit();
+
+            JsonNode node;
+            try {
+                node = OBJECT_MAPPER.readTree(line);
+            } catch (JsonProcessingException e) {
+                return new UserImportRow(lineNumber, null, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return new UserImportRow(lineNumber, null, null, "Expected a JSON object");
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(field -> {
+                if (!field.getValue().isNull()) {
+                    fields.put(columnName(field.getKey()), field.getValue().asText());
+                }
+            });
+            return toRow(lineNumber, fields);
+        }
+        return null;
+    }
+
+    private void checkRowLimit() {
+        if (rowCount >= maxRows) {
+            throw new IllegalArgumentException("Import is limited to " + maxRows + " rows");
+        }
+        rowCount++;
+    }
+
+    private static UserImportRow toRow(int line, Map<String, String> fields) {
+        String email = blankToNull(fields.get("email"));
+
+        Role role;
+        UserStatus status;
+        try {
+            role = parse(Role.class, fields.get("role"));
+            status = parse(UserStatus.class, fields.getOrDefault("status", fields.get("userstatus")));
+        } catch (IllegalArgumentException e) {
+            return new UserImportRow(line, email, null, e.getMessage());
+        }
+
+        if (status == UserStatus.DELETED) {
+            return new UserImportRow(line, email, null, "Users cannot be imported as DELETED");
+        }
+
+        var user = new UserCreateDto(
+                email,
+                blankToNull(fields.get("password")),
+                blankToNull(fields.get("firstname")),
+                blankToNull(fields.get("lastname")),
+                role,
+                status);
+
+        return new UserImportRow(line, email, user, null);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        String trimmed = blankToNull(value);
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, trimmed.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " '" + trimmed + "'");
+        }
+    }
+
+    // "First Name", "first_name" and "firstName" all name the same column
+    private static String columnName(String name) {
+        return name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * Splits CSV text into records following RFC 4180: fields may be quoted,
+     * quoted fields may contain commas, line breaks and doubled quotes.
+     */
+    private static final class CsvRecords {
+
+        private final Reader reader;
+        private int line = 1;
+        private int recordLine;
+        private int pending = -2;
+
+        CsvRecords(Reader reader) {
+            this.reader = reader;
+        }
+
+        int recordLine() {
+            return recordLine;
+        }
+
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            pending = following;
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
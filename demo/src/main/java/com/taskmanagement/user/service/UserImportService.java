@@ -0,0 +1,11 @@
+package com.taskmanagement.user.service;
+
+import com.taskmanagement.user.dto.UserImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface UserImportService {
+
+    UserImportResultDto importUsers(InputStream body, String contentType) throws IOException;
+}
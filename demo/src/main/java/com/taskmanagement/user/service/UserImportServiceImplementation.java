@@ -0,0 +1,340 @@
+package com.taskmanagement.user.service;
+
+import com.taskmanagement.common.cache.EntityCacheEvictor;
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.common.exception.types.Exceptions.UserNotFoundException;
+import com.taskmanagement.common.sql.UtcTimestamps;
+import com.taskmanagement.directory.service.DirectoryIndex;
+import com.taskmanagement.user.dto.UserCreateDto;
+import com.taskmanagement.user.dto.UserImportResultDto;
+import com.taskmanagement.user.dto.UserImportRowResultDto;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserImportStatus;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.repository.UserRepository;
+import com.taskmanagement.user.service.UserImportReader.UserImportRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Creates users in bulk. The body is read a batch at a time, so only one
+ * batch of plaintext passwords is held in memory. Rows are validated like a
+ * single create; emails are checked against the database with one
+ * query per batch, passwords are hashed in parallel on a dedicated bounded
+ * pool, and the batch is inserted with one JDBC batch statement in its own
+ * transaction. A failed batch does not undo the ones before it; every row
+ * reports what happened to it. A body that turns out to be unreadable (or
+ * over {@code user.import.max-rows}) once batches have been written stops
+ * the import there and is reported on the line it stopped at.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImplementation implements UserImportService, DisposableBean {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (email, password_hash, first_name, last_name, role, status,
+                               email_verified, created_at, updated_at, created_by, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING
+            """;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final DirectoryIndex directoryIndex;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ForkJoinPool hashPool;
+
+    // One import at a time, so imports do not compete for the hashing pool
+    private final Semaphore importPermit = new Semaphore(1);
+
+    @Value("${user.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user.import.max-rows:50000}")
+    private int maxRows;
+
+    public UserImportServiceImplementation(UserRepository userRepository,
+                                           PasswordEncoder passwordEncoder,
+                                           JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           Validator validator,
+                                           DirectoryIndex directoryIndex,
+                                           EntityCacheEvictor entityCacheEvictor,
+                                           @Value("${user.import.hash-parallelism:0}") int hashParallelism) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.directoryIndex = directoryIndex;
+        this.entityCacheEvictor = entityCacheEvictor;
+
+        int parallelism = hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+        this.hashPool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("user-import-hash-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @Override
+    public UserImportResultDto importUsers(InputStream body, String contentType) throws IOException {
+
+        Objects.requireNonNull(body, "Import body must not be null");
+
+        var currentUser = getCurrentUser();
+        if (currentUser.getRole() != Role.ADMIN) {
+            throw new AccessDeniedException("Only admins can import users");
+        }
+
+        if (!importPermit.tryAcquire()) {
+            throw new IllegalStateException("Another user import is already running");
+        }
+
+        try {
+            long started = System.nanoTime();
+
+            UserImportReader reader = UserImportReader.open(body, contentType, maxRows);
+            List<UserImportRowResultDto> results = new ArrayList<>();
+            List<UserImportRow> batch = new ArrayList<>(batchSize);
+            Set<String> seenEmails = new HashSet<>();
+            int rowCount = 0;
+            boolean written = false;
+
+            while (true) {
+                UserImportRow row;
+                try {
+                    row = reader.next();
+                } catch (IllegalArgumentException e) {
+                    // Nothing written yet: reject the import as a whole, as for a bad header
+                    if (!written) {
+                        throw e;
+                    }
+                    results.add(new UserImportRowResultDto(reader.line(), null, UserImportStatus.INVALID, null,
+                            e.getMessage() + "; this and later rows were not imported"));
+                    break;
+                }
+                if (row == null) {
+                    break;
+                }
+                rowCount++;
+
+                String error = row.error() != null ? row.error() : validate(row.user());
+                if (error != null) {
+                    results.add(result(row, UserImportStatus.INVALID, null, error));
+                } else if (!seenEmails.add(normalizeEmail(row.user().email()))) {
+                    results.add(result(row, UserImportStatus.DUPLICATE, null, "Email repeats an earlier row"));
+                } else {
+                    batch.add(row);
+                }
+
+                // Plaintext passwords are only held for the batch being imported
+                if (batch.size() == batchSize) {
+                    results.addAll(importBatch(batch, currentUser.getId()));
+                    batch.clear();
+                    written = true;
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                results.addAll(importBatch(batch, currentUser.getId()));
+            }
+
+            results.sort(Comparator.comparingInt(UserImportRowResultDto::line));
+
+            Map<UserImportStatus, Long> counts = results.stream()
+                    .collect(Collectors.groupingBy(UserImportRowResultDto::status, Collectors.counting()));
+            int created = counts.getOrDefault(UserImportStatus.CREATED, 0L).intValue();
+
+            if (created > 0) {
+                directoryIndex.rebuild();
+                // Cached email lookups may say a now imported email does not exist
+                entityCacheEvictor.evictAfterBulkWrite(User.class);
+            }
+
+            long durationMs = (System.nanoTime() - started) / 1_000_000;
+            log.info("Admin {} imported {} of {} users in {} ms", currentUser.getId(), created, rowCount, durationMs);
+
+            return new UserImportResultDto(
+                    rowCount,
+                    created,
+                    counts.getOrDefault(UserImportStatus.DUPLICATE, 0L).intValue(),
+                    counts.getOrDefault(UserImportStatus.INVALID, 0L).intValue(),
+                    counts.getOrDefault(UserImportStatus.FAILED, 0L).intValue(),
+                    durationMs,
+                    results);
+        } finally {
+            importPermit.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdownNow();
+    }
+
+    private List<UserImportRowResultDto> importBatch(List<UserImportRow> batch, Long actorId) {
+        List<UserImportRowResultDto> results = new ArrayList<>(batch.size());
+
+        try {
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                    batch.stream().map(row -> normalizeEmail(row.user().email())).toList()));
+
+            List<UserImportRow> toInsert = new ArrayList<>(batch.size());
+            for (UserImportRow row : batch) {
+                if (existing.contains(normalizeEmail(row.user().email()))) {
+                    results.add(result(row, UserImportStatus.DUPLICATE, null, "Email already exists"));
+                } else {
+                    toInsert.add(row);
+                }
+            }
+
+            if (!toInsert.isEmpty()) {
+                List<String> hashes = hashPasswords(toInsert);
+                results.addAll(insert(toInsert, hashes, actorId));
+            }
+        } catch (DataAccessException e) {
+            log.warn("User import batch of {} rows failed: {}", batch.size(), e.getMessage());
+            results.clear();
+            for (UserImportRow row : batch) {
+                results.add(result(row, UserImportStatus.FAILED, null, "Batch insert failed"));
+            }
+        }
+
+        return results;
+    }
+
+    private List<String> hashPasswords(List<UserImportRow> rows) {
+        try {
+            return hashPool.submit(() -> rows.parallelStream()
+                            .map(row -> passwordEncoder.encode(row.user().password()))
+                            .toList())
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("User import was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private List<UserImportRowResultDto> insert(List<UserImportRow> rows, List<String> hashes, Long actorId) {
+        LocalDateTime now = UtcTimestamps.toColumn(Instant.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+
+        int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserCreateDto user = rows.get(i).user();
+                        ps.setString(1, normalizeEmail(user.email()));
+                        ps.setString(2, hashes.get(i));
+                        ps.setString(3, user.firstName().trim());
+                        ps.setString(4, user.lastName().trim());
+                        ps.setString(5, (user.role() != null ? user.role() : Role.MEMBER).name());
+                        ps.setString(6, (user.userStatus() != null ? user.userStatus() : UserStatus.ACTIVE).name());
+                        ps.setObject(7, now);
+                        ps.setObject(8, now);
+                        ps.setObject(9, actorId);
+                        ps.setObject(10, actorId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keys));
+
+        // Keys come back only for inserted rows; a row that lost a race with
+        // another create on the same email inserts nothing
+        List<Map<String, Object>> generated = keys.getKeyList();
+        List<UserImportRowResultDto> results = new ArrayList<>(rows.size());
+        int nextKey = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            int count = counts != null && i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+            if (count == 0) {
+                results.add(result(rows.get(i), UserImportStatus.DUPLICATE, null, "Email already exists"));
+                continue;
+            }
+            Long id = nextKey < generated.size() ? ((Number) generated.get(nextKey++).get("id")).longValue() : null;
+            results.add(result(rows.get(i), UserImportStatus.CREATED, id, null));
+        }
+
+        return results;
+    }
+
+    private String validate(UserCreateDto user) {
+        Set<ConstraintViolation<UserCreateDto>> violations = validator.validate(user);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static UserImportRowResultDto result(UserImportRow row, UserImportStatus status,
+                                                 Long userId, String message) {
+        return new UserImportRowResultDto(row.line(), row.email(), status, userId, message);
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private User getCurrentUser() {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken) {
+            throw new AccessDeniedException("Authentication required");
+        }
+
+        return userRepository.findByEmailIgnoreCase(auth.getName())
+                .orElseThrow(() -> new UserNotFoundException("Current user not found"));
+    }
+}
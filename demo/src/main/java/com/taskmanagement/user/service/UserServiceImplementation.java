@@ -8,6 +8,7 @@ import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedExceptio
 import com.taskmanagement.common.exception.types.Exceptions.EmailAlreadyExistsException;
 import com.taskmanagement.common.exception.types.Exceptions.LastAdminException;
 import com.taskmanagement.common.exception.types.Exceptions.UserNotFoundException;
+import com.taskmanagement.directory.service.DirectoryChangedEvent;
 import com.taskmanagement.user.dto.UserCreateDto;
 import com.taskmanagement.user.dto.UserResponseDto;
 import com.taskmanagement.user.dto.UserUpdateDto;
@@ -18,6 +19,7 @@ import com.taskmanagement.user.mapper.UserMapper;
 import com.taskmanagement.user.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -40,6 +42,7 @@ public class UserServiceImplementation implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -65,6 +68,7 @@ public class UserServiceImplementation implements UserService {
         User user = userMapper.toEntity(dto);
         user.setPasswordHash(passwordEncoder.encode(dto.password()));
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(savedUser.getId()));
 
         log.info("Successfully created user with id: {} and email: {}", savedUser.getId(), savedUser.getEmail());
 
@@ -190,6 +194,7 @@ public class UserServiceImplementation implements UserService {
         var u = updateConditions(user, dto, currentUser);
 
         User toSave = userRepository.save(u);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(toSave.getId()));
 
         log.info("User {} updated by {}", userId, currentUser.getEmail());
 
@@ -220,6 +225,7 @@ public class UserServiceImplementation implements UserService {
 
         user.setStatus(UserStatus.ACTIVE);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(savedUser.getId()));
 
         log.info("User {} activated by admin {}", userId, currentUser.getEmail());
 
@@ -254,6 +260,7 @@ public class UserServiceImplementation implements UserService {
 
         user.setStatus(UserStatus.INACTIVE);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(savedUser.getId()));
 
         log.info("User {} deactivated by admin {}", userId, currentUser.getEmail());
 
@@ -293,6 +300,7 @@ public class UserServiceImplementation implements UserService {
 
         user.setStatus(UserStatus.SUSPENDED);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(savedUser.getId()));
 
         log.info("User {} suspended by admin {}", userId, currentUser.getEmail());
 
@@ -317,6 +325,7 @@ public class UserServiceImplementation implements UserService {
 
         user.setStatus(UserStatus.ACTIVE);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(savedUser.getId()));
 
         log.info("User {} restored by admin {}", userId, currentUser.getEmail());
 
@@ -347,6 +356,7 @@ public class UserServiceImplementation implements UserService {
 
         user.setStatus(UserStatus.DELETED);
         userRepository.save(user);
+        eventPublisher.publishEvent(DirectoryChangedEvent.user(user.getId()));
 
         log.info("User {} soft deleted by admin {}", userId, currentUser.getEmail());
     }
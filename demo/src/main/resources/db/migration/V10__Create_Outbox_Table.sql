@@ -0,0 +1,22 @@
+CREATE TABLE outbox (
+                        id BIGSERIAL PRIMARY KEY,
+                        aggregate_type VARCHAR(50) NOT NULL,
+                        aggregate_id BIGINT NOT NULL,
+                        event_type VARCHAR(50) NOT NULL,
+                        payload TEXT NOT NULL,
+                        status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                        attempts INTEGER NOT NULL DEFAULT 0,
+                        last_error VARCHAR(1000),
+                        published_at TIMESTAMP,
+                        created_by BIGINT,
+                        updated_by BIGINT,
+                        created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                        CONSTRAINT chk_outbox_status CHECK (status IN ('PENDING', 'PUBLISHED'))
+);
+
+-- The relay only ever scans pending rows in id order
+CREATE INDEX idx_outbox_pending ON outbox(id) WHERE status = 'PENDING';
+CREATE INDEX idx_outbox_aggregate ON outbox(aggregate_type, aggregate_id);
+CREATE INDEX idx_outbox_published_at ON outbox(published_at);
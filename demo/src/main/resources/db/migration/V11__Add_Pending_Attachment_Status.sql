@@ -0,0 +1,5 @@
+-- Presigned uploads create the row first and activate it once the object is confirmed
+ALTER TABLE attachments DROP CONSTRAINT chk_attachment_status;
+
+ALTER TABLE attachments
+    ADD CONSTRAINT chk_attachment_status CHECK (status IN ('PENDING', 'ACTIVE', 'DELETED'));
@@ -0,0 +1,50 @@
+CREATE TABLE attachment_upload_sessions (
+                                            id BIGSERIAL PRIMARY KEY,
+                                            task_id BIGINT NOT NULL,
+                                            user_id BIGINT NOT NULL,
+                                            original_filename VARCHAR(255) NOT NULL,
+                                            content_type VARCHAR(100) NOT NULL,
+                                            total_size BIGINT NOT NULL,
+                                            part_size BIGINT NOT NULL,
+                                            part_count INTEGER NOT NULL,
+                                            stored_filename VARCHAR(255) NOT NULL,
+                                            object_key VARCHAR(500) NOT NULL UNIQUE,
+                                            status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+                                            expires_at TIMESTAMP NOT NULL,
+                                            created_by BIGINT NOT NULL,
+                                            updated_by BIGINT,
+                                            created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                            updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                            CONSTRAINT fk_upload_session_task FOREIGN KEY (task_id)
+                                                REFERENCES tasks(id) ON DELETE CASCADE,
+
+                                            CONSTRAINT fk_upload_session_user FOREIGN KEY (user_id)
+                                                REFERENCES users(id) ON DELETE CASCADE,
+
+                                            CONSTRAINT chk_upload_session_status
+                                                CHECK (status IN ('ACTIVE', 'COMPLETING', 'COMPLETED', 'ABORTED', 'EXPIRED')),
+                                            CONSTRAINT chk_upload_session_total_size CHECK (total_size > 0),
+                                            CONSTRAINT chk_upload_session_part_count CHECK (part_count > 0)
+);
+
+CREATE TABLE attachment_upload_parts (
+                                         id BIGSERIAL PRIMARY KEY,
+                                         session_id BIGINT NOT NULL,
+                                         part_number INTEGER NOT NULL,
+                                         size BIGINT NOT NULL,
+                                         etag VARCHAR(100),
+                                         created_by BIGINT,
+                                         updated_by BIGINT,
+                                         created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                         updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                         CONSTRAINT fk_upload_part_session FOREIGN KEY (session_id)
+                                             REFERENCES attachment_upload_sessions(id) ON DELETE CASCADE,
+
+                                         CONSTRAINT uq_upload_part UNIQUE (session_id, part_number)
+);
+
+CREATE INDEX idx_upload_session_task_id ON attachment_upload_sessions(task_id);
+-- The expiry job only looks at open sessions
+CREATE INDEX idx_upload_session_expires_at ON attachment_upload_sessions(expires_at) WHERE status = 'ACTIVE';
@@ -0,0 +1,30 @@
+-- Content-addressed file storage: one object per distinct SHA-256, shared by attachments
+CREATE TABLE attachment_blobs (
+                                  id BIGSERIAL PRIMARY KEY,
+                                  content_hash CHAR(64) NOT NULL UNIQUE,
+                                  object_key VARCHAR(500) NOT NULL UNIQUE,
+                                  size BIGINT NOT NULL,
+                                  content_type VARCHAR(100) NOT NULL,
+                                  ref_count INTEGER NOT NULL DEFAULT 1,
+                                  orphaned_at TIMESTAMP,
+                                  created_by BIGINT,
+                                  updated_by BIGINT,
+                                  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                  CONSTRAINT chk_blob_ref_count CHECK (ref_count >= 0),
+                                  CONSTRAINT chk_blob_size CHECK (size > 0)
+);
+
+-- The reclaimer only scans unreferenced blobs
+CREATE INDEX idx_blob_orphaned_at ON attachment_blobs(orphaned_at) WHERE ref_count = 0;
+
+-- Attachments now share objects, so object_key is no longer unique per row
+ALTER TABLE attachments DROP CONSTRAINT attachments_object_key_key;
+
+ALTER TABLE attachments
+    ADD COLUMN blob_id BIGINT,
+    ADD CONSTRAINT fk_attachment_blob FOREIGN KEY (blob_id)
+        REFERENCES attachment_blobs(id) ON DELETE RESTRICT;
+
+CREATE INDEX idx_attachment_blob_id ON attachments(blob_id);
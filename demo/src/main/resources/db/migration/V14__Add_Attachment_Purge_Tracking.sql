@@ -0,0 +1,10 @@
+-- Set once the reclaimer has removed the stored object; rows are kept for history
+ALTER TABLE attachment_blobs ADD COLUMN purged_at TIMESTAMP;
+ALTER TABLE attachments ADD COLUMN purged_at TIMESTAMP;
+
+DROP INDEX idx_blob_orphaned_at;
+CREATE INDEX idx_blob_reclaimable ON attachment_blobs(id) WHERE ref_count = 0 AND purged_at IS NULL;
+
+-- Deleted attachments that own their object (no shared blob) and still occupy storage
+CREATE INDEX idx_attachment_reclaimable ON attachments(id)
+    WHERE status = 'DELETED' AND blob_id IS NULL AND purged_at IS NULL;
@@ -0,0 +1,3 @@
+-- Outcome of thumbnail generation for image attachments; NULL until it has run.
+-- Derived images are stored under the original object key plus a variant suffix.
+ALTER TABLE attachments ADD COLUMN thumbnail_status VARCHAR(20);
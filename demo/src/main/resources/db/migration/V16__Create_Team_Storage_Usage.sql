@@ -0,0 +1,22 @@
+-- Running totals of attachment bytes per team, kept in step with uploads and deletes
+-- so quotas and dashboards never need to aggregate across attachments/tasks/projects
+CREATE TABLE team_storage_usage (
+                                    team_id BIGINT PRIMARY KEY,
+                                    used_bytes BIGINT NOT NULL DEFAULT 0,
+                                    attachment_count BIGINT NOT NULL DEFAULT 0,
+                                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                    CONSTRAINT fk_storage_usage_team FOREIGN KEY (team_id)
+                                        REFERENCES teams(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_storage_usage_used_bytes ON team_storage_usage(used_bytes DESC);
+
+-- Pending and active attachments count; deleted ones do not
+INSERT INTO team_storage_usage (team_id, used_bytes, attachment_count, updated_at)
+SELECT p.team_id, SUM(a.file_size), COUNT(*), now()
+FROM attachments a
+         JOIN tasks t ON t.id = a.task_id
+         JOIN projects p ON p.id = t.project_id
+WHERE a.status <> 'DELETED'
+GROUP BY p.team_id;
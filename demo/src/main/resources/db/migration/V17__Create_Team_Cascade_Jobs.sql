@@ -0,0 +1,39 @@
+-- Status a row had before a team deletion cascaded into it; restore puts it back.
+-- Rows deleted on their own before the team keep NULL and stay deleted on restore.
+ALTER TABLE projects ADD COLUMN cascade_previous_status VARCHAR(20);
+ALTER TABLE tasks ADD COLUMN cascade_previous_status VARCHAR(20);
+ALTER TABLE comments ADD COLUMN cascade_previous_status VARCHAR(20);
+ALTER TABLE attachments ADD COLUMN cascade_previous_status VARCHAR(20);
+
+-- One row per asynchronous team delete/restore cascade, doubling as its progress report
+CREATE TABLE team_cascade_jobs (
+                                   id BIGSERIAL PRIMARY KEY,
+                                   team_id BIGINT NOT NULL,
+                                   operation VARCHAR(20) NOT NULL,
+                                   status VARCHAR(20) NOT NULL,
+                                   current_step VARCHAR(20),
+                                   projects_updated BIGINT NOT NULL DEFAULT 0,
+                                   tasks_updated BIGINT NOT NULL DEFAULT 0,
+                                   comments_updated BIGINT NOT NULL DEFAULT 0,
+                                   attachments_updated BIGINT NOT NULL DEFAULT 0,
+                                   attempts INT NOT NULL DEFAULT 0,
+                                   error VARCHAR(1000),
+                                   started_at TIMESTAMP,
+                                   finished_at TIMESTAMP,
+                                   created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                   updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                   created_by BIGINT,
+                                   updated_by BIGINT,
+
+                                   CONSTRAINT fk_cascade_job_team FOREIGN KEY (team_id)
+                                       REFERENCES teams(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_cascade_job_team_id ON team_cascade_jobs(team_id);
+
+-- At most one unfinished cascade per team
+CREATE UNIQUE INDEX uk_cascade_job_team_unfinished ON team_cascade_jobs(team_id)
+    WHERE status IN ('PENDING', 'RUNNING');
+
+CREATE INDEX idx_cascade_job_resumable ON team_cascade_jobs(updated_at)
+    WHERE status <> 'COMPLETED';
@@ -0,0 +1,3 @@
+-- Covers the project statistics aggregate so it reads only the project's index entries
+-- instead of visiting every task row of the project
+CREATE INDEX idx_task_project_stats ON tasks (project_id, status) INCLUDE (priority, assigned_to, due_date);
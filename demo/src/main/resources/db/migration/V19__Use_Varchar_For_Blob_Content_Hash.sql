@@ -0,0 +1,2 @@
+-- Hibernate maps the hash as varchar; CHAR(64) fails schema validation and differs from the rest of the schema
+ALTER TABLE attachment_blobs ALTER COLUMN content_hash TYPE VARCHAR(64);
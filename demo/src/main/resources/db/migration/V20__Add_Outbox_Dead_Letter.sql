@@ -0,0 +1,9 @@
+-- PUBLISHING: claimed by the relay while it waits for the broker
+-- FAILED: gave up after too many attempts, holds back the rest of its aggregate
+ALTER TABLE outbox DROP CONSTRAINT chk_outbox_status;
+ALTER TABLE outbox ADD CONSTRAINT chk_outbox_status
+    CHECK (status IN ('PENDING', 'PUBLISHING', 'PUBLISHED', 'FAILED'));
+
+DROP INDEX idx_outbox_pending;
+CREATE INDEX idx_outbox_pending ON outbox(id) WHERE status IN ('PENDING', 'PUBLISHING');
+CREATE INDEX idx_outbox_failed ON outbox(aggregate_type, aggregate_id) WHERE status = 'FAILED';
@@ -0,0 +1,155 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.repository.ArchiveEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentArchiveWriter Unit Tests")
+class AttachmentArchiveWriterTest {
+
+    @Mock
+    private BlobStore blobStore;
+
+    private AttachmentArchiveWriter archiveWriter;
+
+    @BeforeEach
+    void setUp() {
+        archiveWriter = new AttachmentArchiveWriter(blobStore, 2);
+        ReflectionTestUtils.setField(archiveWriter, "prefetchWindow", 2);
+        ReflectionTestUtils.setField(archiveWriter, "compressionLevel", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        archiveWriter.destroy();
+    }
+
+    private ArchiveEntry archiveEntry(long id, String filename) {
+        return new ArchiveEntry() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getOriginalFilename() {
+                return filename;
+            }
+
+            @Override
+            public String getObjectKey() {
+                return "blobs/" + id;
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return Instant.parse("2026-01-01T00:00:00Z");
+            }
+        };
+    }
+
+    private Map<String, String> unzip(byte[] archive) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                files.put(zipEntry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return files;
+    }
+
+    @Test
+    @DisplayName("Should write every entry in order with unique, flat names")
+    void shouldWriteArchiveInOrder() throws IOException {
+        // Given
+        List<ArchiveEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            String content = "content-" + id;
+            entries.add(archiveEntry(id, id == 3 ? "docs/report.txt" : id <= 2 ? "report.txt" : "file-" + id + ".txt"));
+            when(blobStore.downloadFile("blobs/" + id))
+                    .thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        }
+        var out = new ByteArrayOutputStream();
+
+        // When
+        archiveWriter.write(entries, out);
+
+        // Then
+        assertThat(unzip(out.toByteArray())).containsExactly(
+                entry("report.txt", "content-1"),
+                entry("report (1).txt", "content-2"),
+                entry("docs_report.txt", "content-3"),
+                entry("file-4.txt", "content-4"),
+                entry("file-5.txt", "content-5"));
+    }
+
+    @Test
+    @DisplayName("Should write a valid empty archive when there are no entries")
+    void shouldWriteEmptyArchive() throws IOException {
+        // Given
+        var out = new ByteArrayOutputStream();
+
+        // When
+        archiveWriter.write(List.of(), out);
+
+        // Then
+        assertThat(unzip(out.toByteArray())).isEmpty();
+        verifyNoInteractions(blobStore);
+    }
+
+    @Test
+    @DisplayName("Should fail with the storage error and close streams already fetched ahead")
+    void shouldAbortOnStorageFailure() throws IOException {
+        // Given
+        var prefetched = spy(new ByteArrayInputStream(new byte[0]));
+        when(blobStore.downloadFile("blobs/1")).thenThrow(new RuntimeException("Failed to download file from MinIO"));
+        when(blobStore.downloadFile("blobs/2")).thenReturn(prefetched);
+
+        // When/Then
+        assertThatThrownBy(() -> archiveWriter.write(List.of(archiveEntry(1, "a.txt"), archiveEntry(2, "b.txt")),
+                new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Failed to fetch attachment 1")
+                .hasRootCauseMessage("Failed to download file from MinIO");
+
+        verify(prefetched).close();
+    }
+
+    @Test
+    @DisplayName("Should number repeated names before the extension")
+    void shouldNumberDuplicateNames() {
+        // Given
+        Set<String> usedNames = new HashSet<>();
+
+        // When/Then
+        assertThat(AttachmentArchiveWriter.uniqueName("notes", usedNames)).isEqualTo("notes");
+        assertThat(AttachmentArchiveWriter.uniqueName("notes", usedNames)).isEqualTo("notes (1)");
+        assertThat(AttachmentArchiveWriter.uniqueName("..", usedNames)).isEqualTo("attachment");
+        assertThat(AttachmentArchiveWriter.uniqueName("..\\evil.sh", usedNames)).isEqualTo(".._evil.sh");
+    }
+}
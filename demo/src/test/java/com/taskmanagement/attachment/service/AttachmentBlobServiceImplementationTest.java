@@ -0,0 +1,112 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+import com.taskmanagement.attachment.repository.AttachmentBlobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentBlobServiceImplementation Unit Tests")
+class AttachmentBlobServiceImplementationTest {
+
+    private static final byte[] CONTENT = "test content".getBytes();
+    private static final String CONTENT_HASH =
+            HexFormat.of().formatHex(AttachmentBlobServiceImplementation.sha256().digest(CONTENT));
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @InjectMocks
+    private AttachmentBlobServiceImplementation blobService;
+
+    private void givenStorageConsumesBody() {
+        when(blobStore.uploadStream(anyString(), any(InputStream.class), anyLong(), anyString()))
+                .thenAnswer(invocation -> {
+                    InputStream body = invocation.getArgument(1);
+                    body.readAllBytes();
+                    return "etag";
+                });
+    }
+
+    private AttachmentBlob blob(Long id, String objectKey) {
+        var blob = AttachmentBlob.builder()
+                .contentHash(CONTENT_HASH)
+                .objectKey(objectKey)
+                .size((long) CONTENT.length)
+                .contentType("text/plain")
+                .build();
+        blob.setId(id);
+        return blob;
+    }
+
+    @Test
+    @DisplayName("Should hash content while streaming and register a new blob")
+    void shouldStoreNewBlob() {
+        // Given
+        givenStorageConsumesBody();
+        ArgumentCaptor<String> objectKey = ArgumentCaptor.forClass(String.class);
+        when(blobRepository.upsertReference(eq(CONTENT_HASH), objectKey.capture(), eq((long) CONTENT.length), eq("text/plain")))
+                .thenReturn(1L);
+        when(blobRepository.findById(1L)).thenAnswer(invocation -> Optional.of(blob(1L, objectKey.getValue())));
+
+        // When
+        StoredBlob result = blobService.store(new ByteArrayInputStream(CONTENT), -1, "text/plain");
+
+        // Then
+        assertThat(result.created()).isTrue();
+        assertThat(result.blob().getContentHash()).isEqualTo(CONTENT_HASH);
+        assertThat(objectKey.getValue()).startsWith("blobs/");
+        verify(blobStore, never()).deleteFile(anyString());
+    }
+
+    @Test
+    @DisplayName("Should drop the new object when identical content is already stored")
+    void shouldDeduplicateExistingContent() {
+        // Given
+        givenStorageConsumesBody();
+        ArgumentCaptor<String> objectKey = ArgumentCaptor.forClass(String.class);
+        when(blobRepository.upsertReference(eq(CONTENT_HASH), objectKey.capture(), anyLong(), anyString()))
+                .thenReturn(5L);
+        when(blobRepository.findById(5L)).thenReturn(Optional.of(blob(5L, "blobs/existing")));
+
+        // When
+        StoredBlob result = blobService.store(new ByteArrayInputStream(CONTENT), CONTENT.length, "text/plain");
+
+        // Then
+        assertThat(result.created()).isFalse();
+        assertThat(result.blob().getObjectKey()).isEqualTo("blobs/existing");
+        verify(blobStore).deleteFile(objectKey.getValue());
+    }
+
+    @Test
+    @DisplayName("Should remove the uploaded object when the blob row cannot be written")
+    void shouldRemoveObjectWhenUpsertFails() {
+        // Given
+        givenStorageConsumesBody();
+        when(blobRepository.upsertReference(anyString(), anyString(), anyLong(), anyString()))
+                .thenThrow(new RuntimeException("Database unavailable"));
+
+        // When & Then
+        assertThatThrownBy(() -> blobService.store(new ByteArrayInputStream(CONTENT), CONTENT.length, "text/plain"))
+                .hasMessageContaining("Database unavailable");
+
+        verify(blobStore).deleteFile(startsWith("blobs/"));
+    }
+}
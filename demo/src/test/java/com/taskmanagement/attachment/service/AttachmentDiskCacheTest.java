@@ -0,0 +1,145 @@
+package com.taskmanagement.attachment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentDiskCache Unit Tests")
+class AttachmentDiskCacheTest {
+
+    @Mock
+    private BlobStore blobStore;
+
+    @TempDir
+    private Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AttachmentDiskCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AttachmentDiskCache(blobStore, meterRegistry, true, tempDir.resolve("cache"), 20, 10);
+        ReflectionTestUtils.setField(cache, "deleteGraceSeconds", 0L);
+    }
+
+    private void givenObject(String objectKey, int size) {
+        when(blobStore.downloadFile(objectKey)).thenReturn(new ByteArrayInputStream(new byte[size]));
+    }
+
+    @Test
+    @DisplayName("Should fetch on the first read and serve later reads from disk")
+    void shouldFillOnceThenHit() throws IOException {
+        // Given
+        givenObject("blobs/logo", 8);
+
+        // When
+        Optional<Path> first = cache.get("blobs/logo", "\"v1\"", 8);
+        Optional<Path> second = cache.get("blobs/logo", "\"v1\"", 8);
+
+        // Then
+        assertThat(first).isPresent().isEqualTo(second);
+        assertThat(Files.size(first.get())).isEqualTo(8);
+        verify(blobStore, times(1)).downloadFile("blobs/logo");
+        assertThat(meterRegistry.counter("attachment.cache.hits").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("attachment.cache.misses").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should refetch when the object's ETag changes")
+    void shouldMissOnNewEtag() {
+        // Given
+        givenObject("blobs/logo", 8);
+        cache.get("blobs/logo", "\"v1\"", 8);
+        givenObject("blobs/logo", 6);
+
+        // When
+        Optional<Path> updated = cache.get("blobs/logo", "\"v2\"", 6);
+
+        // Then
+        assertThat(updated).isPresent();
+        assertThat(cache.cachedBytes()).isEqualTo(6);
+        verify(blobStore, times(2)).downloadFile("blobs/logo");
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used objects to stay within the byte cap")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        givenObject("blobs/a", 8);
+        givenObject("blobs/b", 8);
+        givenObject("blobs/c", 8);
+        Path a = cache.get("blobs/a", "\"a\"", 8).orElseThrow();
+        cache.get("blobs/b", "\"b\"", 8);
+        cache.get("blobs/a", "\"a\"", 8);
+
+        // When
+        cache.get("blobs/c", "\"c\"", 8);
+        cache.get("blobs/a", "\"a\"", 8);
+
+        // Then
+        assertThat(cache.cachedBytes()).isEqualTo(16);
+        assertThat(Files.exists(a)).isTrue();
+        verify(blobStore, times(1)).downloadFile("blobs/a");
+        assertThat(meterRegistry.counter("attachment.cache.evictions").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("attachment.cache.evicted.bytes").count()).isEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("Should bypass objects larger than the per-object limit")
+    void shouldBypassLargeObjects() {
+        // When
+        Optional<Path> cached = cache.get("blobs/video", "\"v\"", 11);
+
+        // Then
+        assertThat(cached).isEmpty();
+        verifyNoInteractions(blobStore);
+    }
+
+    @Test
+    @DisplayName("Should drop an invalidated object and fetch it again on the next read")
+    void shouldInvalidate() {
+        // Given
+        givenObject("attachments/x", 4);
+        cache.get("attachments/x", "\"x\"", 4);
+
+        // When
+        cache.invalidate("attachments/x");
+
+        // Then
+        assertThat(cache.cachedBytes()).isZero();
+        givenObject("attachments/x", 4);
+        assertThat(cache.get("attachments/x", "\"x\"", 4)).isPresent();
+        verify(blobStore, times(2)).downloadFile("attachments/x");
+    }
+
+    @Test
+    @DisplayName("Should fall back to storage when the fetched size does not match")
+    void shouldNotCacheTruncatedObject() {
+        // Given
+        givenObject("blobs/short", 3);
+
+        // When
+        Optional<Path> cached = cache.get("blobs/short", "\"s\"", 5);
+
+        // Then
+        assertThat(cached).isEmpty();
+        assertThat(cache.cachedBytes()).isZero();
+    }
+}
@@ -0,0 +1,218 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.config.FileRegionHttpMessageConverter;
+import com.taskmanagement.attachment.controller.AttachmentController;
+import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.enums.AttachmentVariant;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
+import com.taskmanagement.attachment.mapper.AttachmentMapper;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Drives downloads through Spring MVC, which re-slices some response bodies
+ * by the request's {@code Range} header on its own.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Attachment Download MVC Tests")
+class AttachmentDownloadMvcTest {
+
+    private static final String OBJECT_KEY = "attachments/uuid-test-file.pdf";
+    private static final String ETAG = "\"abc123\"";
+
+    @Mock
+    private SecurityHelper securityHelper;
+
+    @Mock
+    private AttachmentMapper attachmentMapper;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private AttachmentBlobService attachmentBlobService;
+
+    @Mock
+    private AttachmentArchiveWriter attachmentArchiveWriter;
+
+    @Mock
+    private AttachmentDiskCache attachmentDiskCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StorageUsageService storageUsageService;
+
+    @InjectMocks
+    private AttachmentServiceImplementation attachmentService;
+
+    @TempDir
+    Path tempDir;
+
+    private MockMvc mockMvc;
+    private Attachment attachment;
+    private Path file;
+    private byte[] fileBytes;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(new AttachmentController(attachmentService))
+                .setMessageConverters(
+                        new FileRegionHttpMessageConverter(),
+                        new ResourceHttpMessageConverter(),
+                        new ResourceRegionHttpMessageConverter())
+                .build();
+
+        fileBytes = new byte[1024];
+        for (int i = 0; i < fileBytes.length; i++) {
+            fileBytes[i] = (byte) i;
+        }
+        file = Files.write(tempDir.resolve("uuid-test-file.pdf"), fileBytes);
+
+        User user = User.builder()
+                .email("member@example.com")
+                .firstName("Member")
+                .lastName("User")
+                .role(Role.MEMBER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        user.setId(2L);
+
+        attachment = Attachment.builder()
+                .originalFilename("test-file.pdf")
+                .storedFilename("uuid-test-file.pdf")
+                .bucketName("test-bucket")
+                .objectKey(OBJECT_KEY)
+                .fileSize(1024L)
+                .contentType("application/pdf")
+                .taskId(1L)
+                .userId(2L)
+                .status(AttachmentStatus.ACTIVE)
+                .build();
+        attachment.setId(1L);
+
+        when(securityHelper.getCurrentUser()).thenReturn(user);
+        when(securityHelper.attachmentExistsAndNotDeletedCheck(1L)).thenReturn(attachment);
+    }
+
+    private void givenOriginalStored() {
+        when(blobStore.statObject(OBJECT_KEY)).thenReturn(Optional.of(new StoredObjectInfo(1024L, "abc123", "application/pdf")));
+    }
+
+    @Test
+    @DisplayName("Should send the requested range of a local file as 206")
+    void shouldServeMatchingRangeFromLocalFile() throws Exception {
+        // Given
+        givenOriginalStored();
+        when(blobStore.localFile(OBJECT_KEY)).thenReturn(Optional.of(file));
+
+        // When / Then
+        mockMvc.perform(get("/api/attachments/1/download")
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1024"))
+                .andExpect(content().bytes(Arrays.copyOfRange(fileBytes, 100, 200)));
+    }
+
+    @Test
+    @DisplayName("Should send the whole local file when If-Range no longer matches")
+    void shouldServeFullLocalFileForStaleIfRange() throws Exception {
+        // Given
+        givenOriginalStored();
+        when(blobStore.localFile(OBJECT_KEY)).thenReturn(Optional.of(file));
+
+        // When / Then
+        mockMvc.perform(get("/api/attachments/1/download")
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().bytes(fileBytes));
+    }
+
+    @Test
+    @DisplayName("Should send the whole local file instead of multipart byte ranges")
+    void shouldServeFullLocalFileForMultipleRanges() throws Exception {
+        // Given
+        givenOriginalStored();
+        when(blobStore.localFile(OBJECT_KEY)).thenReturn(Optional.of(file));
+
+        // When / Then
+        mockMvc.perform(get("/api/attachments/1/download")
+                        .header(HttpHeaders.RANGE, "bytes=0-9,100-199"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().bytes(fileBytes));
+    }
+
+    @Test
+    @DisplayName("Should send the whole cached copy when the request asks for several ranges")
+    void shouldServeFullCachedCopyForMultipleRanges() throws Exception {
+        // Given
+        givenOriginalStored();
+        when(attachmentDiskCache.get(OBJECT_KEY, ETAG, 1024L)).thenReturn(Optional.of(file));
+
+        // When / Then
+        mockMvc.perform(get("/api/attachments/1/download")
+                        .header(HttpHeaders.RANGE, "bytes=0-9,100-199"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().bytes(fileBytes));
+        verify(blobStore, never()).downloadFile(anyString());
+    }
+
+    @Test
+    @DisplayName("Should send a whole cached thumbnail even when the request carries a Range header")
+    void shouldServeFullCachedVariantDespiteRange() throws Exception {
+        // Given
+        String thumbKey = AttachmentVariant.THUMB.objectKey(OBJECT_KEY);
+        attachment.setThumbnailStatus(ThumbnailStatus.READY);
+        when(blobStore.statObject(thumbKey)).thenReturn(Optional.of(new StoredObjectInfo(1024L, "thumb1", "image/jpeg")));
+        when(attachmentDiskCache.get(thumbKey, "\"thumb1\"", 1024L)).thenReturn(Optional.of(file));
+
+        // When / Then
+        mockMvc.perform(get("/api/attachments/1/download")
+                        .param("variant", "thumb")
+                        .header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes(fileBytes));
+        verify(blobStore, never()).downloadFile(anyString());
+    }
+}
@@ -0,0 +1,131 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.repository.AttachmentBlobRepository;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.attachment.repository.ReclaimableObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentReclaimer Unit Tests")
+class AttachmentReclaimerTest {
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private AttachmentDiskCache attachmentDiskCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AttachmentReclaimer reclaimer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reclaimer = new AttachmentReclaimer(blobRepository, attachmentRepository, blobStore, attachmentDiskCache,
+                meterRegistry);
+        ReflectionTestUtils.setField(reclaimer, "batchSize", 2);
+        ReflectionTestUtils.setField(reclaimer, "batchPauseMillis", 0L);
+    }
+
+    private ReclaimableObject object(long id, String objectKey, long size) {
+        return new ReclaimableObject() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getObjectKey() {
+                return objectKey;
+            }
+
+            @Override
+            public Long getSize() {
+                return size;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should walk blobs in keyset batches and release claims whose delete failed")
+    void shouldReclaimBlobsInBatches() {
+        // Given
+        Instant cutoff = Instant.now();
+        when(blobRepository.findReclaimableIds(cutoff, 0L, 2)).thenReturn(List.of(1L, 2L));
+        when(blobRepository.findReclaimableIds(cutoff, 2L, 2)).thenReturn(List.of(5L));
+        when(blobRepository.claimForReclaim(List.of(1L, 2L)))
+                .thenReturn(List.of(object(1L, "blobs/a", 100L), object(2L, "blobs/b", 50L)));
+        when(blobRepository.claimForReclaim(List.of(5L))).thenReturn(List.of(object(5L, "blobs/c", 10L)));
+        when(blobStore.deleteFiles(List.of("blobs/a", "blobs/a.thumb.jpg", "blobs/a.medium.jpg",
+                "blobs/b", "blobs/b.thumb.jpg", "blobs/b.medium.jpg"))).thenReturn(Set.of("blobs/b"));
+        when(blobStore.deleteFiles(List.of("blobs/c", "blobs/c.thumb.jpg", "blobs/c.medium.jpg"))).thenReturn(Set.of());
+
+        // When
+        int batches = reclaimer.reclaimBlobs(cutoff, 10);
+
+        // Then
+        assertThat(batches).isEqualTo(2);
+        verify(blobRepository).releaseClaim(2L, "blobs/b");
+        verify(blobRepository, never()).releaseClaim(eq(1L), anyString());
+        verify(attachmentDiskCache).invalidate("blobs/a");
+        verify(attachmentDiskCache, never()).invalidate("blobs/b");
+        assertThat(meterRegistry.counter("attachment.reclaim.bytes").count()).isEqualTo(110.0);
+        assertThat(meterRegistry.counter("attachment.reclaim.failures").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should mark only successfully removed attachment objects as purged")
+    void shouldMarkRemovedAttachmentsPurged() {
+        // Given
+        Instant cutoff = Instant.now();
+        when(attachmentRepository.findReclaimable(eq(cutoff), eq(0L), any()))
+                .thenReturn(List.of(object(3L, "attachments/x", 10L)));
+        when(blobStore.deleteFiles(List.of("attachments/x", "attachments/x.thumb.jpg", "attachments/x.medium.jpg")))
+                .thenReturn(Set.of());
+
+        // When
+        reclaimer.reclaimOwnedObjects(cutoff, 10);
+
+        // Then
+        verify(attachmentRepository).markPurged(eq(List.of(3L)), any(Instant.class));
+        assertThat(meterRegistry.counter("attachment.reclaim.objects").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should stop when the batch budget is spent")
+    void shouldRespectBatchBudget() {
+        // Given
+        Instant cutoff = Instant.now();
+        when(blobRepository.findReclaimableIds(cutoff, 0L, 2)).thenReturn(List.of(1L, 2L));
+        when(blobRepository.claimForReclaim(List.of(1L, 2L))).thenReturn(List.of());
+
+        // When
+        int batches = reclaimer.reclaimBlobs(cutoff, 1);
+
+        // Then
+        assertThat(batches).isEqualTo(1);
+        verify(blobRepository, times(1)).findReclaimableIds(any(), anyLong(), anyInt());
+        verifyNoInteractions(blobStore);
+    }
+}
@@ -1,9 +1,16 @@
 package com.taskmanagement.attachment.service;
 
 import com.taskmanagement.attachment.dto.AttachmentResponseDto;
+import com.taskmanagement.attachment.dto.PresignedUploadRequestDto;
+import com.taskmanagement.attachment.dto.PresignedUploadResponseDto;
 import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.entity.AttachmentBlob;
+import com.taskmanagement.attachment.enums.AttachmentDownloadMode;
 import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.enums.AttachmentVariant;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
 import com.taskmanagement.attachment.mapper.AttachmentMapper;
+import com.taskmanagement.attachment.repository.ArchiveEntry;
 import com.taskmanagement.attachment.repository.AttachmentRepository;
 import com.taskmanagement.common.exception.types.Exceptions.*;
 import com.taskmanagement.task.entity.Task;
@@ -21,7 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,16 +37,21 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -63,7 +75,22 @@ class AttachmentServiceImplementationTest {
     private AttachmentRepository attachmentRepository;
 
     @Mock
-    private MinioService minioService;
+    private BlobStore blobStore;
+
+    @Mock
+    private AttachmentBlobService attachmentBlobService;
+
+    @Mock
+    private AttachmentArchiveWriter attachmentArchiveWriter;
+
+    @Mock
+    private AttachmentDiskCache attachmentDiskCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StorageUsageService storageUsageService;
 
     @InjectMocks
     private AttachmentServiceImplementation attachmentService;
@@ -75,6 +102,7 @@ class AttachmentServiceImplementationTest {
     private Task task;
     private Attachment attachment;
     private Attachment deletedAttachment;
+    private AttachmentBlob blob;
     private AttachmentResponseDto attachmentResponseDto;
     private MockMultipartFile validFile;
     private MockMultipartFile emptyFile;
@@ -182,11 +210,21 @@ class AttachmentServiceImplementationTest {
         deletedAttachment.setId(2L);
         deletedAttachment.setCreatedBy(2L);
 
+        // Setup shared blob
+        blob = AttachmentBlob.builder()
+                .contentHash("a".repeat(64))
+                .objectKey("blobs/uuid-blob")
+                .size(12L)
+                .contentType("application/pdf")
+                .refCount(1)
+                .build();
+        blob.setId(9L);
+
         // Setup DTOs
         attachmentResponseDto = new AttachmentResponseDto(
                 1L, "test-file.pdf", "uuid-test-file.pdf", 1024L,
                 "application/pdf", 1L, 2L, AttachmentStatus.ACTIVE,
-                "/api/attachments/1/download", 2L, null, Instant.now(), Instant.now()
+                "/api/attachments/1/download", null, 2L, null, Instant.now(), Instant.now()
         );
 
         // Setup files
@@ -236,9 +274,8 @@ class AttachmentServiceImplementationTest {
             when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
             doNothing().when(securityHelper).canUploadToTask(memberUser, task);
             doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
-            when(minioService.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
-            when(minioService.uploadFile(any(MultipartFile.class), anyString()))
-                    .thenReturn("attachments/uuid-test-file.pdf");
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenReturn(new StoredBlob(blob, true));
             when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
             when(attachmentMapper.toDto(attachment)).thenReturn(attachmentResponseDto);
 
@@ -249,8 +286,112 @@ class AttachmentServiceImplementationTest {
             assertThat(result).isNotNull();
             assertThat(result.originalFilename()).isEqualTo("test-file.pdf");
             verify(securityHelper).canUploadToTask(memberUser, task);
-            verify(minioService).uploadFile(any(MultipartFile.class), anyString());
+            verify(attachmentBlobService).store(any(InputStream.class), eq(12L), eq("application/pdf"));
             verify(attachmentRepository).save(any(Attachment.class));
+            verify(eventPublisher).publishEvent(new AttachmentStoredEvent(1L, "application/pdf"));
+        }
+
+        @Test
+        @DisplayName("Should refuse the upload before storing anything when the team is over quota")
+        void shouldRejectUploadOverQuota() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            doThrow(new StorageQuotaExceededException(1L, 1024L))
+                    .when(storageUsageService).checkQuota(1L, 12L);
+
+            // When/Then
+            assertThatThrownBy(() -> attachmentService.uploadAttachment(1L, validFile))
+                    .isInstanceOf(StorageQuotaExceededException.class);
+
+            verifyNoInteractions(attachmentBlobService);
+            verify(attachmentRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should release the stored content when the quota reservation is refused")
+        void shouldReleaseBlobWhenReservationRefused() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenReturn(new StoredBlob(blob, true));
+            doThrow(new StorageQuotaExceededException(1L, 1024L))
+                    .when(storageUsageService).reserve(1L, blob.getSize());
+
+            // When/Then
+            assertThatThrownBy(() -> attachmentService.uploadAttachment(1L, validFile))
+                    .isInstanceOf(StorageQuotaExceededException.class);
+
+            verify(attachmentBlobService).release(blob.getId());
+            verify(storageUsageService, never()).release(anyLong(), anyLong());
+            verify(attachmentRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should delete the newly stored object when the upload transaction rolls back")
+        void shouldDeleteStoredObjectWhenTransactionRollsBack() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenReturn(new StoredBlob(blob, true));
+            doThrow(new StorageQuotaExceededException(1L, 1024L))
+                    .when(storageUsageService).reserve(1L, blob.getSize());
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                assertThatThrownBy(() -> attachmentService.uploadAttachment(1L, validFile))
+                        .isInstanceOf(StorageQuotaExceededException.class);
+
+                verify(blobStore, never()).deleteFile(anyString());
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // Then
+            verify(blobStore).deleteFile(blob.getObjectKey());
+        }
+
+        @Test
+        @DisplayName("Should keep shared content when an upload that deduplicated rolls back")
+        void shouldKeepSharedObjectWhenTransactionRollsBack() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenReturn(new StoredBlob(blob, false));
+            doThrow(new StorageQuotaExceededException(1L, 1024L))
+                    .when(storageUsageService).reserve(1L, blob.getSize());
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                assertThatThrownBy(() -> attachmentService.uploadAttachment(1L, validFile))
+                        .isInstanceOf(StorageQuotaExceededException.class);
+
+                // Then
+                assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(blobStore, never()).deleteFile(anyString());
         }
 
         @Test
@@ -427,9 +568,8 @@ class AttachmentServiceImplementationTest {
             when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
             doNothing().when(securityHelper).canUploadToTask(memberUser, task);
             doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
-            when(minioService.generateStoredFilename("test.bin")).thenReturn("uuid-test.bin");
-            when(minioService.uploadFile(any(MultipartFile.class), anyString()))
-                    .thenReturn("attachments/uuid-test.bin");
+            when(blobStore.generateStoredFilename("test.bin")).thenReturn("uuid-test.bin");
+            when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenReturn(new StoredBlob(blob, true));
             when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
             when(attachmentMapper.toDto(attachment)).thenReturn(attachmentResponseDto);
 
@@ -451,9 +591,8 @@ class AttachmentServiceImplementationTest {
             when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
             doNothing().when(securityHelper).canUploadToTask(memberUser, task);
             doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
-            when(minioService.generateStoredFilename(anyString())).thenReturn("uuid-test-file.pdf");
-            when(minioService.uploadFile(any(MultipartFile.class), anyString()))
-                    .thenReturn("attachments/uuid-test-file.pdf");
+            when(blobStore.generateStoredFilename(anyString())).thenReturn("uuid-test-file.pdf");
+            when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenReturn(new StoredBlob(blob, true));
             when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
             when(attachmentMapper.toDto(attachment)).thenReturn(attachmentResponseDto);
 
@@ -482,9 +621,8 @@ class AttachmentServiceImplementationTest {
                 when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
                 doNothing().when(securityHelper).canUploadToTask(memberUser, task);
                 doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
-                when(minioService.generateStoredFilename(anyString())).thenReturn("uuid-test" + ext);
-                when(minioService.uploadFile(any(MultipartFile.class), anyString()))
-                        .thenReturn("attachments/uuid-test" + ext);
+                when(blobStore.generateStoredFilename(anyString())).thenReturn("uuid-test" + ext);
+                when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenReturn(new StoredBlob(blob, true));
                 when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
                 when(attachmentMapper.toDto(attachment)).thenReturn(attachmentResponseDto);
 
@@ -495,6 +633,361 @@ class AttachmentServiceImplementationTest {
         }
     }
 
+    // ============================================
+    // STREAM UPLOAD TESTS
+    // ============================================
+
+    @Nested
+    @DisplayName("uploadAttachmentStream() Tests")
+    class UploadAttachmentStreamTests {
+
+        private void givenUploadAllowed() {
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+        }
+
+        private void givenStorageConsumesBody() {
+            when(attachmentBlobService.store(any(InputStream.class), anyLong(), anyString())).thenAnswer(invocation -> {
+                InputStream body = invocation.getArgument(0);
+                try {
+                    body.readAllBytes();
+                } catch (java.io.IOException e) {
+                    throw new RuntimeException("Failed to upload file to storage", e);
+                }
+                return new StoredBlob(blob, true);
+            });
+        }
+
+        @Test
+        @DisplayName("Should stream body to storage and record streamed size")
+        void shouldStreamUploadSuccessfully() {
+            // Given
+            byte[] content = "streamed content".getBytes();
+            givenUploadAllowed();
+            givenStorageConsumesBody();
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
+            when(attachmentMapper.toDto(attachment)).thenReturn(attachmentResponseDto);
+
+            // When
+            AttachmentResponseDto result = attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", -1, null, new ByteArrayInputStream(content));
+
+            // Then
+            assertThat(result).isNotNull();
+            verify(attachmentBlobService).store(any(InputStream.class), eq(-1L), eq("application/pdf"));
+            verify(attachmentRepository).save(argThat(saved ->
+                    saved.getBlobId() == 9L &&
+                            "blobs/uuid-blob".equals(saved.getObjectKey()) &&
+                            "uuid-test-file.pdf".equals(saved.getStoredFilename()) &&
+                            "application/pdf".equals(saved.getContentType())));
+        }
+
+        @Test
+        @DisplayName("Should reject declared length over the limit before reading the body")
+        void shouldRejectDeclaredOversizedBody() {
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", 11L * 1024 * 1024, null,
+                    new ByteArrayInputStream(new byte[0])))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("File size exceeds maximum allowed");
+
+            verifyNoInteractions(blobStore);
+            verifyNoInteractions(attachmentRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject body of unknown length once it exceeds the limit")
+        void shouldRejectOversizedBodyWhileStreaming() {
+            // Given
+            ReflectionTestUtils.setField(attachmentService, "maxFileSize", 8L);
+            givenUploadAllowed();
+            givenStorageConsumesBody();
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", -1, null,
+                    new ByteArrayInputStream("more than eight bytes".getBytes())))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("File size exceeds maximum allowed");
+
+            verify(attachmentRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject empty body without touching storage")
+        void shouldRejectEmptyBody() {
+            // Given
+            givenUploadAllowed();
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", -1, null, new ByteArrayInputStream(new byte[0])))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("File cannot be empty");
+
+            verifyNoInteractions(attachmentBlobService);
+        }
+
+        @Test
+        @DisplayName("Should release blob reference when metadata insert fails")
+        void shouldReleaseBlobWhenSaveFails() {
+            // Given
+            givenUploadAllowed();
+            givenStorageConsumesBody();
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentRepository.save(any(Attachment.class)))
+                    .thenThrow(new RuntimeException("Database unavailable"));
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", 12, null, new ByteArrayInputStream("test content".getBytes())))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Database unavailable");
+
+            verify(attachmentBlobService).release(9L);
+        }
+
+        @Test
+        @DisplayName("Should link existing content without reading the body when the hash is known")
+        void shouldShortCircuitKnownHash() {
+            // Given
+            InputStream body = mock(InputStream.class);
+            givenUploadAllowed();
+            when(attachmentBlobService.findByHash("a".repeat(64))).thenReturn(Optional.of(blob));
+            when(securityHelper.isSystemAdmin(memberUser)).thenReturn(false);
+            when(attachmentRepository.existsReusableBlob(9L, 2L, 1L)).thenReturn(true);
+            when(attachmentBlobService.reference(blob)).thenReturn(true);
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
+            when(attachmentMapper.toDto(attachment)).thenReturn(attachmentResponseDto);
+
+            // When
+            attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", 12, "a".repeat(64), body);
+
+            // Then
+            verifyNoInteractions(body);
+            verify(attachmentBlobService, never()).store(any(), anyLong(), anyString());
+            verify(attachmentRepository).save(argThat(saved -> saved.getBlobId() == 9L));
+        }
+
+        @Test
+        @DisplayName("Should upload the body when the known hash belongs to content the user cannot reach")
+        void shouldNotShortCircuitForeignContent() {
+            // Given
+            givenUploadAllowed();
+            givenStorageConsumesBody();
+            when(attachmentBlobService.findByHash("a".repeat(64))).thenReturn(Optional.of(blob));
+            when(securityHelper.isSystemAdmin(memberUser)).thenReturn(false);
+            when(attachmentRepository.existsReusableBlob(9L, 2L, 1L)).thenReturn(false);
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
+            when(attachmentMapper.toDto(attachment)).thenReturn(attachmentResponseDto);
+
+            // When
+            attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", 12, "a".repeat(64),
+                    new ByteArrayInputStream("test content".getBytes()));
+
+            // Then
+            verify(attachmentBlobService, never()).reference(any());
+            verify(attachmentBlobService).store(any(InputStream.class), eq(12L), eq("application/pdf"));
+        }
+
+        @Test
+        @DisplayName("Should reject body that does not match the declared hash")
+        void shouldRejectHashMismatch() {
+            // Given
+            givenUploadAllowed();
+            givenStorageConsumesBody();
+            when(attachmentBlobService.findByHash("b".repeat(64))).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.uploadAttachmentStream(
+                    1L, "test-file.pdf", "application/pdf", 12, "b".repeat(64),
+                    new ByteArrayInputStream("test content".getBytes())))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("does not match");
+
+            verify(attachmentBlobService).release(9L);
+            verify(attachmentRepository, never()).save(any());
+        }
+    }
+
+    // ============================================
+    // PRESIGNED URL TESTS
+    // ============================================
+
+    @Nested
+    @DisplayName("Presigned URL Tests")
+    class PresignedUrlTests {
+
+        private Attachment pendingAttachment;
+
+        @BeforeEach
+        void setUpPresigned() {
+            ReflectionTestUtils.setField(attachmentService, "presignedEnabled", true);
+            ReflectionTestUtils.setField(attachmentService, "presignedExpirySeconds", 300);
+
+            pendingAttachment = Attachment.builder()
+                    .originalFilename("test-file.pdf")
+                    .storedFilename("uuid-test-file.pdf")
+                    .bucketName("test-bucket")
+                    .objectKey("attachments/uuid-test-file.pdf")
+                    .fileSize(1024L)
+                    .contentType("application/pdf")
+                    .task(task)
+                    .taskId(1L)
+                    .user(memberUser)
+                    .userId(2L)
+                    .status(AttachmentStatus.PENDING)
+                    .build();
+            pendingAttachment.setId(5L);
+            pendingAttachment.setCreatedBy(2L);
+        }
+
+        @Test
+        @DisplayName("Should reserve PENDING attachment and return presigned PUT URL")
+        void shouldCreatePresignedUpload() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            when(blobStore.generateStoredFilename("test-file.pdf")).thenReturn("uuid-test-file.pdf");
+            when(blobStore.buildObjectKey("uuid-test-file.pdf")).thenReturn("attachments/uuid-test-file.pdf");
+            when(attachmentRepository.save(any(Attachment.class))).thenReturn(pendingAttachment);
+            when(blobStore.getPresignedUploadUrl("attachments/uuid-test-file.pdf", 300))
+                    .thenReturn("http://minio/upload");
+
+            // When
+            PresignedUploadResponseDto result = attachmentService.createPresignedUpload(
+                    1L, new PresignedUploadRequestDto("test-file.pdf", "application/pdf", 1024L));
+
+            // Then
+            assertThat(result.attachmentId()).isEqualTo(5L);
+            assertThat(result.uploadUrl()).isEqualTo("http://minio/upload");
+            assertThat(result.method()).isEqualTo("PUT");
+            verify(attachmentRepository).save(argThat(saved ->
+                    saved.getStatus() == AttachmentStatus.PENDING && saved.getFileSize() == 1024L));
+            verify(blobStore, never()).uploadStream(anyString(), any(), anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject presigned upload when feature is disabled")
+        void shouldRejectWhenPresignedDisabled() {
+            // Given
+            ReflectionTestUtils.setField(attachmentService, "presignedEnabled", false);
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.createPresignedUpload(
+                    1L, new PresignedUploadRequestDto("test-file.pdf", "application/pdf", 1024L)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("disabled");
+
+            verifyNoInteractions(attachmentRepository);
+        }
+
+        @Test
+        @DisplayName("Should activate pending attachment when stored size matches")
+        void shouldConfirmUpload() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(attachmentRepository.findPendingById(5L)).thenReturn(Optional.of(pendingAttachment));
+            when(blobStore.statObject("attachments/uuid-test-file.pdf"))
+                    .thenReturn(Optional.of(new StoredObjectInfo(1024L, "etag", "application/pdf")));
+            when(attachmentRepository.save(pendingAttachment)).thenReturn(pendingAttachment);
+            when(attachmentMapper.toDto(pendingAttachment)).thenReturn(attachmentResponseDto);
+
+            // When
+            AttachmentResponseDto result = attachmentService.confirmPresignedUpload(5L);
+
+            // Then
+            assertThat(result).isNotNull();
+            assertThat(pendingAttachment.getStatus()).isEqualTo(AttachmentStatus.ACTIVE);
+        }
+
+        @Test
+        @DisplayName("Should delete object and keep attachment pending on size mismatch")
+        void shouldRejectConfirmOnSizeMismatch() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(attachmentRepository.findPendingById(5L)).thenReturn(Optional.of(pendingAttachment));
+            when(blobStore.statObject("attachments/uuid-test-file.pdf"))
+                    .thenReturn(Optional.of(new StoredObjectInfo(4096L, "etag", "application/pdf")));
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.confirmPresignedUpload(5L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("does not match");
+
+            verify(blobStore).deleteFile("attachments/uuid-test-file.pdf");
+            verify(attachmentRepository, never()).save(any());
+            assertThat(pendingAttachment.getStatus()).isEqualTo(AttachmentStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("Should reject confirm before the object was uploaded")
+        void shouldRejectConfirmWhenObjectMissing() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(attachmentRepository.findPendingById(5L)).thenReturn(Optional.of(pendingAttachment));
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.confirmPresignedUpload(5L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("not been uploaded");
+        }
+
+        @Test
+        @DisplayName("Should reject confirm by another user")
+        void shouldRejectConfirmByOtherUser() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(otherUser);
+            doNothing().when(securityHelper).isUserActive(otherUser);
+            when(attachmentRepository.findPendingById(5L)).thenReturn(Optional.of(pendingAttachment));
+            when(securityHelper.isSystemAdmin(otherUser)).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> attachmentService.confirmPresignedUpload(5L))
+                    .isInstanceOf(AccessDeniedException.class);
+
+            verifyNoInteractions(blobStore);
+        }
+
+        @Test
+        @DisplayName("Should redirect download to presigned URL in redirect mode")
+        void shouldRedirectDownload() {
+            // Given
+            ReflectionTestUtils.setField(attachmentService, "downloadMode", AttachmentDownloadMode.REDIRECT);
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.attachmentExistsAndNotDeletedCheck(1L)).thenReturn(attachment);
+            doNothing().when(securityHelper).canAccessAttachment(memberUser, attachment);
+            when(blobStore.getPresignedDownloadUrl(
+                    "attachments/uuid-test-file.pdf", "test-file.pdf", "application/pdf", 300))
+                    .thenReturn("http://minio/download");
+
+            // When
+            ResponseEntity<?> result = attachmentService.downloadAttachment(1L, null, null);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+            assertThat(result.getHeaders().getLocation()).hasToString("http://minio/download");
+            verify(blobStore, never()).downloadFile(anyString());
+        }
+    }
+
     // ============================================
     // GET ATTACHMENT BY ID TESTS
     // ============================================
@@ -675,6 +1168,15 @@ class AttachmentServiceImplementationTest {
     @DisplayName("downloadAttachment() Tests")
     class DownloadAttachmentTests {
 
+        private final StoredObjectInfo storedObject = new StoredObjectInfo(1024L, "abc123", "application/pdf");
+
+        private void givenDownloadAllowed() {
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.attachmentExistsAndNotDeletedCheck(1L)).thenReturn(attachment);
+            doNothing().when(securityHelper).canAccessAttachment(memberUser, attachment);
+        }
+
         @Test
         @DisplayName("Should download attachment successfully")
         void shouldDownloadAttachmentSuccessfully() {
@@ -684,10 +1186,11 @@ class AttachmentServiceImplementationTest {
             doNothing().when(securityHelper).isUserActive(memberUser);
             when(securityHelper.attachmentExistsAndNotDeletedCheck(1L)).thenReturn(attachment);
             doNothing().when(securityHelper).canAccessAttachment(memberUser, attachment);
-            when(minioService.downloadFile("attachments/uuid-test-file.pdf")).thenReturn(inputStream);
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(blobStore.downloadFile("attachments/uuid-test-file.pdf")).thenReturn(inputStream);
 
             // When
-            ResponseEntity<InputStreamResource> result = attachmentService.downloadAttachment(1L);
+            ResponseEntity<?> result = attachmentService.downloadAttachment(1L, null, null);
 
             // Then
             assertThat(result).isNotNull();
@@ -695,14 +1198,130 @@ class AttachmentServiceImplementationTest {
             assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
             assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
                     .contains("test-file.pdf");
-            verify(minioService).downloadFile("attachments/uuid-test-file.pdf");
+            assertThat(result.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+            assertThat(result.getHeaders().getETag()).isEqualTo("\"abc123\"");
+            assertThat(result.getHeaders().getContentLength()).isEqualTo(1024L);
+            verify(blobStore).downloadFile("attachments/uuid-test-file.pdf");
+        }
+
+        @Test
+        @DisplayName("Should serve a single byte range as 206 from a ranged object read")
+        void shouldDownloadRange() {
+            // Given
+            givenDownloadAllowed();
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(blobStore.downloadRange("attachments/uuid-test-file.pdf", 100L, 100L))
+                    .thenReturn(new ByteArrayInputStream(new byte[100]));
+
+            // When
+            ResponseEntity<?> result =
+                    attachmentService.downloadAttachment(1L, "bytes=100-199", "\"abc123\"");
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+            assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/1024");
+            assertThat(result.getHeaders().getContentLength()).isEqualTo(100L);
+            verify(blobStore, never()).downloadFile(anyString());
+        }
+
+        @Test
+        @DisplayName("Should clamp open-ended range to the end of the file")
+        void shouldClampOpenEndedRange() {
+            // Given
+            givenDownloadAllowed();
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(blobStore.downloadRange("attachments/uuid-test-file.pdf", 1000L, 24L))
+                    .thenReturn(new ByteArrayInputStream(new byte[24]));
+
+            // When
+            ResponseEntity<?> result = attachmentService.downloadAttachment(1L, "bytes=1000-", null);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+            assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 1000-1023/1024");
+        }
+
+        @Test
+        @DisplayName("Should return full file when If-Range does not match the current ETag")
+        void shouldIgnoreRangeWhenIfRangeIsStale() {
+            // Given
+            givenDownloadAllowed();
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(blobStore.downloadFile("attachments/uuid-test-file.pdf"))
+                    .thenReturn(new ByteArrayInputStream(new byte[1024]));
+
+            // When
+            ResponseEntity<?> result =
+                    attachmentService.downloadAttachment(1L, "bytes=100-199", "\"stale\"");
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            verify(blobStore, never()).downloadRange(anyString(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return 416 when range starts beyond the end of the file")
+        void shouldRejectUnsatisfiableRange() {
+            // Given
+            givenDownloadAllowed();
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+
+            // When
+            ResponseEntity<?> result = attachmentService.downloadAttachment(1L, "bytes=2048-", null);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1024");
+            verify(blobStore, never()).downloadRange(anyString(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should serve content on local disk as a file region instead of a stream")
+        void shouldServeLocalFileAsRegion() {
+            // Given
+            givenDownloadAllowed();
+            Path localFile = Path.of("/data/attachments/uuid-test-file.pdf");
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(blobStore.localFile("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(localFile));
+
+            // When
+            ResponseEntity<?> result = attachmentService.downloadAttachment(1L, "bytes=100-199", null);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+            assertThat(result.getBody()).isInstanceOfSatisfying(FileRegion.class, region -> {
+                assertThat(region.getPath()).isEqualTo(localFile);
+                assertThat(region.getPosition()).isEqualTo(100L);
+                assertThat(region.getCount()).isEqualTo(100L);
+            });
+            verify(blobStore, never()).downloadRange(anyString(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should serve a hot object from the local disk cache instead of storage")
+        void shouldServeCachedCopy() {
+            // Given
+            givenDownloadAllowed();
+            Path cachedFile = Path.of("/data/attachment-cache/abc");
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(attachmentDiskCache.get("attachments/uuid-test-file.pdf", "\"abc123\"", 1024L))
+                    .thenReturn(Optional.of(cachedFile));
+
+            // When
+            ResponseEntity<?> result = attachmentService.downloadAttachment(1L, null, null);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isInstanceOfSatisfying(FileRegion.class, region ->
+                    assertThat(region.getPath()).isEqualTo(cachedFile));
+            verify(blobStore, never()).downloadFile(anyString());
         }
 
         @Test
         @DisplayName("Should throw NullPointerException when attachment ID is null")
         void shouldThrowExceptionWhenAttachmentIdIsNull() {
             // When/Then
-            assertThatThrownBy(() -> attachmentService.downloadAttachment(null))
+            assertThatThrownBy(() -> attachmentService.downloadAttachment(null, null, null))
                     .isInstanceOf(NullPointerException.class)
                     .hasMessageContaining("Attachment ID must not be null");
         }
@@ -717,7 +1336,7 @@ class AttachmentServiceImplementationTest {
                     .thenThrow(new AttachmentNotFoundException(999L));
 
             // When/Then
-            assertThatThrownBy(() -> attachmentService.downloadAttachment(999L))
+            assertThatThrownBy(() -> attachmentService.downloadAttachment(999L, null, null))
                     .isInstanceOf(AttachmentNotFoundException.class);
         }
 
@@ -732,7 +1351,7 @@ class AttachmentServiceImplementationTest {
                     .when(securityHelper).canAccessAttachment(otherUser, attachment);
 
             // When/Then
-            assertThatThrownBy(() -> attachmentService.downloadAttachment(1L))
+            assertThatThrownBy(() -> attachmentService.downloadAttachment(1L, null, null))
                     .isInstanceOf(AccessDeniedException.class);
         }
 
@@ -744,14 +1363,109 @@ class AttachmentServiceImplementationTest {
             doNothing().when(securityHelper).isUserActive(memberUser);
             when(securityHelper.attachmentExistsAndNotDeletedCheck(1L)).thenReturn(attachment);
             doNothing().when(securityHelper).canAccessAttachment(memberUser, attachment);
-            when(minioService.downloadFile(anyString()))
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(blobStore.downloadFile(anyString()))
                     .thenThrow(new RuntimeException("MinIO connection failed"));
 
             // When/Then
-            assertThatThrownBy(() -> attachmentService.downloadAttachment(1L))
+            assertThatThrownBy(() -> attachmentService.downloadAttachment(1L, null, null))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("MinIO");
         }
+
+        @Test
+        @DisplayName("Should serve a ready thumbnail as a cacheable JPEG")
+        void shouldDownloadThumbnailVariant() {
+            // Given
+            givenDownloadAllowed();
+            attachment.setThumbnailStatus(ThumbnailStatus.READY);
+            when(blobStore.statObject("attachments/uuid-test-file.pdf.thumb.jpg"))
+                    .thenReturn(Optional.of(new StoredObjectInfo(512L, "thumb1", "image/jpeg")));
+            when(blobStore.downloadFile("attachments/uuid-test-file.pdf.thumb.jpg"))
+                    .thenReturn(new ByteArrayInputStream(new byte[512]));
+
+            // When
+            ResponseEntity<?> result = attachmentService.downloadAttachmentVariant(1L, AttachmentVariant.THUMB);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_JPEG);
+            assertThat(result.getHeaders().getContentLength()).isEqualTo(512L);
+            assertThat(result.getHeaders().getCacheControl()).contains("immutable", "private");
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Should fall back to the original and queue generation when no thumbnail exists yet")
+        void shouldFallBackToOriginalWithoutThumbnail() {
+            // Given
+            givenDownloadAllowed();
+            attachment.setContentType("image/png");
+            when(blobStore.statObject("attachments/uuid-test-file.pdf")).thenReturn(Optional.of(storedObject));
+            when(blobStore.downloadFile("attachments/uuid-test-file.pdf"))
+                    .thenReturn(new ByteArrayInputStream(new byte[1024]));
+
+            // When
+            ResponseEntity<?> result = attachmentService.downloadAttachmentVariant(1L, AttachmentVariant.THUMB);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+            verify(blobStore, never()).statObject("attachments/uuid-test-file.pdf.thumb.jpg");
+            verify(eventPublisher).publishEvent(new AttachmentStoredEvent(1L, "image/png"));
+        }
+    }
+
+    // ============================================
+    // TASK ARCHIVE TESTS
+    // ============================================
+
+    @Nested
+    @DisplayName("downloadTaskArchive() Tests")
+    class DownloadTaskArchiveTests {
+
+        @Test
+        @DisplayName("Should authorize once and stream the task's attachments as a ZIP")
+        void shouldStreamTaskArchive() throws Exception {
+            // Given
+            List<ArchiveEntry> entries = List.of(mock(ArchiveEntry.class), mock(ArchiveEntry.class));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            doNothing().when(securityHelper).isUserActive(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canAccessTask(memberUser, task);
+            when(attachmentRepository.findArchiveEntriesByTaskId(1L)).thenReturn(entries);
+
+            // When
+            attachmentService.downloadTaskArchive(1L, response);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(response.getContentType()).isEqualTo("application/zip");
+            assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("task-1-attachments.zip");
+            verify(attachmentArchiveWriter).write(entries, response.getOutputStream());
+            verify(securityHelper, never()).canAccessAttachment(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not start the archive when the user cannot access the task")
+        void shouldRejectUnauthorizedArchive() throws Exception {
+            // Given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            when(securityHelper.getCurrentUser()).thenReturn(otherUser);
+            doNothing().when(securityHelper).isUserActive(otherUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doThrow(new AccessDeniedException("You must be a team member to access this task"))
+                    .when(securityHelper).canAccessTask(otherUser, task);
+
+            // When/Then
+            assertThatThrownBy(() -> attachmentService.downloadTaskArchive(1L, response))
+                    .isInstanceOf(AccessDeniedException.class);
+
+            assertThat(response.isCommitted()).isFalse();
+            verify(attachmentRepository, never()).findArchiveEntriesByTaskId(anyLong());
+            verify(attachmentArchiveWriter, never()).write(anyList(), any(OutputStream.class));
+        }
     }
 
     // ============================================
@@ -780,6 +1494,7 @@ class AttachmentServiceImplementationTest {
             verify(attachmentRepository).save(argThat(savedAttachment ->
                     savedAttachment.getStatus() == AttachmentStatus.DELETED
             ));
+            verify(storageUsageService).release(1L, 1024L);
         }
 
         @Test
@@ -0,0 +1,152 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.enums.ThumbnailStatus;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentThumbnailGenerator Unit Tests")
+class AttachmentThumbnailGeneratorTest {
+
+    private static final String OBJECT_KEY = "blobs/photo";
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    private AttachmentThumbnailGenerator generator;
+    private Attachment attachment;
+
+    @BeforeEach
+    void setUp() {
+        generator = new AttachmentThumbnailGenerator(attachmentRepository, blobStore, 1, 10);
+        ReflectionTestUtils.setField(generator, "thumbSize", 160);
+        ReflectionTestUtils.setField(generator, "mediumSize", 640);
+        ReflectionTestUtils.setField(generator, "maxSourcePixels", 40_000_000L);
+        ReflectionTestUtils.setField(generator, "jpegQuality", 0.8f);
+
+        attachment = Attachment.builder()
+                .objectKey(OBJECT_KEY)
+                .contentType("image/png")
+                .build();
+        attachment.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.destroy();
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Should store thumb and medium JPEGs scaled to fit and mark them ready")
+    void shouldGenerateRenditions() throws IOException {
+        // Given
+        when(attachmentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(attachment));
+        when(blobStore.statObject(anyString())).thenReturn(Optional.empty());
+        when(blobStore.downloadFile(OBJECT_KEY)).thenReturn(new ByteArrayInputStream(png(1600, 800)));
+        var thumb = ArgumentCaptor.forClass(InputStream.class);
+
+        // When
+        generator.generate(1L);
+
+        // Then
+        verify(blobStore).uploadStream(eq(OBJECT_KEY + ".thumb.jpg"), thumb.capture(), anyLong(), eq("image/jpeg"));
+        verify(blobStore).uploadStream(
+                eq(OBJECT_KEY + ".medium.jpg"), any(InputStream.class), anyLong(), eq("image/jpeg"));
+        verify(attachmentRepository).updateThumbnailStatus(1L, ThumbnailStatus.READY);
+
+        BufferedImage image = ImageIO.read(thumb.getValue());
+        assertThat(image.getWidth()).isEqualTo(160);
+        assertThat(image.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("Should reuse renditions that already exist for shared content")
+    void shouldReuseExistingRenditions() {
+        // Given
+        when(attachmentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(attachment));
+        when(blobStore.statObject(startsWith(OBJECT_KEY + ".")))
+                .thenReturn(Optional.of(new StoredObjectInfo(100L, "etag", "image/jpeg")));
+
+        // When
+        generator.generate(1L);
+
+        // Then
+        verify(blobStore, never()).downloadFile(anyString());
+        verify(blobStore, never()).uploadStream(anyString(), any(), anyLong(), anyString());
+        verify(attachmentRepository).updateThumbnailStatus(1L, ThumbnailStatus.READY);
+    }
+
+    @Test
+    @DisplayName("Should mark the attachment failed when the content is not a readable image")
+    void shouldMarkFailedForUnreadableImage() {
+        // Given
+        when(attachmentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(attachment));
+        when(blobStore.statObject(anyString())).thenReturn(Optional.empty());
+        when(blobStore.downloadFile(OBJECT_KEY)).thenReturn(new ByteArrayInputStream("not an image".getBytes()));
+
+        // When
+        generator.generate(1L);
+
+        // Then
+        verify(attachmentRepository).updateThumbnailStatus(1L, ThumbnailStatus.FAILED);
+        verify(blobStore, never()).uploadStream(anyString(), any(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should refuse to decode images above the pixel limit")
+    void shouldRejectOversizedImage() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(generator, "maxSourcePixels", 100L);
+        when(attachmentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(attachment));
+        when(blobStore.statObject(anyString())).thenReturn(Optional.empty());
+        when(blobStore.downloadFile(OBJECT_KEY)).thenReturn(new ByteArrayInputStream(png(20, 20)));
+
+        // When
+        generator.generate(1L);
+
+        // Then
+        verify(attachmentRepository).updateThumbnailStatus(1L, ThumbnailStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("Should ignore content types it cannot render")
+    void shouldIgnoreUnsupportedContentType() {
+        // When
+        generator.onAttachmentStored(new AttachmentStoredEvent(1L, "application/pdf"));
+
+        // Then
+        verifyNoInteractions(attachmentRepository, blobStore);
+        assertThat(AttachmentThumbnailGenerator.supports("IMAGE/PNG")).isTrue();
+        assertThat(AttachmentThumbnailGenerator.supports(null)).isFalse();
+    }
+}
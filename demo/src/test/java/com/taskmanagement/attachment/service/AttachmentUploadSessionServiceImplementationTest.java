@@ -0,0 +1,344 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.dto.AttachmentResponseDto;
+import com.taskmanagement.attachment.dto.UploadPartResponseDto;
+import com.taskmanagement.attachment.dto.UploadSessionCreateDto;
+import com.taskmanagement.attachment.dto.UploadSessionResponseDto;
+import com.taskmanagement.attachment.entity.Attachment;
+import com.taskmanagement.attachment.entity.AttachmentUploadPart;
+import com.taskmanagement.attachment.entity.AttachmentUploadSession;
+import com.taskmanagement.attachment.enums.AttachmentStatus;
+import com.taskmanagement.attachment.enums.UploadSessionStatus;
+import com.taskmanagement.attachment.mapper.AttachmentMapper;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.attachment.repository.AttachmentUploadPartRepository;
+import com.taskmanagement.attachment.repository.AttachmentUploadSessionRepository;
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.task.entity.Task;
+import com.taskmanagement.task.enums.TaskPriority;
+import com.taskmanagement.task.enums.TaskStatus;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentUploadSessionServiceImplementation Unit Tests")
+class AttachmentUploadSessionServiceImplementationTest {
+
+    @Mock
+    private AttachmentUploadSessionRepository sessionRepository;
+
+    @Mock
+    private AttachmentUploadPartRepository partRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentMapper attachmentMapper;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private SecurityHelper securityHelper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StorageUsageService storageUsageService;
+
+    @InjectMocks
+    private AttachmentUploadSessionServiceImplementation uploadSessionService;
+
+    private User memberUser;
+    private User otherUser;
+    private Task task;
+    private AttachmentUploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(uploadSessionService, "maxSessionFileSize", 524288000L);
+        ReflectionTestUtils.setField(uploadSessionService, "partSize", 10L);
+        ReflectionTestUtils.setField(uploadSessionService, "expiryHours", 24L);
+        ReflectionTestUtils.setField(uploadSessionService, "maxFilesPerTask", 10);
+        ReflectionTestUtils.setField(uploadSessionService, "bucketName", "test-bucket");
+
+        memberUser = User.builder()
+                .email("member@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .firstName("Member")
+                .lastName("User")
+                .role(Role.MEMBER)
+                .status(UserStatus.ACTIVE)
+                .emailVerified(true)
+                .build();
+        memberUser.setId(2L);
+
+        otherUser = User.builder()
+                .email("other@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .firstName("Other")
+                .lastName("User")
+                .role(Role.MEMBER)
+                .status(UserStatus.ACTIVE)
+                .emailVerified(true)
+                .build();
+        otherUser.setId(3L);
+
+        task = Task.builder()
+                .title("Test Task")
+                .description("Test Description")
+                .status(TaskStatus.TO_DO)
+                .priority(TaskPriority.MEDIUM)
+                .projectId(1L)
+                .build();
+        task.setId(1L);
+
+        // 25 bytes in 10-byte parts: 10 + 10 + 5
+        session = AttachmentUploadSession.builder()
+                .task(task)
+                .taskId(1L)
+                .user(memberUser)
+                .userId(2L)
+                .originalFilename("assets.zip")
+                .contentType("application/zip")
+                .totalSize(25L)
+                .partSize(10L)
+                .partCount(3)
+                .storedFilename("uuid-assets.zip")
+                .objectKey("attachments/uuid-assets.zip")
+                .status(UploadSessionStatus.ACTIVE)
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+        session.setId(7L);
+        session.setCreatedBy(2L);
+    }
+
+    private void givenActiveUser(User user) {
+        when(securityHelper.getCurrentUser()).thenReturn(user);
+        doNothing().when(securityHelper).isUserActive(user);
+    }
+
+    private AttachmentUploadPart part(int partNumber, long size) {
+        return AttachmentUploadPart.builder()
+                .sessionId(7L)
+                .partNumber(partNumber)
+                .size(size)
+                .etag("etag-" + partNumber)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("createSession() Tests")
+    class CreateSessionTests {
+
+        @Test
+        @DisplayName("Should open session with part count derived from part size")
+        void shouldCreateSession() {
+            // Given
+            givenActiveUser(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            when(blobStore.generateStoredFilename("assets.zip")).thenReturn("uuid-assets.zip");
+            when(blobStore.buildObjectKey("uuid-assets.zip")).thenReturn("attachments/uuid-assets.zip");
+            when(sessionRepository.save(any(AttachmentUploadSession.class))).thenReturn(session);
+
+            // When
+            UploadSessionResponseDto result = uploadSessionService.createSession(
+                    1L, new UploadSessionCreateDto("assets.zip", "application/zip", 25L));
+
+            // Then
+            assertThat(result.sessionId()).isEqualTo(7L);
+            assertThat(result.uploadedParts()).isEmpty();
+            verify(sessionRepository).save(argThat(saved ->
+                    saved.getPartCount() == 3 && saved.getPartSize() == 10L));
+        }
+
+        @Test
+        @DisplayName("Should reject files above the session size limit")
+        void shouldRejectOversizedFile() {
+            // Given
+            ReflectionTestUtils.setField(uploadSessionService, "maxSessionFileSize", 20L);
+            givenActiveUser(memberUser);
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+
+            // When & Then
+            assertThatThrownBy(() -> uploadSessionService.createSession(
+                    1L, new UploadSessionCreateDto("assets.zip", "application/zip", 25L)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("File size exceeds maximum allowed");
+
+            verifyNoInteractions(sessionRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("uploadPart() Tests")
+    class UploadPartTests {
+
+        @Test
+        @DisplayName("Should store a short last part under its own object key")
+        void shouldUploadLastPart() {
+            // Given
+            givenActiveUser(memberUser);
+            when(sessionRepository.findById(7L)).thenReturn(Optional.of(session));
+            when(blobStore.uploadStream(eq("attachments/uuid-assets.zip.parts/3"), any(InputStream.class),
+                    eq(5L), anyString()))
+                    .thenAnswer(invocation -> {
+                        InputStream body = invocation.getArgument(1);
+                        body.readNBytes(5);
+                        return "etag-3";
+                    });
+            when(partRepository.findBySessionIdAndPartNumber(7L, 3)).thenReturn(Optional.empty());
+            when(partRepository.save(any(AttachmentUploadPart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            UploadPartResponseDto result = uploadSessionService.uploadPart(
+                    7L, 3, 5L, new ByteArrayInputStream("12345".getBytes()));
+
+            // Then
+            assertThat(result.partNumber()).isEqualTo(3);
+            assertThat(result.size()).isEqualTo(5L);
+            assertThat(result.etag()).isEqualTo("etag-3");
+        }
+
+        @Test
+        @DisplayName("Should reject part whose declared length is not the expected part size")
+        void shouldRejectWrongPartSize() {
+            // Given
+            givenActiveUser(memberUser);
+            when(sessionRepository.findById(7L)).thenReturn(Optional.of(session));
+
+            // When & Then
+            assertThatThrownBy(() -> uploadSessionService.uploadPart(
+                    7L, 1, 5L, new ByteArrayInputStream("12345".getBytes())))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must be exactly 10 bytes");
+
+            verifyNoInteractions(blobStore);
+        }
+
+        @Test
+        @DisplayName("Should reject part uploads from another user")
+        void shouldRejectOtherUser() {
+            // Given
+            givenActiveUser(otherUser);
+            when(sessionRepository.findById(7L)).thenReturn(Optional.of(session));
+            when(securityHelper.isSystemAdmin(otherUser)).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> uploadSessionService.uploadPart(
+                    7L, 1, 10L, new ByteArrayInputStream(new byte[10])))
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("completeSession() Tests")
+    class CompleteSessionTests {
+
+        @Test
+        @DisplayName("Should compose parts into the final object and create the attachment")
+        void shouldCompleteSession() {
+            // Given
+            givenActiveUser(memberUser);
+            when(sessionRepository.findById(7L)).thenReturn(Optional.of(session));
+            when(partRepository.findBySessionIdOrderByPartNumber(7L))
+                    .thenReturn(List.of(part(1, 10L), part(2, 10L), part(3, 5L)));
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            when(sessionRepository.transition(eq(7L), eq(UploadSessionStatus.ACTIVE), eq(UploadSessionStatus.COMPLETING), any(Instant.class)))
+                    .thenReturn(1);
+            when(blobStore.statObject("attachments/uuid-assets.zip"))
+                    .thenReturn(Optional.of(new StoredObjectInfo(25L, "etag", "application/zip")));
+            Attachment saved = Attachment.builder().status(AttachmentStatus.ACTIVE).build();
+            when(attachmentRepository.save(any(Attachment.class))).thenReturn(saved);
+            when(attachmentMapper.toDto(saved)).thenReturn(new AttachmentResponseDto(
+                    1L, "assets.zip", "uuid-assets.zip", 25L,
+                    "application/zip", 1L, 2L, AttachmentStatus.ACTIVE,
+                    "/api/attachments/1/download", null, 2L, null, Instant.now(), Instant.now()));
+
+            // When
+            AttachmentResponseDto result = uploadSessionService.completeSession(7L);
+
+            // Then
+            assertThat(result).isNotNull();
+            verify(blobStore).composeObject("attachments/uuid-assets.zip", List.of(
+                    "attachments/uuid-assets.zip.parts/1",
+                    "attachments/uuid-assets.zip.parts/2",
+                    "attachments/uuid-assets.zip.parts/3"), "application/zip");
+            verify(attachmentRepository).save(argThat(attachment ->
+                    attachment.getFileSize() == 25L && "uuid-assets.zip".equals(attachment.getStoredFilename())));
+            verify(sessionRepository)
+                    .transition(eq(7L), eq(UploadSessionStatus.COMPLETING), eq(UploadSessionStatus.COMPLETED), any(Instant.class));
+            verify(blobStore).deleteFiles(session.partObjectKeys());
+        }
+
+        @Test
+        @DisplayName("Should report missing parts without touching storage")
+        void shouldRejectIncompleteSession() {
+            // Given
+            givenActiveUser(memberUser);
+            when(sessionRepository.findById(7L)).thenReturn(Optional.of(session));
+            when(partRepository.findBySessionIdOrderByPartNumber(7L)).thenReturn(List.of(part(1, 10L)));
+
+            // When & Then
+            assertThatThrownBy(() -> uploadSessionService.completeSession(7L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("missing parts: [2, 3]");
+
+            verifyNoInteractions(blobStore);
+            verify(sessionRepository, never()).transition(anyLong(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reopen session when assembly fails so completion can be retried")
+        void shouldReopenSessionWhenComposeFails() {
+            // Given
+            givenActiveUser(memberUser);
+            when(sessionRepository.findById(7L)).thenReturn(Optional.of(session));
+            when(partRepository.findBySessionIdOrderByPartNumber(7L))
+                    .thenReturn(List.of(part(1, 10L), part(2, 10L), part(3, 5L)));
+            when(securityHelper.taskExistsAndNotDeletedCheck(1L)).thenReturn(task);
+            doNothing().when(securityHelper).canUploadToTask(memberUser, task);
+            doNothing().when(securityHelper).validateMaxFilesPerTask(eq(1L), anyLong());
+            when(sessionRepository.transition(eq(7L), eq(UploadSessionStatus.ACTIVE), eq(UploadSessionStatus.COMPLETING), any(Instant.class)))
+                    .thenReturn(1);
+            doThrow(new RuntimeException("Failed to assemble file in MinIO"))
+                    .when(blobStore).composeObject(anyString(), anyList(), anyString());
+
+            // When & Then
+            assertThatThrownBy(() -> uploadSessionService.completeSession(7L))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("assemble");
+
+            verify(sessionRepository).transition(eq(7L), eq(UploadSessionStatus.COMPLETING), eq(UploadSessionStatus.ACTIVE), any(Instant.class));
+            verify(attachmentRepository, never()).save(any());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanagement.attachment.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LocalFileSystemBlobStore Unit Tests")
+class LocalFileSystemBlobStoreTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path rootDirectory;
+
+    private LocalFileSystemBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new LocalFileSystemBlobStore(rootDirectory);
+    }
+
+    @Test
+    @DisplayName("Should store a stream of unknown size and report it through stat")
+    void shouldStoreAndStat() {
+        // When
+        String etag = blobStore.uploadStream("blobs/a", new ByteArrayInputStream(CONTENT), -1, "text/plain");
+
+        // Then
+        var stored = blobStore.statObject("blobs/a");
+        assertThat(stored).isPresent();
+        assertThat(stored.get().size()).isEqualTo(CONTENT.length);
+        assertThat(stored.get().etag()).isEqualTo(etag);
+        assertThat(rootDirectory.resolve("blobs/a")).hasBinaryContent(CONTENT);
+    }
+
+    @Test
+    @DisplayName("Should reject a body shorter than the declared size and leave nothing behind")
+    void shouldRejectShortBody() throws IOException {
+        // When & Then
+        assertThatThrownBy(() -> blobStore.uploadStream("blobs/a", new ByteArrayInputStream(CONTENT), 20, "text/plain"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to store file on disk");
+
+        assertThat(blobStore.statObject("blobs/a")).isEmpty();
+        try (var temp = Files.list(rootDirectory.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read a byte range straight from the file")
+    void shouldReadRange() throws IOException {
+        // Given
+        blobStore.uploadStream("blobs/a", new ByteArrayInputStream(CONTENT), CONTENT.length, "text/plain");
+
+        // When
+        try (InputStream range = blobStore.downloadRange("blobs/a", 3, 4)) {
+            // Then
+            assertThat(range.readAllBytes()).isEqualTo("3456".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Should concatenate parts in order and drop the part directory once emptied")
+    void shouldComposeParts() throws IOException {
+        // Given
+        blobStore.uploadStream("attachments/f.bin.parts/1", new ByteArrayInputStream(CONTENT, 0, 6), 6, null);
+        blobStore.uploadStream("attachments/f.bin.parts/2", new ByteArrayInputStream(CONTENT, 6, 4), 4, null);
+        List<String> parts = List.of("attachments/f.bin.parts/1", "attachments/f.bin.parts/2");
+
+        // When
+        blobStore.composeObject("attachments/f.bin", parts, "application/octet-stream");
+        var failed = blobStore.deleteFiles(parts);
+
+        // Then
+        assertThat(failed).isEmpty();
+        assertThat(rootDirectory.resolve("attachments/f.bin")).hasBinaryContent(CONTENT);
+        assertThat(rootDirectory.resolve("attachments/f.bin.parts")).doesNotExist();
+        assertThat(rootDirectory.resolve("attachments")).isDirectory();
+    }
+
+    @Test
+    @DisplayName("Should refuse keys that escape the storage directory")
+    void shouldRejectTraversalKeys() {
+        // When & Then
+        assertThatThrownBy(() -> blobStore.statObject("../outside"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> blobStore.deleteFile(".tmp/upload"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should treat missing files as already deleted")
+    void shouldIgnoreMissingFilesOnDelete() {
+        // When & Then
+        assertThat(blobStore.deleteFiles(List.of("blobs/missing"))).isEmpty();
+        assertThat(blobStore.statObject("blobs/missing")).isEmpty();
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.repository.StorageUsageDrift;
+import com.taskmanagement.attachment.repository.TeamStorageUsageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageUsageReconciler Unit Tests")
+class StorageUsageReconcilerTest {
+
+    @Mock
+    private TeamStorageUsageRepository usageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StorageUsageReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new StorageUsageReconciler(usageRepository, meterRegistry);
+        ReflectionTestUtils.setField(reconciler, "correct", true);
+    }
+
+    private StorageUsageDrift drift(long teamId, long countedBytes, long actualBytes,
+                                    long countedAttachments, long actualAttachments) {
+        return new StorageUsageDrift() {
+            @Override
+            public Long getTeamId() {
+                return teamId;
+            }
+
+            @Override
+            public Long getCountedBytes() {
+                return countedBytes;
+            }
+
+            @Override
+            public Long getActualBytes() {
+                return actualBytes;
+            }
+
+            @Override
+            public Long getCountedAttachments() {
+                return countedAttachments;
+            }
+
+            @Override
+            public Long getActualAttachments() {
+                return actualAttachments;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should correct a difference only once it is seen on two runs in a row")
+    void shouldCorrectPersistentDrift() {
+        // Given
+        when(usageRepository.findDrift()).thenReturn(List.of(drift(1L, 500L, 300L, 3L, 2L)));
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(usageRepository, never()).adjust(anyLong(), anyLong(), anyLong());
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(usageRepository).adjust(1L, -200L, -1L);
+        assertThat(meterRegistry.counter("attachment.storage.usage.drift").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("attachment.storage.usage.corrected.bytes").count()).isEqualTo(200.0);
+    }
+
+    @Test
+    @DisplayName("Should leave a transient difference from an in-flight upload alone")
+    void shouldIgnoreTransientDrift() {
+        // Given
+        when(usageRepository.findDrift())
+                .thenReturn(List.of(drift(1L, 800L, 500L, 2L, 1L)))
+                .thenReturn(List.of());
+
+        // When
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        // Then
+        verify(usageRepository, never()).adjust(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should only report drift when correction is disabled")
+    void shouldOnlyReportWhenNotCorrecting() {
+        // Given
+        ReflectionTestUtils.setField(reconciler, "correct", false);
+        when(usageRepository.findDrift()).thenReturn(List.of(drift(1L, 0L, 100L, 0L, 1L)));
+
+        // When
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        // Then
+        verify(usageRepository, never()).adjust(anyLong(), anyLong(), anyLong());
+        assertThat(meterRegistry.counter("attachment.storage.usage.drift").count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.repository.StorageTotals;
+import com.taskmanagement.attachment.repository.TeamStorageUsageRepository;
+import com.taskmanagement.common.exception.types.Exceptions.StorageQuotaExceededException;
+import com.taskmanagement.common.exception.types.Exceptions.TaskNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageUsageServiceImplementation Unit Tests")
+class StorageUsageServiceImplementationTest {
+
+    private static final long QUOTA = 1000L;
+
+    @Mock
+    private TeamStorageUsageRepository usageRepository;
+
+    @Mock
+    private SecurityHelper securityHelper;
+
+    @InjectMocks
+    private StorageUsageServiceImplementation storageUsageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storageUsageService, "teamQuotaBytes", QUOTA);
+    }
+
+    private StorageTotals totals(long bytes, long count) {
+        return new StorageTotals() {
+            @Override
+            public Long getUsedBytes() {
+                return bytes;
+            }
+
+            @Override
+            public Long getAttachmentCount() {
+                return count;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("checkQuota() Tests")
+    class CheckQuotaTests {
+
+        @Test
+        @DisplayName("Should pass while the upload fits in the remaining quota")
+        void shouldPassWithinQuota() {
+            // Given
+            when(usageRepository.findTeamIdByTaskId(1L)).thenReturn(Optional.of(7L));
+            when(usageRepository.findUsedBytes(7L)).thenReturn(Optional.of(600L));
+
+            // When/Then
+            assertThatCode(() -> storageUsageService.checkQuota(1L, 400L)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should refuse an upload that would exceed the quota")
+        void shouldRefuseOverQuota() {
+            // Given
+            when(usageRepository.findTeamIdByTaskId(1L)).thenReturn(Optional.of(7L));
+            when(usageRepository.findUsedBytes(7L)).thenReturn(Optional.of(600L));
+
+            // When/Then
+            assertThatThrownBy(() -> storageUsageService.checkQuota(1L, 401L))
+                    .isInstanceOf(StorageQuotaExceededException.class);
+        }
+
+        @Test
+        @DisplayName("Should treat an unknown size as zero and a team without usage as empty")
+        void shouldHandleUnknownSize() {
+            // Given
+            when(usageRepository.findTeamIdByTaskId(1L)).thenReturn(Optional.of(7L));
+            when(usageRepository.findUsedBytes(7L)).thenReturn(Optional.empty());
+
+            // When/Then
+            assertThatCode(() -> storageUsageService.checkQuota(1L, -1L)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should skip the lookup entirely when no quota is configured")
+        void shouldSkipWithoutQuota() {
+            // Given
+            ReflectionTestUtils.setField(storageUsageService, "teamQuotaBytes", 0L);
+
+            // When
+            storageUsageService.checkQuota(1L, Long.MAX_VALUE);
+
+            // Then
+            verifyNoInteractions(usageRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("reserve() / release() Tests")
+    class ReserveTests {
+
+        @Test
+        @DisplayName("Should count the attachment against its team")
+        void shouldReserve() {
+            // Given
+            when(usageRepository.findTeamIdByTaskId(1L)).thenReturn(Optional.of(7L));
+            when(usageRepository.reserve(7L, 300L, QUOTA)).thenReturn(1);
+
+            // When/Then
+            assertThatCode(() -> storageUsageService.reserve(1L, 300L)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should fail when the conditional update is refused")
+        void shouldFailWhenRefused() {
+            // Given
+            when(usageRepository.findTeamIdByTaskId(1L)).thenReturn(Optional.of(7L));
+            when(usageRepository.reserve(7L, 300L, QUOTA)).thenReturn(0);
+
+            // When/Then
+            assertThatThrownBy(() -> storageUsageService.reserve(1L, 300L))
+                    .isInstanceOf(StorageQuotaExceededException.class);
+        }
+
+        @Test
+        @DisplayName("Should fail for a task that does not exist")
+        void shouldFailForUnknownTask() {
+            // Given
+            when(usageRepository.findTeamIdByTaskId(99L)).thenReturn(Optional.empty());
+
+            // When/Then
+            assertThatThrownBy(() -> storageUsageService.reserve(99L, 300L))
+                    .isInstanceOf(TaskNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should subtract one attachment and its bytes on release")
+        void shouldRelease() {
+            // Given
+            when(usageRepository.findTeamIdByTaskId(1L)).thenReturn(Optional.of(7L));
+
+            // When
+            storageUsageService.release(1L, 300L);
+
+            // Then
+            verify(usageRepository).adjust(7L, -300L, -1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("moveProject() Tests")
+    class MoveProjectTests {
+
+        @Test
+        @DisplayName("Should move the project's totals from the old team to the new one")
+        void shouldMoveTotals() {
+            // Given
+            when(usageRepository.sumByProjectId(3L)).thenReturn(totals(500L, 4L));
+
+            // When
+            storageUsageService.moveProject(3L, 1L, 2L);
+
+            // Then
+            verify(usageRepository).adjust(1L, -500L, -4L);
+            verify(usageRepository).adjust(2L, 500L, 4L);
+        }
+
+        @Test
+        @DisplayName("Should do nothing for a project without attachments")
+        void shouldSkipEmptyProject() {
+            // Given
+            when(usageRepository.sumByProjectId(3L)).thenReturn(totals(0L, 0L));
+
+            // When
+            storageUsageService.moveProject(3L, 1L, 2L);
+
+            // Then
+            verify(usageRepository, never()).adjust(anyLong(), anyLong(), anyLong());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a top consumer limit outside 1-100")
+    void shouldRejectInvalidLimit() {
+        assertThatThrownBy(() -> storageUsageService.getTopConsumers(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageUsageService.getTopConsumers(101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
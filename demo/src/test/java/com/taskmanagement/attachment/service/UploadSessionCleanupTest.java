@@ -0,0 +1,110 @@
+package com.taskmanagement.attachment.service;
+
+import com.taskmanagement.attachment.entity.AttachmentUploadSession;
+import com.taskmanagement.attachment.enums.UploadSessionStatus;
+import com.taskmanagement.attachment.repository.AttachmentRepository;
+import com.taskmanagement.attachment.repository.AttachmentUploadSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadSessionCleanup Unit Tests")
+class UploadSessionCleanupTest {
+
+    @Mock
+    private AttachmentUploadSessionRepository sessionRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private StorageUsageService storageUsageService;
+
+    private UploadSessionCleanup cleanup;
+
+    @BeforeEach
+    void setUp() {
+        cleanup = new UploadSessionCleanup(sessionRepository, attachmentRepository, blobStore, storageUsageService);
+        ReflectionTestUtils.setField(cleanup, "completingTimeoutMinutes", 60L);
+    }
+
+    private AttachmentUploadSession session(long id, String objectKey) {
+        var session = AttachmentUploadSession.builder()
+                .objectKey(objectKey)
+                .taskId(3L)
+                .totalSize(2048L)
+                .partCount(2)
+                .status(UploadSessionStatus.COMPLETING)
+                .build();
+        session.setId(id);
+        return session;
+    }
+
+    @Test
+    @DisplayName("Should expire an interrupted completion, remove its objects and release its reservation")
+    void shouldExpireInterruptedCompletion() {
+        // Given
+        when(sessionRepository.findStuckCompleting(any(Instant.class), any()))
+                .thenReturn(List.of(session(7L, "attachments/a.bin")));
+        when(attachmentRepository.existsByObjectKey("attachments/a.bin")).thenReturn(false);
+        when(sessionRepository.transition(eq(7L), eq(UploadSessionStatus.COMPLETING), eq(UploadSessionStatus.EXPIRED),
+                any(Instant.class))).thenReturn(1);
+
+        // When
+        cleanup.expireAbandonedSessions();
+
+        // Then
+        verify(blobStore).deleteFiles(List.of("attachments/a.bin.parts/1", "attachments/a.bin.parts/2", "attachments/a.bin"));
+        verify(storageUsageService).release(3L, 2048L);
+    }
+
+    @Test
+    @DisplayName("Should finish a completion whose attachment was saved and keep the assembled object")
+    void shouldFinishCompletionWithSavedAttachment() {
+        // Given
+        when(sessionRepository.findStuckCompleting(any(Instant.class), any()))
+                .thenReturn(List.of(session(8L, "attachments/b.bin")));
+        when(attachmentRepository.existsByObjectKey("attachments/b.bin")).thenReturn(true);
+        when(sessionRepository.transition(eq(8L), eq(UploadSessionStatus.COMPLETING), eq(UploadSessionStatus.COMPLETED),
+                any(Instant.class))).thenReturn(1);
+
+        // When
+        cleanup.expireAbandonedSessions();
+
+        // Then
+        verify(blobStore).deleteFiles(List.of("attachments/b.bin.parts/1", "attachments/b.bin.parts/2"));
+        verifyNoInteractions(storageUsageService);
+    }
+
+    @Test
+    @DisplayName("Should leave a completion alone when it moved on since the query ran")
+    void shouldSkipCompletionThatMovedOn() {
+        // Given
+        when(sessionRepository.findStuckCompleting(any(Instant.class), any()))
+                .thenReturn(List.of(session(9L, "attachments/c.bin")));
+        when(attachmentRepository.existsByObjectKey("attachments/c.bin")).thenReturn(false);
+        when(sessionRepository.transition(eq(9L), eq(UploadSessionStatus.COMPLETING), eq(UploadSessionStatus.EXPIRED),
+                any(Instant.class))).thenReturn(0);
+
+        // When
+        cleanup.expireAbandonedSessions();
+
+        // Then
+        verify(blobStore, never()).deleteFiles(anyList());
+        verifyNoInteractions(storageUsageService);
+    }
+}
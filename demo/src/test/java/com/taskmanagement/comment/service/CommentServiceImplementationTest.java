@@ -8,6 +8,7 @@ import com.taskmanagement.comment.enums.CommentStatus;
 import com.taskmanagement.comment.mapper.CommentMapper;
 import com.taskmanagement.comment.repository.CommentRepository;
 import com.taskmanagement.common.exception.types.Exceptions.*;
+import com.taskmanagement.outbox.service.OutboxService;
 import com.taskmanagement.task.entity.Task;
 import com.taskmanagement.task.enums.TaskPriority;
 import com.taskmanagement.task.enums.TaskStatus;
@@ -54,6 +55,9 @@ class CommentServiceImplementationTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private CommentServiceImplementation commentService;
 
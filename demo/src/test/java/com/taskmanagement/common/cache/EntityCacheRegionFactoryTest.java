@@ -0,0 +1,239 @@
+package com.taskmanagement.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EntityCacheRegionFactory Unit Tests")
+class EntityCacheRegionFactoryTest {
+
+    private static final String CHANNEL = "entity-cache-invalidation";
+    private static final String REGION = "users";
+    private static final String QUERY_RESULTS = "default-query-results-region";
+    private static final String TIMESTAMPS = "default-update-timestamps-region";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private static DomainDataRegionConfig regionConfig(String name) {
+        DomainDataRegionConfig config = mock(DomainDataRegionConfig.class);
+        when(config.getRegionName()).thenReturn(name);
+        return config;
+    }
+
+    private double gets(String result) {
+        var counter = meterRegistry.find("hibernate.cache.gets")
+                .tags("region", REGION, "result", result)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Nested
+    @DisplayName("Single node")
+    class SingleNodeTests {
+
+        private DomainDataStorageAccess users;
+
+        @BeforeEach
+        void setUp() {
+            var factory = new EntityCacheRegionFactory(null, CHANNEL, 2, Duration.ofMinutes(1), meterRegistry);
+            users = factory.createDomainDataStorageAccess(regionConfig(REGION), null);
+        }
+
+        @Test
+        @DisplayName("Should cache entries by id and count hits and misses")
+        void shouldCacheEntries() {
+            // When
+            var miss = users.getFromCache(1L, null);
+            users.putIntoCache(1L, "Alice", null);
+            var hit = users.getFromCache(1L, null);
+
+            // Then
+            assertThat(miss).isNull();
+            assertThat(hit).isEqualTo("Alice");
+            assertThat(gets("hit")).isEqualTo(1);
+            assertThat(gets("miss")).isEqualTo(1);
+            assertThat(meterRegistry.get("hibernate.cache.size").tag("region", REGION).gauge().value())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should keep at most the configured number of entries")
+        void shouldBoundRegionSize() {
+            // When
+            users.putIntoCache(1L, "Alice", null);
+            users.putIntoCache(2L, "Bob", null);
+            users.putIntoCache(3L, "Carol", null);
+
+            // Then
+            assertThat(users.contains(1L)).isFalse();
+            assertThat(users.contains(3L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should evict single entries and whole regions")
+        void shouldEvict() {
+            // Given
+            users.putIntoCache(1L, "Alice", null);
+            users.putIntoCache(2L, "Bob", null);
+
+            // When
+            users.evictData(1L);
+            var afterEvict = users.getFromCache(2L, null);
+            users.evictData();
+
+            // Then
+            assertThat(users.contains(1L)).isFalse();
+            assertThat(afterEvict).isEqualTo("Bob");
+            assertThat(users.contains(2L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Several nodes")
+    class ClusterTests {
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        private EntityCacheRegionFactory nodeA;
+        private EntityCacheRegionFactory nodeB;
+
+        @BeforeEach
+        void setUp() {
+            nodeA = node();
+            nodeB = node();
+
+            // Deliver every published message to both nodes, like a Redis channel would
+            lenient().when(redisTemplate.convertAndSend(eq(CHANNEL), anyString())).thenAnswer(invocation -> {
+                String message = invocation.getArgument(1);
+                nodeA.onInvalidation(message);
+                nodeB.onInvalidation(message);
+                return 2L;
+            });
+        }
+
+        private EntityCacheRegionFactory node() {
+            return new EntityCacheRegionFactory(redisTemplate, CHANNEL, 10, Duration.ofMinutes(1), meterRegistry);
+        }
+
+        @Test
+        @DisplayName("Should drop other nodes' copies when an entity is evicted")
+        void shouldInvalidateEntitiesAcrossNodes() {
+            // Given
+            var usersA = nodeA.createDomainDataStorageAccess(regionConfig(REGION), null);
+            var usersB = nodeB.createDomainDataStorageAccess(regionConfig(REGION), null);
+            usersA.putIntoCache(1L, "Alice", null);
+            usersB.putIntoCache(1L, "Alice", null);
+            usersB.putIntoCache(2L, "Bob", null);
+
+            // When
+            usersA.evictData(1L);
+
+            // Then
+            verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith(" users 1"));
+            assertThat(usersB.contains(1L)).isFalse();
+            assertThat(usersB.getFromCache(2L, null)).isEqualTo("Bob");
+            assertThat(meterRegistry.get("hibernate.cache.invalidations.received").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not announce entities as they are loaded")
+        void shouldNotPublishLoads() {
+            // Given
+            var usersA = nodeA.createDomainDataStorageAccess(regionConfig(REGION), null);
+
+            // When
+            usersA.putFromLoad(1L, "Alice", null);
+
+            // Then
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("Should clear other nodes' query results when a region is cleared")
+        void shouldClearQueryResultsAcrossNodes() {
+            // Given
+            StorageAccess resultsA = nodeA.createQueryResultsRegionStorageAccess(QUERY_RESULTS, null);
+            StorageAccess resultsB = nodeB.createQueryResultsRegionStorageAccess(QUERY_RESULTS, null);
+            resultsB.putIntoCache("team 1 is active", true, null);
+
+            // When
+            resultsA.evictData();
+
+            // Then
+            assertThat(resultsB.contains("team 1 is active")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should move other nodes' table timestamps when a node writes a table")
+        void shouldMoveTimestampsAcrossNodes() {
+            // Given
+            StorageAccess timestampsA = nodeA.createTimestampsRegionStorageAccess(TIMESTAMPS, null);
+            StorageAccess timestampsB = nodeB.createTimestampsRegionStorageAccess(TIMESTAMPS, null);
+            long before = nodeB.nextTimestamp();
+
+            // When
+            timestampsA.putIntoCache("teams", 42L, null);
+
+            // Then
+            verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith(" " + TIMESTAMPS + " teams"));
+            assertThat((Long) timestampsA.getFromCache("teams", null)).isEqualTo(42L);
+            assertThat((Long) timestampsB.getFromCache("teams", null)).isGreaterThan(before);
+        }
+
+        @Test
+        @DisplayName("Should still evict locally when the invalidation cannot be published")
+        void shouldSurvivePublishFailure() {
+            // Given
+            doThrow(new IllegalStateException("Redis down"))
+                    .when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+            var usersA = nodeA.createDomainDataStorageAccess(regionConfig(REGION), null);
+            usersA.putIntoCache(1L, "Alice", null);
+
+            // When
+            usersA.evictData(1L);
+
+            // Then
+            assertThat(usersA.contains(1L)).isFalse();
+            assertThat(meterRegistry.get("hibernate.cache.invalidations.publish.failures").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ignore malformed messages")
+        void shouldIgnoreMalformedMessages() {
+            // Given
+            var usersB = nodeB.createDomainDataStorageAccess(regionConfig(REGION), null);
+            usersB.putIntoCache(1L, "Alice", null);
+
+            // When
+            nodeB.onInvalidation("garbage");
+
+            // Then
+            assertThat(usersB.getFromCache(1L, null)).isEqualTo("Alice");
+            assertThat(meterRegistry.find("hibernate.cache.invalidations.received").counter().count()).isZero();
+        }
+    }
+}
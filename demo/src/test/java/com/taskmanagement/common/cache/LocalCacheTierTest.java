@@ -0,0 +1,59 @@
+package com.taskmanagement.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LocalCacheTier Unit Tests")
+class LocalCacheTierTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Should drop the least recently used entry when full")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        var tier = new LocalCacheTier(2, 1_000, now::get);
+        tier.put("1", "a");
+        tier.put("2", "b");
+        tier.get("1");
+
+        // When
+        tier.put("3", "c");
+
+        // Then
+        assertThat(tier.size()).isEqualTo(2);
+        assertThat(tier.get("1")).isEqualTo("a");
+        assertThat(tier.get("2")).isNull();
+        assertThat(tier.get("3")).isEqualTo("c");
+    }
+
+    @Test
+    @DisplayName("Should expire entries after their time to live")
+    void shouldExpireEntries() {
+        // Given
+        var tier = new LocalCacheTier(10, 1_000, now::get);
+        tier.put("1", "a");
+
+        // When
+        now.set(999);
+        var fresh = tier.get("1");
+        now.set(1_000);
+        var expired = tier.get("1");
+
+        // Then
+        assertThat(fresh).isEqualTo("a");
+        assertThat(expired).isNull();
+        assertThat(tier.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a tier that cannot hold anything")
+    void shouldRejectEmptyTier() {
+        assertThatThrownBy(() -> new LocalCacheTier(0, 1_000, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,217 @@
+package com.taskmanagement.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierCacheManager Unit Tests")
+class TwoTierCacheManagerTest {
+
+    private static final String CHANNEL = "cache-invalidation";
+    private static final String CACHE = "projects";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private double gets(String tier, String result) {
+        var counter = meterRegistry.find("cache.tier.gets")
+                .tags("cache", CACHE, "tier", tier, "result", result)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Nested
+    @DisplayName("Local-only mode")
+    class LocalOnlyTests {
+
+        private Cache cache;
+
+        @BeforeEach
+        void setUp() {
+            var manager = new TwoTierCacheManager(null, null, CHANNEL, 10, Duration.ofMinutes(1),
+                    meterRegistry, List.of(CACHE));
+            manager.afterPropertiesSet();
+            cache = manager.getCache(CACHE);
+        }
+
+        @Test
+        @DisplayName("Should serve values from the local tier without Redis")
+        void shouldCacheLocally() {
+            // When
+            var miss = cache.get(1L);
+            cache.put(1L, "Alpha");
+            var hit = cache.get(1L, String.class);
+
+            // Then
+            assertThat(miss).isNull();
+            assertThat(hit).isEqualTo("Alpha");
+            assertThat(gets("local", "hit")).isEqualTo(1);
+            assertThat(gets("local", "miss")).isEqualTo(1);
+            assertThat(gets("remote", "miss")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should load once through the value loader and forget evicted keys")
+        void shouldLoadAndEvict() {
+            // Given
+            AtomicLong loads = new AtomicLong();
+
+            // When
+            cache.get(1L, () -> "Alpha-" + loads.incrementAndGet());
+            String cached = cache.get(1L, () -> "Alpha-" + loads.incrementAndGet());
+            cache.evict(1L);
+
+            // Then
+            assertThat(cached).isEqualTo("Alpha-1");
+            assertThat(loads).hasValue(1);
+            assertThat(cache.get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not cache null values")
+        void shouldNotCacheNull() {
+            // When
+            cache.put(1L, "Alpha");
+            cache.put(1L, null);
+
+            // Then
+            assertThat(cache.get(1L)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Two-tier mode")
+    class TwoTierTests {
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        private ConcurrentMapCacheManager redis;
+        private TwoTierCacheManager nodeA;
+        private TwoTierCacheManager nodeB;
+
+        @BeforeEach
+        void setUp() {
+            redis = new ConcurrentMapCacheManager();
+            nodeA = node();
+            nodeB = node();
+
+            // Deliver every published message to both nodes, like a Redis channel would
+            lenient().when(redisTemplate.convertAndSend(eq(CHANNEL), anyString())).thenAnswer(invocation -> {
+                String message = invocation.getArgument(1);
+                nodeA.onInvalidation(message);
+                nodeB.onInvalidation(message);
+                return 2L;
+            });
+        }
+
+        private TwoTierCacheManager node() {
+            var manager = new TwoTierCacheManager(redis, redisTemplate, CHANNEL, 10, Duration.ofMinutes(1),
+                    meterRegistry, List.of(CACHE));
+            manager.afterPropertiesSet();
+            return manager;
+        }
+
+        @Test
+        @DisplayName("Should fill the local tier from a Redis hit")
+        void shouldFillLocalFromRemote() {
+            // Given
+            nodeA.getCache(CACHE).put(1L, "Alpha");
+
+            // When
+            var first = nodeB.getCache(CACHE).get(1L, String.class);
+            redis.getCache(CACHE).evict(1L);
+            var second = nodeB.getCache(CACHE).get(1L, String.class);
+
+            // Then
+            assertThat(first).isEqualTo("Alpha");
+            assertThat(second).isEqualTo("Alpha");
+            assertThat(gets("remote", "hit")).isEqualTo(1);
+            assertThat(gets("local", "hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop other nodes' local copies when a key is evicted")
+        void shouldInvalidateAcrossNodes() {
+            // Given
+            nodeA.getCache(CACHE).put(1L, "Alpha");
+            nodeA.getCache(CACHE).put(2L, "Beta");
+            nodeB.getCache(CACHE).get(1L);
+            nodeB.getCache(CACHE).get(2L);
+
+            // When
+            nodeA.getCache(CACHE).evict(1L);
+
+            // Then
+            verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith(" projects 1"));
+            assertThat(nodeB.getCache(CACHE).get(1L)).isNull();
+            assertThat(nodeB.getCache(CACHE).get(2L, String.class)).isEqualTo("Beta");
+            assertThat(meterRegistry.get("cache.tier.invalidations.received").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop every local copy when a cache is cleared")
+        void shouldClearAcrossNodes() {
+            // Given
+            nodeA.getCache(CACHE).put(1L, "Alpha");
+            nodeB.getCache(CACHE).get(1L);
+
+            // When
+            nodeA.getCache(CACHE).clear();
+
+            // Then
+            assertThat(nodeB.getCache(CACHE).get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should still evict locally when the invalidation cannot be published")
+        void shouldSurvivePublishFailure() {
+            // Given
+            doThrow(new IllegalStateException("Redis down"))
+                    .when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+            nodeA.getCache(CACHE).put(1L, "Alpha");
+
+            // When
+            nodeA.getCache(CACHE).evict(1L);
+
+            // Then
+            assertThat(nodeA.getCache(CACHE).get(1L)).isNull();
+            assertThat(meterRegistry.get("cache.tier.invalidations.publish.failures").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ignore malformed messages")
+        void shouldIgnoreMalformedMessages() {
+            // Given
+            nodeB.getCache(CACHE).put(1L, "Alpha");
+
+            // When
+            nodeB.onInvalidation("garbage");
+
+            // Then
+            assertThat(nodeB.getCache(CACHE).get(1L, String.class)).isEqualTo("Alpha");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.taskmanagement.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent callers")
+    void shouldShareInFlightLoad() throws Exception {
+        // Given
+        var singleFlight = new SingleFlight(meterRegistry, 5_000);
+        Object value = new Object();
+        Supplier<Object> loader = blockingLoader(() -> value);
+
+        // When
+        var leader = call(() -> singleFlight.load("project", 1L, loader));
+        awaitLoading();
+        var follower = call(() -> singleFlight.load("project", 1L, loader));
+        awaitWaiting(follower.thread());
+        release.countDown();
+
+        // Then
+        assertThat(leader.join()).isSameAs(value);
+        assertThat(follower.join()).isSameAs(value);
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("shared")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give the leader's exception to every waiting caller")
+    void shouldShareLoadFailure() throws Exception {
+        // Given
+        var singleFlight = new SingleFlight(meterRegistry, 5_000);
+        Supplier<Object> loader = blockingLoader(() -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        // When
+        var leader = call(() -> singleFlight.load("project", 1L, loader));
+        awaitLoading();
+        var follower = call(() -> singleFlight.load("project", 1L, loader));
+        awaitWaiting(follower.thread());
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(leader::join).hasMessage("database unavailable");
+        assertThatThrownBy(follower::join).hasMessage("database unavailable");
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load itself after waiting the maximum time")
+    void shouldLoadItselfAfterMaxWait() throws Exception {
+        // Given
+        var singleFlight = new SingleFlight(meterRegistry, 50);
+        Supplier<Object> loader = blockingLoader(() -> "leader");
+
+        var leader = call(() -> singleFlight.load("project", 1L, loader));
+        awaitLoading();
+
+        // When
+        Object result = singleFlight.load("project", 1L, () -> "own load");
+        release.countDown();
+
+        // Then
+        assertThat(result).isEqualTo("own load");
+        assertThat(leader.join()).isEqualTo("leader");
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not keep results once a load has finished")
+    void shouldNotCacheFinishedLoads() {
+        // Given
+        var singleFlight = new SingleFlight(meterRegistry, 5_000);
+
+        // When
+        singleFlight.load("project", 1L, loads::incrementAndGet);
+        singleFlight.load("project", 1L, loads::incrementAndGet);
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not share loads between different names or keys")
+    void shouldKeepKeysApart() throws Exception {
+        // Given
+        var singleFlight = new SingleFlight(meterRegistry, 5_000);
+        Supplier<Object> loader = blockingLoader(() -> "project 1");
+
+        var leader = call(() -> singleFlight.load("project", 1L, loader));
+        awaitLoading();
+
+        // When
+        Object otherKey = singleFlight.load("project", 2L, () -> "project 2");
+        Object otherName = singleFlight.load("tasksByProject", 1L, () -> "tasks of project 1");
+        release.countDown();
+
+        // Then
+        assertThat(otherKey).isEqualTo("project 2");
+        assertThat(otherName).isEqualTo("tasks of project 1");
+        assertThat(leader.join()).isEqualTo("project 1");
+    }
+
+    private Supplier<Object> blockingLoader(Supplier<Object> result) {
+        return () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private void awaitLoading() throws InterruptedException {
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // A follower blocks in a timed wait on the leader's future and nowhere else
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter("single.flight.loads", "name", "project", "outcome", outcome).count();
+    }
+
+    private static Call call(Supplier<Object> body) {
+        return new Call(body);
+    }
+
+    private static final class Call {
+
+        private final AtomicReference<Object> result = new AtomicReference<>();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final Thread thread;
+
+        private Call(Supplier<Object> body) {
+            this.thread = new Thread(() -> {
+                try {
+                    result.set(body.get());
+                } catch (RuntimeException e) {
+                    failure.set(e);
+                }
+            });
+            this.thread.start();
+        }
+
+        Thread thread() {
+            return thread;
+        }
+
+        Object join() throws InterruptedException {
+            thread.join(5_000);
+            assertThat(thread.isAlive()).isFalse();
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            return result.get();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.common.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when it executes more SQL statements than allowed through a
+ * {@link StatementCountingDataSource}. On a class it applies to every test
+ * method; a method annotation overrides it.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    /**
+     * Maximum number of statements the test may execute.
+     */
+    int value();
+}
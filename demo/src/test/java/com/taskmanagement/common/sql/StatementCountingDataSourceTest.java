@@ -0,0 +1,109 @@
+package com.taskmanagement.common.sql;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StatementCountingDataSource Unit Tests")
+class StatementCountingDataSourceTest {
+
+    private JdbcDataSource h2;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statements;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(h2));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY, name VARCHAR(50))");
+        jdbcTemplate.execute("DELETE FROM item");
+    }
+
+    @Test
+    @DisplayName("Should count queries, updates and batches in the open scope")
+    void shouldCountStatements() {
+        // Given
+        SqlStatementStats stats = SqlStatementRecorder.start();
+
+        // When
+        try {
+            jdbcTemplate.update("INSERT INTO item VALUES (?, ?)", 1, "one");
+            jdbcTemplate.batchUpdate("INSERT INTO item VALUES (?, ?)",
+                    List.of(new Object[]{2, "two"}, new Object[]{3, "three"}));
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+        } finally {
+            SqlStatementRecorder.stop(stats);
+        }
+
+        // Then
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(stats.elapsed()).isPositive();
+        assertThat(SqlStatementRecorder.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count a statement in every nested scope")
+    void shouldCountInNestedScopes() {
+        // Given
+        SqlStatementStats outer = SqlStatementRecorder.start();
+        SqlStatementStats inner = SqlStatementRecorder.start();
+
+        // When
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+            SqlStatementRecorder.stop(inner);
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+        } finally {
+            SqlStatementRecorder.stop(outer);
+        }
+
+        // Then
+        assertThat(inner.statements()).isEqualTo(1);
+        assertThat(outer.statements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not count statements outside a scope")
+    void shouldIgnoreStatementsWithoutScope() {
+        // When
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+
+        // Then
+        assertThat(SqlStatementRecorder.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should still unwrap to the driver's own types")
+    void shouldUnwrapToDriverTypes() throws SQLException {
+        // Given
+        DataSource dataSource = new StatementCountingDataSource(h2);
+
+        // When/Then
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isWrapperFor(org.h2.jdbc.JdbcConnection.class)).isTrue();
+            assertThat(connection.createStatement().getConnection()).isSameAs(connection);
+        }
+        assertThat(dataSource.unwrap(JdbcDataSource.class)).isSameAs(h2);
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    @DisplayName("Should stay within its statement budget")
+    void shouldStayWithinBudget() {
+        // When
+        jdbcTemplate.update("INSERT INTO item VALUES (?, ?)", 1, "one");
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+
+        // Then
+        assertThat(count).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskmanagement.common.workload;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WorkloadInterceptor Unit Tests")
+class WorkloadInterceptorTest {
+
+    private final WorkloadInterceptor interceptor = new WorkloadInterceptor();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.clear();
+    }
+
+    static class PlainController {
+
+        public void show() {
+        }
+
+        @DatabaseWorkload(Workload.REPORTING)
+        public void export() {
+        }
+    }
+
+    @DatabaseWorkload(Workload.REPORTING)
+    static class ReportingController {
+
+        public void report() {
+        }
+
+        @DatabaseWorkload(Workload.INTERACTIVE)
+        public void preview() {
+        }
+    }
+
+    private static HandlerMethod handler(Object controller, String method) throws NoSuchMethodException {
+        return new HandlerMethod(controller, method);
+    }
+
+    @Test
+    @DisplayName("Should treat endpoints without an annotation as interactive")
+    void shouldDefaultToInteractive() throws Exception {
+        // When / Then
+        assertThat(WorkloadInterceptor.workloadOf(handler(new PlainController(), "show")))
+                .isEqualTo(Workload.INTERACTIVE);
+        assertThat(WorkloadInterceptor.workloadOf(new Object())).isEqualTo(Workload.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should prefer the method's workload over the controller's")
+    void shouldResolveAnnotations() throws Exception {
+        // When / Then
+        assertThat(WorkloadInterceptor.workloadOf(handler(new PlainController(), "export")))
+                .isEqualTo(Workload.REPORTING);
+        assertThat(WorkloadInterceptor.workloadOf(handler(new ReportingController(), "report")))
+                .isEqualTo(Workload.REPORTING);
+        assertThat(WorkloadInterceptor.workloadOf(handler(new ReportingController(), "preview")))
+                .isEqualTo(Workload.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should mark the request thread with the endpoint's workload")
+    void shouldMarkRequestThread() throws Exception {
+        // Given
+        WorkloadContext.set(Workload.INTERACTIVE);
+
+        // When
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler(new PlainController(), "export"));
+
+        // Then
+        assertThat(WorkloadContext.current()).isEqualTo(Workload.REPORTING);
+    }
+
+    @Test
+    @DisplayName("Should carry the workload to the thread writing a streamed response")
+    void shouldCarryWorkloadToAsyncThread() throws Exception {
+        // Given
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler(new PlainController(), "export"));
+        WorkloadContext.clear();
+        var webRequest = new ServletWebRequest(request);
+        Callable<Object> body = () -> null;
+
+        // When
+        interceptor.preProcess(webRequest, body);
+        Workload duringBody = WorkloadContext.current();
+        interceptor.postProcess(webRequest, body, null);
+
+        // Then
+        assertThat(duringBody).isEqualTo(Workload.REPORTING);
+        assertThat(WorkloadContext.current()).isEqualTo(Workload.BACKGROUND);
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanagement.common.workload;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WorkloadRoutingDataSource Unit Tests")
+class WorkloadRoutingDataSourceTest {
+
+    private final Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+    private WorkloadRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        for (Workload workload : Workload.values()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setJdbcUrl("jdbc:h2:mem:workloads;DB_CLOSE_DELAY=-1");
+            pool.setPoolName("db-" + workload.name().toLowerCase(Locale.ROOT));
+            pool.setMaximumPoolSize(1);
+            pool.setConnectionTimeout(250);
+            pools.put(workload, pool);
+        }
+
+        dataSource = new WorkloadRoutingDataSource(pools);
+        dataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        WorkloadContext.clear();
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("Should take connections from the current workload's pool")
+    void shouldRouteByWorkload() throws Exception {
+        // Given
+        WorkloadContext.set(Workload.REPORTING);
+
+        // When
+        try (Connection ignored = dataSource.getConnection()) {
+
+            // Then
+            assertThat(pools.get(Workload.REPORTING).getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            assertThat(pools.get(Workload.INTERACTIVE).getHikariPoolMXBean()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat threads without a workload as background work")
+    void shouldDefaultToBackground() throws Exception {
+        // When
+        try (Connection ignored = dataSource.getConnection()) {
+
+            // Then
+            assertThat(WorkloadContext.current()).isEqualTo(Workload.BACKGROUND);
+            assertThat(pools.get(Workload.BACKGROUND).getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail fast when a workload's pool is exhausted and leave the others usable")
+    void shouldIsolateExhaustedPool() throws Exception {
+        // Given
+        WorkloadContext.set(Workload.REPORTING);
+        try (Connection held = dataSource.getConnection()) {
+
+            // When
+            long started = System.nanoTime();
+            Throwable rejected = catchThrowable(dataSource::getConnection);
+            long waitedMs = (System.nanoTime() - started) / 1_000_000;
+
+            WorkloadContext.set(Workload.INTERACTIVE);
+            try (Connection interactive = dataSource.getConnection()) {
+
+                // Then
+                assertThat(rejected).isInstanceOf(SQLTransientConnectionException.class);
+                assertThat(waitedMs).isLessThan(5_000);
+                assertThat(interactive.isValid(1)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should require a pool for every workload")
+    void shouldRequireEveryPool() {
+        // Given
+        var missing = new EnumMap<>(pools);
+        missing.remove(Workload.BACKGROUND);
+
+        // When / Then
+        assertThatThrownBy(() -> new WorkloadRoutingDataSource(missing))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should close every pool when destroyed")
+    void shouldClosePools() throws Exception {
+        // When
+        dataSource.destroy();
+
+        // Then
+        assertThat(pools.values()).allMatch(HikariDataSource::isClosed);
+    }
+}
@@ -0,0 +1,199 @@
+package com.taskmanagement.directory.service;
+
+import com.taskmanagement.team.entity.Team;
+import com.taskmanagement.team.enums.TeamStatus;
+import com.taskmanagement.team.repository.DirectoryTeamRow;
+import com.taskmanagement.team.repository.TeamMemberRepository;
+import com.taskmanagement.team.repository.TeamMembershipRow;
+import com.taskmanagement.team.repository.TeamRepository;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.repository.DirectoryUserRow;
+import com.taskmanagement.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectoryIndex Unit Tests")
+class DirectoryIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    private DirectoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DirectoryIndex(userRepository, teamRepository, teamMemberRepository, new SimpleMeterRegistry());
+
+        when(userRepository.findActiveDirectoryUsers()).thenReturn(List.of(
+                user(1L, "John", "Doe", "john.doe@example.com"),
+                user(2L, "Johanna", "Smith", "jo.smith@example.com"),
+                user(3L, "José", "Álvarez", "jalvarez@example.com"),
+                user(4L, "Mary", "Johns", "mary@example.com")));
+        when(teamRepository.findActiveDirectoryTeams()).thenReturn(List.of(
+                team(10L, "Backend Developers"),
+                team(11L, "Design")));
+        when(teamMemberRepository.findActiveMemberships()).thenReturn(List.of(
+                membership(10L, 1L),
+                membership(10L, 2L),
+                membership(11L, 3L)));
+
+        index.rebuild();
+    }
+
+    private DirectoryUserRow user(Long id, String firstName, String lastName, String email) {
+        return new DirectoryUserRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getFirstName() {
+                return firstName;
+            }
+
+            @Override
+            public String getLastName() {
+                return lastName;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    private DirectoryTeamRow team(Long id, String name) {
+        return new DirectoryTeamRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    private TeamMembershipRow membership(Long teamId, Long userId) {
+        return new TeamMembershipRow() {
+            @Override
+            public Long getTeamId() {
+                return teamId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+
+    private List<Long> userIds(String query, Set<Long> visibleIds) {
+        return index.searchUsers(query, visibleIds, 10).stream().map(hit -> hit.entry().id()).toList();
+    }
+
+    @Test
+    @DisplayName("Should rank exact words first, then prefixes, then near misses")
+    void shouldMatchPrefixesExactFirst() {
+        assertThat(userIds("john", null)).containsExactly(1L, 4L, 2L);
+        assertThat(userIds("jo", null)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(userIds("mary@", null)).containsExactly(4L);
+        assertThat(userIds("JOHN DO", null)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void shouldIgnoreAccents() {
+        assertThat(userIds("alvarez", null)).containsExactly(3L);
+        assertThat(userIds("Jose", null)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should tolerate a typo after the first letter and rank it below prefix matches")
+    void shouldMatchNearMisses() {
+        // When
+        var hits = index.searchTeams("bakend", null, 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.entry().id()).containsExactly(10L);
+        assertThat(hits.get(0).score()).isEqualTo(DirectoryIndex.FUZZY);
+        assertThat(userIds("xohn", null)).isEmpty();
+        assertThat(DirectoryIndex.prefixDistance("johm", "johnson", 1)).isEqualTo(1);
+        assertThat(DirectoryIndex.prefixDistance("jo", "ja", 0)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should only return visible entries and resolve team membership")
+    void shouldRestrictToVisibleEntries() {
+        // When
+        Set<Long> teams = index.teamsOf(1L);
+        Set<Long> members = index.membersOf(teams);
+
+        // Then
+        assertThat(teams).containsExactly(10L);
+        assertThat(members).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(userIds("jo", members)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.searchTeams("design", teams, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop a user who is no longer active once the change commits")
+    void shouldRefreshChangedUser() {
+        // Given
+        User suspended = User.builder().firstName("John").lastName("Doe")
+                .email("john.doe@example.com").status(UserStatus.SUSPENDED).build();
+        suspended.setId(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(suspended));
+
+        // When
+        index.onDirectoryChanged(DirectoryChangedEvent.user(1L));
+
+        // Then
+        assertThat(userIds("doe", null)).isEmpty();
+        assertThat(index.findUserByEmail("john.doe@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reload a team's name and members when the team changes")
+    void shouldRefreshChangedTeam() {
+        // Given
+        Team renamed = Team.builder().name("Platform").status(TeamStatus.ACTIVE).build();
+        renamed.setId(10L);
+        when(teamRepository.findById(10L)).thenReturn(Optional.of(renamed));
+        when(teamMemberRepository.findActiveUserIdsByTeamId(10L)).thenReturn(List.of(2L, 4L));
+
+        // When
+        index.onDirectoryChanged(DirectoryChangedEvent.team(10L));
+
+        // Then
+        assertThat(index.searchTeams("backend", null, 10)).isEmpty();
+        assertThat(index.searchTeams("plat", null, 10)).extracting(hit -> hit.entry().name())
+                .containsExactly("Platform");
+        assertThat(index.teamsOf(1L)).isEmpty();
+        assertThat(index.membersOf(Set.of(10L))).containsExactlyInAnyOrder(2L, 4L);
+    }
+}
@@ -0,0 +1,148 @@
+package com.taskmanagement.directory.service;
+
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.directory.dto.DirectoryEntryDto;
+import com.taskmanagement.directory.enums.DirectoryEntryType;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectoryServiceImplementation Unit Tests")
+class DirectoryServiceImplementationTest {
+
+    @Mock
+    private DirectoryIndex directoryIndex;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private DirectoryServiceImplementation directoryService;
+
+    private User currentUser;
+
+    @BeforeEach
+    void setUp() {
+        currentUser = User.builder()
+                .email("member@example.com")
+                .firstName("Member")
+                .lastName("User")
+                .role(Role.MEMBER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        currentUser.setId(1L);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(currentUser.getEmail(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private DirectoryIndex.Hit userHit(Long id, String name, int score) {
+        return new DirectoryIndex.Hit(
+                new DirectoryEntryDto(DirectoryEntryType.USER, id, name, id + "@example.com"), score);
+    }
+
+    private DirectoryIndex.Hit teamHit(Long id, String name, int score) {
+        return new DirectoryIndex.Hit(new DirectoryEntryDto(DirectoryEntryType.TEAM, id, name, null), score);
+    }
+
+    @Test
+    @DisplayName("Should scope a member's search to their teams and merge users and teams by rank")
+    void shouldScopeToCallerTeams() {
+        // Given
+        when(userRepository.findByEmailIgnoreCase("member@example.com")).thenReturn(Optional.of(currentUser));
+        when(directoryIndex.teamsOf(1L)).thenReturn(Set.of(10L));
+        when(directoryIndex.membersOf(Set.of(10L))).thenReturn(Set.of(1L, 2L));
+        when(directoryIndex.searchUsers("dev", Set.of(1L, 2L), 10)).thenReturn(List.of(userHit(2L, "Devon Lee", 1)));
+        when(directoryIndex.findUserByEmail("dev")).thenReturn(Optional.empty());
+        when(directoryIndex.searchTeams("dev", Set.of(10L), 10)).thenReturn(List.of(teamHit(10L, "Dev", 0)));
+
+        // When
+        List<DirectoryEntryDto> result = directoryService.search("dev", null, null, 10);
+
+        // Then
+        assertThat(result).extracting(DirectoryEntryDto::type)
+                .containsExactly(DirectoryEntryType.TEAM, DirectoryEntryType.USER);
+    }
+
+    @Test
+    @DisplayName("Should find any active user by their exact email")
+    void shouldFindOutsiderByExactEmail() {
+        // Given
+        var outsider = new DirectoryEntryDto(DirectoryEntryType.USER, 5L, "Out Sider", "out@example.com");
+        when(userRepository.findByEmailIgnoreCase("member@example.com")).thenReturn(Optional.of(currentUser));
+        when(directoryIndex.teamsOf(1L)).thenReturn(Set.of());
+        when(directoryIndex.membersOf(Set.of())).thenReturn(Set.of());
+        when(directoryIndex.searchUsers(anyString(), anySet(), anyInt())).thenReturn(List.of());
+        when(directoryIndex.findUserByEmail("out@example.com")).thenReturn(Optional.of(outsider));
+
+        // When
+        List<DirectoryEntryDto> result = directoryService.search("out@example.com", DirectoryEntryType.USER, null, 10);
+
+        // Then
+        assertThat(result).containsExactly(outsider);
+        verify(directoryIndex, never()).searchTeams(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should refuse to list the members of a team the caller is not in")
+    void shouldRejectForeignTeam() {
+        // Given
+        when(userRepository.findByEmailIgnoreCase("member@example.com")).thenReturn(Optional.of(currentUser));
+        when(directoryIndex.teamsOf(1L)).thenReturn(Set.of(10L));
+        when(directoryIndex.membersOf(Set.of(10L))).thenReturn(Set.of(1L));
+
+        // When/Then
+        assertThatThrownBy(() -> directoryService.search("jo", DirectoryEntryType.USER, 99L, 10))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("Should not restrict an admin's search")
+    void shouldNotScopeAdmin() {
+        // Given
+        currentUser.setRole(Role.ADMIN);
+        when(userRepository.findByEmailIgnoreCase("member@example.com")).thenReturn(Optional.of(currentUser));
+        when(directoryIndex.searchTeams("ops", null, 5)).thenReturn(List.of(teamHit(20L, "Ops", 0)));
+
+        // When
+        List<DirectoryEntryDto> result = directoryService.search("ops", DirectoryEntryType.TEAM, null, 5);
+
+        // Then
+        assertThat(result).extracting(DirectoryEntryDto::id).containsExactly(20L);
+        verify(directoryIndex, never()).teamsOf(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty query or a limit outside 1-50")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> directoryService.search(" ", null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> directoryService.search("jo", null, null, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
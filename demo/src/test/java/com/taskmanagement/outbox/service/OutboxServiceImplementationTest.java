@@ -0,0 +1,306 @@
+package com.taskmanagement.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.outbox.entity.OutboxEvent;
+import com.taskmanagement.outbox.enums.OutboxAggregateType;
+import com.taskmanagement.outbox.enums.OutboxEventStatus;
+import com.taskmanagement.outbox.enums.OutboxEventType;
+import com.taskmanagement.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.ConnectException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxServiceImplementation Unit Tests")
+class OutboxServiceImplementationTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private OutboxServiceImplementation outboxService;
+
+    private OutboxEvent firstEvent;
+    private OutboxEvent secondEvent;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxService, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "claimTimeoutMillis", 60000L);
+
+        firstEvent = OutboxEvent.builder()
+                .aggregateType(OutboxAggregateType.TASK)
+                .aggregateId(1L)
+                .eventType(OutboxEventType.TASK_CREATED)
+                .payload("{\"taskId\":1}")
+                .build();
+        firstEvent.setId(10L);
+
+        secondEvent = OutboxEvent.builder()
+                .aggregateType(OutboxAggregateType.TASK)
+                .aggregateId(1L)
+                .eventType(OutboxEventType.TASK_UPDATED)
+                .payload("{\"taskId\":1}")
+                .build();
+        secondEvent.setId(11L);
+    }
+
+    @Nested
+    @DisplayName("record() Tests")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Should store pending event with serialized payload")
+        void shouldStorePendingEvent() {
+            // Given
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("taskId", 1L);
+            payload.put("assignedTo", null);
+
+            // When
+            outboxService.record(OutboxAggregateType.TASK, 1L, OutboxEventType.TASK_ASSIGNED, payload);
+
+            // Then
+            ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+            verify(outboxEventRepository).save(captor.capture());
+
+            OutboxEvent saved = captor.getValue();
+            assertThat(saved.getAggregateType()).isEqualTo(OutboxAggregateType.TASK);
+            assertThat(saved.getAggregateId()).isEqualTo(1L);
+            assertThat(saved.getEventType()).isEqualTo(OutboxEventType.TASK_ASSIGNED);
+            assertThat(saved.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+            assertThat(saved.getAttempts()).isZero();
+            assertThat(saved.getPayload()).isEqualTo("{\"taskId\":1,\"assignedTo\":null}");
+        }
+
+        @Test
+        @DisplayName("Should reject missing aggregate ID")
+        void shouldRejectMissingAggregateId() {
+            assertThatThrownBy(() -> outboxService.record(
+                    OutboxAggregateType.TASK, null, OutboxEventType.TASK_CREATED, Map.of()))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("Aggregate ID must not be null");
+
+            verifyNoInteractions(outboxEventRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("publishPendingBatch() Tests")
+    class PublishPendingBatchTests {
+
+        @Test
+        @DisplayName("Should skip when another instance holds the relay lock")
+        void shouldSkipWhenLockNotAcquired() {
+            // Given
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(false);
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.fetched()).isZero();
+            verify(outboxEventRepository, never()).findPendingBatch(anyInt(), any());
+            verifyNoInteractions(outboxPublisher);
+        }
+
+        @Test
+        @DisplayName("Should do nothing when no events are pending")
+        void shouldDoNothingWhenEmpty() {
+            // Given
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findPendingBatch(eq(2), any(Instant.class))).thenReturn(Collections.emptyList());
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.fetched()).isZero();
+            assertThat(result.failed()).isFalse();
+            verifyNoInteractions(outboxPublisher);
+        }
+
+        @Test
+        @DisplayName("Should publish batch in order and mark events published")
+        void shouldPublishAndMarkPublished() {
+            // Given
+            List<OutboxEvent> batch = List.of(firstEvent, secondEvent);
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findPendingBatch(eq(2), any(Instant.class))).thenReturn(batch);
+            when(outboxEventRepository.markPublished(eq(List.of(10L, 11L)), any(Instant.class))).thenReturn(2);
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.fetched()).isEqualTo(2);
+            assertThat(result.published()).isEqualTo(2);
+            assertThat(result.failed()).isFalse();
+            InOrder inOrder = inOrder(outboxEventRepository, transactionManager, outboxPublisher);
+            inOrder.verify(outboxEventRepository).claim(eq(List.of(10L, 11L)), any(Instant.class));
+            inOrder.verify(transactionManager).commit(any());
+            inOrder.verify(outboxPublisher).publish(batch);
+            inOrder.verify(outboxEventRepository).markPublished(eq(List.of(10L, 11L)), any(Instant.class));
+            verify(outboxEventRepository, never()).markFailed(anyCollection(), anyString(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should put a failed batch back without using up its attempts")
+        void shouldReleaseFailedBatch() {
+            // Given
+            List<OutboxEvent> batch = List.of(firstEvent, secondEvent);
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findPendingBatch(eq(2), any(Instant.class))).thenReturn(batch);
+            doThrow(new AmqpException("Message too large")).when(outboxPublisher).publish(batch);
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.failed()).isTrue();
+            assertThat(result.published()).isZero();
+            verify(outboxEventRepository).release(eq(List.of(10L, 11L)), eq("Message too large"), any(Instant.class));
+            verify(outboxEventRepository, never()).markFailed(anyCollection(), anyString(), any(), anyInt());
+            verify(outboxEventRepository, never()).markPublished(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("Should not charge an attempt when the broker is unavailable")
+        void shouldNotChargeBrokerFailure() {
+            // Given
+            firstEvent.setAttempts(2);
+            firstEvent.setLastError("Connection refused");
+            var failure = new AmqpConnectException(new ConnectException("Connection refused"));
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findPendingBatch(eq(2), any(Instant.class))).thenReturn(List.of(firstEvent, secondEvent));
+            doThrow(failure).when(outboxPublisher).publish(List.of(firstEvent));
+            when(outboxPublisher.isBrokerFailure(failure)).thenReturn(true);
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.failed()).isTrue();
+            verify(outboxEventRepository).release(eq(List.of(10L)), anyString(), any(Instant.class));
+            verify(outboxEventRepository, never()).markFailed(anyCollection(), anyString(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should leave events alone while another batch is still being published")
+        void shouldSkipWhileBatchInFlight() {
+            // Given
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(true);
+            when(outboxEventRepository.countInFlight(any(Instant.class))).thenReturn(2L);
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.fetched()).isZero();
+            verify(outboxEventRepository, never()).findPendingBatch(anyInt(), any());
+            verifyNoInteractions(outboxPublisher);
+        }
+
+        @Test
+        @DisplayName("Should publish an event that failed before on its own")
+        void shouldIsolateRetriedEvent() {
+            // Given
+            firstEvent.setLastError("Message too large");
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findPendingBatch(eq(2), any(Instant.class))).thenReturn(List.of(firstEvent, secondEvent));
+            when(outboxEventRepository.markPublished(eq(List.of(10L)), any(Instant.class))).thenReturn(1);
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.fetched()).isEqualTo(1);
+            verify(outboxEventRepository).claim(eq(List.of(10L)), any(Instant.class));
+            verify(outboxPublisher).publish(List.of(firstEvent));
+        }
+
+        @Test
+        @DisplayName("Should cap attempts so a poison event is moved out of the relay's way")
+        void shouldDeadLetterAfterMaxAttempts() {
+            // Given
+            firstEvent.setAttempts(2);
+            firstEvent.setLastError("Message too large");
+            when(outboxEventRepository.tryAcquireRelayLock(anyLong())).thenReturn(true);
+            when(outboxEventRepository.findPendingBatch(eq(2), any(Instant.class))).thenReturn(List.of(firstEvent));
+            doThrow(new AmqpException("Message too large")).when(outboxPublisher).publish(List.of(firstEvent));
+
+            // When
+            OutboxBatchResult result = outboxService.publishPendingBatch();
+
+            // Then
+            assertThat(result.failed()).isTrue();
+            verify(outboxEventRepository).markFailed(eq(List.of(10L)), eq("Message too large"), any(Instant.class), eq(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("requeueFailed() Tests")
+    class RequeueFailedTests {
+
+        @Test
+        @DisplayName("Should requeue every failed event when no IDs are given")
+        void shouldRequeueAllFailed() {
+            // Given
+            when(outboxEventRepository.requeueAllFailed(any(Instant.class))).thenReturn(4);
+
+            // When
+            int requeued = outboxService.requeueFailed(null);
+
+            // Then
+            assertThat(requeued).isEqualTo(4);
+            verify(outboxEventRepository, never()).requeueFailed(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("Should requeue only the given failed events")
+        void shouldRequeueGivenFailed() {
+            // Given
+            when(outboxEventRepository.requeueFailed(eq(List.of(10L, 11L)), any(Instant.class))).thenReturn(2);
+
+            // When
+            int requeued = outboxService.requeueFailed(List.of(10L, 11L));
+
+            // Then
+            assertThat(requeued).isEqualTo(2);
+            verify(outboxEventRepository, never()).requeueAllFailed(any());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanagement.project.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.attachment.service.BlobStore;
+import com.taskmanagement.project.entity.Project;
+import com.taskmanagement.project.enums.ProjectStatus;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectExportWriter Unit Tests")
+class ProjectExportWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private BlobStore blobStore;
+
+    private ProjectExportWriter writer;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:project_export;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(h2);
+
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY, project_id BIGINT, title VARCHAR(200), " +
+                "description TEXT, status VARCHAR(20), priority VARCHAR(20), assigned_to BIGINT, " +
+                "due_date TIMESTAMP, completed_at TIMESTAMP, created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE comments (id BIGINT PRIMARY KEY, task_id BIGINT, content TEXT, " +
+                "user_id BIGINT, status VARCHAR(20), created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE attachment_blobs (id BIGINT PRIMARY KEY, content_hash VARCHAR(64))");
+        jdbcTemplate.execute("CREATE TABLE attachments (id BIGINT PRIMARY KEY, task_id BIGINT, " +
+                "original_filename VARCHAR(255), content_type VARCHAR(100), file_size BIGINT, " +
+                "object_key VARCHAR(500), blob_id BIGINT, user_id BIGINT, status VARCHAR(20), created_at TIMESTAMP)");
+
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 'ann@example.com'), (2, 'bob@example.com')");
+        jdbcTemplate.update("INSERT INTO tasks VALUES " +
+                "(10, 1, 'First', NULL, 'DONE', 'HIGH', 2, TIMESTAMP '2025-03-01 10:00:00', NULL, TIMESTAMP '2025-01-01 08:00:00'), " +
+                "(11, 1, 'Second', 'more', 'TO_DO', 'LOW', NULL, NULL, NULL, TIMESTAMP '2025-01-02 08:00:00'), " +
+                "(12, 1, 'Gone', NULL, 'DELETED', 'LOW', NULL, NULL, NULL, TIMESTAMP '2025-01-03 08:00:00'), " +
+                "(20, 2, 'Other project', NULL, 'TO_DO', 'LOW', NULL, NULL, NULL, TIMESTAMP '2025-01-04 08:00:00')");
+        jdbcTemplate.update("INSERT INTO comments VALUES " +
+                "(100, 10, 'Looks good', 1, 'ACTIVE', TIMESTAMP '2025-01-05 08:00:00'), " +
+                "(101, 10, 'Removed', 1, 'DELETED', TIMESTAMP '2025-01-05 09:00:00'), " +
+                "(102, 12, 'On a deleted task', 1, 'ACTIVE', TIMESTAMP '2025-01-05 10:00:00')");
+        jdbcTemplate.update("INSERT INTO attachment_blobs VALUES (5, 'abc123')");
+        jdbcTemplate.update("INSERT INTO attachments VALUES " +
+                "(200, 11, 'notes.txt', 'text/plain', 5, 'blobs/5', 5, 2, 'ACTIVE', TIMESTAMP '2025-01-06 08:00:00')");
+
+        writer = new ProjectExportWriter(jdbcTemplate, blobStore, new DataSourceTransactionManager(h2));
+        ReflectionTestUtils.setField(writer, "fetchSize", 1);
+
+        project = Project.builder()
+                .name("Alpha")
+                .status(ProjectStatus.ACTIVE)
+                .startDate(Instant.parse("2025-01-01T00:00:00Z"))
+                .build();
+        project.setId(1L);
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(OBJECT_MAPPER.readTree(line));
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("Should write the project, its live rows in order, and an end record with counts")
+    void shouldWriteProjectAsNdjson() throws IOException {
+        // Given
+        var out = new ByteArrayOutputStream();
+
+        // When
+        var counts = writer.write(project, false, out);
+
+        // Then
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).extracting(line -> line.get("type").asText())
+                .containsExactly("project", "task", "task", "comment", "attachment", "end");
+
+        assertThat(lines.get(0).get("formatVersion").asInt()).isEqualTo(ProjectExportWriter.FORMAT_VERSION);
+        assertThat(lines.get(0).get("startDate").asText()).isEqualTo("2025-01-01T00:00:00Z");
+
+        JsonNode first = lines.get(1);
+        assertThat(first.get("id").asLong()).isEqualTo(10L);
+        assertThat(first.get("assigneeEmail").asText()).isEqualTo("bob@example.com");
+        assertThat(first.get("dueDate").asText()).isEqualTo("2025-03-01T10:00:00Z");
+        assertThat(lines.get(2).get("assigneeEmail").isNull()).isTrue();
+
+        assertThat(lines.get(3).get("authorEmail").asText()).isEqualTo("ann@example.com");
+        assertThat(lines.get(4).get("sha256").asText()).isEqualTo("abc123");
+        assertThat(lines.get(4).has("content")).isFalse();
+
+        assertThat(counts).isEqualTo(new ProjectExportWriter.ExportCounts(2, 1, 1));
+        assertThat(lines.get(5).get("tasks").asLong()).isEqualTo(2);
+        verifyNoInteractions(blobStore);
+    }
+
+    @Test
+    @DisplayName("Should stream attachment content as base64 when asked to")
+    void shouldIncludeContent() throws IOException {
+        // Given
+        byte[] bytes = "hello".getBytes(StandardCharsets.UTF_8);
+        when(blobStore.downloadFile("blobs/5")).thenReturn(new ByteArrayInputStream(bytes));
+        var out = new ByteArrayOutputStream();
+
+        // When
+        writer.write(project, true, out);
+
+        // Then
+        JsonNode attachment = lines(out).get(4);
+        assertThat(attachment.get("content").asText()).isEqualTo(Base64.getEncoder().encodeToString(bytes));
+    }
+}
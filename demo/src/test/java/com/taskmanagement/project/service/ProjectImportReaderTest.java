@@ -0,0 +1,112 @@
+package com.taskmanagement.project.service;
+
+import com.taskmanagement.project.service.ProjectImportReader.Record;
+import com.taskmanagement.task.enums.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProjectImportReader Unit Tests")
+class ProjectImportReaderTest {
+
+    private ProjectImportReader reader(String body) throws IOException {
+        return new ProjectImportReader(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Should read one record per line with scalar fields as text")
+    void shouldReadRecords() throws IOException {
+        // Given
+        String body = """
+                {"type":"project","formatVersion":1,"name":"Alpha","description":null}
+                {"type":"task","id":7,"title":"Write docs","status":"IN_PROGRESS","dueDate":"2025-03-01T10:00:00Z","tags":["x"]}
+                """;
+
+        // When
+        try (var reader = reader(body)) {
+            Record project = reader.next();
+            Record task = reader.next();
+
+            // Then
+            assertThat(project.type()).isEqualTo("project");
+            assertThat(project.longValue("formatVersion")).isEqualTo(1);
+            assertThat(project.text("description")).isNull();
+            assertThat(task.number()).isEqualTo(2);
+            assertThat(task.id("id")).isEqualTo(7L);
+            assertThat(task.enumValue(TaskStatus.class, "status")).isEqualTo(TaskStatus.IN_PROGRESS);
+            assertThat(task.instant("dueDate")).isEqualTo(Instant.parse("2025-03-01T10:00:00Z"));
+            assertThat(task.fields()).doesNotContainKey("tags");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode attachment content into a temporary file")
+    void shouldDecodeContentToFile() throws IOException {
+        // Given
+        byte[] bytes = "hello, attachment".getBytes(StandardCharsets.UTF_8);
+        String body = "{\"type\":\"attachment\",\"taskId\":1,\"content\":\"" +
+                Base64.getEncoder().encodeToString(bytes) + "\"}\n";
+
+        // When
+        try (var reader = reader(body)) {
+            Record attachment = reader.next();
+
+            // Then
+            assertThat(attachment.content()).isNotNull();
+            assertThat(Files.readAllBytes(attachment.content())).isEqualTo(bytes);
+            assertThat(attachment.fields()).doesNotContainKey("content");
+
+            ProjectImportReader.deleteQuietly(attachment.content());
+            assertThat(attachment.content()).doesNotExist();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject malformed JSON, non-objects and records without a type")
+    void shouldRejectInvalidRecords() throws IOException {
+        try (var reader = reader("{\"type\":\"task\",")) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Malformed export");
+        }
+
+        try (var reader = reader("[1, 2]")) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("not a JSON object");
+        }
+
+        try (var reader = reader("{\"id\":1}")) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("has no type");
+        }
+    }
+
+    @Test
+    @DisplayName("Should name the record and field when a value is invalid")
+    void shouldDescribeInvalidValues() throws IOException {
+        // Given
+        try (var reader = reader("{\"type\":\"task\",\"status\":\"SLEEPING\",\"dueDate\":\"tomorrow\"}")) {
+            Record task = reader.next();
+
+            // When/Then
+            assertThatThrownBy(() -> task.enumValue(TaskStatus.class, "status"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Record 1 (task): unknown TaskStatus 'SLEEPING'");
+            assertThatThrownBy(() -> task.instant("dueDate"))
+                    .hasMessageContaining("ISO-8601");
+            assertThatThrownBy(() -> task.id("id"))
+                    .hasMessageContaining("missing 'id'");
+        }
+    }
+}
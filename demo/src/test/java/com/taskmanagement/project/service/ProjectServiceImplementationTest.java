@@ -1,8 +1,11 @@
 package com.taskmanagement.project.service;
 
+import com.taskmanagement.attachment.service.StorageUsageService;
+import com.taskmanagement.common.concurrent.SingleFlight;
 import com.taskmanagement.common.exception.types.Exceptions.*;
 import com.taskmanagement.project.dto.CreateProjectDto;
 import com.taskmanagement.project.dto.ProjectResponseDto;
+import com.taskmanagement.project.dto.ProjectStatsDto;
 import com.taskmanagement.project.dto.UpdateProjectDto;
 import com.taskmanagement.project.entity.Project;
 import com.taskmanagement.project.enums.ProjectStatus;
@@ -13,6 +16,7 @@ import com.taskmanagement.team.enums.TeamStatus;
 import com.taskmanagement.user.entity.User;
 import com.taskmanagement.user.enums.Role;
 import com.taskmanagement.user.enums.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,6 +35,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -52,6 +59,18 @@ class ProjectServiceImplementationTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private StorageUsageService storageUsageService;
+
+    @Mock
+    private ProjectStatsCalculator projectStatsCalculator;
+
+    @Mock
+    private ProjectLookup projectLookup;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry(), 5000);
+
     @InjectMocks
     private ProjectServiceImplementation projectService;
 
@@ -377,8 +396,7 @@ class ProjectServiceImplementationTest {
             // Given
             when(securityHelper.getCurrentUser()).thenReturn(adminUser);
             doNothing().when(securityHelper).isUserActive(adminUser);
-            when(securityHelper.projectExistsCheckAndRetrievableCheckUponRole(adminUser, 1L))
-                    .thenReturn(project);
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
             when(securityHelper.isSystemAdmin(adminUser)).thenReturn(true);
             doNothing().when(securityHelper).isMemberInTeamOrSystemAdmin(1L, adminUser);
             when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
@@ -398,8 +416,7 @@ class ProjectServiceImplementationTest {
             // Given
             when(securityHelper.getCurrentUser()).thenReturn(memberUser);
             doNothing().when(securityHelper).isUserActive(memberUser);
-            when(securityHelper.projectExistsCheckAndRetrievableCheckUponRole(memberUser, 1L))
-                    .thenReturn(project);
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
             when(securityHelper.isSystemAdmin(memberUser)).thenReturn(false);
             doNothing().when(securityHelper).teamActiveCheck(1L);
             doNothing().when(securityHelper).isMemberInTeamOrSystemAdmin(1L, memberUser);
@@ -411,9 +428,26 @@ class ProjectServiceImplementationTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.id()).isEqualTo(1L);
+            verify(securityHelper).projectRetrievableUponRoleCheck(memberUser, projectResponseDto);
             verify(securityHelper).teamActiveCheck(1L);
         }
 
+        @Test
+        @DisplayName("Should throw ProjectNotFoundException when member reads a project that is not active")
+        void shouldThrowExceptionWhenMemberReadsInactiveProject() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
+            doThrow(new ProjectNotFoundException(1L))
+                    .when(securityHelper).projectRetrievableUponRoleCheck(memberUser, projectResponseDto);
+
+            // When/Then
+            assertThatThrownBy(() -> projectService.getProjectById(1L))
+                    .isInstanceOf(ProjectNotFoundException.class);
+            verify(securityHelper, never()).isMemberInTeamOrSystemAdmin(anyLong(), any());
+        }
+
         @Test
         @DisplayName("Should throw NullPointerException when project ID is null")
         void shouldThrowExceptionWhenProjectIdIsNull() {
@@ -429,8 +463,7 @@ class ProjectServiceImplementationTest {
             // Given
             when(securityHelper.getCurrentUser()).thenReturn(memberUser);
             doNothing().when(securityHelper).isUserActive(memberUser);
-            when(securityHelper.projectExistsCheckAndRetrievableCheckUponRole(memberUser, 1L))
-                    .thenThrow(new ProjectNotFoundException(1L));
+            when(projectRepository.findById(1L)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> projectService.getProjectById(1L))
@@ -443,10 +476,10 @@ class ProjectServiceImplementationTest {
             // Given
             when(securityHelper.getCurrentUser()).thenReturn(memberUser);
             doNothing().when(securityHelper).isUserActive(memberUser);
-            when(securityHelper.projectExistsCheckAndRetrievableCheckUponRole(memberUser, 1L))
-                    .thenReturn(project);
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
             when(securityHelper.isSystemAdmin(memberUser)).thenReturn(false);
             doNothing().when(securityHelper).teamActiveCheck(1L);
+            when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
             doThrow(new AccessDeniedException("Must be team member to view project"))
                     .when(securityHelper).isMemberInTeamOrSystemAdmin(1L, memberUser);
 
@@ -460,6 +493,58 @@ class ProjectServiceImplementationTest {
     // GET PROJECTS BY TEAM TESTS
     // ============================================
 
+    @Nested
+    @DisplayName("getProjectStats() Tests")
+    class GetProjectStatsTests {
+
+        @Test
+        @DisplayName("Should return stats for a team member after access checks")
+        void shouldGetProjectStatsAsMember() {
+            // Given
+            ProjectStatsDto stats = new ProjectStatsDto(1L, 1L, 4, 1, 25.0, 0, 0,
+                    Map.of(), Map.of(), Map.of(), Instant.now());
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            when(securityHelper.projectExistsCheckAndRetrievableCheckUponRole(memberUser, 1L))
+                    .thenReturn(project);
+            when(securityHelper.isSystemAdmin(memberUser)).thenReturn(false);
+            when(projectStatsCalculator.compute(project)).thenReturn(stats);
+
+            // When
+            ProjectStatsDto result = projectService.getProjectStats(1L);
+
+            // Then
+            assertThat(result).isSameAs(stats);
+            verify(securityHelper).teamActiveCheck(1L);
+            verify(securityHelper).isMemberInTeamOrSystemAdmin(1L, memberUser);
+        }
+
+        @Test
+        @DisplayName("Should not compute stats when user is not a team member")
+        void shouldNotComputeStatsForNonMember() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(memberUser);
+            when(securityHelper.projectExistsCheckAndRetrievableCheckUponRole(memberUser, 1L))
+                    .thenReturn(project);
+            when(securityHelper.isSystemAdmin(memberUser)).thenReturn(false);
+            doThrow(new AccessDeniedException("Not a member"))
+                    .when(securityHelper).isMemberInTeamOrSystemAdmin(1L, memberUser);
+
+            // When/Then
+            assertThatThrownBy(() -> projectService.getProjectStats(1L))
+                    .isInstanceOf(AccessDeniedException.class);
+            verifyNoInteractions(projectStatsCalculator);
+        }
+
+        @Test
+        @DisplayName("Should throw NullPointerException when project ID is null")
+        void shouldThrowExceptionWhenProjectIdIsNull() {
+            // When/Then
+            assertThatThrownBy(() -> projectService.getProjectStats(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("The project id must not be null");
+        }
+    }
+
     @Nested
     @DisplayName("getProjectsByTeam() Tests")
     class GetProjectsByTeamTests {
@@ -1211,6 +1296,9 @@ class ProjectServiceImplementationTest {
             // Then
             assertThat(result).isNotNull();
             verify(projectRepository).save(project);
+            verify(storageUsageService).moveProject(1L, 1L, 2L);
+            verify(projectStatsCalculator).evict(1L);
+            verify(projectLookup).evict(1L);
         }
 
         @Test
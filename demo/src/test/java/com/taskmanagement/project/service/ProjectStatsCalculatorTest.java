@@ -0,0 +1,122 @@
+package com.taskmanagement.project.service;
+
+import com.taskmanagement.project.dto.ProjectStatsDto;
+import com.taskmanagement.project.entity.Project;
+import com.taskmanagement.task.enums.TaskPriority;
+import com.taskmanagement.task.enums.TaskStatus;
+import com.taskmanagement.task.repository.TaskRepository;
+import com.taskmanagement.task.repository.TaskStatsRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectStatsCalculator Unit Tests")
+class ProjectStatsCalculatorTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private ProjectStatsCalculator calculator;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = Project.builder()
+                .name("Test Project")
+                .teamId(5L)
+                .build();
+        project.setId(1L);
+    }
+
+    private TaskStatsRow row(int dimension, String status, String priority, Long assignee, long tasks, long overdue) {
+        return new TaskStatsRow() {
+            @Override
+            public Integer getDimension() {
+                return dimension;
+            }
+
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getPriority() {
+                return priority;
+            }
+
+            @Override
+            public Long getAssignee() {
+                return assignee;
+            }
+
+            @Override
+            public Long getTasks() {
+                return tasks;
+            }
+
+            @Override
+            public Long getOverdue() {
+                return overdue;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should fold the grouped rows into totals and per-dimension counts")
+    void shouldComputeStatsFromGroupedRows() {
+        // Given
+        when(taskRepository.aggregateStatsByProjectId(1L)).thenReturn(List.of(
+                row(TaskStatsRow.BY_STATUS, "DONE", null, null, 3, 0),
+                row(TaskStatsRow.BY_STATUS, "IN_PROGRESS", null, null, 5, 2),
+                row(TaskStatsRow.BY_PRIORITY, null, "HIGH", null, 6, 1),
+                row(TaskStatsRow.BY_PRIORITY, null, "LOW", null, 2, 1),
+                row(TaskStatsRow.BY_ASSIGNEE, null, null, 10L, 7, 2),
+                row(TaskStatsRow.BY_ASSIGNEE, null, null, null, 1, 0)));
+
+        // When
+        ProjectStatsDto stats = calculator.compute(project);
+
+        // Then
+        assertThat(stats.projectId()).isEqualTo(1L);
+        assertThat(stats.teamId()).isEqualTo(5L);
+        assertThat(stats.totalTasks()).isEqualTo(8);
+        assertThat(stats.completedTasks()).isEqualTo(3);
+        assertThat(stats.completionPercentage()).isEqualTo(37.5);
+        assertThat(stats.overdueTasks()).isEqualTo(2);
+        assertThat(stats.unassignedTasks()).isEqualTo(1);
+        assertThat(stats.tasksByStatus())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(TaskStatus.DONE, 3L, TaskStatus.IN_PROGRESS, 5L));
+        assertThat(stats.tasksByPriority())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(TaskPriority.HIGH, 6L, TaskPriority.LOW, 2L));
+        assertThat(stats.tasksByAssignee()).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 7L));
+    }
+
+    @Test
+    @DisplayName("Should report zero completion for a project without tasks")
+    void shouldHandleEmptyProject() {
+        // Given
+        when(taskRepository.aggregateStatsByProjectId(1L)).thenReturn(List.of());
+
+        // When
+        ProjectStatsDto stats = calculator.compute(project);
+
+        // Then
+        assertThat(stats.totalTasks()).isZero();
+        assertThat(stats.completionPercentage()).isZero();
+        assertThat(stats.tasksByStatus()).isEmpty();
+    }
+}
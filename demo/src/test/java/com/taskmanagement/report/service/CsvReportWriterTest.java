@@ -0,0 +1,117 @@
+package com.taskmanagement.report.service;
+
+import com.taskmanagement.report.dto.ReportFilterDto;
+import com.taskmanagement.report.enums.ReportType;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CsvReportWriter Unit Tests")
+class CsvReportWriterTest {
+
+    private CsvReportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:csv_report;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(h2);
+
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(100), first_name VARCHAR(100), " +
+                "last_name VARCHAR(100), role VARCHAR(20), status VARCHAR(20), email_verified BOOLEAN, " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE teams (id BIGINT PRIMARY KEY, name VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE projects (id BIGINT PRIMARY KEY, name VARCHAR(100), team_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY, project_id BIGINT, title VARCHAR(200), " +
+                "description TEXT, status VARCHAR(20), priority VARCHAR(20), assigned_to BIGINT, " +
+                "due_date TIMESTAMP, completed_at TIMESTAMP, created_at TIMESTAMP, updated_at TIMESTAMP)");
+
+        jdbcTemplate.update("INSERT INTO users VALUES " +
+                "(1, 'ann@example.com', 'Ann', 'Lee', 'ADMIN', 'ACTIVE', TRUE, TIMESTAMP '2025-01-01 08:00:00', TIMESTAMP '2025-01-01 08:00:00'), " +
+                "(2, 'bob@example.com', 'Bob', 'Ray', 'MEMBER', 'SUSPENDED', FALSE, TIMESTAMP '2025-02-01 08:00:00', TIMESTAMP '2025-02-01 08:00:00')");
+        jdbcTemplate.update("INSERT INTO teams VALUES (1, 'Core')");
+        jdbcTemplate.update("INSERT INTO projects VALUES (1, 'Alpha', 1)");
+        jdbcTemplate.update("INSERT INTO tasks VALUES " +
+                "(10, 1, 'Plan, then \"ship\"', NULL, 'DONE', 'HIGH', 2, TIMESTAMP '2025-03-01 10:00:00', NULL, TIMESTAMP '2025-01-02 08:00:00', TIMESTAMP '2025-01-02 08:00:00'), " +
+                "(11, 1, '=HYPERLINK(\"x\")', 'line one\nline two', 'TO_DO', 'LOW', NULL, NULL, NULL, TIMESTAMP '2025-01-03 08:00:00', TIMESTAMP '2025-01-03 08:00:00'), " +
+                "(12, 1, 'Removed', NULL, 'DELETED', 'LOW', NULL, NULL, NULL, TIMESTAMP '2025-01-04 08:00:00', TIMESTAMP '2025-01-04 08:00:00')");
+
+        writer = new CsvReportWriter(jdbcTemplate, new DataSourceTransactionManager(h2));
+        ReflectionTestUtils.setField(writer, "fetchSize", 1);
+    }
+
+    private String write(ReportType type, List<String> columns, ReportFilterDto filter) throws IOException {
+        var out = new ByteArrayOutputStream();
+        writer.write(ReportDefinition.of(type).query(columns, filter.values()), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should write the selected task columns with joined names, quoting and formula guarding")
+    void shouldWriteTaskReport() throws IOException {
+        // When
+        String csv = write(ReportType.TASKS,
+                List.of("id", "title", "description", "teamName", "assigneeEmail", "dueDate"),
+                ReportFilterDto.none());
+
+        // Then
+        assertThat(csv).isEqualTo(
+                "id,title,description,teamName,assigneeEmail,dueDate\r\n" +
+                "10,\"Plan, then \"\"ship\"\"\",,Core,bob@example.com,2025-03-01T10:00:00Z\r\n" +
+                "11,\"'=HYPERLINK(\"\"x\"\")\",\"line one\nline two\",Core,,\r\n" +
+                "12,Removed,,Core,,\r\n");
+    }
+
+    @Test
+    @DisplayName("Should apply filters as bind parameters")
+    void shouldApplyFilters() throws IOException {
+        // Given
+        var filter = new ReportFilterDto("done", null, null, 1L, null, null, null, null,
+                Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-02-01T00:00:00Z"));
+
+        // When
+        String csv = write(ReportType.TASKS, List.of("id", "status"), filter);
+
+        // Then
+        assertThat(csv).isEqualTo("id,status\r\n10,DONE\r\n");
+    }
+
+    @Test
+    @DisplayName("Should write every user column by default and never the password")
+    void shouldWriteUserReport() throws IOException {
+        // Given
+        var filter = new ReportFilterDto(null, null, "member", null, null, null, null, null, null, null);
+
+        // When
+        String csv = write(ReportType.USERS, null, filter);
+
+        // Then
+        assertThat(csv).isEqualTo(
+                "id,email,firstName,lastName,role,status,emailVerified,createdAt,updatedAt\r\n" +
+                "2,bob@example.com,Bob,Ray,MEMBER,SUSPENDED,false,2025-02-01T08:00:00Z,2025-02-01T08:00:00Z\r\n");
+    }
+
+    @Test
+    @DisplayName("Should leave plain text unquoted and quote only what CSV needs")
+    void shouldEscapeText() {
+        assertThat(CsvReportWriter.text(null)).isEmpty();
+        assertThat(CsvReportWriter.text("plain")).isEqualTo("plain");
+        assertThat(CsvReportWriter.text("a,b")).isEqualTo("\"a,b\"");
+        assertThat(CsvReportWriter.text("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(CsvReportWriter.text("-1+1")).isEqualTo("'-1+1");
+        assertThat(CsvReportWriter.text("@mention")).isEqualTo("'@mention");
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskmanagement.report.service;
+
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.report.dto.ReportFilterDto;
+import com.taskmanagement.report.enums.ReportType;
+import com.taskmanagement.report.service.ReportDefinition.Column;
+import com.taskmanagement.report.service.ReportDefinition.Query;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportServiceImplementation Unit Tests")
+class ReportServiceImplementationTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CsvReportWriter csvReportWriter;
+
+    @InjectMocks
+    private ReportServiceImplementation reportService;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = User.builder()
+                .email("admin@example.com")
+                .firstName("Admin")
+                .lastName("User")
+                .role(Role.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build();
+        admin.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticateAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+        when(userRepository.findByEmailIgnoreCase(user.getEmail())).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("Should build one filtered query and stream it when the body is written")
+    void shouldStreamReport() throws IOException {
+        // Given
+        authenticateAs(admin);
+        var filter = new ReportFilterDto("in_progress", null, null, 3L, null, null, null, null,
+                Instant.parse("2025-01-01T00:00:00Z"), null);
+
+        // When
+        var body = reportService.streamReport(ReportType.TASKS, List.of("id", "title", "teamName"), filter);
+
+        // Then
+        verifyNoInteractions(csvReportWriter);
+
+        var out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(csvReportWriter).write(captor.capture(), same(out));
+
+        Query query = captor.getValue();
+        assertThat(query.columns()).extracting(Column::name).containsExactly("id", "title", "teamName");
+        assertThat(query.sql())
+                .startsWith("SELECT t.id, t.title, tm.name")
+                .contains("WHERE t.status = ? AND p.team_id = ? AND t.created_at >= ?")
+                .endsWith("ORDER BY t.id");
+        assertThat(query.parameters())
+                .containsExactly("IN_PROGRESS", 3L, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject non-admins")
+    void shouldRejectNonAdmin() {
+        // Given
+        admin.setRole(Role.MEMBER);
+        authenticateAs(admin);
+
+        // When/Then
+        assertThatThrownBy(() -> reportService.streamReport(ReportType.USERS, null, null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown columns, unsupported filters and invalid enum values before streaming")
+    void shouldRejectInvalidRequests() {
+        // Given
+        authenticateAs(admin);
+
+        // When/Then
+        assertThatThrownBy(() -> reportService.streamReport(ReportType.USERS, List.of("passwordHash"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown report column 'passwordHash'");
+
+        var byPriority = new ReportFilterDto(null, "HIGH", null, null, null, null, null, null, null, null);
+        assertThatThrownBy(() -> reportService.streamReport(ReportType.USERS, null, byPriority))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be filtered by 'priority'");
+
+        var badStatus = new ReportFilterDto("ARCHIVED", null, null, null, null, null, null, null, null, null);
+        assertThatThrownBy(() -> reportService.streamReport(ReportType.COMMENTS, null, badStatus))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown CommentStatus 'ARCHIVED'");
+
+        verifyNoInteractions(csvReportWriter);
+    }
+}
@@ -1,8 +1,13 @@
 package com.taskmanagement.task.service;
 
+import com.taskmanagement.common.concurrent.SingleFlight;
 import com.taskmanagement.common.exception.types.Exceptions.*;
+import com.taskmanagement.outbox.enums.OutboxAggregateType;
+import com.taskmanagement.outbox.enums.OutboxEventType;
+import com.taskmanagement.outbox.service.OutboxService;
 import com.taskmanagement.project.entity.Project;
 import com.taskmanagement.project.enums.ProjectStatus;
+import com.taskmanagement.project.service.ProjectStatsCalculator;
 import com.taskmanagement.task.dto.AssignTaskDto;
 import com.taskmanagement.task.dto.CreateTaskDto;
 import com.taskmanagement.task.dto.TaskResponseDto;
@@ -15,6 +20,7 @@ import com.taskmanagement.task.repository.TaskRepository;
 import com.taskmanagement.user.entity.User;
 import com.taskmanagement.user.enums.Role;
 import com.taskmanagement.user.enums.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -54,6 +61,18 @@ class TaskServiceImplementationTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ProjectStatsCalculator projectStatsCalculator;
+
+    @Mock
+    private TaskLookup taskLookup;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry(), 5000);
+
     @InjectMocks
     private TaskServiceImplementation taskService;
 
@@ -207,6 +226,10 @@ class TaskServiceImplementationTest {
             verify(securityHelper).canCreateTaskInProject(memberUser, 1L);
             verify(taskMapper).toEntity(eq(createTaskDto), eq(activeProject), eq(null));
             verify(taskRepository).save(any(Task.class));
+            verify(outboxService).record(eq(OutboxAggregateType.TASK), eq(task.getId()),
+                    eq(OutboxEventType.TASK_CREATED), anyMap());
+            verify(projectStatsCalculator).evict(1L);
+            verify(taskLookup).evict(task.getId());
         }
 
         @Test
@@ -833,6 +856,8 @@ class TaskServiceImplementationTest {
             // Then
             verify(taskRepository).save(task);
             verify(securityHelper).canDeleteTask(memberUser, task);
+            verify(projectStatsCalculator).evict(1L);
+            verify(taskLookup).evict(task.getId());
         }
 
         @Test
@@ -0,0 +1,206 @@
+package com.taskmanagement.team.service;
+
+import com.taskmanagement.attachment.repository.TeamStorageUsageRepository;
+import com.taskmanagement.common.cache.EntityCacheEvictor;
+import com.taskmanagement.project.entity.Project;
+import com.taskmanagement.project.service.ProjectLookup;
+import com.taskmanagement.project.service.ProjectStatsCalculator;
+import com.taskmanagement.task.service.TaskLookup;
+import com.taskmanagement.team.entity.TeamCascadeJob;
+import com.taskmanagement.team.enums.TeamCascadeJobStatus;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
+import com.taskmanagement.team.enums.TeamCascadeStep;
+import com.taskmanagement.team.repository.TeamCascadeJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamCascadeRunner Unit Tests")
+class TeamCascadeRunnerTest {
+
+    private static final long JOB_ID = 7L;
+    private static final long TEAM_ID = 3L;
+    private static final long ACTOR_ID = 11L;
+
+    @Mock
+    private TeamCascadeJobRepository jobRepository;
+
+    @Mock
+    private TeamStorageUsageRepository storageUsageRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProjectLookup projectLookup;
+
+    @Mock
+    private ProjectStatsCalculator projectStatsCalculator;
+
+    @Mock
+    private TaskLookup taskLookup;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    private TeamCascadeRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new TeamCascadeRunner(jobRepository, storageUsageRepository, jdbcTemplate, transactionManager,
+                projectLookup, projectStatsCalculator, taskLookup, entityCacheEvictor, 10);
+        ReflectionTestUtils.setField(runner, "chunkSize", 2);
+        ReflectionTestUtils.setField(runner, "chunkPauseMillis", 0L);
+        ReflectionTestUtils.setField(runner, "staleAfterMillis", 300_000L);
+        ReflectionTestUtils.setField(runner, "maxAttempts", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.destroy();
+    }
+
+    private TeamCascadeJob job(TeamCascadeOperation operation) {
+        TeamCascadeJob job = TeamCascadeJob.builder()
+                .teamId(TEAM_ID)
+                .operation(operation)
+                .status(TeamCascadeJobStatus.RUNNING)
+                .build();
+        job.setId(JOB_ID);
+        job.setCreatedBy(ACTOR_ID);
+        return job;
+    }
+
+    private void claimSucceeds(TeamCascadeJob job) {
+        when(jobRepository.claim(eq(JOB_ID), any(Instant.class), any(Instant.class), eq(3))).thenReturn(1);
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+    }
+
+    // Each queued pair is one chunk's (changed rows, bytes), in the order chunks run
+    @SuppressWarnings("unchecked")
+    private void chunksReturn(long[]... chunks) {
+        Deque<long[]> results = new ArrayDeque<>(List.of(chunks));
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(ACTOR_ID), eq(TEAM_ID), eq(2)))
+                .thenAnswer(invocation -> {
+                    long[] next = results.isEmpty() ? new long[]{0, 0} : results.poll();
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong("changed")).thenReturn(next[0]);
+                    when(rs.getLong("bytes")).thenReturn(next[1]);
+                    return ((RowMapper<Object>) invocation.getArgument(1)).mapRow(rs, 0);
+                });
+    }
+
+    @Test
+    @DisplayName("Should skip a job that cannot be claimed")
+    void shouldSkipUnclaimedJob() {
+        // Given
+        when(jobRepository.claim(eq(JOB_ID), any(Instant.class), any(Instant.class), eq(3))).thenReturn(0);
+
+        // When
+        runner.run(JOB_ID);
+
+        // Then
+        verify(jobRepository, never()).findById(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should run delete steps in chunks until a short chunk and then complete")
+    void shouldRunDeleteInChunks() {
+        // Given
+        claimSucceeds(job(TeamCascadeOperation.DELETE));
+        // projects: full chunk then short chunk; tasks, comments: none; attachments: one short chunk
+        chunksReturn(new long[]{2, 0}, new long[]{1, 0}, new long[]{0, 0}, new long[]{0, 0}, new long[]{1, 500});
+
+        // When
+        runner.run(JOB_ID);
+
+        // Then
+        InOrder inOrder = inOrder(jobRepository, storageUsageRepository);
+        inOrder.verify(jobRepository).addProgress(eq(JOB_ID), eq(TeamCascadeStep.PROJECTS),
+                eq(2L), eq(0L), eq(0L), eq(0L), any(Instant.class));
+        inOrder.verify(jobRepository).addProgress(eq(JOB_ID), eq(TeamCascadeStep.PROJECTS),
+                eq(1L), eq(0L), eq(0L), eq(0L), any(Instant.class));
+        inOrder.verify(jobRepository).addProgress(eq(JOB_ID), eq(TeamCascadeStep.TASKS),
+                eq(0L), eq(0L), eq(0L), eq(0L), any(Instant.class));
+        inOrder.verify(jobRepository).addProgress(eq(JOB_ID), eq(TeamCascadeStep.COMMENTS),
+                eq(0L), eq(0L), eq(0L), eq(0L), any(Instant.class));
+        inOrder.verify(storageUsageRepository).adjust(TEAM_ID, -500L, -1L);
+        inOrder.verify(jobRepository).addProgress(eq(JOB_ID), eq(TeamCascadeStep.ATTACHMENTS),
+                eq(0L), eq(0L), eq(0L), eq(1L), any(Instant.class));
+        inOrder.verify(jobRepository).finish(eq(JOB_ID), eq(TeamCascadeJobStatus.COMPLETED), isNull(),
+                any(Instant.class), any(Instant.class));
+        verify(transactionManager, times(5)).commit(any());
+        verify(projectLookup).evictAll();
+        verify(projectStatsCalculator).evictAll();
+        verify(taskLookup).evictAll();
+        verify(entityCacheEvictor).evictAfterBulkWrite(Project.class);
+    }
+
+    @Test
+    @DisplayName("Should restore attachments first and add their storage back")
+    void shouldRestoreAttachmentsFirst() {
+        // Given
+        claimSucceeds(job(TeamCascadeOperation.RESTORE));
+        chunksReturn(new long[]{1, 300});
+
+        // When
+        runner.run(JOB_ID);
+
+        // Then
+        InOrder inOrder = inOrder(jobRepository, storageUsageRepository);
+        inOrder.verify(storageUsageRepository).adjust(TEAM_ID, 300L, 1L);
+        inOrder.verify(jobRepository).addProgress(eq(JOB_ID), eq(TeamCascadeStep.ATTACHMENTS),
+                eq(0L), eq(0L), eq(0L), eq(1L), any(Instant.class));
+        inOrder.verify(jobRepository).addProgress(eq(JOB_ID), eq(TeamCascadeStep.PROJECTS),
+                eq(0L), eq(0L), eq(0L), eq(0L), any(Instant.class));
+        inOrder.verify(jobRepository).finish(eq(JOB_ID), eq(TeamCascadeJobStatus.COMPLETED), isNull(),
+                any(Instant.class), any(Instant.class));
+        verify(projectStatsCalculator).evictAll();
+    }
+
+    @Test
+    @DisplayName("Should mark the job failed when a chunk throws")
+    void shouldFailJobOnError() {
+        // Given
+        claimSucceeds(job(TeamCascadeOperation.DELETE));
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(ACTOR_ID), eq(TEAM_ID), eq(2)))
+                .thenThrow(new IllegalStateException("boom"));
+
+        // When
+        runner.run(JOB_ID);
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(jobRepository, never()).addProgress(anyLong(), any(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+        verify(jobRepository).finish(eq(JOB_ID), eq(TeamCascadeJobStatus.FAILED), eq("boom"),
+                isNull(), any(Instant.class));
+        verify(projectLookup).evictAll();
+        verify(projectStatsCalculator).evictAll();
+        verify(taskLookup).evictAll();
+        verify(entityCacheEvictor).evictAfterBulkWrite(Project.class);
+    }
+}
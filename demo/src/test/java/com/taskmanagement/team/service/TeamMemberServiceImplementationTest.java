@@ -1,7 +1,12 @@
 package com.taskmanagement.team.service;
 
 import com.taskmanagement.common.exception.types.Exceptions.*;
+import com.taskmanagement.outbox.service.OutboxService;
 import com.taskmanagement.team.dto.AddMemberRequestDto;
+import com.taskmanagement.team.dto.BulkAddMembersRequestDto;
+import com.taskmanagement.team.dto.BulkMemberResultDto;
+import com.taskmanagement.team.dto.BulkRemoveMembersRequestDto;
+import com.taskmanagement.team.dto.BulkUpdateMemberRoleDto;
 import com.taskmanagement.team.dto.TeamMemberResponseDto;
 import com.taskmanagement.team.dto.UpdateMemberRoleDto;
 import com.taskmanagement.team.entity.Team;
@@ -21,11 +26,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -49,6 +59,15 @@ class TeamMemberServiceImplementationTest {
     @Mock
     private TeamMemberMapper teamMemberMapper;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private TeamMemberServiceImplementation teamMemberService;
 
@@ -1304,45 +1323,34 @@ class TeamMemberServiceImplementationTest {
     class GetMembersByTeamTests {
 
         private org.springframework.data.domain.Pageable pageable;
-        private TeamMember member1;
-        private TeamMember member2;
+        private TeamMemberResponseDto memberDto1;
+        private TeamMemberResponseDto memberDto2;
 
         @BeforeEach
         void setUpGetMembersByTeamTests() {
             pageable = org.springframework.data.domain.Pageable.unpaged();
 
-            member1 = TeamMember.builder()
-                    .team(activeTeam)
-                    .user(userToAdd)
-                    .role(TeamRole.MEMBER)
-                    .status(TeamMemberStatus.ACTIVE)
-                    .joinedAt(Instant.now())
-                    .build();
-            member1.setId(30L);
+            memberDto1 = new TeamMemberResponseDto(30L, activeTeam.getId(), userToAdd.getId(),
+                    userToAdd.getEmail(), userToAdd.getFirstName(), userToAdd.getLastName(),
+                    TeamRole.MEMBER, Instant.now());
 
-            member2 = TeamMember.builder()
-                    .team(activeTeam)
-                    .user(ownerUser)
-                    .role(TeamRole.OWNER)
-                    .status(TeamMemberStatus.ACTIVE)
-                    .joinedAt(Instant.now())
-                    .build();
-            member2.setId(31L);
+            memberDto2 = new TeamMemberResponseDto(31L, activeTeam.getId(), ownerUser.getId(),
+                    ownerUser.getEmail(), ownerUser.getFirstName(), ownerUser.getLastName(),
+                    TeamRole.OWNER, Instant.now());
         }
 
         @Test
         @DisplayName("Should return members page for team owner")
         void shouldReturnMembersPageForTeamOwner() {
             // Arrange
-            org.springframework.data.domain.Page<TeamMember> page =
-                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(member1, member2));
+            org.springframework.data.domain.Page<TeamMemberResponseDto> page =
+                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(memberDto1, memberDto2));
 
             when(securityHelper.getCurrentUser()).thenReturn(ownerUser);
             doNothing().when(securityHelper).isUserActive(ownerUser);
             when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
             when(securityHelper.isTeamOwnerOrAdmin(activeTeam.getId(), ownerUser.getId())).thenReturn(true);
-            when(teamMemberRepository.findByTeamIdAndStatusActive(activeTeam.getId(), pageable)).thenReturn(page);
-            when(teamMemberMapper.toDto(any(TeamMember.class))).thenReturn(teamMemberResponseDto);
+            when(teamMemberRepository.findMemberDtosByTeamId(activeTeam.getId(), pageable)).thenReturn(page);
 
             // Act
             org.springframework.data.domain.Page<TeamMemberResponseDto> result =
@@ -1351,8 +1359,9 @@ class TeamMemberServiceImplementationTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getTotalElements()).isEqualTo(2);
-            verify(teamMemberRepository).findByTeamIdAndStatusActive(activeTeam.getId(), pageable);
-            verify(teamMemberMapper, times(2)).toDto(any(TeamMember.class));
+            verify(teamMemberRepository).findMemberDtosByTeamId(activeTeam.getId(), pageable);
+            assertThat(result.getContent()).containsExactly(memberDto1, memberDto2);
+            verifyNoInteractions(teamMemberMapper);
         }
 
         @Test
@@ -1366,15 +1375,14 @@ class TeamMemberServiceImplementationTest {
                     .build();
             adminUser.setId(50L);
 
-            org.springframework.data.domain.Page<TeamMember> page =
-                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(member1));
+            org.springframework.data.domain.Page<TeamMemberResponseDto> page =
+                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(memberDto1));
 
             when(securityHelper.getCurrentUser()).thenReturn(adminUser);
             doNothing().when(securityHelper).isUserActive(adminUser);
             when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
             when(securityHelper.isTeamOwnerOrAdmin(activeTeam.getId(), adminUser.getId())).thenReturn(true);
-            when(teamMemberRepository.findByTeamIdAndStatusActive(activeTeam.getId(), pageable)).thenReturn(page);
-            when(teamMemberMapper.toDto(any(TeamMember.class))).thenReturn(teamMemberResponseDto);
+            when(teamMemberRepository.findMemberDtosByTeamId(activeTeam.getId(), pageable)).thenReturn(page);
 
             // Act
             org.springframework.data.domain.Page<TeamMemberResponseDto> result =
@@ -1397,14 +1405,13 @@ class TeamMemberServiceImplementationTest {
                     .build();
             systemAdmin.setId(99L);
 
-            org.springframework.data.domain.Page<TeamMember> page =
-                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(member1));
+            org.springframework.data.domain.Page<TeamMemberResponseDto> page =
+                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(memberDto1));
 
             when(securityHelper.getCurrentUser()).thenReturn(systemAdmin);
             doNothing().when(securityHelper).isUserActive(systemAdmin);
             when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
-            when(teamMemberRepository.findByTeamIdAndStatusActive(activeTeam.getId(), pageable)).thenReturn(page);
-            when(teamMemberMapper.toDto(any(TeamMember.class))).thenReturn(teamMemberResponseDto);
+            when(teamMemberRepository.findMemberDtosByTeamId(activeTeam.getId(), pageable)).thenReturn(page);
 
             // Act
             org.springframework.data.domain.Page<TeamMemberResponseDto> result =
@@ -1485,14 +1492,14 @@ class TeamMemberServiceImplementationTest {
         @DisplayName("Should return empty page when team has no active members")
         void shouldReturnEmptyPageWhenNoActiveMembers() {
             // Arrange
-            org.springframework.data.domain.Page<TeamMember> emptyPage =
+            org.springframework.data.domain.Page<TeamMemberResponseDto> emptyPage =
                     new org.springframework.data.domain.PageImpl<>(java.util.List.of());
 
             when(securityHelper.getCurrentUser()).thenReturn(ownerUser);
             doNothing().when(securityHelper).isUserActive(ownerUser);
             when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
             when(securityHelper.isTeamOwnerOrAdmin(activeTeam.getId(), ownerUser.getId())).thenReturn(true);
-            when(teamMemberRepository.findByTeamIdAndStatusActive(activeTeam.getId(), pageable)).thenReturn(emptyPage);
+            when(teamMemberRepository.findMemberDtosByTeamId(activeTeam.getId(), pageable)).thenReturn(emptyPage);
 
             // Act
             org.springframework.data.domain.Page<TeamMemberResponseDto> result =
@@ -1501,7 +1508,7 @@ class TeamMemberServiceImplementationTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getTotalElements()).isZero();
-            verify(teamMemberMapper, never()).toDto(any(), any());
+            verifyNoInteractions(teamMemberMapper);
         }
 
         @Test
@@ -1510,9 +1517,9 @@ class TeamMemberServiceImplementationTest {
             // Arrange
             org.springframework.data.domain.Pageable pagedRequest =
                     org.springframework.data.domain.PageRequest.of(0, 10);
-            org.springframework.data.domain.Page<TeamMember> page =
+            org.springframework.data.domain.Page<TeamMemberResponseDto> page =
                     new org.springframework.data.domain.PageImpl<>(
-                            java.util.List.of(member1, member2),
+                            java.util.List.of(memberDto1, memberDto2),
                             pagedRequest,
                             2
                     );
@@ -1521,8 +1528,7 @@ class TeamMemberServiceImplementationTest {
             doNothing().when(securityHelper).isUserActive(ownerUser);
             when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
             when(securityHelper.isTeamOwnerOrAdmin(activeTeam.getId(), ownerUser.getId())).thenReturn(true);
-            when(teamMemberRepository.findByTeamIdAndStatusActive(activeTeam.getId(), pagedRequest)).thenReturn(page);
-            when(teamMemberMapper.toDto(any(TeamMember.class))).thenReturn(teamMemberResponseDto);
+            when(teamMemberRepository.findMemberDtosByTeamId(activeTeam.getId(), pagedRequest)).thenReturn(page);
 
             // Act
             org.springframework.data.domain.Page<TeamMemberResponseDto> result =
@@ -1540,15 +1546,14 @@ class TeamMemberServiceImplementationTest {
         @DisplayName("Should verify method execution order")
         void shouldVerifyMethodExecutionOrder() {
             // Arrange
-            org.springframework.data.domain.Page<TeamMember> page =
-                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(member1));
+            org.springframework.data.domain.Page<TeamMemberResponseDto> page =
+                    new org.springframework.data.domain.PageImpl<>(java.util.List.of(memberDto1));
 
             when(securityHelper.getCurrentUser()).thenReturn(ownerUser);
             doNothing().when(securityHelper).isUserActive(ownerUser);
             when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
             when(securityHelper.isTeamOwnerOrAdmin(activeTeam.getId(), ownerUser.getId())).thenReturn(true);
-            when(teamMemberRepository.findByTeamIdAndStatusActive(activeTeam.getId(), pageable)).thenReturn(page);
-            when(teamMemberMapper.toDto(any(TeamMember.class))).thenReturn(teamMemberResponseDto);
+            when(teamMemberRepository.findMemberDtosByTeamId(activeTeam.getId(), pageable)).thenReturn(page);
 
             // Act
             teamMemberService.getMembersByTeam(activeTeam.getId(), pageable);
@@ -1558,7 +1563,7 @@ class TeamMemberServiceImplementationTest {
             inOrder.verify(securityHelper).getCurrentUser();
             inOrder.verify(securityHelper).isUserActive(ownerUser);
             inOrder.verify(securityHelper).teamExistsAndActiveCheck(activeTeam.getId());
-            inOrder.verify(teamMemberRepository).findByTeamIdAndStatusActive(activeTeam.getId(), pageable);
+            inOrder.verify(teamMemberRepository).findMemberDtosByTeamId(activeTeam.getId(), pageable);
         }
     }
 
@@ -2109,5 +2114,157 @@ class TeamMemberServiceImplementationTest {
             inOrder.verify(teamMemberRepository).countByTeamIdAndStatusActive(teamId);
         }
     }
-}
 
+    @Nested
+    @DisplayName("Bulk Membership Tests")
+    class BulkMembershipTests {
+
+        private TeamMember member(User user, TeamRole role, TeamMemberStatus status) {
+            var member = TeamMember.builder()
+                    .team(activeTeam)
+                    .teamId(activeTeam.getId())
+                    .user(user)
+                    .userId(user.getId())
+                    .role(role)
+                    .status(status)
+                    .joinedAt(Instant.now())
+                    .build();
+            member.setId(user.getId() + 1000);
+            return member;
+        }
+
+        private void givenOwnerOfActiveTeam() {
+            when(securityHelper.getCurrentUser()).thenReturn(ownerUser);
+            doNothing().when(securityHelper).isUserActive(ownerUser);
+            when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
+            when(securityHelper.isOwner(ownerUser.getId(), activeTeam.getId())).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should add new users in one batch and skip active members")
+        void shouldAddNewUsersAndSkipActiveMembers() {
+            // Given
+            givenOwnerOfActiveTeam();
+            var dto = new BulkAddMembersRequestDto(List.of(2L, 3L, 4L, 2L), TeamRole.ADMIN);
+            when(teamMemberRepository.findByTeamIdAndUserIdIn(activeTeam.getId(), List.of(2L, 3L, 4L)))
+                    .thenReturn(List.of(member(userToAdd, TeamRole.MEMBER, TeamMemberStatus.ACTIVE),
+                            member(suspendedUser, TeamRole.MEMBER, TeamMemberStatus.REMOVED)));
+            when(jdbcTemplate.batchUpdate(anyString(), ArgumentMatchers.<Object[]>anyList()))
+                    .thenReturn(new int[]{1, 1});
+
+            // When
+            BulkMemberResultDto result = teamMemberService.addMembers(activeTeam.getId(), dto);
+
+            // Then
+            assertThat(result.updatedUserIds()).containsExactly(3L, 4L);
+            assertThat(result.skippedUserIds()).containsExactly(2L);
+            verify(securityHelper).usersExistAndActiveCheck(List.of(2L, 3L, 4L));
+            verify(jdbcTemplate).batchUpdate(anyString(), ArgumentMatchers.<List<Object[]>>argThat(rows ->
+                    rows.size() == 2 && rows.get(0)[3] instanceof LocalDateTime));
+            verify(outboxService, times(2)).record(any(), eq(activeTeam.getId()), any(), anyMap());
+            verify(eventPublisher).publishEvent(any(Object.class));
+            verify(teamMemberMapper, never()).toDto(any());
+        }
+
+        @Test
+        @DisplayName("Should not write anything when one of the users is missing")
+        void shouldRejectBatchWithMissingUser() {
+            // Given
+            givenOwnerOfActiveTeam();
+            var dto = new BulkAddMembersRequestDto(List.of(2L, 99L), null);
+            doThrow(new UserNotFoundException(99L))
+                    .when(securityHelper).usersExistAndActiveCheck(List.of(2L, 99L));
+
+            // When/Then
+            assertThatThrownBy(() -> teamMemberService.addMembers(activeTeam.getId(), dto))
+                    .isInstanceOf(UserNotFoundException.class);
+            verifyNoInteractions(jdbcTemplate, outboxService, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should only let the team owner add members in bulk")
+        void shouldRejectBulkAddByNonOwner() {
+            // Given
+            when(securityHelper.getCurrentUser()).thenReturn(userToAdd);
+            doNothing().when(securityHelper).isUserActive(userToAdd);
+            when(securityHelper.teamExistsAndActiveCheck(activeTeam.getId())).thenReturn(activeTeam);
+            when(securityHelper.isOwner(userToAdd.getId(), activeTeam.getId())).thenReturn(false);
+
+            // When/Then
+            assertThatThrownBy(() -> teamMemberService.addMembers(activeTeam.getId(),
+                    new BulkAddMembersRequestDto(List.of(3L), TeamRole.MEMBER)))
+                    .isInstanceOf(AccessDeniedException.class);
+            verifyNoInteractions(jdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("Should remove active members with one update and skip the rest")
+        void shouldRemoveActiveMembers() {
+            // Given
+            givenOwnerOfActiveTeam();
+            when(teamMemberRepository.findByTeamIdAndUserIdIn(activeTeam.getId(), List.of(2L, 3L)))
+                    .thenReturn(List.of(member(userToAdd, TeamRole.MEMBER, TeamMemberStatus.ACTIVE),
+                            member(suspendedUser, TeamRole.MEMBER, TeamMemberStatus.INACTIVE)));
+
+            // When
+            BulkMemberResultDto result = teamMemberService.removeMembers(activeTeam.getId(),
+                    new BulkRemoveMembersRequestDto(List.of(2L, 3L)));
+
+            // Then
+            assertThat(result.updatedUserIds()).containsExactly(2L);
+            assertThat(result.skippedUserIds()).containsExactly(3L);
+            verify(teamMemberRepository).removeActiveMembers(eq(activeTeam.getId()), eq(List.of(2L)),
+                    eq(ownerUser.getId()), any(Instant.class));
+            verify(outboxService).record(any(), eq(activeTeam.getId()), any(), anyMap());
+            verify(teamMemberRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should fail the whole removal when a user is not in the team")
+        void shouldRejectRemovalOfNonMember() {
+            // Given
+            givenOwnerOfActiveTeam();
+            when(teamMemberRepository.findByTeamIdAndUserIdIn(activeTeam.getId(), List.of(2L, 5L)))
+                    .thenReturn(List.of(member(userToAdd, TeamRole.MEMBER, TeamMemberStatus.ACTIVE)));
+
+            // When/Then
+            assertThatThrownBy(() -> teamMemberService.removeMembers(activeTeam.getId(),
+                    new BulkRemoveMembersRequestDto(List.of(2L, 5L))))
+                    .isInstanceOf(UserNotInTeamException.class);
+            verify(teamMemberRepository, never()).removeActiveMembers(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not let the owner remove themselves in bulk")
+        void shouldRejectBulkRemovalOfSelf() {
+            // Given
+            givenOwnerOfActiveTeam();
+
+            // When/Then
+            assertThatThrownBy(() -> teamMemberService.removeMembers(activeTeam.getId(),
+                    new BulkRemoveMembersRequestDto(List.of(2L, ownerUser.getId()))))
+                    .isInstanceOf(AccessDeniedException.class);
+            verify(teamMemberRepository, never()).findByTeamIdAndUserIdIn(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should change roles with one update and skip members already in the role")
+        void shouldUpdateMemberRoles() {
+            // Given
+            givenOwnerOfActiveTeam();
+            when(teamMemberRepository.findByTeamIdAndUserIdIn(activeTeam.getId(), List.of(2L, 3L)))
+                    .thenReturn(List.of(member(userToAdd, TeamRole.MEMBER, TeamMemberStatus.ACTIVE),
+                            member(suspendedUser, TeamRole.ADMIN, TeamMemberStatus.ACTIVE)));
+
+            // When
+            BulkMemberResultDto result = teamMemberService.updateMemberRoles(activeTeam.getId(),
+                    new BulkUpdateMemberRoleDto(List.of(2L, 3L), TeamRole.ADMIN));
+
+            // Then
+            assertThat(result.updatedUserIds()).containsExactly(2L);
+            assertThat(result.skippedUserIds()).containsExactly(3L);
+            verify(teamMemberRepository).updateActiveMemberRoles(eq(activeTeam.getId()), eq(List.of(2L)),
+                    eq(TeamRole.ADMIN), eq(ownerUser.getId()), any(Instant.class));
+        }
+    }
+}
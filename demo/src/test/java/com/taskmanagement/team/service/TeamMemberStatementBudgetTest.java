@@ -0,0 +1,136 @@
+package com.taskmanagement.team.service;
+
+import com.taskmanagement.common.entity.BaseEntity;
+import com.taskmanagement.common.sql.SqlStatementBudget;
+import com.taskmanagement.common.sql.StatementCountingDataSourcePostProcessor;
+import com.taskmanagement.outbox.service.OutboxService;
+import com.taskmanagement.team.dto.TeamMemberResponseDto;
+import com.taskmanagement.team.entity.Team;
+import com.taskmanagement.team.entity.TeamMember;
+import com.taskmanagement.team.enums.TeamMemberStatus;
+import com.taskmanagement.team.enums.TeamRole;
+import com.taskmanagement.team.enums.TeamStatus;
+import com.taskmanagement.team.mapper.TeamMemberMapper;
+import com.taskmanagement.team.repository.TeamMemberRepository;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs member listings against a real schema through the statement-counting
+ * data source, so a listing that loads users one by one blows its budget.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(StatementCountingDataSourcePostProcessor.class)
+@DisplayName("TeamMember Statement Budget Tests")
+class TeamMemberStatementBudgetTest {
+
+    private static final int MEMBER_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    private final SecurityHelper securityHelper = mock(SecurityHelper.class);
+
+    private TeamMemberServiceImplementation teamMemberService;
+    private User admin;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        teamMemberService = new TeamMemberServiceImplementation(securityHelper, teamMemberRepository,
+                mock(TeamMemberMapper.class), mock(OutboxService.class), mock(ApplicationEventPublisher.class), null);
+
+        admin = persist(user("admin@example.com", Role.ADMIN));
+
+        team = Team.builder()
+                .name("Platform")
+                .owner(admin)
+                .ownerId(admin.getId())
+                .status(TeamStatus.ACTIVE)
+                .build();
+        persist(team);
+
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            User member = persist(user("member" + i + "@example.com", Role.MEMBER));
+            persist(TeamMember.builder()
+                    .team(team)
+                    .user(member)
+                    .role(TeamRole.MEMBER)
+                    .status(TeamMemberStatus.ACTIVE)
+                    .joinedAt(Instant.now())
+                    .build());
+        }
+
+        // Start the test from an empty persistence context, as a request would
+        entityManager.flush();
+        entityManager.clear();
+
+        when(securityHelper.getCurrentUser()).thenReturn(admin);
+        when(securityHelper.teamExistsAndActiveCheck(team.getId())).thenReturn(team);
+    }
+
+    private static User user(String email, Role role) {
+        return User.builder()
+                .email(email)
+                .passwordHash("$2a$10$hashedPassword")
+                .firstName("First")
+                .lastName("Last")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .emailVerified(true)
+                .build();
+    }
+
+    // Auditing is not part of the JPA slice, so the timestamps are set here
+    private <T extends BaseEntity> T persist(T entity) {
+        entity.setCreatedAt(Instant.now());
+        entity.setUpdatedAt(Instant.now());
+        return entityManager.persist(entity);
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    @DisplayName("Should list a page of members with one query plus the count")
+    void shouldListMembersWithinBudget() {
+        // When
+        Page<TeamMemberResponseDto> page = teamMemberService.getMembersByTeam(team.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(MEMBER_COUNT);
+        assertThat(page.getContent()).allSatisfy(member -> assertThat(member.userEmail()).startsWith("member"));
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    @DisplayName("Should skip the count when the first page holds every member")
+    void shouldListSinglePageWithOneQuery() {
+        // When
+        Page<TeamMemberResponseDto> page = teamMemberService.getMembersByTeam(team.getId(), PageRequest.of(0, 20));
+
+        // Then
+        assertThat(page.getContent()).hasSize(MEMBER_COUNT);
+    }
+}
@@ -10,6 +10,7 @@ import com.taskmanagement.team.dto.TeamResponseDto;
 import com.taskmanagement.team.dto.TeamUpdateDto;
 import com.taskmanagement.team.entity.Team;
 import com.taskmanagement.team.entity.TeamMember;
+import com.taskmanagement.team.enums.TeamCascadeOperation;
 import com.taskmanagement.team.enums.TeamMemberStatus;
 import com.taskmanagement.team.enums.TeamRole;
 import com.taskmanagement.team.enums.TeamStatus;
@@ -31,6 +32,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -73,6 +75,15 @@ class TeamServiceImplementationTest {
     @Mock
     private TeamMemberRepository teamMemberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TeamCascadeService teamCascadeService;
+
+    @Mock
+    private TeamLookup teamLookup;
+
 
     @InjectMocks
     private TeamServiceImplementation teamService;
@@ -1570,7 +1581,6 @@ class TeamServiceImplementationTest {
                     .thenReturn(Optional.of(ownerUser));
             when(teamMemberRepository.existsByTeamIdAndUserIdAndRole(teamId, ownerUser.getId(), TeamRole.OWNER))
                     .thenReturn(true);
-            when(teamMemberRepository.findByTeamId(teamId)).thenReturn(List.of(teamMember));
             when(teamRepository.save(any(Team.class))).thenReturn(team);
 
             // Act
@@ -1581,7 +1591,10 @@ class TeamServiceImplementationTest {
             verify(teamRepository).save(teamCaptor.capture());
             Team savedTeam = teamCaptor.getValue();
             assertThat(savedTeam.getStatus()).isEqualTo(TeamStatus.DELETED);
-            verify(teamMemberRepository).findByTeamId(teamId);
+            verify(teamMemberRepository).updateStatusByTeamId(eq(teamId), eq(TeamMemberStatus.ACTIVE),
+                    eq(TeamMemberStatus.INACTIVE), eq(ownerUser.getId()), any(Instant.class));
+            verify(teamCascadeService).start(teamId, TeamCascadeOperation.DELETE, ownerUser.getId());
+            verify(teamLookup).evict(teamId);
         }
 
         @Test
@@ -1680,13 +1693,6 @@ class TeamServiceImplementationTest {
         void shouldUpdateMembersStatusToInactive() {
             // Arrange
             Long teamId = team.getId();
-            TeamMember member = TeamMember.builder()
-                    .team(team)
-                    .user(ownerUser)
-                    .role(TeamRole.OWNER)
-                    .status(TeamMemberStatus.ACTIVE)
-                    .build();
-            member.setId(1L);
 
             setupAuthentication(ownerUser);
             when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
@@ -1694,14 +1700,14 @@ class TeamServiceImplementationTest {
                     .thenReturn(Optional.of(ownerUser));
             when(teamMemberRepository.existsByTeamIdAndUserIdAndRole(teamId, ownerUser.getId(), TeamRole.OWNER))
                     .thenReturn(true);
-            when(teamMemberRepository.findByTeamId(teamId)).thenReturn(List.of(member));
             when(teamRepository.save(any(Team.class))).thenReturn(team);
 
             // Act
             teamService.deleteTeam(teamId);
 
             // Assert
-            verify(teamMemberRepository).saveAll(anyList());
+            verify(teamMemberRepository).updateStatusByTeamId(eq(teamId), eq(TeamMemberStatus.ACTIVE),
+                    eq(TeamMemberStatus.INACTIVE), eq(ownerUser.getId()), any(Instant.class));
         }
     }
 
@@ -1741,7 +1747,6 @@ class TeamServiceImplementationTest {
             when(userRepository.findByEmailIgnoreCase(adminUser.getEmail()))
                     .thenReturn(Optional.of(adminUser));
             when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
-            when(teamMemberRepository.findByTeamId(teamId)).thenReturn(List.of(teamMember));
             when(teamRepository.save(any(Team.class))).thenReturn(team);
             when(teamMapper.toDto(any(Team.class))).thenReturn(teamResponseDto);
 
@@ -1754,7 +1759,10 @@ class TeamServiceImplementationTest {
             verify(teamRepository).save(teamCaptor.capture());
             Team savedTeam = teamCaptor.getValue();
             assertThat(savedTeam.getStatus()).isEqualTo(TeamStatus.ACTIVE);
-            verify(teamMemberRepository).findByTeamId(teamId);
+            verify(teamMemberRepository).updateStatusByTeamId(eq(teamId), eq(TeamMemberStatus.INACTIVE),
+                    eq(TeamMemberStatus.ACTIVE), eq(adminUser.getId()), any(Instant.class));
+            verify(teamCascadeService).start(teamId, TeamCascadeOperation.RESTORE, adminUser.getId());
+            verify(teamLookup).evict(teamId);
         }
 
         @Test
@@ -1767,7 +1775,6 @@ class TeamServiceImplementationTest {
             when(userRepository.findByEmailIgnoreCase(adminUser.getEmail()))
                     .thenReturn(Optional.of(adminUser));
             when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
-            when(teamMemberRepository.findByTeamId(teamId)).thenReturn(List.of(teamMember));
             when(teamRepository.save(any(Team.class))).thenReturn(team);
             when(teamMapper.toDto(any(Team.class))).thenReturn(teamResponseDto);
 
@@ -1777,6 +1784,7 @@ class TeamServiceImplementationTest {
             // Assert
             assertThat(result).isNotNull();
             verify(teamRepository).save(any(Team.class));
+            verify(teamCascadeService, never()).start(any(), any(), any());
         }
 
         @Test
@@ -1870,26 +1878,10 @@ class TeamServiceImplementationTest {
             Long teamId = team.getId();
             team.setStatus(TeamStatus.DELETED);
 
-            User memberUser = User.builder()
-                    .email("member@example.com")
-                    .role(Role.MEMBER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-            memberUser.setId(10L);
-
-            TeamMember member = TeamMember.builder()
-                    .team(team)
-                    .user(memberUser)
-                    .role(TeamRole.MEMBER)
-                    .status(TeamMemberStatus.INACTIVE)
-                    .build();
-            member.setId(1L);
-
             setupAuthentication(adminUser);
             when(userRepository.findByEmailIgnoreCase(adminUser.getEmail()))
                     .thenReturn(Optional.of(adminUser));
             when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
-            when(teamMemberRepository.findByTeamId(teamId)).thenReturn(List.of(member));
             when(teamRepository.save(any(Team.class))).thenReturn(team);
             when(teamMapper.toDto(any(Team.class))).thenReturn(teamResponseDto);
 
@@ -1897,7 +1889,8 @@ class TeamServiceImplementationTest {
             teamService.restoreTeam(teamId);
 
             // Assert
-            verify(teamMemberRepository).saveAll(anyList());
+            verify(teamMemberRepository).updateStatusByTeamId(eq(teamId), eq(TeamMemberStatus.INACTIVE),
+                    eq(TeamMemberStatus.ACTIVE), eq(adminUser.getId()), any(Instant.class));
         }
     }
 
@@ -0,0 +1,92 @@
+package com.taskmanagement.user.service;
+
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.service.UserImportReader.UserImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UserImportReader Unit Tests")
+class UserImportReaderTest {
+
+    private List<UserImportRow> read(String body, String contentType) throws IOException {
+        return UserImportReader.read(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType, 10);
+    }
+
+    @Test
+    @DisplayName("Should read CSV with any header spelling, quoted fields and CRLF line ends")
+    void shouldReadCsv() throws IOException {
+        // Given
+        String csv = "\uFEFFEmail,Password,first_name,Last Name,role\r\n" +
+                "ann@example.com,Secret1!,Ann,\"O'Neil, Jr\",admin\r\n" +
+                "\r\n" +
+                "\"bob@example.com\",\"Pa\"\"ss1!\",Bob,\"Multi\nLine\",\r\n" +
+                "cat@example.com,Secret1!,Cat,Lee,\n";
+
+        // When
+        List<UserImportRow> rows = read(csv, "text/csv; charset=utf-8");
+
+        // Then
+        assertThat(rows).extracting(UserImportRow::line).containsExactly(2, 4, 6);
+        assertThat(rows.get(0).user().lastName()).isEqualTo("O'Neil, Jr");
+        assertThat(rows.get(0).user().role()).isEqualTo(Role.ADMIN);
+        assertThat(rows.get(1).user().password()).isEqualTo("Pa\"ss1!");
+        assertThat(rows.get(1).user().lastName()).isEqualTo("Multi\nLine");
+        assertThat(rows.get(1).user().role()).isNull();
+        assertThat(rows.get(2).user().email()).isEqualTo("cat@example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV without the required columns")
+    void shouldRejectMissingColumns() {
+        assertThatThrownBy(() -> read("email,firstName,lastName\n", "text/csv"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON and report bad lines as row errors")
+    void shouldReadNdjson() throws IOException {
+        // Given
+        String ndjson = """
+                {"email":"ann@example.com","password":"Secret1!","firstName":"Ann","lastName":"Lee","status":"suspended"}
+                {not json}
+                
+                ["array"]
+                {"email":"bob@example.com","password":"Secret1!","firstName":"Bob","lastName":"Ray","role":"OWNER"}
+                {"email":"cy@example.com","password":"Secret1!","firstName":"Cy","lastName":"Fox","status":"DELETED"}
+                """;
+
+        // When
+        List<UserImportRow> rows = read(ndjson, "application/x-ndjson");
+
+        // Then
+        assertThat(rows).extracting(UserImportRow::line).containsExactly(1, 2, 4, 5, 6);
+        assertThat(rows.get(0).user().userStatus()).isEqualTo(UserStatus.SUSPENDED);
+        assertThat(rows.get(1).error()).startsWith("Malformed JSON");
+        assertThat(rows.get(2).error()).isEqualTo("Expected a JSON object");
+        assertThat(rows.get(3).error()).isEqualTo("Unknown Role 'OWNER'");
+        assertThat(rows.get(3).email()).isEqualTo("bob@example.com");
+        assertThat(rows.get(4).error()).contains("DELETED");
+    }
+
+    @Test
+    @DisplayName("Should refuse imports over the row limit and unknown formats")
+    void shouldEnforceLimits() {
+        String tooMany = "{}\n".repeat(11);
+
+        assertThatThrownBy(() -> read(tooMany, "application/x-ndjson"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("10 rows");
+        assertThatThrownBy(() -> read("", "application/xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
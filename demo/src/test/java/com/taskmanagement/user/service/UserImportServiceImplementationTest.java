@@ -0,0 +1,289 @@
+package com.taskmanagement.user.service;
+
+import com.taskmanagement.common.cache.EntityCacheEvictor;
+import com.taskmanagement.common.exception.types.Exceptions.AccessDeniedException;
+import com.taskmanagement.directory.service.DirectoryIndex;
+import com.taskmanagement.user.dto.UserImportResultDto;
+import com.taskmanagement.user.dto.UserImportRowResultDto;
+import com.taskmanagement.user.entity.User;
+import com.taskmanagement.user.enums.Role;
+import com.taskmanagement.user.enums.UserImportStatus;
+import com.taskmanagement.user.enums.UserStatus;
+import com.taskmanagement.user.repository.UserRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportServiceImplementation Unit Tests")
+class UserImportServiceImplementationTest {
+
+    private static final String HEADER = "email,password,firstName,lastName\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DirectoryIndex directoryIndex;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    private UserImportServiceImplementation importService;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        importService = new UserImportServiceImplementation(userRepository, passwordEncoder, jdbcTemplate,
+                transactionManager, Validation.buildDefaultValidatorFactory().getValidator(), directoryIndex,
+                entityCacheEvictor, 2);
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        ReflectionTestUtils.setField(importService, "maxRows", 100);
+
+        admin = User.builder()
+                .email("admin@example.com")
+                .firstName("Admin")
+                .lastName("User")
+                .role(Role.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build();
+        admin.setId(1L);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin.getEmail(), null, List.of()));
+        when(userRepository.findByEmailIgnoreCase("admin@example.com")).thenReturn(Optional.of(admin));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        importService.destroy();
+    }
+
+    private UserImportResultDto importCsv(String rows) throws IOException {
+        return importService.importUsers(
+                new ByteArrayInputStream((HEADER + rows).getBytes(StandardCharsets.UTF_8)), "text/csv");
+    }
+
+    // Inserts every row of the batch, handing out ids from the given start
+    private void givenInsertsSucceed(long firstId) {
+        long[] nextId = {firstId};
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            KeyHolder keys = invocation.getArgument(2);
+            int[] counts = new int[setter.getBatchSize()];
+            for (int i = 0; i < counts.length; i++) {
+                keys.getKeyList().add(Map.of("id", nextId[0]++));
+                counts[i] = 1;
+            }
+            return counts;
+        });
+    }
+
+    @Test
+    @DisplayName("Should create valid rows and report duplicates and invalid rows by line")
+    void shouldImportAndReportEachRow() throws IOException {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                        .filter("taken@example.com"::equals)
+                        .toList());
+        when(passwordEncoder.encode("Secret1!")).thenReturn("hash");
+        givenInsertsSucceed(100L);
+
+        // When
+        UserImportResultDto result = importCsv("""
+                ann@example.com,Secret1!,Ann,Lee
+                weak@example.com,short,Weak,Pass
+                Taken@example.com,Secret1!,Tak,En
+                ANN@example.com,Secret1!,Ann,Again
+                bob@example.com,Secret1!,Bob,Ray
+                """);
+
+        // Then
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.invalid()).isEqualTo(1);
+        assertThat(result.rows()).extracting(UserImportRowResultDto::line).containsExactly(2, 3, 4, 5, 6);
+        assertThat(result.rows()).extracting(UserImportRowResultDto::status).containsExactly(
+                UserImportStatus.CREATED, UserImportStatus.INVALID, UserImportStatus.DUPLICATE,
+                UserImportStatus.DUPLICATE, UserImportStatus.CREATED);
+        assertThat(result.rows().get(0).userId()).isEqualTo(100L);
+        assertThat(result.rows().get(4).userId()).isEqualTo(101L);
+        verify(passwordEncoder, times(2)).encode("Secret1!");
+        verify(directoryIndex).rebuild();
+        verify(entityCacheEvictor).evictAfterBulkWrite(User.class);
+    }
+
+    @Test
+    @DisplayName("Should report a row that lost a race on its email as a duplicate")
+    void shouldReportConflictAsDuplicate() throws IOException {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+            KeyHolder keys = invocation.getArgument(2);
+            keys.getKeyList().add(Map.of("id", 7L));
+            return new int[]{0, 1};
+        });
+
+        // When
+        UserImportResultDto result = importCsv("""
+                ann@example.com,Secret1!,Ann,Lee
+                bob@example.com,Secret1!,Bob,Ray
+                """);
+
+        // Then
+        assertThat(result.rows()).extracting(UserImportRowResultDto::status)
+                .containsExactly(UserImportStatus.DUPLICATE, UserImportStatus.CREATED);
+        assertThat(result.rows().get(1).userId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should mark a failed batch and carry on with the next one")
+    void shouldContinueAfterFailedBatch() throws IOException {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenAnswer(invocation -> {
+                    KeyHolder keys = invocation.getArgument(2);
+                    keys.getKeyList().add(Map.of("id", 9L));
+                    return new int[]{1};
+                });
+
+        // When
+        UserImportResultDto result = importCsv("""
+                ann@example.com,Secret1!,Ann,Lee
+                bob@example.com,Secret1!,Bob,Ray
+                cat@example.com,Secret1!,Cat,Fox
+                """);
+
+        // Then
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.rows().get(2).userId()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("Should keep written batches and report where the import stopped at the row limit")
+    void shouldStopAtRowLimitAfterWrittenBatches() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(importService, "maxRows", 3);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        givenInsertsSucceed(100L);
+
+        // When
+        UserImportResultDto result = importCsv("""
+                ann@example.com,Secret1!,Ann,Lee
+                bob@example.com,Secret1!,Bob,Ray
+                cat@example.com,Secret1!,Cat,Fox
+                dan@example.com,Secret1!,Dan,Oak
+                """);
+
+        // Then
+        assertThat(result.created()).isEqualTo(3);
+        assertThat(result.rows()).extracting(UserImportRowResultDto::line).containsExactly(2, 3, 4, 5);
+        assertThat(result.rows().get(3).status()).isEqualTo(UserImportStatus.INVALID);
+        assertThat(result.rows().get(3).message()).startsWith("Import is limited to 3 rows");
+    }
+
+    @Test
+    @DisplayName("Should reject the whole import when the row limit is hit before anything is written")
+    void shouldRejectOverLimitBeforeAnyBatch() {
+        // Given
+        ReflectionTestUtils.setField(importService, "maxRows", 1);
+
+        // When/Then
+        assertThatThrownBy(() -> importCsv("""
+                ann@example.com,Secret1!,Ann,Lee
+                bob@example.com,Secret1!,Bob,Ray
+                """))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limited to 1 rows");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should write created and updated timestamps as UTC wall-clock time")
+    void shouldBindTimestampsAsUtc() throws Exception {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        givenInsertsSucceed(100L);
+
+        // When
+        importCsv("ann@example.com,Secret1!,Ann,Lee\n");
+
+        // Then
+        ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), setter.capture(), any(KeyHolder.class));
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, 0);
+
+        ArgumentCaptor<Object> createdAt = ArgumentCaptor.forClass(Object.class);
+        verify(ps).setObject(eq(7), createdAt.capture());
+        assertThat(createdAt.getValue()).isInstanceOfSatisfying(LocalDateTime.class, value ->
+                assertThat(value).isCloseTo(LocalDateTime.now(ZoneOffset.UTC), within(1, ChronoUnit.MINUTES)));
+        verify(ps).setObject(8, createdAt.getValue());
+    }
+
+    @Test
+    @DisplayName("Should only allow admins to import")
+    void shouldRejectNonAdmin() {
+        // Given
+        admin.setRole(Role.MEMBER);
+
+        // When/Then
+        assertThatThrownBy(() -> importCsv("ann@example.com,Secret1!,Ann,Lee\n"))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}